@@ -0,0 +1,76 @@
+package dev.syntax.domain.account.ledger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 100개 계좌 사이에서 16개 스레드가 동시에 이체할 때 인메모리 원장의 처리량. 저널은 fsync 없이 임시 디렉터리에 씁니다.
+ * <p>반복(iteration)마다 flush 처럼 세그먼트를 봉인하고 지워 저널 파일이 커지지 않게 합니다.
+ * JPA 행 잠금 경로와의 비교는 DB가 필요해 여기서는 재지 않습니다.
+ * ({@code ./gradlew jmh -PjmhIncludes=BalanceLedgerBenchmark})</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class BalanceLedgerBenchmark {
+
+    private static final int ACCOUNTS = 100;
+    private static final BigDecimal AMOUNT = new BigDecimal("10.00");
+    // 반복 한 번 동안 잔액이 모자라지 않을 만큼 넉넉히 둔다.
+    private static final BigDecimal OPENING = new BigDecimal("1000000000000.00");
+
+    private Path dir;
+    private BalanceJournal journal;
+    private BalanceLedger ledger;
+
+    @Setup
+    public void open() throws IOException {
+        dir = Files.createTempDirectory("ledger-bench");
+        journal = new BalanceJournal(dir, false);
+        ledger = new BalanceLedger(64, id -> OPENING, journal);
+    }
+
+    @TearDown(Level.Iteration)
+    public void flush() {
+        long sealed = ledger.quiesce(journal::rotate);
+        ledger.drainDirty();
+        journal.deleteSealedUpTo(sealed);
+    }
+
+    @TearDown
+    public void close() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path p : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(p);
+            }
+        }
+    }
+
+    @Benchmark
+    public BalanceLedger.TransferResult transfer() {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        long from = r.nextLong(1, ACCOUNTS + 1);
+        // 자기 자신을 뺀 나머지 계좌 중 하나
+        long to = (from + r.nextLong(1, ACCOUNTS) - 1) % ACCOUNTS + 1;
+        return ledger.transfer(from, to, AMOUNT);
+    }
+}
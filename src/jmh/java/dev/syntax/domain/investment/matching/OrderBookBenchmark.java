@@ -0,0 +1,68 @@
+package dev.syntax.domain.investment.matching;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호가창 하나의 지정가 주문 처리량. 중간가 ±50호가, 주문 10건 중 1건은 직전 주문 하나를 취소합니다.
+ * <p>주문 흐름은 미리 만들어 둔 배열을 돌려 써서 난수 생성 비용을 빼고, 체결 통지와 반환값은 {@link Blackhole}로 소비합니다.
+ * 호가창은 반복(iteration)마다 새로 만듭니다. ({@code ./gradlew jmh -PjmhIncludes=OrderBookBenchmark})</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderBookBenchmark {
+
+    private static final int STREAM = 1 << 20;
+    private static final int MASK = STREAM - 1;
+    private static final long MID = 70_000;
+
+    private final boolean[] cancel = new boolean[STREAM];
+    private final int[] cancelBack = new int[STREAM];
+    private final boolean[] buy = new boolean[STREAM];
+    private final long[] price = new long[STREAM];
+    private final long[] quantity = new long[STREAM];
+
+    private OrderBook book;
+    private OrderBook.FillListener listener;
+    private long nextId;
+
+    @Setup
+    public void generate() {
+        SplittableRandom r = new SplittableRandom(42);
+        for (int i = 0; i < STREAM; i++) {
+            cancel[i] = r.nextInt(10) == 0;
+            cancelBack[i] = 1 + r.nextInt(10);
+            buy[i] = r.nextBoolean();
+            price[i] = MID + 10L * (r.nextInt(101) - 50);
+            quantity[i] = 1 + r.nextInt(100);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void newBook(Blackhole bh) {
+        book = new OrderBook();
+        listener = (buyOrderId, sellOrderId, fillPrice, fillQuantity) -> bh.consume(fillQuantity);
+        nextId = 1;
+    }
+
+    @Benchmark
+    public long submitOrCancel() {
+        long id = nextId++;
+        int i = (int) (id & MASK);
+        if (cancel[i] && id > 10) {
+            return book.cancel(id - cancelBack[i]);
+        }
+        return book.submit(id, buy[i], price[i], quantity[i], listener);
+    }
+}
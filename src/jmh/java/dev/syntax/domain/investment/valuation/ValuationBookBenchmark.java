@@ -0,0 +1,69 @@
+package dev.syntax.domain.investment.valuation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 5만 계좌 × 10종목 보유 상태에서 시세 1틱(300종목 중 30종목 변경)을 반영하고 바뀐 평가를 꺼내는 비용.
+ * <p>틱은 미리 만들어 둔 배열을 돌려 써서 난수 생성 비용을 뺍니다. ({@code ./gradlew jmh -PjmhIncludes=ValuationBookBenchmark})</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ValuationBookBenchmark {
+
+    private static final int ACCOUNTS = 50_000;
+    private static final int CODES = 300;
+    private static final int HOLDINGS_PER_ACCOUNT = 10;
+    private static final int CHANGED_PER_TICK = 30;
+    private static final int TICKS = 1 << 10;
+    private static final int MASK = TICKS - 1;
+
+    @SuppressWarnings("unchecked")
+    private final Map<String, Long>[] ticks = new Map[TICKS];
+
+    private ValuationBook book;
+    private int tick;
+
+    @Setup
+    public void fill() {
+        SplittableRandom r = new SplittableRandom(42);
+        book = new ValuationBook();
+        for (int a = 0; a < ACCOUNTS; a++) {
+            String cano = String.format("%08d", a);
+            book.putAccount(cano, 1_000_000);
+            for (int h = 0; h < HOLDINGS_PER_ACCOUNT; h++) {
+                book.putHolding(cano, code(r.nextInt(CODES)), r.nextLong(1, 100), 50_000);
+            }
+        }
+        book.drainDirty();
+        for (int t = 0; t < TICKS; t++) {
+            Map<String, Long> prices = new HashMap<>();
+            for (int i = 0; i < CHANGED_PER_TICK; i++) {
+                prices.put(code(r.nextInt(CODES)), 50_000L + 10L * r.nextInt(-100, 100));
+            }
+            ticks[t] = prices;
+        }
+    }
+
+    @Benchmark
+    public List<ValuationBook.Valuation> revalueTick() {
+        book.applyPrices(ticks[tick++ & MASK]);
+        return book.drainDirty();
+    }
+
+    private static String code(int i) {
+        return String.format("%06d", i);
+    }
+}
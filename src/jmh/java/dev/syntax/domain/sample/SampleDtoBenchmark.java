@@ -0,0 +1,46 @@
+package dev.syntax.domain.sample;
+
+import dev.syntax.domain.sample.dto.SampleDTO;
+import dev.syntax.domain.sample.entity.SampleEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → 응답 DTO 변환({@link SampleDTO#create}) 비용. 다른 도메인의 {@code create(entity)} 빌더 변환도 같은 모양입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SampleDtoBenchmark {
+
+    private final SampleEntity entity = new SampleEntity();
+
+    // 감사(auditing) 시각은 JPA 가 채우는 필드라 setter 가 없다.
+    @Setup
+    public void setUp() {
+        entity.setId(1L);
+        entity.setPrice("230,010,000");
+        setField("createdAt", LocalDateTime.of(2025, 1, 2, 9, 0));
+        setField("updatedAt", LocalDateTime.of(2025, 1, 2, 15, 30));
+    }
+
+    @Benchmark
+    public SampleDTO create() {
+        return SampleDTO.create(entity);
+    }
+
+    private void setField(String name, Object value) {
+        var field = ReflectionUtils.findField(SampleEntity.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, entity, value);
+    }
+}
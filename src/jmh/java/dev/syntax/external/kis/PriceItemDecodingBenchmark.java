@@ -0,0 +1,76 @@
+package dev.syntax.external.kis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.syntax.external.kis.dto.MultiPriceRes;
+import dev.syntax.external.kis.dto.PriceItem;
+import dev.syntax.external.kis.dto.Quote;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 30종목 {@code intstock-multprice} 응답 1건 디코딩 비용.
+ * <ul>
+ *   <li>{@code databind}: {@code bodyToMono(MultiPriceRes.class)}와 같은 경로로 {@link PriceItem} 목록까지</li>
+ *   <li>{@code databindAndParse}: 위 결과의 숫자 문자열을 소비 측처럼 다시 파싱</li>
+ *   <li>{@code streaming}: {@link KisQuoteDecoder}로 {@link Quote}까지</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PriceItemDecodingBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final KisQuoteDecoder decoder = new KisQuoteDecoder();
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder("{\"rt_cd\":\"0\",\"msg_cd\":\"MCA00000\",\"msg1\":\"정상처리 되었습니다.\",\"output\":[");
+        List<String> codes = KisStockApiClient.DEFAULT_CODES;
+        for (int i = 0; i < codes.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"inter_shrn_iscd\":\"").append(codes.get(i))
+                    .append("\",\"inter_kor_isnm\":\"종목").append(i)
+                    .append("\",\"inter2_prpr\":\"").append(50_000 + i * 1_000)
+                    .append("\",\"inter2_prdy_vrss\":\"").append(i % 2 == 0 ? "-" : "").append(100 + i)
+                    .append("\",\"prdy_ctrt\":\"").append(i % 2 == 0 ? "-" : "").append("1.").append(10 + i)
+                    .append("\",\"acml_vol\":\"").append(1_000_000L + i * 7_919L)
+                    .append("\"}");
+        }
+        body = sb.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public MultiPriceRes databind() throws IOException {
+        return objectMapper.readValue(body, MultiPriceRes.class);
+    }
+
+    @Benchmark
+    public long databindAndParse() throws IOException {
+        long sum = 0;
+        for (PriceItem item : objectMapper.readValue(body, MultiPriceRes.class).getOutput()) {
+            sum += Long.parseLong(item.getCurrentPrice()) + Long.parseLong(item.getAccumulatedVolume())
+                    + (long) (Double.parseDouble(item.getPreviousDayRate()) * Quote.RATE_SCALE);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public List<Quote> streaming() throws IOException {
+        return decoder.decode(body);
+    }
+}
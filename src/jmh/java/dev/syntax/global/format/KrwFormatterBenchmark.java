@@ -0,0 +1,87 @@
+package dev.syntax.global.format;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 금액 포맷 비용: 기존 {@code String.format("%,d")}/{@code "%,.2f"} vs {@link KrwFormatter}.
+ * <ul>
+ *   <li>{@code *Legacy}: 기존 {@code Utils.NumberFormattingService} 방식</li>
+ *   <li>{@code *ToString}: 결과 {@code String}까지</li>
+ *   <li>{@code *Buffer}: 재사용 버퍼에 쓰기만 (할당 0 기대)</li>
+ *   <li>{@code json*}: 응답 DTO 하나 직렬화. 기존 방식(포맷된 String 필드) vs {@link KrwJsonSerializer}</li>
+ * </ul>
+ * <p>할당량은 {@code gc.alloc.rate.norm}(B/op)으로 봅니다. ({@code ./gradlew jmh -PjmhIncludes=KrwFormatterBenchmark})</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KrwFormatterBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final char[] buf = new char[KrwFormatter.MAX_LENGTH];
+
+    private final int amount = 230_010_000;
+    private final long largeAmount = 12_345_678_901L;
+    private final BigDecimal balance = new BigDecimal("123456789.50");        // Account.balance (scale 2)
+    private final BigDecimal balanceAfter = new BigDecimal("123456789.500");  // Transaction.balanceAfter (scale 3)
+
+    record LegacyRes(String balance, String balanceAfter) {
+    }
+
+    record KrwRes(@JsonSerialize(using = KrwJsonSerializer.class) BigDecimal balance,
+                  @JsonSerialize(using = KrwJsonSerializer.class) BigDecimal balanceAfter) {
+    }
+
+    @Benchmark
+    public String intLegacy() {
+        return String.format("%,d", amount);
+    }
+
+    @Benchmark
+    public String intToString() {
+        return KrwFormatter.toString(amount);
+    }
+
+    @Benchmark
+    public int longBuffer() {
+        return KrwFormatter.format(largeAmount, buf, 0);
+    }
+
+    @Benchmark
+    public String decimalLegacy() {
+        return String.format("%,.2f", balance);
+    }
+
+    @Benchmark
+    public String decimalToString() {
+        return KrwFormatter.toString(balance);
+    }
+
+    @Benchmark
+    public int decimalBuffer() {
+        return KrwFormatter.format(balanceAfter, buf, 0);
+    }
+
+    @Benchmark
+    public byte[] jsonLegacy() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(
+                new LegacyRes(String.format("%,.2f", balance), String.format("%,.3f", balanceAfter)));
+    }
+
+    @Benchmark
+    public byte[] jsonSerializer() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new KrwRes(balance, balanceAfter));
+    }
+}
@@ -0,0 +1,93 @@
+package dev.syntax.global.id;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * ID 전략 전환 전/후의 INSERT 처리량(rows/s)을 H2 메모리 DB에서 비교합니다.
+ * <p>두 엔티티는 컬럼 구성이 같고 ID 전략만 다릅니다. {@code IDENTITY}는 행마다 INSERT가 즉시 실행되어
+ * batch가 꺼지고, pooled 시퀀스는 {@code hibernate.jdbc.batch_size} 단위로 묶여 전송됩니다.
+ * 호출 한 번이 트랜잭션 하나에서 {@value #ROWS}행을 저장합니다. ({@code ./gradlew jmh -PjmhIncludes=IdAllocationBenchmark})</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdAllocationBenchmark {
+
+    private static final int ROWS = 500;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory emf;
+
+    // 벤치마크 엔티티와 JPA 자동 설정만 올린다. (애플리케이션 빈은 스캔하지 않음)
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = IdentityBenchRow.class)
+    static class BenchJpa {
+    }
+
+    @Setup
+    public void start() {
+        context = new SpringApplicationBuilder(BenchJpa.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + ROWS,
+                        "spring.jpa.properties.hibernate.order_inserts=true")
+                .run();
+        emf = context.getBean(EntityManagerFactory.class);
+    }
+
+    @TearDown
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void identity() {
+        insert(i -> new IdentityBenchRow((long) i, BigDecimal.TEN, "용돈", now));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void pooledSequence() {
+        insert(i -> new PooledBenchRow((long) i, BigDecimal.TEN, "용돈", now));
+    }
+
+    private void insert(IntFunction<Object> factory) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (int i = 0; i < ROWS; i++) {
+                em.persist(factory.apply(i));
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package dev.syntax.global.id;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 벤치마크 전용: 전환 전({@code IDENTITY}) ID 전략을 쓰는 거래 행
+ */
+@Entity
+@Table(name = "bench_identity_row")
+public class IdentityBenchRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long accountId;
+    private BigDecimal balanceAfter;
+    private String category;
+    private LocalDateTime transactionDate;
+
+    protected IdentityBenchRow() {
+    }
+
+    public IdentityBenchRow(Long accountId, BigDecimal balanceAfter, String category, LocalDateTime transactionDate) {
+        this.accountId = accountId;
+        this.balanceAfter = balanceAfter;
+        this.category = category;
+        this.transactionDate = transactionDate;
+    }
+}
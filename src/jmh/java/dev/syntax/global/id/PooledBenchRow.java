@@ -0,0 +1,37 @@
+package dev.syntax.global.id;
+
+import dev.syntax.global.common.IdSequences;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 벤치마크 전용: 전환 후(시퀀스 테이블 pooled) ID 전략을 쓰는 거래 행
+ */
+@Entity
+@Table(name = "bench_pooled_row")
+public class PooledBenchRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "bench_pooled_gen")
+    @TableGenerator(name = "bench_pooled_gen", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "bench_pooled_row", allocationSize = IdSequences.ALLOCATION_SIZE)
+    private Long id;
+
+    private Long accountId;
+    private BigDecimal balanceAfter;
+    private String category;
+    private LocalDateTime transactionDate;
+
+    protected PooledBenchRow() {
+    }
+
+    public PooledBenchRow(Long accountId, BigDecimal balanceAfter, String category, LocalDateTime transactionDate) {
+        this.accountId = accountId;
+        this.balanceAfter = balanceAfter;
+        this.category = category;
+        this.transactionDate = transactionDate;
+    }
+}
@@ -0,0 +1,39 @@
+package dev.syntax.global.metrics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 모든 요청이 거치는 in-flight 증가/감소(요청 1건 = 증가 + 감소)를 가용 코어 수만큼의 스레드가 동시에 할 때
+ * 공유 {@link AtomicInteger} 하나와 {@link StripedCounter}의 처리량을 비교합니다.
+ * <p>카운터는 모든 스레드가 공유합니다. ({@code ./gradlew jmh -PjmhIncludes=InFlightCounterBenchmark})</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+public class InFlightCounterBenchmark {
+
+    private final AtomicInteger shared = new AtomicInteger();
+    private final StripedCounter striped = new StripedCounter();
+
+    @Benchmark
+    public int atomicInteger() {
+        shared.incrementAndGet();
+        return shared.decrementAndGet();
+    }
+
+    @Benchmark
+    public void stripedCounter() {
+        striped.increment();
+        striped.decrement();
+    }
+}
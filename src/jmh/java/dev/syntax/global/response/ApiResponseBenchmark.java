@@ -0,0 +1,48 @@
+package dev.syntax.global.response;
+
+import dev.syntax.domain.sample.dto.SampleDTO;
+import dev.syntax.global.response.error.ErrorAuthCode;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러마다 호출하는 {@link ApiResponseUtil} 응답 생성 비용.
+ * <p>직렬화는 포함하지 않습니다. ({@link ResponseSerializationBenchmark} 참고)</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiResponseBenchmark {
+
+    private final SampleDTO data = new SampleDTO(
+            LocalDateTime.of(2025, 1, 2, 9, 0), LocalDateTime.of(2025, 1, 2, 15, 30), "230,010,000");
+
+    @Benchmark
+    public ResponseEntity<BaseResponse<?>> success() {
+        return ApiResponseUtil.success(SuccessCode.OK);
+    }
+
+    @Benchmark
+    public ResponseEntity<BaseResponse<?>> successWithData() {
+        return ApiResponseUtil.success(SuccessCode.OK, data);
+    }
+
+    @Benchmark
+    public ResponseEntity<BaseResponse<?>> failure() {
+        return ApiResponseUtil.failure(ErrorBaseCode.NOT_FOUND_ENTITY);
+    }
+
+    @Benchmark
+    public ResponseEntity<BaseResponse<?>> authFailure() {
+        return ApiResponseUtil.failure(ErrorAuthCode.UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,66 @@
+package dev.syntax.global.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.syntax.global.response.error.ErrorAuthCode;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오류 응답 한 건을 만드는 비용: 매번 응답 객체 생성 + Jackson 직렬화 vs {@link ErrorResponseBodies}의 미리 만든 바이트.
+ * <p>할당량 차이는 {@code gc.alloc.rate.norm}(B/op)으로 봅니다. ({@code ./gradlew jmh -PjmhIncludes=ErrorResponseBenchmark})</p>
+ * <ul>
+ *   <li>{@code handler*}: {@code @ExceptionHandler}가 돌려주는 {@link ResponseEntity}와 바디 바이트까지</li>
+ *   <li>{@code filter*}: 필터가 응답 스트림에 쓰는 경로. 스트림은 재사용하는 버퍼로 대신함</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorResponseBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+    private ErrorResponseBodies bodies;
+
+    @Setup
+    public void setUp() {
+        bodies = new ErrorResponseBodies(objectMapper);
+    }
+
+    @Benchmark
+    public byte[] handlerJackson() throws IOException {
+        ResponseEntity<BaseResponse<?>> response = ApiResponseUtil.failure(ErrorAuthCode.UNAUTHORIZED);
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> handlerPreEncoded() {
+        return bodies.response(ErrorAuthCode.UNAUTHORIZED);
+    }
+
+    @Benchmark
+    public int filterJackson() throws IOException {
+        out.reset();
+        objectMapper.writeValue(out, BaseErrorResponse.of(ErrorBaseCode.SERVICE_UNAVAILABLE));
+        return out.size();
+    }
+
+    @Benchmark
+    public int filterPreEncoded() throws IOException {
+        out.reset();
+        out.write(bodies.body(ErrorBaseCode.SERVICE_UNAVAILABLE));
+        return out.size();
+    }
+}
@@ -0,0 +1,69 @@
+package dev.syntax.global.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.syntax.domain.sample.dto.SampleDTO;
+import dev.syntax.global.response.error.ErrorAuthCode;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * {@link BaseResponse} 구현체를 Jackson 으로 UTF-8 바이트까지 직렬화하는 비용.
+ * <p>{@code ObjectMapper}는 Spring MVC 메시지 컨버터와 같은 {@link Jackson2ObjectMapperBuilder} 설정을 씁니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private BaseResponse<?> single;
+    private BaseResponse<?> list;
+    private BaseResponse<?> error;
+    private BaseResponse<?> authError;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime at = LocalDateTime.of(2025, 1, 2, 9, 0);
+        List<SampleDTO> rows = IntStream.range(0, 20)
+                .mapToObj(i -> new SampleDTO(at.plusMinutes(i), at.plusMinutes(i + 1), "1,000,00" + i))
+                .toList();
+        single = SuccessResponse.of(rows.get(0));
+        list = SuccessResponse.of(rows);
+        error = BaseErrorResponse.of(ErrorBaseCode.NOT_FOUND_ENTITY);
+        authError = AuthErrorResponse.of(ErrorAuthCode.UNAUTHORIZED);
+    }
+
+    @Benchmark
+    public byte[] successSingle() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] successList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public byte[] error() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(error);
+    }
+
+    @Benchmark
+    public byte[] authError() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(authError);
+    }
+}
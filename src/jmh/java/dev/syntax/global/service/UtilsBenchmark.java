@@ -0,0 +1,34 @@
+package dev.syntax.global.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 금액 표시에 쓰는 {@link Utils#NumberFormattingService(int)} 비용. 자릿수에 따라 구분 기호 개수가 달라집니다.
+ * <p>{@code legacyStringFormat}은 {@code KrwFormatter} 위임 이전 구현({@code String.format("%,d")})입니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UtilsBenchmark {
+
+    @Param({"0", "58200", "230010000", "-2147483648"})
+    public int value;
+
+    @Benchmark
+    public String numberFormatting() {
+        return Utils.NumberFormattingService(value);
+    }
+
+    @Benchmark
+    public String legacyStringFormat() {
+        return String.format("%,d", value);
+    }
+}
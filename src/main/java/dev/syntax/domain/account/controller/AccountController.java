@@ -0,0 +1,30 @@
+package dev.syntax.domain.account.controller;
+
+import dev.syntax.domain.account.service.AccountSummaryService;
+import dev.syntax.global.response.ApiResponseUtil;
+import dev.syntax.global.response.BaseResponse;
+import dev.syntax.global.response.SuccessCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 계좌 목록 API
+ *
+ * <pre>{@code
+ * GET /users/7/accounts   // 사용자 7의 계좌 요약 목록
+ * }</pre>
+ */
+@RestController
+@RequiredArgsConstructor
+public class AccountController {
+
+    private final AccountSummaryService accountSummaryService;
+
+    @GetMapping("/users/{userId}/accounts")
+    public ResponseEntity<BaseResponse<?>> accounts(@PathVariable Long userId) {
+        return ApiResponseUtil.success(SuccessCode.OK, accountSummaryService.getAccounts(userId));
+    }
+}
@@ -0,0 +1,41 @@
+package dev.syntax.domain.account.controller;
+
+import dev.syntax.domain.account.service.BalanceCheckpointService;
+import dev.syntax.global.response.ApiResponseUtil;
+import dev.syntax.global.response.BaseResponse;
+import dev.syntax.global.response.SuccessCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시점 잔액 API
+ *
+ * <pre>{@code
+ * GET  /accounts/3/balance?at=2025-11-01T12:00:00   // 계좌 3의 해당 시점 잔액
+ * POST /internal/balance-checkpoints/rebuild        // 거래 내역으로 체크포인트 재생성 (내부용)
+ * }</pre>
+ */
+@RestController
+@RequiredArgsConstructor
+public class BalanceCheckpointController {
+
+    private final BalanceCheckpointService balanceCheckpointService;
+
+    @GetMapping("/accounts/{accountId}/balance")
+    public ResponseEntity<BaseResponse<?>> balanceAt(@PathVariable Long accountId, @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return ApiResponseUtil.success(SuccessCode.OK, balanceCheckpointService.balanceAt(accountId, at));
+    }
+
+    @PostMapping("/internal/balance-checkpoints/rebuild")
+    public ResponseEntity<BaseResponse<?>> rebuild() {
+        return ApiResponseUtil.success(SuccessCode.OK, balanceCheckpointService.rebuild());
+    }
+}
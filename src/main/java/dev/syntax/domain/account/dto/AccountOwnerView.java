@@ -0,0 +1,16 @@
+package dev.syntax.domain.account.dto;
+
+import dev.syntax.domain.account.enums.AccountStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * 대량 처리에서 계좌 엔티티(지연 로딩 {@code CoreUser} 프록시 포함) 대신 필요한 컬럼만 읽어오는 프로젝션입니다.
+ */
+public interface AccountOwnerView {
+    Long getId();
+    Long getUserId();
+    String getNumber();
+    BigDecimal getBalance();
+    AccountStatus getStatus();
+}
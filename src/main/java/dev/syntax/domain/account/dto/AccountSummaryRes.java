@@ -0,0 +1,40 @@
+package dev.syntax.domain.account.dto;
+
+import dev.syntax.domain.account.enums.AccountStatus;
+import dev.syntax.domain.account.enums.AccountType;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+/**
+ * 계좌 요약 DTO
+ * @param accountId   계좌 ID
+ * @param number      계좌 번호
+ * @param productName 상품명
+ * @param balance     잔액
+ * @param status      계좌 상태
+ * @param type        계좌 유형
+ */
+@Builder
+public record AccountSummaryRes(
+        Long accountId,
+        String number,
+        String productName,
+        BigDecimal balance,
+        AccountStatus status,
+        AccountType type
+) {
+    /**
+     * @param balance 원장에 올라가 있는 최신 잔액이 있으면 그 값, 없으면 {@code null} (DB 값 사용)
+     */
+    public static AccountSummaryRes create(AccountSummaryView view, BigDecimal balance) {
+        return AccountSummaryRes.builder()
+                .accountId(view.getId())
+                .number(view.getNumber())
+                .productName(view.getProductName())
+                .balance(balance != null ? balance : view.getBalance())
+                .status(view.getStatus())
+                .type(view.getType())
+                .build();
+    }
+}
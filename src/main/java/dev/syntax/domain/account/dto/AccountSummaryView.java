@@ -0,0 +1,18 @@
+package dev.syntax.domain.account.dto;
+
+import dev.syntax.domain.account.enums.AccountStatus;
+import dev.syntax.domain.account.enums.AccountType;
+
+import java.math.BigDecimal;
+
+/**
+ * 사용자 계좌 목록 조회용 프로젝션입니다. {@code CoreUser}를 로딩하지 않습니다.
+ */
+public interface AccountSummaryView {
+    Long getId();
+    String getNumber();
+    String getProductName();
+    BigDecimal getBalance();
+    AccountStatus getStatus();
+    AccountType getType();
+}
@@ -0,0 +1,30 @@
+package dev.syntax.domain.account.dto;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 특정 시점 잔액 DTO
+ * @param accountId    계좌 ID
+ * @param at           조회 시점
+ * @param balance      조회 시점 잔액
+ * @param checkpointAt 계산에 사용한 체크포인트 시각 (없으면 null)
+ */
+@Builder
+public record BalanceAtRes(
+        Long accountId,
+        LocalDateTime at,
+        BigDecimal balance,
+        LocalDateTime checkpointAt
+) {
+    public static BalanceAtRes create(Long accountId, LocalDateTime at, BigDecimal balance, LocalDateTime checkpointAt) {
+        return BalanceAtRes.builder()
+                .accountId(accountId)
+                .at(at)
+                .balance(balance)
+                .checkpointAt(checkpointAt)
+                .build();
+    }
+}
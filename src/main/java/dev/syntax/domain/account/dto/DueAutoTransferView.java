@@ -0,0 +1,17 @@
+package dev.syntax.domain.account.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 실행 대상 자동이체를 엔티티 없이 읽어오는 프로젝션입니다.
+ */
+public interface DueAutoTransferView {
+    Long getId();
+    Long getFromAccountId();
+    Long getToAccountId();
+    BigDecimal getAmount();
+    String getMemo();
+    Integer getTransferDay();
+    LocalDate getNextTransferDay();
+}
@@ -4,6 +4,9 @@ import dev.syntax.domain.account.enums.AccountStatus;
 import dev.syntax.domain.account.enums.AccountType;
 import dev.syntax.domain.user.entity.CoreUser;
 import dev.syntax.global.common.BaseTimeEntity;
+import dev.syntax.global.common.IdSequences;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +18,7 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "core_account")
+@EntityListeners(AccountChangeListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,7 +26,10 @@ import java.time.LocalDate;
 public class Account extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "account_id_gen")
+    @TableGenerator(name = "account_id_gen", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "core_account", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "account_id")
     private Long id;
 
@@ -54,4 +61,25 @@ public class Account extends BaseTimeEntity {
     private AccountType type = AccountType.DEPOSIT;
 
     private LocalDate expiredAt;
+
+    /**
+     * 계좌에 금액을 입금합니다.
+     *
+     * @param amount 입금액 (0보다 커야 함)
+     */
+    public void deposit(BigDecimal amount) {
+        this.balance = this.balance.add(amount);
+    }
+
+    /**
+     * 계좌에서 금액을 출금합니다. 잔액이 부족하면 {@link BusinessException}을 던집니다.
+     *
+     * @param amount 출금액 (0보다 커야 함)
+     */
+    public void withdraw(BigDecimal amount) {
+        if (this.balance.compareTo(amount) < 0) {
+            throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+        }
+        this.balance = this.balance.subtract(amount);
+    }
 }
@@ -0,0 +1,32 @@
+package dev.syntax.domain.account.entity;
+
+import dev.syntax.domain.account.service.AccountSummaryService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA로 {@link Account}가 생성·변경(잔액, 상태 등)·삭제되면 소유자의 계좌 목록 캐시를 무효화합니다.
+ * <p>{@code getUser().getId()}는 지연 로딩 프록시를 초기화하지 않습니다.</p>
+ */
+@Component
+public class AccountChangeListener {
+
+    private final ObjectProvider<AccountSummaryService> accountSummaryService;
+
+    public AccountChangeListener(ObjectProvider<AccountSummaryService> accountSummaryService) {
+        this.accountSummaryService = accountSummaryService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Account account) {
+        if (account.getUser() == null) {
+            return;
+        }
+        accountSummaryService.ifAvailable(s -> s.evictUser(account.getUser().getId()));
+    }
+}
@@ -3,6 +3,7 @@ package dev.syntax.domain.account.entity;
 import dev.syntax.domain.account.enums.AutoTransferStatus;
 import dev.syntax.domain.user.entity.CoreUser;
 import dev.syntax.global.common.BaseTimeEntity;
+import dev.syntax.global.common.IdSequences;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,7 +14,9 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "core_auto_transfer")
+@Table(name = "core_auto_transfer", indexes = {
+        @Index(name = "idx_auto_transfer_next_day", columnList = "next_transfer_day, auto_transfer_id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,7 +24,10 @@ import java.time.LocalDate;
 public class AutoTransfer extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "auto_transfer_id_gen")
+    @TableGenerator(name = "auto_transfer_id_gen", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "core_auto_transfer", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "auto_transfer_id")
     private Long id;
 
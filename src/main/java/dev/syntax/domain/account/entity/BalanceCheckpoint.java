@@ -0,0 +1,44 @@
+package dev.syntax.domain.account.entity;
+
+import dev.syntax.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 잔액 체크포인트입니다.
+ * <p>{@code checkpointAt} 직전까지(미만) 기록된 SUCCESS 거래를 모두 반영한 잔액입니다.
+ * 특정 시점 잔액은 가장 가까운 이전 체크포인트에서 시작해 그 이후 구간의 거래만 읽어 계산합니다.</p>
+ */
+@Entity
+@Table(name = "core_balance_checkpoint", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_balance_checkpoint", columnNames = {"account_id", "checkpoint_at"})
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceCheckpoint extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "checkpoint_id")
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "checkpoint_at", nullable = false)
+    private LocalDateTime checkpointAt;
+
+    @Column(name = "balance", nullable = false, precision = 15, scale = 3)
+    private BigDecimal balance;
+
+    @Column(name = "last_transaction_id", nullable = false)
+    private Long lastTransactionId;
+}
@@ -0,0 +1,175 @@
+package dev.syntax.domain.account.ledger;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 잔액 변경을 로컬 파일에 순서대로 남기는 append-only 저널입니다.
+ *
+ * <p>한 줄에 {@code accountId,balanceAfter} 형식으로 <b>변경 후 잔액(절대값)</b>을 기록합니다.
+ * 절대값이므로 같은 줄을 여러 번 재적용해도 결과가 같고, 복구 시에는 계좌별 마지막 줄만 유효합니다.</p>
+ *
+ * <p>저널은 {@code balance-<번호>.journal} 세그먼트로 나뉩니다.
+ * flush 직전에 {@link #rotate()}로 현재 세그먼트를 봉인하고, DB 반영이 끝나면
+ * {@link #deleteSealedUpTo(long)}로 봉인된 세그먼트를 지웁니다.</p>
+ */
+@Slf4j
+public class BalanceJournal implements Closeable {
+
+    private static final String PREFIX = "balance-";
+    private static final String SUFFIX = ".journal";
+
+    private final Path dir;
+    private final boolean fsync;
+
+    // 기동 시점에 이미 있던 세그먼트(이전 프로세스가 남긴 미반영 기록)의 최대 번호
+    private final long recoverableUpTo;
+
+    private long segmentNo;
+    private FileOutputStream out;
+
+    public BalanceJournal(Path dir, boolean fsync) {
+        this.dir = dir;
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(dir);
+            this.recoverableUpTo = segmentNumbers().stream().mapToLong(Long::longValue).max().orElse(0L);
+            this.segmentNo = recoverableUpTo + 1;
+            this.out = open(segmentNo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 계좌의 변경 후 잔액을 현재 세그먼트에 기록합니다.
+     * <p>OS 버퍼까지는 매번 내려보내므로 프로세스가 죽어도 기록은 남습니다.</p>
+     */
+    public synchronized void append(long accountId, BigDecimal balanceAfter) {
+        byte[] line = (accountId + "," + balanceAfter.toPlainString() + "\n").getBytes(StandardCharsets.US_ASCII);
+        try {
+            out.write(line);
+            if (fsync) {
+                out.getChannel().force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 닫고 새 세그먼트로 전환합니다.
+     *
+     * @return 봉인된 세그먼트 번호
+     */
+    public synchronized long rotate() {
+        try {
+            out.close();
+            long sealed = segmentNo;
+            segmentNo++;
+            out = open(segmentNo);
+            return sealed;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 지정한 번호 이하의 봉인된 세그먼트를 모두 삭제합니다.
+     * <p>이전 flush가 실패해서 남아 있던 세그먼트도 함께 정리됩니다.</p>
+     */
+    public synchronized void deleteSealedUpTo(long sealedNo) {
+        try {
+            for (Long no : segmentNumbers()) {
+                if (no <= sealedNo && no != segmentNo) {
+                    Files.deleteIfExists(segment(no));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 이전 프로세스가 남긴 세그먼트를 순서대로 읽어 계좌별 마지막 잔액을 돌려줍니다.
+     * <p>비정상 종료로 잘린 마지막 줄은 무시합니다.</p>
+     */
+    public Map<Long, BigDecimal> recover() {
+        Map<Long, BigDecimal> last = new LinkedHashMap<>();
+        try {
+            for (Long no : segmentNumbers()) {
+                if (no > recoverableUpTo) {
+                    continue;
+                }
+                try (BufferedReader reader = Files.newBufferedReader(segment(no), StandardCharsets.US_ASCII)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int comma = line.indexOf(',');
+                        if (comma <= 0) {
+                            continue;
+                        }
+                        try {
+                            last.put(Long.parseLong(line.substring(0, comma)), new BigDecimal(line.substring(comma + 1)));
+                        } catch (NumberFormatException e) {
+                            log.warn("[LEDGER] 손상된 저널 라인 무시: segment={}, line={}", no, line);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return last;
+    }
+
+    /**
+     * {@link #recover()}로 읽은 세그먼트를 DB 반영 후 삭제합니다.
+     */
+    public void discardRecovered() {
+        deleteSealedUpTo(recoverableUpTo);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+
+    private FileOutputStream open(long no) throws IOException {
+        return new FileOutputStream(segment(no).toFile(), true);
+    }
+
+    private Path segment(long no) {
+        return dir.resolve(PREFIX + no + SUFFIX);
+    }
+
+    private List<Long> segmentNumbers() throws IOException {
+        List<Long> numbers = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .forEach(name -> {
+                        try {
+                            numbers.add(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())));
+                        } catch (NumberFormatException ignored) {
+                            // 저널 형식이 아닌 파일
+                        }
+                    });
+        }
+        numbers.sort(null);
+        return numbers;
+    }
+}
@@ -0,0 +1,275 @@
+package dev.syntax.domain.account.ledger;
+
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * 자주 변경되는 계좌 잔액을 메모리에 올려두고 락 스트라이핑으로 동시 이체를 처리하는 원장입니다.
+ *
+ * <p>같은 계좌에 대한 변경은 계좌 ID로 정해지는 스트라이프 락 하나로 직렬화되고,
+ * 서로 다른 스트라이프의 계좌는 병렬로 처리됩니다. 모든 변경은 반영 전에 {@link BalanceJournal}에
+ * 먼저 기록되며, DB({@code core_account})에는 {@link BalanceLedgerFlusher}가 주기적으로 모아서 반영합니다.</p>
+ *
+ * <p><b>주의:</b> 원장에 올라간 계좌의 최신 잔액은 {@link #balanceOf(long)}가 기준입니다.
+ * JPA로 읽은 {@code Account.balance}는 다음 flush 전까지 이전 값일 수 있습니다.</p>
+ */
+public class BalanceLedger {
+
+    private final ConcurrentHashMap<Long, Slot> slots = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final LongFunction<BigDecimal> loader;
+    private final BalanceJournal journal;
+    private final List<LongConsumer> changeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param stripes 스트라이프 수 (2의 거듭제곱으로 올림)
+     * @param loader  원장에 없는 계좌의 잔액을 DB에서 읽어오는 함수 (없으면 {@code null} 반환)
+     * @param journal 변경 저널
+     */
+    public BalanceLedger(int stripes, LongFunction<BigDecimal> loader, BalanceJournal journal) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.loader = loader;
+        this.journal = journal;
+    }
+
+    public BigDecimal balanceOf(long accountId) {
+        ReentrantLock lock = stripeOf(accountId);
+        lock.lock();
+        try {
+            return slot(accountId).balance;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 원장에 올라가 있는 계좌의 잔액을 돌려줍니다. 없으면 DB에서 읽지 않고 {@code null}.
+     * <p>조회 화면처럼 원장에 새로 올릴 필요가 없는 읽기에서 사용합니다.</p>
+     */
+    public BigDecimal balanceIfLoaded(long accountId) {
+        ReentrantLock lock = stripeOf(accountId);
+        lock.lock();
+        try {
+            Slot slot = slots.get(accountId);
+            return slot == null ? null : slot.balance;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 잔액이 바뀔 때마다 계좌 ID로 호출될 리스너를 등록합니다.
+     * <p>스트라이프 락을 잡은 상태에서 호출되므로 캐시 무효화처럼 가벼운 작업만 해야 합니다.</p>
+     */
+    public void addChangeListener(LongConsumer listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * 입금합니다.
+     *
+     * @return 입금 후 잔액
+     */
+    public BigDecimal credit(long accountId, BigDecimal amount) {
+        requirePositive(amount);
+        ReentrantLock lock = stripeOf(accountId);
+        lock.lock();
+        try {
+            Slot slot = slot(accountId);
+            return apply(accountId, slot, slot.balance.add(amount));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 출금합니다. 잔액이 부족하면 {@link ErrorBaseCode#BAD_REQUEST}.
+     *
+     * @return 출금 후 잔액
+     */
+    public BigDecimal debit(long accountId, BigDecimal amount) {
+        requirePositive(amount);
+        ReentrantLock lock = stripeOf(accountId);
+        lock.lock();
+        try {
+            Slot slot = slot(accountId);
+            requireSufficient(slot, amount);
+            return apply(accountId, slot, slot.balance.subtract(amount));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 두 계좌 사이에서 금액을 옮깁니다. 출금과 입금은 함께 성공하거나 함께 실패합니다.
+     * <p>교착을 피하기 위해 스트라이프 락은 항상 인덱스 오름차순으로 잡습니다.</p>
+     *
+     * @return 이체 직후 양쪽 계좌의 잔액
+     */
+    public TransferResult transfer(long fromId, long toId, BigDecimal amount) {
+        if (fromId == toId) {
+            throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+        }
+        requirePositive(amount);
+
+        int a = indexOf(fromId);
+        int b = indexOf(toId);
+        ReentrantLock first = stripes[Math.min(a, b)];
+        ReentrantLock second = stripes[Math.max(a, b)];
+        first.lock();
+        try {
+            if (second != first) {
+                second.lock();
+            }
+            try {
+                Slot from = slot(fromId);
+                Slot to = slot(toId);
+                requireSufficient(from, amount);
+                return new TransferResult(
+                        apply(fromId, from, from.balance.subtract(amount)),
+                        apply(toId, to, to.balance.add(amount))
+                );
+            } finally {
+                if (second != first) {
+                    second.unlock();
+                }
+            }
+        } finally {
+            first.unlock();
+        }
+    }
+
+    /**
+     * DB에서 이미 읽어온 잔액을 원장에 미리 올려둡니다. 원장에 있는 계좌는 건드리지 않습니다.
+     * <p>대량 처리에서 계좌마다 개별 조회가 나가지 않도록 할 때 사용합니다.</p>
+     */
+    public void prime(long accountId, BigDecimal balance) {
+        ReentrantLock lock = stripeOf(accountId);
+        lock.lock();
+        try {
+            slots.putIfAbsent(accountId, new Slot(balance));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 스트라이프를 잠근 상태에서 {@code action}을 실행합니다.
+     * <p>저널 세그먼트 회전처럼 "진행 중인 변경이 없는 시점"이 필요할 때 사용합니다.
+     * 이 메서드가 끝나면 회전 이전에 기록된 변경은 모두 dirty 집합에 들어가 있습니다.</p>
+     */
+    public long quiesce(LongSupplier action) {
+        for (ReentrantLock lock : stripes) {
+            lock.lock();
+        }
+        try {
+            return action.getAsLong();
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * DB에 반영할 계좌들의 현재 잔액을 꺼내고 dirty 표시를 지웁니다.
+     * <p>꺼낸 뒤 다시 변경된 계좌는 다음 flush 대상으로 다시 표시됩니다.</p>
+     */
+    public List<Map.Entry<Long, BigDecimal>> drainDirty() {
+        List<Map.Entry<Long, BigDecimal>> drained = new ArrayList<>(dirty.size());
+        for (Long id : dirty) {
+            dirty.remove(id);
+            drained.add(Map.entry(id, balanceOf(id)));
+        }
+        return drained;
+    }
+
+    /**
+     * DB 반영에 실패한 계좌를 다시 flush 대상으로 표시합니다.
+     */
+    public void markDirty(List<Map.Entry<Long, BigDecimal>> entries) {
+        entries.forEach(e -> dirty.add(e.getKey()));
+    }
+
+    public int dirtyCount() {
+        return dirty.size();
+    }
+
+    private BigDecimal apply(long accountId, Slot slot, BigDecimal next) {
+        journal.append(accountId, next);
+        slot.balance = next;
+        dirty.add(accountId);
+        for (LongConsumer listener : changeListeners) {
+            listener.accept(accountId);
+        }
+        return next;
+    }
+
+    // 호출 측이 해당 계좌의 스트라이프 락을 잡고 있어야 합니다.
+    private Slot slot(long accountId) {
+        Slot slot = slots.get(accountId);
+        if (slot == null) {
+            BigDecimal loaded = loader.apply(accountId);
+            if (loaded == null) {
+                throw new BusinessException(ErrorBaseCode.NOT_FOUND_ENTITY);
+            }
+            slot = new Slot(loaded);
+            slots.put(accountId, slot);
+        }
+        return slot;
+    }
+
+    private static void requirePositive(BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+        }
+    }
+
+    private static void requireSufficient(Slot slot, BigDecimal amount) {
+        if (slot.balance.compareTo(amount) < 0) {
+            throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+        }
+    }
+
+    private ReentrantLock stripeOf(long accountId) {
+        return stripes[indexOf(accountId)];
+    }
+
+    private int indexOf(long accountId) {
+        long h = accountId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * 이체 직후 출금/입금 계좌의 잔액.
+     */
+    public record TransferResult(BigDecimal fromBalanceAfter, BigDecimal toBalanceAfter) { }
+
+    // 스트라이프 락 아래에서만 읽고 쓰므로 volatile이 필요 없습니다.
+    private static final class Slot {
+        private BigDecimal balance;
+
+        private Slot(BigDecimal balance) {
+            this.balance = balance;
+        }
+    }
+}
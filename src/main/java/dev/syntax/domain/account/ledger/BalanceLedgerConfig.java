@@ -0,0 +1,48 @@
+package dev.syntax.domain.account.ledger;
+
+import dev.syntax.domain.account.repository.AccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * 잔액 원장과 저널 빈을 등록합니다.
+ *
+ * <p>원장이 DB에서 잔액을 읽기 시작하기 전에, 이전 프로세스가 남긴 저널을 먼저
+ * {@code core_account}에 반영합니다. 그렇지 않으면 flush되지 못한 변경이 오래된 DB 값으로 덮입니다.</p>
+ */
+@Slf4j
+@Configuration
+public class BalanceLedgerConfig {
+
+    @Bean(destroyMethod = "close")
+    public BalanceJournal balanceJournal(LedgerProperties properties) {
+        return new BalanceJournal(Path.of(properties.getJournalDir()), properties.isFsync());
+    }
+
+    @Bean
+    public BalanceLedger balanceLedger(LedgerProperties properties,
+                                       AccountRepository accountRepository,
+                                       BalanceJournal balanceJournal,
+                                       JdbcTemplate jdbcTemplate) {
+        Map<Long, BigDecimal> recovered = balanceJournal.recover();
+        if (!recovered.isEmpty()) {
+            BalanceLedgerFlusher.writeBalances(jdbcTemplate, new ArrayList<>(recovered.entrySet()),
+                    properties.getFlushBatchSize());
+            log.info("[LEDGER] 저널 복구 완료: {}개 계좌 반영", recovered.size());
+        }
+        balanceJournal.discardRecovered();
+
+        return new BalanceLedger(
+                properties.getStripes(),
+                id -> accountRepository.findBalanceById(id).orElse(null),
+                balanceJournal
+        );
+    }
+}
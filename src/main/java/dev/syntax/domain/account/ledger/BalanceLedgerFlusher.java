@@ -0,0 +1,71 @@
+package dev.syntax.domain.account.ledger;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link BalanceLedger}의 변경분을 {@code core_account}에 JDBC batch로 반영하는 write-behind 작업입니다.
+ *
+ * <ol>
+ *   <li>모든 스트라이프를 잠깐 잠그고 저널 세그먼트를 회전(봉인)</li>
+ *   <li>dirty 계좌의 현재 잔액을 꺼내 batch UPDATE</li>
+ *   <li>성공하면 봉인된 세그먼트 삭제, 실패하면 dirty 재표시 후 세그먼트 보존</li>
+ * </ol>
+ *
+ * <p>종료 시에는 마지막으로 한 번 더 flush 합니다. 기동 시 저널 복구는 {@link BalanceLedgerConfig}가 담당합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceLedgerFlusher {
+
+    private static final String UPDATE_SQL =
+            "UPDATE core_account SET balance = ?, updated_at = ? WHERE account_id = ?";
+
+    private final BalanceLedger ledger;
+    private final BalanceJournal journal;
+    private final JdbcTemplate jdbcTemplate;
+    private final LedgerProperties properties;
+
+    @Scheduled(fixedDelayString = "${ledger.flush-interval-ms:1000}")
+    public void flush() {
+        long sealed = ledger.quiesce(journal::rotate);
+        List<Map.Entry<Long, BigDecimal>> batch = ledger.drainDirty();
+        if (batch.isEmpty()) {
+            journal.deleteSealedUpTo(sealed);
+            return;
+        }
+        try {
+            writeBalances(jdbcTemplate, batch, properties.getFlushBatchSize());
+            journal.deleteSealedUpTo(sealed);
+        } catch (RuntimeException e) {
+            // 세그먼트를 지우지 않으므로 재기동해도 유실되지 않는다.
+            ledger.markDirty(batch);
+            log.error("[LEDGER] core_account 반영 실패, 다음 주기에 재시도: {}개 계좌", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    static void writeBalances(JdbcTemplate jdbcTemplate, List<Map.Entry<Long, BigDecimal>> rows, int batchSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, rows, batchSize, (ps, row) -> {
+            ps.setBigDecimal(1, row.getValue());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, row.getKey());
+        });
+    }
+}
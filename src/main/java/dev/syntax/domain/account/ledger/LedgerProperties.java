@@ -0,0 +1,40 @@
+package dev.syntax.domain.account.ledger;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 인메모리 잔액 원장({@link BalanceLedger}) 설정값입니다.
+ *
+ * <pre>{@code
+ * ledger:
+ *   stripes: 64
+ *   journal-dir: ./data/ledger
+ *   flush-interval-ms: 1000
+ *   flush-batch-size: 500
+ *   fsync: false
+ * }</pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ledger")
+@Getter
+@Setter
+public class LedgerProperties {
+
+    // 락 스트라이프 수 (2의 거듭제곱 권장)
+    private int stripes = 64;
+
+    // 저널 세그먼트 파일이 쌓이는 로컬 디렉터리
+    private String journalDir = "./data/ledger";
+
+    // core_account 반영 주기
+    private long flushIntervalMs = 1000;
+
+    // JDBC batch 1회당 최대 행 수
+    private int flushBatchSize = 500;
+
+    // true면 저널 append마다 디스크까지 강제 기록 (느리지만 전원 장애에도 안전)
+    private boolean fsync = false;
+}
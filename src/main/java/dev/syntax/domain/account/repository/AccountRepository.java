@@ -1,7 +1,45 @@
 package dev.syntax.domain.account.repository;
 
+import dev.syntax.domain.account.dto.AccountOwnerView;
+import dev.syntax.domain.account.dto.AccountSummaryView;
 import dev.syntax.domain.account.entity.Account;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
+
+    /**
+     * 엔티티를 로딩하지 않고 잔액 컬럼만 조회합니다.
+     */
+    @Query("select a.balance from Account a where a.id = :id")
+    Optional<BigDecimal> findBalanceById(@Param("id") Long id);
+
+    /**
+     * 행 잠금(SELECT ... FOR UPDATE)을 걸고 계좌를 조회합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.id = :id")
+    Optional<Account> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 여러 계좌의 소유자/잔액/상태를 한 번의 쿼리로 조회합니다.
+     */
+    @Query("select a.id as id, a.user.id as userId, a.number as number, a.balance as balance, a.status as status "
+            + "from Account a where a.id in :ids")
+    List<AccountOwnerView> findOwnerViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 사용자의 계좌 목록을 요약 컬럼만 조회합니다.
+     */
+    @Query("select a.id as id, a.number as number, a.productName as productName, a.balance as balance, "
+            + "a.status as status, a.type as type from Account a where a.user.id = :userId order by a.id")
+    List<AccountSummaryView> findSummariesByUserId(@Param("userId") Long userId);
 }
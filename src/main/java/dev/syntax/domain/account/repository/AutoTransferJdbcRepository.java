@@ -0,0 +1,42 @@
+package dev.syntax.domain.account.repository;
+
+import dev.syntax.domain.account.enums.AutoTransferStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 자동이체 실행 결과를 JDBC batch로 한 번에 기록하는 리포지토리입니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AutoTransferJdbcRepository {
+
+    private static final String UPDATE_SQL = "UPDATE core_auto_transfer "
+            + "SET status = ?, next_transfer_day = ?, updated_at = ? WHERE auto_transfer_id = ?";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchUpdateResults(List<RunResult> results) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, results, BATCH_SIZE, (ps, r) -> {
+            ps.setString(1, r.status().name());
+            ps.setDate(2, Date.valueOf(r.nextTransferDay()));
+            ps.setTimestamp(3, now);
+            ps.setLong(4, r.id());
+        });
+    }
+
+    /**
+     * 자동이체 1건의 실행 결과
+     */
+    public record RunResult(long id, AutoTransferStatus status, LocalDate nextTransferDay) { }
+}
@@ -1,7 +1,30 @@
 package dev.syntax.domain.account.repository;
 
+import dev.syntax.domain.account.dto.DueAutoTransferView;
 import dev.syntax.domain.account.entity.AutoTransfer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
 
 public interface AutoTransferRepository extends JpaRepository<AutoTransfer, Long> {
+
+    /**
+     * {@code today} 이전(포함)에 실행 예정인 자동이체를 {@code (next_transfer_day, auto_transfer_id)} 키셋 순서로 조회합니다.
+     * <p>OFFSET 없이 직전 페이지의 마지막 키({@code lastDay}, {@code lastId}) 이후부터 읽습니다.
+     * 첫 페이지는 {@code lastDay = LocalDate.EPOCH}, {@code lastId = 0}으로 호출합니다.</p>
+     */
+    @Query("select a.id as id, a.fromAccount.id as fromAccountId, a.toAccount.id as toAccountId, "
+            + "a.amount as amount, a.memo as memo, a.transferDay as transferDay, a.nextTransferDay as nextTransferDay "
+            + "from AutoTransfer a "
+            + "where a.nextTransferDay <= :today "
+            + "and (a.nextTransferDay > :lastDay or (a.nextTransferDay = :lastDay and a.id > :lastId)) "
+            + "order by a.nextTransferDay, a.id")
+    List<DueAutoTransferView> findDueAfter(@Param("today") LocalDate today,
+                                           @Param("lastDay") LocalDate lastDay,
+                                           @Param("lastId") Long lastId,
+                                           Pageable pageable);
 }
@@ -0,0 +1,102 @@
+package dev.syntax.domain.account.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * {@code core_balance_checkpoint} 생성/재생성용 JDBC 리포지토리입니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BalanceCheckpointJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO core_balance_checkpoint "
+            + "(account_id, checkpoint_at, balance, last_transaction_id, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    /**
+     * {@code [from, cutoff)} 구간에 거래가 있었던 계좌마다 구간의 마지막 거래 후 잔액으로 체크포인트를 만듭니다.
+     * 거래가 없던 계좌는 이전 체크포인트가 그대로 유효하므로 만들지 않습니다.
+     */
+    private static final String CHECKPOINT_SQL = "INSERT INTO core_balance_checkpoint "
+            + "(account_id, checkpoint_at, balance, last_transaction_id, created_at) "
+            + "SELECT account_id, ?, balance_after, transaction_id, ? "
+            + "FROM ("
+            + "  SELECT account_id, balance_after, transaction_id, "
+            + "    ROW_NUMBER() OVER (PARTITION BY account_id ORDER BY transaction_date DESC, transaction_id DESC) AS rn "
+            + "  FROM core_transaction "
+            + "  WHERE status = 'SUCCESS' AND transaction_date >= ? AND transaction_date < ?"
+            + ") t "
+            + "WHERE rn = 1";
+
+    private static final String HISTORY_SQL = "SELECT transaction_id, transaction_date, balance_after "
+            + "FROM core_transaction WHERE account_id = ? AND status = 'SUCCESS' "
+            + "ORDER BY transaction_date, transaction_id";
+
+    private static final String MYSQL = "MySQL";
+    private static final int FETCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * {@code cutoff} 시점 체크포인트를 만듭니다. 같은 시점 체크포인트가 있으면 먼저 지우므로 다시 실행해도 안전합니다.
+     *
+     * @return 생성된 체크포인트 수
+     */
+    public int checkpoint(LocalDateTime from, LocalDateTime cutoff) {
+        Timestamp at = Timestamp.valueOf(cutoff);
+        jdbcTemplate.update("DELETE FROM core_balance_checkpoint WHERE checkpoint_at = ?", at);
+        return jdbcTemplate.update(CHECKPOINT_SQL, at, Timestamp.valueOf(LocalDateTime.now()),
+                Timestamp.valueOf(from), at);
+    }
+
+    public void deleteAll() {
+        jdbcTemplate.update("DELETE FROM core_balance_checkpoint");
+    }
+
+    /**
+     * SUCCESS 거래가 한 건이라도 있는 계좌 ID를 오름차순으로 조회합니다.
+     */
+    public List<Long> findAccountIdsWithTransactions() {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT account_id FROM core_transaction WHERE status = 'SUCCESS' ORDER BY account_id",
+                Long.class);
+    }
+
+    /**
+     * 계좌의 SUCCESS 거래를 시간순으로 한 행씩 넘겨줍니다. 전체를 메모리에 올리지 않습니다.
+     * <p>MySQL 드라이버는 기본적으로 결과 전체를 받아 두므로 fetch size 를 {@link Integer#MIN_VALUE}로 줘
+     * 행 단위 스트리밍으로 읽습니다. 스트리밍 중에는 같은 연결로 다른 쿼리를 보낼 수 없으니 {@code handler}에서
+     * DB를 호출하면 안 됩니다. 다른 DB(H2 등)는 음수 fetch size 를 받지 않으므로 {@link #FETCH_SIZE}씩 읽습니다.</p>
+     */
+    public void streamHistory(long accountId, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(HISTORY_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(MYSQL.equals(con.getMetaData().getDatabaseProductName()) ? Integer.MIN_VALUE : FETCH_SIZE);
+            ps.setLong(1, accountId);
+            return ps;
+        }, handler);
+    }
+
+    public void batchInsert(List<CheckpointRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.accountId());
+            ps.setTimestamp(2, Timestamp.valueOf(row.checkpointAt()));
+            ps.setBigDecimal(3, row.balance());
+            ps.setLong(4, row.lastTransactionId());
+            ps.setTimestamp(5, now);
+        });
+    }
+
+    public record CheckpointRow(long accountId, LocalDateTime checkpointAt, BigDecimal balance, long lastTransactionId) { }
+}
@@ -0,0 +1,16 @@
+package dev.syntax.domain.account.repository;
+
+import dev.syntax.domain.account.entity.BalanceCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface BalanceCheckpointRepository extends JpaRepository<BalanceCheckpoint, Long> {
+
+    /**
+     * {@code at} 이전(포함) 가장 최근 체크포인트를 조회합니다.
+     */
+    Optional<BalanceCheckpoint> findFirstByAccountIdAndCheckpointAtLessThanEqualOrderByCheckpointAtDesc(
+            Long accountId, LocalDateTime at);
+}
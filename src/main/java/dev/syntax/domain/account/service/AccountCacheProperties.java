@@ -0,0 +1,30 @@
+package dev.syntax.domain.account.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 계좌 목록 캐시 설정값입니다.
+ *
+ * <pre>{@code
+ * account-cache:
+ *   max-users: 50000
+ *   ttl: 5m
+ * }</pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "account-cache")
+@Getter
+@Setter
+public class AccountCacheProperties {
+
+    // 캐시에 보관할 최대 사용자 수 (초과 시 가장 오래 안 쓴 사용자부터 제거)
+    private int maxUsers = 50_000;
+
+    // 변경 이벤트를 놓쳤을 때를 대비한 최대 보관 시간
+    private Duration ttl = Duration.ofMinutes(5);
+}
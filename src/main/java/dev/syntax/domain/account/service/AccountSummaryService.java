@@ -0,0 +1,98 @@
+package dev.syntax.domain.account.service;
+
+import dev.syntax.domain.account.dto.AccountSummaryRes;
+import dev.syntax.domain.account.dto.AccountSummaryView;
+import dev.syntax.domain.account.ledger.BalanceLedger;
+import dev.syntax.domain.account.repository.AccountRepository;
+import dev.syntax.global.cache.BoundedTtlCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 계좌 목록(요약) 읽기 모델입니다. 앱 첫 화면에서 가장 많이 호출됩니다.
+ *
+ * <ul>
+ *   <li>캐시에 없으면 프로젝션 쿼리 1회로 읽어 사용자 단위로 캐시 (크기/TTL 제한)</li>
+ *   <li>{@link BalanceLedger} 잔액 변경 → 해당 계좌 소유자 항목만 무효화</li>
+ *   <li>JPA로 {@code Account}가 생성·변경·삭제되면 {@link dev.syntax.domain.account.entity.AccountChangeListener}가 무효화</li>
+ * </ul>
+ *
+ * <p>적중률은 {@code /actuator/metrics/cache.gets?tag=cache:account.summary} 로 확인합니다.</p>
+ */
+@Service
+public class AccountSummaryService {
+
+    static final String CACHE_NAME = "account.summary";
+
+    private final AccountRepository accountRepository;
+    private final BalanceLedger ledger;
+    private final BoundedTtlCache<Long, List<AccountSummaryRes>> cache;
+
+    // 잔액 변경 이벤트(계좌 ID)를 사용자 ID로 바꾸기 위한 역색인. 한 번이라도 조회된 계좌만 들어간다.
+    private final Map<Long, Long> ownerByAccount = new ConcurrentHashMap<>();
+
+    public AccountSummaryService(AccountRepository accountRepository,
+                                 BalanceLedger ledger,
+                                 AccountCacheProperties properties,
+                                 MeterRegistry registry) {
+        this.accountRepository = accountRepository;
+        this.ledger = ledger;
+        this.cache = new BoundedTtlCache<>(properties.getMaxUsers(), properties.getTtl());
+        ledger.addChangeListener(this::onBalanceChanged);
+
+        FunctionCounter.builder("cache.gets", cache, BoundedTtlCache::hitCount)
+                .tags("cache", CACHE_NAME, "result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", cache, BoundedTtlCache::missCount)
+                .tags("cache", CACHE_NAME, "result", "miss").register(registry);
+        FunctionCounter.builder("cache.evictions", cache, BoundedTtlCache::evictionCount)
+                .tag("cache", CACHE_NAME).register(registry);
+        Gauge.builder("cache.size", cache, BoundedTtlCache::size)
+                .tag("cache", CACHE_NAME).register(registry);
+        Gauge.builder("cache.hit.ratio", cache, BoundedTtlCache::hitRatio)
+                .tag("cache", CACHE_NAME).register(registry);
+    }
+
+    public List<AccountSummaryRes> getAccounts(Long userId) {
+        return cache.getOrLoad(userId, this::load);
+    }
+
+    /**
+     * 사용자 항목을 즉시 무효화하고, 트랜잭션 안이면 커밋 직후에 한 번 더 무효화합니다.
+     * <p>커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경우를 막기 위함입니다.</p>
+     */
+    public void evictUser(Long userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private void onBalanceChanged(long accountId) {
+        Long userId = ownerByAccount.get(accountId);
+        if (userId != null) {
+            cache.invalidate(userId);
+        }
+    }
+
+    private List<AccountSummaryRes> load(Long userId) {
+        List<AccountSummaryView> views = accountRepository.findSummariesByUserId(userId);
+        views.forEach(v -> ownerByAccount.put(v.getId(), userId));
+        // DB 잔액은 다음 flush 전까지 원장보다 늦을 수 있으므로 원장에 있는 계좌는 원장 값을 쓴다.
+        return views.stream()
+                .map(v -> AccountSummaryRes.create(v, ledger.balanceIfLoaded(v.getId())))
+                .toList();
+    }
+}
@@ -0,0 +1,225 @@
+package dev.syntax.domain.account.service;
+
+import dev.syntax.domain.account.dto.DueAutoTransferView;
+import dev.syntax.domain.account.enums.AutoTransferStatus;
+import dev.syntax.domain.account.repository.AutoTransferJdbcRepository;
+import dev.syntax.domain.account.repository.AutoTransferJdbcRepository.RunResult;
+import dev.syntax.domain.account.repository.AutoTransferRepository;
+import dev.syntax.domain.transaction.dto.BulkTransferReq;
+import dev.syntax.domain.transaction.dto.BulkTransferReq.TransferItem;
+import dev.syntax.domain.transaction.dto.BulkTransferRes;
+import dev.syntax.domain.transaction.service.BulkTransferService;
+import dev.syntax.domain.transaction.service.PartiallyAppliedTransferException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행일이 된 자동이체를 병렬로 처리하는 엔진입니다.
+ *
+ * <ol>
+ *   <li>{@code (next_transfer_day, auto_transfer_id)} 키셋 페이지로 실행 대상을 읽음</li>
+ *   <li>페이지를 출금 계좌 기준으로 파티션 → 같은 출금 계좌는 항상 같은 작업자가 처리</li>
+ *   <li>파티션마다 {@code appExecutor}에서 {@link BulkTransferService}로 이체.
+ *       한 번에 {@value BulkTransferService#MAX_TRANSFERS}건씩 나눠 차례로 요청</li>
+ *   <li>SUCCESS/FAIL 과 다음 실행일을 JDBC batch로 기록</li>
+ * </ol>
+ *
+ * <p>처리량은 Micrometer로 노출됩니다 ({@code /actuator/metrics/autotransfer.*}).</p>
+ */
+@Slf4j
+@Service
+public class AutoTransferEngine {
+
+    private static final String CATEGORY = "자동이체";
+
+    private final AutoTransferRepository autoTransferRepository;
+    private final AutoTransferJdbcRepository autoTransferJdbcRepository;
+    private final BulkTransferService bulkTransferService;
+    private final AsyncTaskExecutor executor;
+    private final AutoTransferProperties properties;
+
+    private final Counter succeededCounter;
+    private final Counter failedCounter;
+    private final Timer runTimer;
+    private final AtomicLong lastThroughput = new AtomicLong();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public AutoTransferEngine(AutoTransferRepository autoTransferRepository,
+                              AutoTransferJdbcRepository autoTransferJdbcRepository,
+                              BulkTransferService bulkTransferService,
+                              @Qualifier("appExecutor") AsyncTaskExecutor executor,
+                              AutoTransferProperties properties,
+                              MeterRegistry registry) {
+        this.autoTransferRepository = autoTransferRepository;
+        this.autoTransferJdbcRepository = autoTransferJdbcRepository;
+        this.bulkTransferService = bulkTransferService;
+        this.executor = executor;
+        this.properties = properties;
+        this.succeededCounter = registry.counter("autotransfer.executions", "result", "success");
+        this.failedCounter = registry.counter("autotransfer.executions", "result", "fail");
+        this.runTimer = registry.timer("autotransfer.run");
+        registry.gauge("autotransfer.last.run.throughput", lastThroughput);
+    }
+
+    @Scheduled(cron = "${auto-transfer.cron:0 0 1 * * *}")
+    public void runScheduled() {
+        run(LocalDate.now());
+    }
+
+    /**
+     * {@code today} 기준으로 실행일이 지난 자동이체를 모두 처리합니다. 이미 실행 중이면 건너뜁니다.
+     */
+    public RunSummary run(LocalDate today) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[AUTO-TRANSFER] 이전 실행이 아직 진행 중이라 건너뜁니다.");
+            return new RunSummary(0, 0, 0, 0);
+        }
+        long start = System.nanoTime();
+        int succeeded = 0;
+        int failed = 0;
+        try {
+            LocalDate lastDay = LocalDate.EPOCH;
+            long lastId = 0L;
+            while (true) {
+                List<DueAutoTransferView> page = autoTransferRepository.findDueAfter(
+                        today, lastDay, lastId, PageRequest.of(0, properties.getPageSize()));
+                if (page.isEmpty()) {
+                    break;
+                }
+                DueAutoTransferView tail = page.get(page.size() - 1);
+                lastDay = tail.getNextTransferDay();
+                lastId = tail.getId();
+
+                List<RunResult> results = executePage(page, today);
+                autoTransferJdbcRepository.batchUpdateResults(results);
+
+                int ok = (int) results.stream().filter(r -> r.status() == AutoTransferStatus.SUCCESS).count();
+                succeeded += ok;
+                failed += results.size() - ok;
+                succeededCounter.increment(ok);
+                failedCounter.increment(results.size() - ok);
+
+                if (page.size() < properties.getPageSize()) {
+                    break;
+                }
+            }
+        } finally {
+            running.set(false);
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        RunSummary summary = new RunSummary(succeeded + failed, succeeded, failed, elapsedNanos / 1_000_000);
+        lastThroughput.set(summary.throughputPerSecond());
+        log.info("[AUTO-TRANSFER] 실행 완료: {}", summary);
+        return summary;
+    }
+
+    private List<RunResult> executePage(List<DueAutoTransferView> page, LocalDate today) {
+        int n = Math.max(1, properties.getPartitions());
+        List<List<DueAutoTransferView>> partitions = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (DueAutoTransferView due : page) {
+            partitions.get(Math.floorMod(Long.hashCode(due.getFromAccountId()), n)).add(due);
+        }
+
+        List<CompletableFuture<List<RunResult>>> futures = partitions.stream()
+                .filter(p -> !p.isEmpty())
+                .map(p -> CompletableFuture.supplyAsync(() -> executePartition(p, today), executor))
+                .toList();
+
+        List<RunResult> results = new ArrayList<>(page.size());
+        futures.forEach(f -> results.addAll(f.join()));
+        return results;
+    }
+
+    // 같은 출금 계좌의 이체 순서를 지키도록 한 파티션의 묶음은 같은 작업자가 차례로 보낸다.
+    private List<RunResult> executePartition(List<DueAutoTransferView> partition, LocalDate today) {
+        List<RunResult> results = new ArrayList<>(partition.size());
+        for (int from = 0; from < partition.size(); from += BulkTransferService.MAX_TRANSFERS) {
+            int to = Math.min(from + BulkTransferService.MAX_TRANSFERS, partition.size());
+            results.addAll(executeChunk(partition.subList(from, to), today));
+        }
+        return results;
+    }
+
+    private List<RunResult> executeChunk(List<DueAutoTransferView> chunk, LocalDate today) {
+        List<TransferItem> items = chunk.stream()
+                .map(d -> new TransferItem(d.getFromAccountId(), d.getToAccountId(), d.getAmount(), d.getMemo(), CATEGORY))
+                .toList();
+
+        List<RunResult> results = new ArrayList<>(chunk.size());
+        try {
+            BulkTransferRes res = bulkTransferService.transfer(new BulkTransferReq(items));
+            Set<Integer> failedIndexes = new HashSet<>();
+            res.failed().forEach(f -> failedIndexes.add(f.index()));
+            for (int i = 0; i < chunk.size(); i++) {
+                DueAutoTransferView due = chunk.get(i);
+                AutoTransferStatus status = failedIndexes.contains(i) ? AutoTransferStatus.FAIL : AutoTransferStatus.SUCCESS;
+                results.add(new RunResult(due.getId(), status,
+                        nextRunDay(due.getTransferDay(), due.getNextTransferDay(), today)));
+            }
+        } catch (PartiallyAppliedTransferException e) {
+            // 잔액이 옮겨진 건은 다음 실행일로 넘겨 다시 보내지 않고, 되돌려진 건만 실행일을 유지한다.
+            log.error("[AUTO-TRANSFER] 파티션 실행 실패, 반영된 {}건은 재시도하지 않음: {}건",
+                    e.getApplied().size(), chunk.size(), e);
+            Set<Integer> applied = new HashSet<>(e.getApplied());
+            for (int i = 0; i < chunk.size(); i++) {
+                DueAutoTransferView due = chunk.get(i);
+                results.add(applied.contains(i)
+                        ? new RunResult(due.getId(), AutoTransferStatus.SUCCESS,
+                                nextRunDay(due.getTransferDay(), due.getNextTransferDay(), today))
+                        : new RunResult(due.getId(), AutoTransferStatus.FAIL, due.getNextTransferDay()));
+            }
+        } catch (RuntimeException e) {
+            // 인프라 장애: 실행일을 유지해서 다음 실행 때 다시 시도한다.
+            log.error("[AUTO-TRANSFER] 파티션 실행 실패: {}건", chunk.size(), e);
+            chunk.forEach(due -> results.add(
+                    new RunResult(due.getId(), AutoTransferStatus.FAIL, due.getNextTransferDay())));
+        }
+        return results;
+    }
+
+    /**
+     * 다음 실행일을 계산합니다. 매월 {@code transferDay}일이며, 그 달에 해당 일이 없으면 말일입니다.
+     * 여러 달 밀린 경우에도 {@code today} 이후의 첫 실행일을 돌려줍니다.
+     */
+    public static LocalDate nextRunDay(int transferDay, LocalDate current, LocalDate today) {
+        YearMonth month = YearMonth.from(current);
+        LocalDate next;
+        do {
+            month = month.plusMonths(1);
+            next = month.atDay(Math.min(transferDay, month.lengthOfMonth()));
+        } while (!next.isAfter(today));
+        return next;
+    }
+
+    /**
+     * 1회 실행 결과
+     */
+    public record RunSummary(int processed, int succeeded, int failed, long elapsedMillis) {
+        public long throughputPerSecond() {
+            return elapsedMillis == 0 ? processed : processed * 1000L / elapsedMillis;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package dev.syntax.domain.account.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 자동이체 실행 엔진 설정값입니다.
+ *
+ * <pre>{@code
+ * auto-transfer:
+ *   cron: "0 0 1 * * *"
+ *   page-size: 5000
+ *   partitions: 16
+ * }</pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "auto-transfer")
+@Getter
+@Setter
+public class AutoTransferProperties {
+
+    // 실행 주기 (기본: 매일 01:00)
+    private String cron = "0 0 1 * * *";
+
+    // 키셋 페이지 1회당 읽는 행 수
+    private int pageSize = 5000;
+
+    // 출금 계좌 기준 파티션 수 (appExecutor 큐 용량 이하)
+    private int partitions = 16;
+}
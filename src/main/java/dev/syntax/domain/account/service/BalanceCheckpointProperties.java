@@ -0,0 +1,28 @@
+package dev.syntax.domain.account.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 잔액 체크포인트 설정값입니다.
+ *
+ * <pre>{@code
+ * balance-checkpoint:
+ *   cron: "0 10 0 * * *"
+ *   rebuild-partitions: 8
+ * }</pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "balance-checkpoint")
+@Getter
+@Setter
+public class BalanceCheckpointProperties {
+
+    // 일일 체크포인트 생성 주기 (기본: 매일 00:10, 전날 거래 기준)
+    private String cron = "0 10 0 * * *";
+
+    // 전체 재생성 시 계좌 파티션 수 (appExecutor 큐 용량 이하)
+    private int rebuildPartitions = 8;
+}
@@ -0,0 +1,210 @@
+package dev.syntax.domain.account.service;
+
+import dev.syntax.domain.account.dto.BalanceAtRes;
+import dev.syntax.domain.account.entity.BalanceCheckpoint;
+import dev.syntax.domain.account.ledger.BalanceLedger;
+import dev.syntax.domain.account.repository.BalanceCheckpointJdbcRepository;
+import dev.syntax.domain.account.repository.BalanceCheckpointJdbcRepository.CheckpointRow;
+import dev.syntax.domain.account.repository.BalanceCheckpointRepository;
+import dev.syntax.domain.transaction.dto.TransactionHistoryView;
+import dev.syntax.domain.transaction.enums.TransactionStatus;
+import dev.syntax.domain.transaction.enums.TransactionType;
+import dev.syntax.domain.transaction.repository.TransactionRepository;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 계좌 잔액 체크포인트를 만들고, 체크포인트 + 구간 재생으로 특정 시점 잔액을 계산하는 서비스입니다.
+ *
+ * <ul>
+ *   <li>매일 전날 거래가 있었던 계좌마다 자정 시점 체크포인트를 만듦</li>
+ *   <li>시점 조회는 가장 가까운 이전 체크포인트부터 조회 시점까지의 거래만 읽음 (최대 체크포인트 주기만큼)</li>
+ *   <li>전체 재생성은 계좌를 파티션으로 나눠 {@code appExecutor}에서 병렬로 {@code core_transaction}을 다시 읽음</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class BalanceCheckpointService {
+
+    private static final LocalDateTime BEGINNING = LocalDate.EPOCH.atStartOfDay();
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final BalanceCheckpointJdbcRepository balanceCheckpointJdbcRepository;
+    private final TransactionRepository transactionRepository;
+    private final BalanceLedger ledger;
+    private final AsyncTaskExecutor executor;
+    private final BalanceCheckpointProperties properties;
+
+    public BalanceCheckpointService(BalanceCheckpointRepository balanceCheckpointRepository,
+                                    BalanceCheckpointJdbcRepository balanceCheckpointJdbcRepository,
+                                    TransactionRepository transactionRepository,
+                                    BalanceLedger ledger,
+                                    @Qualifier("appExecutor") AsyncTaskExecutor executor,
+                                    BalanceCheckpointProperties properties) {
+        this.balanceCheckpointRepository = balanceCheckpointRepository;
+        this.balanceCheckpointJdbcRepository = balanceCheckpointJdbcRepository;
+        this.transactionRepository = transactionRepository;
+        this.ledger = ledger;
+        this.executor = executor;
+        this.properties = properties;
+    }
+
+    @Scheduled(cron = "${balance-checkpoint.cron:0 10 0 * * *}")
+    public void checkpointScheduled() {
+        LocalDateTime cutoff = LocalDate.now().atStartOfDay();
+        int created = balanceCheckpointJdbcRepository.checkpoint(cutoff.minusDays(1), cutoff);
+        log.info("[CHECKPOINT] {} 체크포인트 {}건 생성", cutoff, created);
+    }
+
+    /**
+     * {@code at} 시점(해당 시각의 거래 포함)의 계좌 잔액을 계산합니다.
+     */
+    @Transactional(readOnly = true)
+    public BalanceAtRes balanceAt(Long accountId, LocalDateTime at) {
+        Optional<BalanceCheckpoint> checkpoint = balanceCheckpointRepository
+                .findFirstByAccountIdAndCheckpointAtLessThanEqualOrderByCheckpointAtDesc(accountId, at);
+        LocalDateTime from = checkpoint.map(BalanceCheckpoint::getCheckpointAt).orElse(BEGINNING);
+        LocalDateTime checkpointAt = checkpoint.map(BalanceCheckpoint::getCheckpointAt).orElse(null);
+
+        List<BigDecimal> replayed = transactionRepository.findLastBalanceBetween(
+                accountId, TransactionStatus.SUCCESS, from, at, PageRequest.of(0, 1));
+        if (!replayed.isEmpty()) {
+            return BalanceAtRes.create(accountId, at, replayed.get(0), checkpointAt);
+        }
+        if (checkpoint.isPresent()) {
+            return BalanceAtRes.create(accountId, at, checkpoint.get().getBalance(), checkpointAt);
+        }
+        return BalanceAtRes.create(accountId, at, openingBalance(accountId, at), null);
+    }
+
+    // 조회 시점까지 거래가 없으면 첫 거래에서 거꾸로 계산하고, 거래가 아예 없으면 현재 잔액이 그대로 유지된 것이다.
+    private BigDecimal openingBalance(Long accountId, LocalDateTime at) {
+        List<TransactionHistoryView> first = transactionRepository.findFirstAfter(
+                accountId, TransactionStatus.SUCCESS, at, PageRequest.of(0, 1));
+        if (first.isEmpty()) {
+            return ledger.balanceOf(accountId);
+        }
+        TransactionHistoryView tx = first.get(0);
+        if (tx.getAmount() == null) {
+            // 금액 컬럼이 생기기 전 거래라 첫 거래 이전 잔액을 알 수 없다.
+            throw new BusinessException(ErrorBaseCode.NOT_FOUND_ENTITY);
+        }
+        return TransactionType.DEPOSIT.name().equals(tx.getType())
+                ? tx.getBalanceAfter().subtract(tx.getAmount())
+                : tx.getBalanceAfter().add(tx.getAmount());
+    }
+
+    /**
+     * 체크포인트를 모두 지우고 {@code core_transaction}으로 일 단위 체크포인트를 다시 만듭니다.
+     * <p>오늘 거래는 아직 하루가 끝나지 않았으므로 제외합니다.</p>
+     */
+    public RebuildSummary rebuild() {
+        long start = System.nanoTime();
+        LocalDateTime cutoff = LocalDate.now().atStartOfDay();
+        balanceCheckpointJdbcRepository.deleteAll();
+        List<Long> accountIds = balanceCheckpointJdbcRepository.findAccountIdsWithTransactions();
+
+        int n = Math.max(1, properties.getRebuildPartitions());
+        int chunk = (accountIds.size() + n - 1) / n;
+        List<CompletableFuture<Integer>> futures = new ArrayList<>(n);
+        for (int from = 0; from < accountIds.size(); from += chunk) {
+            List<Long> partition = accountIds.subList(from, Math.min(from + chunk, accountIds.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> rebuildPartition(partition, cutoff), executor));
+        }
+        int checkpoints = futures.stream().mapToInt(CompletableFuture::join).sum();
+
+        RebuildSummary summary = new RebuildSummary(accountIds.size(), checkpoints,
+                (System.nanoTime() - start) / 1_000_000);
+        log.info("[CHECKPOINT] 재생성 완료: {}", summary);
+        return summary;
+    }
+
+    private int rebuildPartition(List<Long> accountIds, LocalDateTime cutoff) {
+        List<CheckpointRow> buffer = new ArrayList<>(INSERT_BATCH_SIZE);
+        int created = 0;
+        for (long accountId : accountIds) {
+            DailyFolder folder = new DailyFolder(accountId, cutoff, buffer);
+            balanceCheckpointJdbcRepository.streamHistory(accountId, rs -> folder.accept(
+                    rs.getLong("transaction_id"),
+                    rs.getTimestamp("transaction_date").toLocalDateTime(),
+                    rs.getBigDecimal("balance_after")));
+            folder.finish();
+            if (buffer.size() >= INSERT_BATCH_SIZE) {
+                created += flush(buffer);
+            }
+        }
+        return created + flush(buffer);
+    }
+
+    private int flush(List<CheckpointRow> buffer) {
+        int size = buffer.size();
+        if (size > 0) {
+            balanceCheckpointJdbcRepository.batchInsert(buffer);
+            buffer.clear();
+        }
+        return size;
+    }
+
+    /**
+     * 한 계좌의 거래를 시간순으로 받아, 날짜가 바뀔 때마다 전날 마지막 잔액으로 다음 날 자정 체크포인트를 만든다.
+     */
+    static final class DailyFolder {
+        private final long accountId;
+        private final LocalDateTime cutoff;
+        private final List<CheckpointRow> out;
+        private LocalDate day;
+        private long lastId;
+        private BigDecimal lastBalance;
+
+        DailyFolder(long accountId, LocalDateTime cutoff, List<CheckpointRow> out) {
+            this.accountId = accountId;
+            this.cutoff = cutoff;
+            this.out = out;
+        }
+
+        void accept(long transactionId, LocalDateTime date, BigDecimal balanceAfter) {
+            if (!date.isBefore(cutoff)) {
+                return;
+            }
+            LocalDate txDay = date.toLocalDate();
+            if (day != null && !txDay.equals(day)) {
+                emit();
+            }
+            day = txDay;
+            lastId = transactionId;
+            lastBalance = balanceAfter;
+        }
+
+        void finish() {
+            if (day != null) {
+                emit();
+                day = null;
+            }
+        }
+
+        private void emit() {
+            out.add(new CheckpointRow(accountId, day.plusDays(1).atStartOfDay(), lastBalance, lastId));
+        }
+    }
+
+    /**
+     * 전체 재생성 결과
+     */
+    public record RebuildSummary(int accounts, int checkpoints, long elapsedMillis) { }
+}
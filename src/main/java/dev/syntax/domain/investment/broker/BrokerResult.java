@@ -0,0 +1,33 @@
+package dev.syntax.domain.investment.broker;
+
+/**
+ * 주문 1건의 접수 결과
+ * <p>요청은 보냈지만 응답을 받지 못한 주문은 {@link #unknown}으로 남깁니다. 브로커에 접수됐을 수 있으므로
+ * 거절(취소)로 기록하지도, 다시 보내지도 않고 {@code gt_uid}에 {@value #UNKNOWN_ORDER_NO}를 기록해 둡니다.
+ * (REQUESTED 로 남으므로 브로커 주문 조회로 확인 후 정리)</p>
+ *
+ * @param orderId       주문 ID
+ * @param accepted      접수 여부 (거절되면 주문은 CANCELLED). 결과를 모르는 주문도 {@code true}
+ * @param brokerOrderNo 접수 시 브로커 주문번호 ({@code gt_uid})
+ * @param message       거절 사유 또는 응답을 받지 못한 이유
+ */
+public record BrokerResult(long orderId, boolean accepted, String brokerOrderNo, String message) {
+
+    public static final String UNKNOWN_ORDER_NO = "UNKNOWN";
+
+    public static BrokerResult accepted(long orderId, String brokerOrderNo) {
+        return new BrokerResult(orderId, true, brokerOrderNo, null);
+    }
+
+    public static BrokerResult rejected(long orderId, String message) {
+        return new BrokerResult(orderId, false, null, message);
+    }
+
+    public static BrokerResult unknown(long orderId, String message) {
+        return new BrokerResult(orderId, true, UNKNOWN_ORDER_NO, message);
+    }
+
+    public boolean isUnknown() {
+        return UNKNOWN_ORDER_NO.equals(brokerOrderNo);
+    }
+}
@@ -0,0 +1,67 @@
+package dev.syntax.domain.investment.broker;
+
+import dev.syntax.domain.investment.entity.TradeOrder;
+import dev.syntax.domain.investment.service.OrderPipelineProperties;
+import dev.syntax.external.kis.KisOrderApiClient;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.util.List;
+
+/**
+ * 주문을 KIS 현금 주문 API로 보내는 브로커입니다.
+ * <p>KIS에는 묶음 주문 API가 없으므로 한 묶음을 최대 {@code orders.broker-concurrency}개씩 동시에 보냅니다.
+ * 호출 간격은 {@link dev.syntax.external.kis.KisRateLimiter}가 맞춥니다.</p>
+ * <p><b>접수 검증용입니다.</b> KIS 체결 내역을 주문에 반영하지 않아 접수된 주문은 REQUESTED 로 남고,
+ * 정정/취소 API를 쓰지 않으므로 {@link #cancel}은 {@link ErrorBaseCode#NOT_IMPLEMENTED}입니다.</p>
+ * <p>주문마다 호출 허용량을 받은 뒤 {@code orders.order-timeout}까지만 응답을 기다립니다. 연결 자체가 안 된 주문은 거절로,
+ * 보낸 뒤 응답을 받지 못한 주문(시간 초과 포함)은 {@link BrokerResult#unknown}으로 돌려줘 다시 보내지 않습니다.
+ * 허용량 대기는 시간 제한에 넣지 않습니다. 보내지도 않은 주문이 결과 미상으로 남기 때문입니다.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "orders", name = "broker", havingValue = "kis")
+@RequiredArgsConstructor
+public class KisOrderBroker implements OrderBroker {
+
+    private final KisOrderApiClient kisOrderApiClient;
+    private final OrderPipelineProperties properties;
+
+    @Override
+    public List<BrokerResult> submit(List<TradeOrder> orders) {
+        // 주문마다 시간 제한이 있어 묶음 전체는 따로 제한하지 않는다. 묶음 단위로 끊으면 결과가 통째로 사라진다.
+        return Flux.fromIterable(orders)
+                .flatMap(this::submitOne, Math.max(1, properties.getBrokerConcurrency()))
+                .collectList()
+                .block();
+    }
+
+    // 취소에 필요한 KIS 원주문 조직번호(KRX_FWDG_ORD_ORGNO)를 저장하지 않는다.
+    @Override
+    public boolean cancel(long orderId) {
+        throw new BusinessException(ErrorBaseCode.NOT_IMPLEMENTED);
+    }
+
+    private Mono<BrokerResult> submitOne(TradeOrder order) {
+        return kisOrderApiClient.orderCash(order.getTradeType().name(), order.getCano().getCano(),
+                        order.getProductCode(), order.remainingQuantity(), order.getPrice(),
+                        properties.getOrderTimeout())
+                .map(res -> res.isSuccess() && res.getOutput() != null
+                        ? BrokerResult.accepted(order.getId(), res.getOutput().getOrderNo())
+                        : BrokerResult.rejected(order.getId(), res.getMessageCode() + " " + res.getMessage()))
+                .onErrorResume(e -> Mono.just(notSent(e)
+                        ? BrokerResult.rejected(order.getId(), e.toString())
+                        : BrokerResult.unknown(order.getId(), e.toString())));
+    }
+
+    // 연결을 맺지 못했으면 KIS에 닿지 않았으므로 거절로 기록해도 안전하다.
+    private static boolean notSent(Throwable e) {
+        return e instanceof WebClientRequestException && e.getCause() instanceof ConnectException;
+    }
+}
@@ -0,0 +1,43 @@
+package dev.syntax.domain.investment.broker;
+
+import dev.syntax.domain.investment.entity.TradeOrder;
+import dev.syntax.domain.investment.matching.MatchingEngine;
+import dev.syntax.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문을 {@link MatchingEngine}에 넣는 모의 브로커입니다. (기본값)
+ */
+@Component
+@ConditionalOnProperty(prefix = "orders", name = "broker", havingValue = "mock", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MockOrderBroker implements OrderBroker {
+
+    private static final String ORDER_NO_PREFIX = "MOCK";
+
+    private final MatchingEngine matchingEngine;
+
+    @Override
+    public List<BrokerResult> submit(List<TradeOrder> orders) {
+        List<BrokerResult> results = new ArrayList<>(orders.size());
+        for (TradeOrder order : orders) {
+            try {
+                matchingEngine.submit(order);
+                results.add(BrokerResult.accepted(order.getId(), ORDER_NO_PREFIX + order.getId()));
+            } catch (BusinessException e) {
+                results.add(BrokerResult.rejected(order.getId(), e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public boolean cancel(long orderId) {
+        return matchingEngine.cancel(orderId);
+    }
+}
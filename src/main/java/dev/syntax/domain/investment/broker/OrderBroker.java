@@ -0,0 +1,29 @@
+package dev.syntax.domain.investment.broker;
+
+import dev.syntax.domain.investment.entity.TradeOrder;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+
+import java.util.List;
+
+/**
+ * 주문을 실제로 내보내는 곳. {@code orders.broker} 설정으로 모의 체결 엔진({@code mock})과 KIS({@code kis}) 중 하나를 씁니다.
+ * <p>{@code kis}는 주문 접수까지만 지원합니다. 체결 조회로 주문을 EXECUTED 로 바꾸는 처리와 취소가 없으므로
+ * KIS 접수 검증 용도로만 씁니다.</p>
+ */
+public interface OrderBroker {
+
+    /**
+     * 주문 묶음을 보냅니다. 주문마다 접수/거절 결과를 하나씩 돌려줍니다.
+     */
+    List<BrokerResult> submit(List<TradeOrder> orders);
+
+    /**
+     * 미체결 잔량을 취소합니다.
+     *
+     * @return 취소했으면 {@code true}, 이미 체결됐거나 없는 주문이면 {@code false}
+     */
+    default boolean cancel(long orderId) {
+        throw new BusinessException(ErrorBaseCode.NOT_IMPLEMENTED);
+    }
+}
@@ -0,0 +1,61 @@
+package dev.syntax.domain.investment.controller;
+
+import dev.syntax.domain.investment.dto.OrderCreateReq;
+import dev.syntax.domain.investment.service.OrderPipeline;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.ApiResponseUtil;
+import dev.syntax.global.response.BaseResponse;
+import dev.syntax.global.response.SuccessCode;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 주식 주문 API. 주문은 저장 즉시 반환되고 브로커 전송은 뒤에서 처리되므로 상태는 조회로 확인합니다.
+ *
+ * <pre>{@code
+ * POST /orders                      // 주문 (REQUESTED 로 바로 반환, 대기열이 가득 차면 503)
+ * GET  /orders/{orderId}            // 주문 상태
+ * GET  /orders?ids=1,2,3            // 여러 주문 상태
+ * POST /orders/{orderId}/cancel     // 미체결 잔량 취소
+ * }</pre>
+ */
+@RestController
+@RequiredArgsConstructor
+public class OrderController {
+
+    static final int MAX_IDS = 100;
+
+    private final OrderPipeline orderPipeline;
+
+    @PostMapping("/orders")
+    public ResponseEntity<BaseResponse<?>> create(@RequestBody OrderCreateReq req) {
+        return ApiResponseUtil.success(SuccessCode.CREATED, orderPipeline.accept(req));
+    }
+
+    @GetMapping("/orders/{orderId}")
+    public ResponseEntity<BaseResponse<?>> status(@PathVariable Long orderId) {
+        return ApiResponseUtil.success(SuccessCode.OK, orderPipeline.status(orderId));
+    }
+
+    @GetMapping("/orders")
+    public ResponseEntity<BaseResponse<?>> statuses(@RequestParam List<Long> ids) {
+        if (ids.size() > MAX_IDS) {
+            throw new BusinessException(ErrorBaseCode.PAYLOAD_TOO_LARGE);
+        }
+        return ApiResponseUtil.success(SuccessCode.OK, orderPipeline.statuses(ids));
+    }
+
+    @PostMapping("/orders/{orderId}/cancel")
+    public ResponseEntity<BaseResponse<?>> cancel(@PathVariable Long orderId) {
+        return ApiResponseUtil.success(SuccessCode.OK, orderPipeline.cancel(orderId));
+    }
+}
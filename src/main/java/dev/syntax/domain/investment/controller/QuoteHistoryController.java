@@ -0,0 +1,36 @@
+package dev.syntax.domain.investment.controller;
+
+import dev.syntax.domain.investment.history.QuoteHistoryService;
+import dev.syntax.global.response.ApiResponseUtil;
+import dev.syntax.global.response.BaseResponse;
+import dev.syntax.global.response.SuccessCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * 종목 시세 이력 API (차트/분석용)
+ *
+ * <pre>{@code
+ * GET /stocks/{code}/history?from=2026-10-16T09:00:00&to=2026-10-16T15:30:00   // 구간 내 폴링 시세
+ * }</pre>
+ */
+@RestController
+@RequiredArgsConstructor
+public class QuoteHistoryController {
+
+    private final QuoteHistoryService quoteHistoryService;
+
+    @GetMapping("/stocks/{code}/history")
+    public ResponseEntity<BaseResponse<?>> history(@PathVariable String code,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ApiResponseUtil.success(SuccessCode.OK, quoteHistoryService.history(code, from, to));
+    }
+}
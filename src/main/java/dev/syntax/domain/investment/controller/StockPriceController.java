@@ -0,0 +1,86 @@
+package dev.syntax.domain.investment.controller;
+
+import dev.syntax.domain.investment.dto.QuoteTick;
+import dev.syntax.domain.investment.dto.StockPriceBatchReq;
+import dev.syntax.domain.investment.service.QuoteStreamProperties;
+import dev.syntax.domain.investment.service.QuoteStreamService;
+import dev.syntax.domain.investment.service.StockPriceService;
+import dev.syntax.external.kis.KisQuoteCache;
+import dev.syntax.external.kis.KisStockApiClient;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.ApiResponseUtil;
+import dev.syntax.global.response.BaseResponse;
+import dev.syntax.global.response.SuccessCode;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 종목 현재가 API
+ *
+ * <pre>{@code
+ * GET  /stocks/prices                       // 기본 30종목
+ * GET  /stocks/prices?codes=005930,000660   // 지정 종목
+ * POST /stocks/prices/batch                 // 종목 수 제한 없이 (30개씩 나눠 동시 조회)
+ * GET  /stocks/prices/holdings              // 사용자들이 보유 중인 전체 종목
+ * GET  /stocks/prices/stream?codes=005930   // 실시간 시세 (SSE)
+ * }</pre>
+ */
+@RestController
+@RequiredArgsConstructor
+public class StockPriceController {
+
+    static final int MAX_CODES = 300;
+
+    private final KisQuoteCache kisQuoteCache;
+    private final StockPriceService stockPriceService;
+    private final QuoteStreamService quoteStreamService;
+    private final QuoteStreamProperties quoteStreamProperties;
+
+    @GetMapping("/stocks/prices")
+    public ResponseEntity<BaseResponse<?>> prices(@RequestParam(required = false) List<String> codes) {
+        List<String> targets = codes == null || codes.isEmpty() ? KisStockApiClient.DEFAULT_CODES : codes;
+        if (targets.size() > MAX_CODES) {
+            throw new BusinessException(ErrorBaseCode.PAYLOAD_TOO_LARGE);
+        }
+        return ApiResponseUtil.success(SuccessCode.OK, kisQuoteCache.getMultiPrice(targets));
+    }
+
+    @PostMapping("/stocks/prices/batch")
+    public ResponseEntity<BaseResponse<?>> batch(@RequestBody StockPriceBatchReq req) {
+        return ApiResponseUtil.success(SuccessCode.OK, stockPriceService.getPrices(req.codes()));
+    }
+
+    @GetMapping("/stocks/prices/holdings")
+    public ResponseEntity<BaseResponse<?>> holdings() {
+        return ApiResponseUtil.success(SuccessCode.OK, stockPriceService.getHeldPrices());
+    }
+
+    /**
+     * 첫 이벤트는 전체 스냅샷, 이후에는 바뀐 종목만 옵니다. 시세 변화가 없어도 주기적으로 빈 주석 이벤트를 보냅니다.
+     */
+    @GetMapping(value = "/stocks/prices/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<QuoteTick>> stream(@RequestParam(required = false) Set<String> codes) {
+        Flux<ServerSentEvent<QuoteTick>> ticks = quoteStreamService.subscribe(codes == null ? Set.of() : codes)
+                .map(tick -> ServerSentEvent.builder(tick)
+                        .id(Long.toString(tick.seq()))
+                        .event(tick.snapshot() ? "snapshot" : "delta")
+                        .build());
+        Flux<ServerSentEvent<QuoteTick>> heartbeat = Flux.interval(quoteStreamProperties.getHeartbeat())
+                .onBackpressureDrop()
+                .map(i -> ServerSentEvent.<QuoteTick>builder().comment("keepalive").build());
+        return Flux.merge(ticks, heartbeat);
+    }
+}
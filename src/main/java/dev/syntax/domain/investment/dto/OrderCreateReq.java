@@ -0,0 +1,24 @@
+package dev.syntax.domain.investment.dto;
+
+import dev.syntax.domain.investment.enums.TradeType;
+
+/**
+ * 주문 요청
+ * @param cano        투자 계좌번호
+ * @param userId      주문자 (계좌 소유자여야 함)
+ * @param tradeType   매수 {@code TTTTC0012U} / 매도 {@code TTTCO011U}
+ * @param productCode 종목코드
+ * @param productName 종목명
+ * @param quantity    주문 수량
+ * @param price       주문 단가 (지정가)
+ */
+public record OrderCreateReq(
+        String cano,
+        Long userId,
+        TradeType tradeType,
+        String productCode,
+        String productName,
+        Integer quantity,
+        Long price
+) {
+}
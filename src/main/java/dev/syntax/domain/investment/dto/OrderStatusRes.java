@@ -0,0 +1,32 @@
+package dev.syntax.domain.investment.dto;
+
+import dev.syntax.domain.investment.entity.TradeOrder;
+import dev.syntax.domain.investment.enums.OrderStatus;
+import lombok.Builder;
+
+/**
+ * 주문 상태 DTO
+ * @param orderId        주문 ID
+ * @param status         REQUESTED / EXECUTED / CANCELLED
+ * @param quantity       주문 수량
+ * @param filledQuantity 체결 수량
+ * @param brokerOrderNo  브로커 주문번호 (접수 전이면 null)
+ */
+@Builder
+public record OrderStatusRes(
+        Long orderId,
+        OrderStatus status,
+        Integer quantity,
+        Integer filledQuantity,
+        String brokerOrderNo
+) {
+    public static OrderStatusRes create(TradeOrder order) {
+        return OrderStatusRes.builder()
+                .orderId(order.getId())
+                .status(order.getStatus())
+                .quantity(order.getQuantity())
+                .filledQuantity(order.getFilledQuantity())
+                .brokerOrderNo(order.getGlobalUid())
+                .build();
+    }
+}
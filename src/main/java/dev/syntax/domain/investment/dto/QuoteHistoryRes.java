@@ -0,0 +1,30 @@
+package dev.syntax.domain.investment.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 종목 시세 이력 DTO
+ * @param code   종목코드
+ * @param points 시각 순서의 시세
+ */
+@Builder
+public record QuoteHistoryRes(
+        String code,
+        List<Point> points
+) {
+    public static QuoteHistoryRes create(String code, List<Point> points) {
+        return QuoteHistoryRes.builder()
+                .code(code)
+                .points(points)
+                .build();
+    }
+
+    /**
+     * @param time   폴링 시각 (epoch ms)
+     * @param price  현재가
+     * @param volume 누적 거래량
+     */
+    public record Point(long time, long price, long volume) { }
+}
@@ -0,0 +1,20 @@
+package dev.syntax.domain.investment.dto;
+
+import dev.syntax.external.kis.dto.PriceItem;
+
+import java.util.List;
+
+/**
+ * 실시간 시세 스트림 이벤트
+ * @param seq       이벤트 순번. 건너뛴 순번이 있으면 느린 구독자라 일부 변경을 놓친 것이므로 스냅샷을 다시 받아야 함
+ * @param timestamp 발행 시각 (epoch ms)
+ * @param snapshot  전체 스냅샷이면 true, 직전 대비 변경분이면 false
+ * @param items     시세 목록
+ */
+public record QuoteTick(
+        long seq,
+        long timestamp,
+        boolean snapshot,
+        List<PriceItem> items
+) {
+}
@@ -0,0 +1,10 @@
+package dev.syntax.domain.investment.dto;
+
+import java.util.List;
+
+/**
+ * 여러 종목 시세 조회 요청
+ * @param codes 종목 코드 목록 (개수 제한 없음, 30개씩 나눠 조회)
+ */
+public record StockPriceBatchReq(List<String> codes) {
+}
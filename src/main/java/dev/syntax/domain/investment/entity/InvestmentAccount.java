@@ -1,16 +1,22 @@
 package dev.syntax.domain.investment.entity;
 
 import dev.syntax.global.common.BaseEntity;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@EntityListeners(InvestmentAccountChangeListener.class)
+@DynamicUpdate // 예수금 변경(JPA)이 평가 엔진이 JDBC로 쓴 유가증권 평가금액(scts_evlu_amt)을 덮어쓰지 않도록 바뀐 컬럼만 UPDATE
 @Table(name = "core_investment_account")
 @Getter
 @NoArgsConstructor
@@ -33,4 +39,23 @@ public class InvestmentAccount extends BaseEntity {
 
     @Column(name = "scts_evlu_amt", nullable = false)
     private Long securitiesEvaluationAmount;
+
+    /**
+     * 예수금에 더합니다. (매도 대금 등)
+     */
+    public void addDeposit(long amount) {
+        this.depositAmount = depositAmount + amount;
+        this.totalEvaluationAmount = totalEvaluationAmount + amount;
+    }
+
+    /**
+     * 예수금에서 뺍니다. (매수 대금 등) 예수금이 부족하면 {@link BusinessException}을 던집니다.
+     */
+    public void subtractDeposit(long amount) {
+        if (depositAmount < amount) {
+            throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+        }
+        this.depositAmount = depositAmount - amount;
+        this.totalEvaluationAmount = totalEvaluationAmount - amount;
+    }
 }
@@ -0,0 +1,43 @@
+package dev.syntax.domain.investment.entity;
+
+import dev.syntax.domain.investment.valuation.InvestmentValuationEngine;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 투자 계좌가 생성되거나 예수금이 바뀌면 커밋 후에 {@link InvestmentValuationEngine}에 반영합니다.
+ */
+@Component
+public class InvestmentAccountChangeListener {
+
+    private final ObjectProvider<InvestmentValuationEngine> valuationEngine;
+
+    public InvestmentAccountChangeListener(ObjectProvider<InvestmentValuationEngine> valuationEngine) {
+        this.valuationEngine = valuationEngine;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onChange(InvestmentAccount account) {
+        String cano = account.getCano();
+        long deposit = account.getDepositAmount() == null ? 0 : account.getDepositAmount();
+        afterCommit(() -> valuationEngine.ifAvailable(e -> e.onAccountChanged(cano, deposit)));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,6 +1,9 @@
 package dev.syntax.domain.investment.entity;
 
 import dev.syntax.global.common.BaseEntity;
+import dev.syntax.global.common.IdSequences;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,6 +11,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners(PortfolioChangeListener.class)
 @Table(name = "core_portfolio")
 @Getter
 @NoArgsConstructor
@@ -16,7 +20,10 @@ import lombok.NoArgsConstructor;
 public class Portfolio extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "portfolio_id_gen")
+    @TableGenerator(name = "portfolio_id_gen", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "core_portfolio", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "portfolio_id")
     private Long id;
 
@@ -38,4 +45,24 @@ public class Portfolio extends BaseEntity {
 
     @Column(name = "pchs_avg_pric", nullable = false)
     private Long purchaseAvgPrice;
+
+    /**
+     * 매수 체결을 반영합니다. 매입 평균가는 기존 보유분과 가중 평균으로 다시 계산합니다.
+     */
+    public void buy(long executedQuantity, long executedPrice) {
+        long total = holdingQuantity + executedQuantity;
+        this.purchaseAvgPrice = total == 0 ? 0
+                : (purchaseAvgPrice * holdingQuantity + executedPrice * executedQuantity) / total;
+        this.holdingQuantity = total;
+    }
+
+    /**
+     * 매도 체결을 반영합니다. 보유 수량보다 많이 팔 수 없습니다.
+     */
+    public void sell(long executedQuantity) {
+        if (holdingQuantity < executedQuantity) {
+            throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+        }
+        this.holdingQuantity = holdingQuantity - executedQuantity;
+    }
 }
@@ -0,0 +1,59 @@
+package dev.syntax.domain.investment.entity;
+
+import dev.syntax.domain.investment.valuation.InvestmentValuationEngine;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 보유 종목이 생성·변경·삭제되면 커밋 후에 {@link InvestmentValuationEngine}의 보유 수량을 맞춥니다.
+ * <p>{@code getCano().getCano()}는 지연 로딩 프록시를 초기화하지 않습니다.</p>
+ */
+@Component
+public class PortfolioChangeListener {
+
+    private final ObjectProvider<InvestmentValuationEngine> valuationEngine;
+
+    public PortfolioChangeListener(ObjectProvider<InvestmentValuationEngine> valuationEngine) {
+        this.valuationEngine = valuationEngine;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onChange(Portfolio portfolio) {
+        apply(portfolio, portfolio.getHoldingQuantity());
+    }
+
+    @PostRemove
+    public void onRemove(Portfolio portfolio) {
+        apply(portfolio, 0L);
+    }
+
+    private void apply(Portfolio portfolio, Long quantity) {
+        if (portfolio.getCano() == null) {
+            return;
+        }
+        String cano = portfolio.getCano().getCano();
+        String productCode = portfolio.getProductCode();
+        long qty = quantity == null ? 0 : quantity;
+        long avgPrice = portfolio.getPurchaseAvgPrice() == null ? 0 : portfolio.getPurchaseAvgPrice();
+        afterCommit(() -> valuationEngine.ifAvailable(e -> e.onHoldingChanged(cano, productCode, qty, avgPrice)));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
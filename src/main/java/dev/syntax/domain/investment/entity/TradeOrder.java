@@ -3,15 +3,20 @@ package dev.syntax.domain.investment.entity;
 import dev.syntax.domain.investment.enums.OrderStatus;
 import dev.syntax.domain.investment.enums.TradeType;
 import dev.syntax.global.common.BaseEntity;
+import dev.syntax.global.common.IdSequences;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
+@DynamicUpdate // 체결 반영(JPA)과 주문번호 기록(JDBC)이 서로의 컬럼을 덮어쓰지 않도록 바뀐 컬럼만 UPDATE
 @Table(name = "core_trade_orders")
 @Getter
 @NoArgsConstructor
@@ -20,7 +25,10 @@ import java.time.LocalDateTime;
 public class TradeOrder extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "trade_order_id_gen")
+    @TableGenerator(name = "trade_order_id_gen", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "core_trade_orders", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "order_id")
     private Long id;
 
@@ -56,8 +64,45 @@ public class TradeOrder extends BaseEntity {
     @Column(name = "excg_id_dvsn_cd", length = 3, nullable = false)
     private String exchangeDivisionCode;
 
+    @Column(name = "tot_ccld_qty", nullable = false)
+    @Builder.Default
+    private Integer filledQuantity = 0;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     @Builder.Default
     private OrderStatus status = OrderStatus.REQUESTED;
+
+    public boolean isBuy() {
+        return tradeType == TradeType.TTTTC0012U;
+    }
+
+    /**
+     * 아직 체결되지 않은 수량
+     */
+    public int remainingQuantity() {
+        return quantity - (filledQuantity == null ? 0 : filledQuantity);
+    }
+
+    /**
+     * 체결 수량을 더합니다. 주문 수량을 모두 채우면 {@link OrderStatus#EXECUTED}가 됩니다.
+     *
+     * @throws BusinessException {@link OrderStatus#REQUESTED}가 아닌 주문(취소/전량 체결)이거나 주문 수량을 넘는 경우
+     */
+    public void fill(int executedQuantity) {
+        if (status != OrderStatus.REQUESTED || executedQuantity > remainingQuantity()) {
+            throw new BusinessException(ErrorBaseCode.CONFLICT);
+        }
+        this.filledQuantity = (filledQuantity == null ? 0 : filledQuantity) + executedQuantity;
+        if (filledQuantity >= quantity) {
+            this.status = OrderStatus.EXECUTED;
+        }
+    }
+
+    /**
+     * 남은 수량을 취소합니다. 이미 체결된 수량은 그대로 둡니다.
+     */
+    public void cancel() {
+        this.status = OrderStatus.CANCELLED;
+    }
 }
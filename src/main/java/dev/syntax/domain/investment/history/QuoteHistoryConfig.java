@@ -0,0 +1,20 @@
+package dev.syntax.domain.investment.history;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.ZoneId;
+
+/**
+ * 시세 이력 저장소 빈을 등록합니다. 종료 시 쓰던 세그먼트를 디스크에 내려씁니다.
+ */
+@Configuration
+public class QuoteHistoryConfig {
+
+    @Bean(destroyMethod = "close")
+    public QuoteHistoryStore quoteHistoryStore(QuoteHistoryProperties properties) {
+        return new QuoteHistoryStore(Path.of(properties.getDir()), properties.getSegmentCapacity(),
+                ZoneId.of(properties.getZone()));
+    }
+}
@@ -0,0 +1,48 @@
+package dev.syntax.domain.investment.history;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 시세 이력 저장소({@link QuoteHistoryStore}) 설정값입니다.
+ *
+ * <pre>{@code
+ * quote-history:
+ *   dir: ./data/quotes
+ *   segment-capacity: 32768
+ *   retention-days: 30
+ *   zone: Asia/Seoul
+ *   purge-interval-ms: 3600000
+ *   max-points: 20000
+ *   write-queue-capacity: 1024
+ * }</pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "quote-history")
+@Getter
+@Setter
+public class QuoteHistoryProperties {
+
+    // 세그먼트 파일이 쌓이는 로컬 디렉터리 ({dir}/{yyyyMMdd}/{종목코드}-{번호}.qts)
+    private String dir = "./data/quotes";
+
+    // 세그먼트 1개당 행 수, 가득 차면 다음 번호로 넘어감 (행당 24바이트)
+    private int segmentCapacity = 32_768;
+
+    // 보관 일수, 지난 날짜 디렉터리는 통째로 삭제
+    private int retentionDays = 30;
+
+    // 날짜를 나누는 기준 시간대
+    private String zone = "Asia/Seoul";
+
+    // 보관 기간 정리 주기 (ms)
+    private long purgeIntervalMs = 3_600_000;
+
+    // 조회 API 1회 응답의 최대 점 개수
+    private int maxPoints = 20_000;
+
+    // 쓰기 스레드 대기열에 쌓아 둘 수 있는 시세 묶음(KIS 응답 1건) 수, 넘치면 버림
+    private int writeQueueCapacity = 1024;
+}
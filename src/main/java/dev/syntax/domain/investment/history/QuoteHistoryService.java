@@ -0,0 +1,136 @@
+package dev.syntax.domain.investment.history;
+
+import dev.syntax.domain.investment.dto.QuoteHistoryRes;
+import dev.syntax.external.kis.KisQuoteListener;
+import dev.syntax.external.kis.dto.Quote;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KIS에서 받아 온 모든 시세를 {@link QuoteHistoryStore}에 쌓고, 구간 조회와 보관 기간 정리를 맡습니다.
+ *
+ * <p>{@link dev.syntax.external.kis.KisQuoteCache}가 새로 받은 시세만 통지하므로 같은 응답이 두 번 기록되지 않습니다.
+ * 현재가가 0 이하(빈 값 포함)인 시세는 건너뜁니다.</p>
+ *
+ * <p>통지는 KIS 응답을 받은 I/O 스레드에서 오므로, 시세 묶음을 크기가 정해진 대기열에 넣기만 하고
+ * 파일 생성·매핑·기록은 전용 쓰기 스레드 하나({@code quote-history-writer})가 맡습니다.
+ * 대기열이 가득 차면 그 묶음은 버리고 {@code quote.history.dropped}에 셉니다. (I/O 스레드를 막지 않음)
+ * 지표: {@code quote.history.rows}, {@code quote.history.dropped}.</p>
+ */
+@Slf4j
+@Service
+public class QuoteHistoryService implements KisQuoteListener {
+
+    private final QuoteHistoryStore store;
+    private final QuoteHistoryProperties properties;
+    private final ZoneId zone;
+    private final Counter rowCounter;
+    private final Counter droppedCounter;
+    private final ThreadPoolExecutor writer;
+
+    public QuoteHistoryService(QuoteHistoryStore store, QuoteHistoryProperties properties, MeterRegistry registry) {
+        this.store = store;
+        this.properties = properties;
+        this.zone = ZoneId.of(properties.getZone());
+        this.rowCounter = registry.counter("quote.history.rows");
+        this.droppedCounter = registry.counter("quote.history.dropped");
+        this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getWriteQueueCapacity())), r -> {
+                    Thread thread = new Thread(r, "quote-history-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public void onQuotes(List<Quote> quotes, long fetchedAtMillis) {
+        List<Quote> valid = new ArrayList<>(quotes.size());
+        for (Quote quote : quotes) {
+            if (quote.stockCode() != null && quote.price() > 0) {
+                valid.add(quote);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+        try {
+            writer.execute(() -> write(valid, fetchedAtMillis));
+        } catch (RejectedExecutionException e) {
+            droppedCounter.increment(valid.size());
+        }
+    }
+
+    // 쓰기 스레드에서만 호출된다.
+    private void write(List<Quote> quotes, long fetchedAtMillis) {
+        for (Quote quote : quotes) {
+            try {
+                store.append(quote.stockCode(), fetchedAtMillis, quote.price(), quote.volume());
+                rowCounter.increment();
+            } catch (IllegalArgumentException e) {
+                log.debug("[QUOTE-HISTORY] 저장하지 않는 종목코드: {}", quote.stockCode());
+            } catch (RuntimeException e) {
+                log.warn("[QUOTE-HISTORY] 시세 기록 실패: {}", quote.stockCode(), e);
+            }
+        }
+    }
+
+    /**
+     * {@code [from, to]} 구간의 시세를 조회합니다. {@code max-points}를 넘으면 {@link ErrorBaseCode#PAYLOAD_TOO_LARGE}.
+     */
+    public QuoteHistoryRes history(String code, LocalDateTime from, LocalDateTime to) {
+        if (code == null || from == null || to == null || from.isAfter(to)) {
+            throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+        }
+        int maxPoints = properties.getMaxPoints();
+        List<QuoteHistoryRes.Point> points = new ArrayList<>();
+        try {
+            store.scan(code, from.atZone(zone).toInstant().toEpochMilli(), to.atZone(zone).toInstant().toEpochMilli(),
+                    (time, price, volume) -> {
+                        points.add(new QuoteHistoryRes.Point(time, price, volume));
+                        return points.size() <= maxPoints;
+                    });
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+        }
+        if (points.size() > maxPoints) {
+            throw new BusinessException(ErrorBaseCode.PAYLOAD_TOO_LARGE);
+        }
+        return QuoteHistoryRes.create(code, points);
+    }
+
+    @Scheduled(fixedDelayString = "${quote-history.purge-interval-ms:3600000}")
+    public void purge() {
+        LocalDate oldestKept = LocalDate.now(zone).minusDays(properties.getRetentionDays() - 1L);
+        int deleted = store.purge(oldestKept);
+        if (deleted > 0) {
+            log.info("[QUOTE-HISTORY] 보관 기간 정리: 세그먼트 {}개 삭제 ({} 이전)", deleted, oldestKept);
+        }
+    }
+
+    /**
+     * 대기열에 남은 시세를 기록한 뒤 쓰기 스레드를 멈춥니다. 저장소가 닫히기 전에 호출됩니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("[QUOTE-HISTORY] 종료 시 기록하지 못한 시세 묶음: {}개", writer.shutdownNow().size());
+        }
+    }
+}
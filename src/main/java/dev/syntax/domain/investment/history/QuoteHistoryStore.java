@@ -0,0 +1,351 @@
+package dev.syntax.domain.investment.history;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 폴링한 시세를 종목별/일별 메모리 매핑 파일에 열(column) 단위로 쌓는 append-only 시계열 저장소입니다.
+ *
+ * <ul>
+ *   <li>세그먼트 파일은 {@code {dir}/{yyyyMMdd}/{종목코드}-{번호}.qts}, 가득 차면 다음 번호로 넘어감</li>
+ *   <li>파일 구조: 헤더 64바이트(매직, 용량, 행 수) + 시각/가격/거래량 {@code long} 열 3개</li>
+ *   <li>행을 다 쓴 뒤에 헤더의 행 수를 올리므로, 쓰다 죽은 행은 다시 열 때 보이지 않음</li>
+ *   <li>조회는 매핑된 버퍼를 바로 읽어 {@link QuoteVisitor}에 넘김 → 힙으로 복사하지 않음</li>
+ *   <li>매핑을 계속 들고 있는 것은 종목별로 지금 쓰는 세그먼트뿐. 다 쓴 세그먼트는 놓고, 조회는 지난 세그먼트를 그때그때 매핑</li>
+ *   <li>{@link #purge(LocalDate)}가 보관 기간이 지난 날짜 디렉터리를 통째로 지움</li>
+ * </ul>
+ *
+ * <p>쓰기는 하나의 락으로 직렬화되고, 읽기는 락 없이 세그먼트의 {@code volatile} 행 수까지만 봅니다.
+ * 한 세그먼트 안에서 시각은 줄어들지 않도록 보정됩니다.</p>
+ */
+@Slf4j
+public class QuoteHistoryStore implements Closeable {
+
+    private static final String SUFFIX = ".qts";
+    private static final int MAGIC = 0x51545331; // "QTS1"
+    private static final int HEADER_BYTES = 64;
+    private static final int CAPACITY_OFFSET = 4;
+    private static final int COUNT_OFFSET = 8;
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern CODE = Pattern.compile("[A-Za-z0-9]{1,12}");
+
+    private final Path dir;
+    private final int capacity;
+    private final ZoneId zone;
+
+    // 종목코드 → 현재 쓰는 세그먼트. 변경은 this 락 아래에서만, 조회는 락 없이 읽는다.
+    // 여기서 빠진 세그먼트는 참조가 사라지면 매핑이 풀린다.
+    private final Map<String, Segment> writing = new ConcurrentHashMap<>();
+
+    /**
+     * 조회한 시세 1건을 받는 콜백. 매핑된 버퍼에서 읽은 값을 그대로 넘깁니다.
+     */
+    @FunctionalInterface
+    public interface QuoteVisitor {
+        /**
+         * @return 계속 읽으려면 {@code true}
+         */
+        boolean visit(long epochMillis, long price, long volume);
+    }
+
+    public QuoteHistoryStore(Path dir, int capacity, ZoneId zone) {
+        // 매핑 1개는 2GB 를 넘을 수 없다.
+        if (capacity <= 0 || capacity > (Integer.MAX_VALUE - HEADER_BYTES) / 24) {
+            throw new IllegalArgumentException("invalid segment capacity: " + capacity);
+        }
+        this.dir = dir;
+        this.capacity = capacity;
+        this.zone = zone;
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 시세 1건을 해당 날짜의 세그먼트 끝에 붙입니다.
+     */
+    public synchronized void append(String code, long epochMillis, long price, long volume) {
+        requireCode(code);
+        LocalDate day = dayOf(epochMillis);
+        Segment segment = writing.get(code);
+        if (segment == null || !segment.day.equals(day) || segment.isFull()) {
+            segment = nextSegment(code, day, segment);
+            writing.put(code, segment);
+        }
+        segment.append(epochMillis, price, volume);
+    }
+
+    /**
+     * {@code [fromMillis, toMillis]} 구간의 시세를 시각 순서대로 읽습니다.
+     *
+     * @return 읽은 행 수
+     */
+    public int scan(String code, long fromMillis, long toMillis, QuoteVisitor visitor) {
+        requireCode(code);
+        LocalDate fromDay = dayOf(fromMillis);
+        LocalDate toDay = dayOf(toMillis);
+        int visited = 0;
+        for (LocalDate day : days()) {
+            if (day.isBefore(fromDay) || day.isAfter(toDay)) {
+                continue;
+            }
+            for (Segment segment : segments(code, day)) {
+                int count = segment.count;
+                for (int i = segment.lowerBound(fromMillis, count); i < count; i++) {
+                    long at = segment.timestamp(i);
+                    if (at > toMillis) {
+                        return visited;
+                    }
+                    visited++;
+                    if (!visitor.visit(at, segment.price(i), segment.volume(i))) {
+                        return visited;
+                    }
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * {@code oldestKept}보다 이전 날짜 디렉터리를 통째로 지웁니다.
+     *
+     * @param oldestKept 남길 가장 오래된 날짜
+     * @return 지운 세그먼트 수
+     */
+    public synchronized int purge(LocalDate oldestKept) {
+        int deleted = 0;
+        for (LocalDate day : days()) {
+            if (!day.isBefore(oldestKept)) {
+                continue;
+            }
+            writing.values().removeIf(segment -> segment.day.equals(day));
+            Path dayDir = dir.resolve(DAY.format(day));
+            try (Stream<Path> files = Files.list(dayDir)) {
+                for (Path file : files.toList()) {
+                    Files.deleteIfExists(file);
+                    deleted++;
+                }
+                Files.deleteIfExists(dayDir);
+            } catch (IOException e) {
+                log.warn("[QUOTE-HISTORY] 보관 기간 정리 실패: {}", dayDir, e);
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 쓰고 있던 세그먼트를 디스크에 내려쓰고 매핑을 놓습니다.
+     */
+    @Override
+    public synchronized void close() {
+        writing.values().forEach(segment -> segment.buffer.force());
+        writing.clear();
+    }
+
+    private LocalDate dayOf(long epochMillis) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(epochMillis), zone);
+    }
+
+    // 같은 날 다음 번호로 넘어가거나, 기동 후/날짜가 바뀐 뒤 처음이면 디스크의 마지막 세그먼트부터 이어 쓴다.
+    private Segment nextSegment(String code, LocalDate day, Segment current) {
+        Segment next;
+        if (current != null && current.day.equals(day)) {
+            next = open(code, day, current.seq + 1);
+        } else {
+            List<Segment> existing = segments(code, day);
+            next = existing.isEmpty() ? open(code, day, 0) : existing.get(existing.size() - 1);
+        }
+        while (next.isFull()) {
+            next = open(code, day, next.seq + 1);
+        }
+        return next;
+    }
+
+    // 지금 쓰는 세그먼트는 같은 객체를 써서 volatile 행 수를 보고, 나머지는 새로 매핑한다.
+    private List<Segment> segments(String code, LocalDate day) {
+        Path dayDir = dir.resolve(DAY.format(day));
+        if (!Files.isDirectory(dayDir)) {
+            return List.of();
+        }
+        Segment live = writing.get(code);
+        List<Segment> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dayDir, code + "-*" + SUFFIX)) {
+            for (Path file : files) {
+                Integer seq = seqOf(code, file);
+                if (seq == null) {
+                    continue;
+                }
+                if (live != null && live.day.equals(day) && live.seq == seq) {
+                    segments.add(live);
+                    continue;
+                }
+                try {
+                    segments.add(map(file, day, seq));
+                } catch (UncheckedIOException e) {
+                    // 쓰기 스레드가 막 만들어 헤더를 채우기 전인 세그먼트. 아직 행이 없다.
+                    log.debug("[QUOTE-HISTORY] 읽을 수 없는 세그먼트 건너뜀: {}", file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segments.sort(Comparator.comparingInt(segment -> segment.seq));
+        return segments;
+    }
+
+    private Segment open(String code, LocalDate day, int seq) {
+        return map(dir.resolve(DAY.format(day)).resolve(code + "-" + seq + SUFFIX), day, seq);
+    }
+
+    private Segment map(Path file, LocalDate day, int seq) {
+        try {
+            Files.createDirectories(file.getParent());
+            boolean created = !Files.exists(file);
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                int rows = created ? capacity : readCapacity(channel, file);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + 24L * rows);
+                if (created) {
+                    buffer.putInt(0, MAGIC);
+                    buffer.putInt(CAPACITY_OFFSET, rows);
+                    buffer.putLong(COUNT_OFFSET, 0);
+                }
+                return new Segment(day, seq, rows, buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 이미 있는 파일은 자신의 헤더에 적힌 용량을 따른다. (설정이 바뀌어도 기존 세그먼트를 읽을 수 있게)
+    private static int readCapacity(FileChannel channel, Path file) throws IOException {
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("시세 이력 세그먼트가 아닙니다: " + file);
+        }
+        return header.getInt(CAPACITY_OFFSET);
+    }
+
+    private static Integer seqOf(String code, Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Integer.parseInt(name.substring(code.length() + 1, name.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private List<LocalDate> days() {
+        List<LocalDate> days = new ArrayList<>();
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(dir, Files::isDirectory)) {
+            for (Path dayDir : dirs) {
+                try {
+                    days.add(LocalDate.parse(dayDir.getFileName().toString(), DAY));
+                } catch (DateTimeParseException ignored) {
+                    // 날짜 디렉터리가 아니면 건너뛴다.
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        days.sort(null);
+        return days;
+    }
+
+    // 종목코드가 파일 이름이 되므로 경로 문자가 섞이지 않게 막는다.
+    private static void requireCode(String code) {
+        if (code == null || !CODE.matcher(code).matches()) {
+            throw new IllegalArgumentException("invalid product code: " + code);
+        }
+    }
+
+    // 세그먼트 1개. 행은 [시각 열 | 가격 열 | 거래량 열] 순으로 같은 인덱스에 놓인다.
+    private static final class Segment {
+        private final LocalDate day;
+        private final int seq;
+        private final int capacity;
+        private final MappedByteBuffer buffer;
+        private volatile int count;
+
+        private Segment(LocalDate day, int seq, int capacity, MappedByteBuffer buffer) {
+            this.day = day;
+            this.seq = seq;
+            this.capacity = capacity;
+            this.buffer = buffer;
+            this.count = (int) Math.min(Math.max(buffer.getLong(COUNT_OFFSET), 0), capacity);
+        }
+
+        private boolean isFull() {
+            return count >= capacity;
+        }
+
+        // 저장소 락 아래에서만 호출된다. 헤더의 행 수는 열을 다 쓴 뒤에 올린다.
+        private void append(long epochMillis, long price, long volume) {
+            int i = count;
+            long at = i > 0 ? Math.max(epochMillis, timestamp(i - 1)) : epochMillis;
+            buffer.putLong(HEADER_BYTES + 8 * i, at);
+            buffer.putLong(priceOffset(i), price);
+            buffer.putLong(volumeOffset(i), volume);
+            buffer.putLong(COUNT_OFFSET, i + 1);
+            count = i + 1;
+        }
+
+        private long timestamp(int i) {
+            return buffer.getLong(HEADER_BYTES + 8 * i);
+        }
+
+        private long price(int i) {
+            return buffer.getLong(priceOffset(i));
+        }
+
+        private long volume(int i) {
+            return buffer.getLong(volumeOffset(i));
+        }
+
+        private int priceOffset(int i) {
+            return HEADER_BYTES + 8 * (capacity + i);
+        }
+
+        private int volumeOffset(int i) {
+            return HEADER_BYTES + 8 * (2 * capacity + i);
+        }
+
+        // 시각이 epochMillis 이상인 첫 행
+        private int lowerBound(long epochMillis, int count) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (timestamp(mid) < epochMillis) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package dev.syntax.domain.investment.matching;
+
+/**
+ * 주문 한쪽의 체결 1건
+ *
+ * @param orderId       체결된 주문
+ * @param limitPrice    주문 가격 (매수 예약금 해제 기준)
+ * @param price         체결 가격
+ * @param quantity      체결 수량
+ */
+public record Execution(long orderId, String cano, long userId, String productCode, String productName,
+                        boolean buy, long limitPrice, long price, long quantity) { }
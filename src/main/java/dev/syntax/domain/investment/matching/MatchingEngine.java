@@ -0,0 +1,374 @@
+package dev.syntax.domain.investment.matching;
+
+import dev.syntax.domain.investment.entity.InvestmentAccount;
+import dev.syntax.domain.investment.entity.Portfolio;
+import dev.syntax.domain.investment.entity.TradeOrder;
+import dev.syntax.domain.investment.enums.OrderStatus;
+import dev.syntax.domain.investment.enums.TradeType;
+import dev.syntax.domain.investment.repository.InvestmentAccountRepository;
+import dev.syntax.domain.investment.repository.PortfolioRepository;
+import dev.syntax.domain.investment.repository.TradeOrderRepository;
+import dev.syntax.domain.investment.service.OrderExecutionService;
+import dev.syntax.external.kis.KisQuoteCache;
+import dev.syntax.external.kis.dto.Quote;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link TradeOrder}를 모의 체결하는 엔진입니다. 종목({@code pdno})마다 {@link OrderBook}을 하나씩 둡니다.
+ *
+ * <ol>
+ *   <li>주문이 들어오면 예수금/보유 수량에서 이미 걸려 있는 주문만큼을 뺀 범위 안에서만 접수</li>
+ *   <li>반대편 호가와 가격-시간 우선으로 체결, 남은 수량은 호가창에 대기</li>
+ *   <li>{@code matching.market-liquidity}가 켜져 있으면 주기마다 현재가와 맞는 대기 주문을 시장을 상대로 체결</li>
+ *   <li>체결은 {@link OrderExecutionService}가 주문/보유 종목/예수금에 반영, 실패하면 다음 주기에 재시도</li>
+ * </ol>
+ *
+ * <p>매수 {@link TradeType#TTTTC0012U}, 매도 {@link TradeType#TTTCO011U}만 받습니다.
+ * 기동 완료 시 접수됐던(주문번호가 있는) {@link OrderStatus#REQUESTED} 주문의 미체결 잔량을 호가창에 다시 올립니다.
+ * 지표: {@code matching.fills}, {@code matching.resting}.</p>
+ *
+ * <p>{@code orders.broker=mock}(기본값)일 때만 뜹니다. {@code kis}일 때 주문번호가 있는 주문은 KIS 주문이므로 모의 체결하면 안 됩니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "orders", name = "broker", havingValue = "mock", matchIfMissing = true)
+public class MatchingEngine {
+
+    private final TradeOrderRepository tradeOrderRepository;
+    private final InvestmentAccountRepository investmentAccountRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final OrderExecutionService orderExecutionService;
+    private final KisQuoteCache kisQuoteCache;
+    private final MatchingProperties properties;
+
+    private final Map<String, OrderBook> books = new ConcurrentHashMap<>();
+    private final Map<Long, Resting> resting = new ConcurrentHashMap<>();
+    // 호가창에서는 내렸지만 앞서 체결된 수량이 아직 DB에 반영되지 않아 취소 기록을 미룬 주문
+    private final Map<Long, Resting> cancelling = new ConcurrentHashMap<>();
+    private final Queue<Execution> pending = new ConcurrentLinkedQueue<>();
+
+    // 접수됐지만 아직 DB에 반영되지 않은 매수 금액 / 매도 수량. reservations 락 아래에서만 변경
+    private final Map<String, Long> reservedCash = new ConcurrentHashMap<>();
+    private final Map<String, Long> reservedQuantity = new ConcurrentHashMap<>();
+    private final Object reservations = new Object();
+
+    private final Counter fillCounter;
+
+    public MatchingEngine(TradeOrderRepository tradeOrderRepository,
+                          InvestmentAccountRepository investmentAccountRepository,
+                          PortfolioRepository portfolioRepository,
+                          OrderExecutionService orderExecutionService,
+                          KisQuoteCache kisQuoteCache,
+                          MatchingProperties properties,
+                          MeterRegistry registry) {
+        this.tradeOrderRepository = tradeOrderRepository;
+        this.investmentAccountRepository = investmentAccountRepository;
+        this.portfolioRepository = portfolioRepository;
+        this.orderExecutionService = orderExecutionService;
+        this.kisQuoteCache = kisQuoteCache;
+        this.properties = properties;
+        this.fillCounter = registry.counter("matching.fills");
+        Gauge.builder("matching.resting", resting, Map::size).register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<TradeOrder> open = tradeOrderRepository.findByStatus(OrderStatus.REQUESTED);
+        for (TradeOrder order : open) {
+            // 주문번호가 없는 주문은 아직 접수 전이므로 주문 파이프라인이 다시 보낸다.
+            if (order.getGlobalUid() != null && isSupported(order.getTradeType()) && order.remainingQuantity() > 0) {
+                Resting r = Resting.of(order);
+                reserve(r, r.remaining);
+                match(r);
+            }
+        }
+        log.info("[MATCHING] 미체결 주문 적재 완료: {}건", resting.size());
+    }
+
+    /**
+     * 주문을 접수하고 바로 맞는 만큼 체결합니다. 예수금/보유 수량이 부족하면 {@link ErrorBaseCode#BAD_REQUEST}.
+     */
+    public void submit(TradeOrder order) {
+        if (!isSupported(order.getTradeType()) || order.getQuantity() == null || order.getQuantity() <= 0
+                || order.getPrice() == null || order.getPrice() <= 0) {
+            throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+        }
+        Resting r = Resting.of(order);
+        if (r.buy) {
+            long deposit = investmentAccountRepository.findById(r.cano)
+                    .map(InvestmentAccount::getDepositAmount)
+                    .orElseThrow(() -> new BusinessException(ErrorBaseCode.NOT_FOUND_ENTITY));
+            reserveWithin(r, deposit);
+        } else {
+            long holding = portfolioRepository.findByCanoAndProductCode(r.cano, r.productCode)
+                    .map(Portfolio::getHoldingQuantity)
+                    .orElse(0L);
+            reserveWithin(r, holding);
+        }
+        match(r);
+    }
+
+    /**
+     * 미체결 잔량을 취소합니다.
+     * <p>취소 전에 체결된 수량이 아직 DB에 반영되지 않았으면 그 체결을 반영한 뒤에 취소 상태로 기록합니다.
+     * ({@link TradeOrder#fill}은 취소된 주문을 받지 않음)</p>
+     *
+     * @return 취소했으면 {@code true}, 이미 전량 체결됐거나 없는 주문이면 {@code false}
+     */
+    public boolean cancel(long orderId) {
+        Resting r = resting.get(orderId);
+        if (r == null) {
+            return false;
+        }
+        OrderBook book = books.get(r.productCode);
+        long cancelled;
+        boolean deferred = false;
+        synchronized (book) {
+            cancelled = book.cancel(orderId);
+            if (cancelled > 0) {
+                resting.remove(orderId);
+                if (r.unapplied > 0) {
+                    cancelling.put(orderId, r);
+                    deferred = true;
+                }
+            }
+        }
+        if (cancelled == 0) {
+            return false;
+        }
+        release(r, cancelled);
+        if (!deferred) {
+            orderExecutionService.cancel(orderId);
+        }
+        return true;
+    }
+
+    /**
+     * 대기 중인 주문이 있는 종목의 현재가를 받아 시장을 상대로 체결하고, 반영에 실패했던 체결을 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${matching.sweep-interval-ms:1000}")
+    public void sweep() {
+        retryPending();
+        if (!properties.isMarketLiquidity()) {
+            return;
+        }
+        List<String> codes = books.entrySet().stream()
+                .filter(e -> e.getValue().size() > 0)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (codes.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, Quote> quotes = kisQuoteCache.getQuotes(codes)
+                    .get(properties.getQuoteTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            List<Execution> executions = new ArrayList<>();
+            quotes.forEach((code, quote) -> {
+                long price = quote.price();
+                OrderBook book = books.get(code);
+                if (price > 0 && book != null) {
+                    synchronized (book) {
+                        book.sweep(price, collector(executions));
+                    }
+                }
+            });
+            applyAll(executions);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("[MATCHING] 시세 조회 실패, 다음 주기에 재시도: {}", e.toString());
+        }
+    }
+
+    public int restingCount() {
+        return resting.size();
+    }
+
+    private void match(Resting r) {
+        OrderBook book = books.computeIfAbsent(r.productCode, code -> new OrderBook());
+        List<Execution> executions = new ArrayList<>();
+        synchronized (book) {
+            // 체결 통지에서 찾을 수 있도록 호가창에 넣기 전에 등록한다.
+            resting.put(r.orderId, r);
+            book.submit(r.orderId, r.buy, r.limitPrice, r.remaining, collector(executions));
+        }
+        applyAll(executions);
+    }
+
+    // 책 락 아래에서 호출된다. 양쪽 주문의 잔량을 줄이고 체결 목록에 담는다.
+    private OrderBook.FillListener collector(List<Execution> executions) {
+        return (buyOrderId, sellOrderId, price, quantity) -> {
+            collect(executions, buyOrderId, price, quantity);
+            collect(executions, sellOrderId, price, quantity);
+        };
+    }
+
+    private void collect(List<Execution> executions, long orderId, long price, long quantity) {
+        if (orderId == OrderBook.MARKET) {
+            return;
+        }
+        Resting r = resting.get(orderId);
+        r.remaining -= quantity;
+        r.unapplied += quantity;
+        if (r.remaining == 0) {
+            resting.remove(orderId);
+        }
+        executions.add(new Execution(orderId, r.cano, r.userId, r.productCode, r.productName,
+                r.buy, r.limitPrice, price, quantity));
+    }
+
+    private void applyAll(List<Execution> executions) {
+        if (executions.isEmpty()) {
+            return;
+        }
+        List<Long> cancelNow = new ArrayList<>();
+        try {
+            orderExecutionService.apply(executions);
+            for (Execution e : executions) {
+                release(e.cano(), e.productCode(), e.buy(), e.limitPrice(), e.quantity());
+                if (settle(e)) {
+                    cancelNow.add(e.orderId());
+                }
+            }
+            fillCounter.increment(executions.size());
+        } catch (RuntimeException e) {
+            // 예약은 그대로 두어 반영 전까지 같은 금액/수량으로 다른 주문이 접수되지 않게 한다.
+            pending.addAll(executions);
+            log.error("[MATCHING] 체결 반영 실패, 다음 주기에 재시도: {}건", executions.size(), e);
+        }
+        for (long orderId : cancelNow) {
+            try {
+                orderExecutionService.cancel(orderId);
+            } catch (RuntimeException e) {
+                // 주문은 호가창에 없으므로 더 체결되지 않는다. 재기동 시 미체결 잔량으로 다시 올라간다.
+                log.error("[MATCHING] 미뤄 둔 취소 기록 실패: orderId={}", orderId, e);
+            }
+        }
+    }
+
+    // 반영된 체결만큼 미반영 수량을 줄인다. 취소를 미뤄 둔 주문의 마지막 체결이면 true
+    private boolean settle(Execution e) {
+        OrderBook book = books.get(e.productCode());
+        synchronized (book) {
+            Resting r = resting.get(e.orderId());
+            if (r == null) {
+                r = cancelling.get(e.orderId());
+            }
+            if (r == null) {
+                return false;
+            }
+            r.unapplied -= e.quantity();
+            return r.unapplied == 0 && cancelling.remove(e.orderId(), r);
+        }
+    }
+
+    private void retryPending() {
+        List<Execution> retry = new ArrayList<>();
+        for (Execution e; (e = pending.poll()) != null; ) {
+            retry.add(e);
+        }
+        applyAll(retry);
+    }
+
+    private void reserveWithin(Resting r, long available) {
+        synchronized (reservations) {
+            if (r.buy) {
+                long reserved = reservedCash.getOrDefault(r.cano, 0L);
+                if (available - reserved < r.limitPrice * r.remaining) {
+                    throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+                }
+            } else {
+                long reserved = reservedQuantity.getOrDefault(quantityKey(r.cano, r.productCode), 0L);
+                if (available - reserved < r.remaining) {
+                    throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+                }
+            }
+            reserve(r, r.remaining);
+        }
+    }
+
+    private void reserve(Resting r, long quantity) {
+        synchronized (reservations) {
+            if (r.buy) {
+                reservedCash.merge(r.cano, r.limitPrice * quantity, Long::sum);
+            } else {
+                reservedQuantity.merge(quantityKey(r.cano, r.productCode), quantity, Long::sum);
+            }
+        }
+    }
+
+    private void release(Resting r, long quantity) {
+        release(r.cano, r.productCode, r.buy, r.limitPrice, quantity);
+    }
+
+    private void release(String cano, String productCode, boolean buy, long limitPrice, long quantity) {
+        synchronized (reservations) {
+            if (buy) {
+                reservedCash.computeIfPresent(cano, (k, v) -> v - limitPrice * quantity <= 0 ? null : v - limitPrice * quantity);
+            } else {
+                reservedQuantity.computeIfPresent(quantityKey(cano, productCode), (k, v) -> v - quantity <= 0 ? null : v - quantity);
+            }
+        }
+    }
+
+    private static String quantityKey(String cano, String productCode) {
+        return cano + ":" + productCode;
+    }
+
+    private static boolean isSupported(TradeType type) {
+        return type == TradeType.TTTTC0012U || type == TradeType.TTTCO011U;
+    }
+
+    // 호가창에 올라간 주문의 부가 정보. remaining, unapplied 는 해당 종목 책 락 아래에서만 바뀐다.
+    private static final class Resting {
+        private final long orderId;
+        private final String cano;
+        private final long userId;
+        private final String productCode;
+        private final String productName;
+        private final boolean buy;
+        private final long limitPrice;
+        private long remaining;
+        // 체결됐지만 아직 DB에 반영되지 않은 수량
+        private long unapplied;
+
+        private Resting(long orderId, String cano, long userId, String productCode, String productName,
+                        boolean buy, long limitPrice, long remaining) {
+            this.orderId = orderId;
+            this.cano = cano;
+            this.userId = userId;
+            this.productCode = productCode;
+            this.productName = productName;
+            this.buy = buy;
+            this.limitPrice = limitPrice;
+            this.remaining = remaining;
+        }
+
+        // getCano().getCano()는 지연 로딩 프록시를 초기화하지 않는다.
+        private static Resting of(TradeOrder order) {
+            return new Resting(order.getId(), order.getCano().getCano(), order.getUserId(),
+                    order.getProductCode(), order.getProductName(), order.isBuy(),
+                    order.getPrice(), order.remainingQuantity());
+        }
+    }
+}
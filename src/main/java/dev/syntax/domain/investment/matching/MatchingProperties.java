@@ -0,0 +1,34 @@
+package dev.syntax.domain.investment.matching;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 모의 체결 엔진 설정값입니다.
+ *
+ * <pre>{@code
+ * matching:
+ *   market-liquidity: true
+ *   sweep-interval-ms: 1000
+ *   quote-timeout: 3s
+ * }</pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "matching")
+@Getter
+@Setter
+public class MatchingProperties {
+
+    // 호가창 주문끼리 체결되지 않아도 현재가와 맞으면 시장을 상대로 체결
+    private boolean marketLiquidity = true;
+
+    // 현재가와 호가창을 맞춰보는 주기 (ms)
+    private long sweepIntervalMs = 1000;
+
+    // 한 주기에서 시세 조회를 기다리는 최대 시간
+    private Duration quoteTimeout = Duration.ofSeconds(3);
+}
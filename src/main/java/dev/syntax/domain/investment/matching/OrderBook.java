@@ -0,0 +1,297 @@
+package dev.syntax.domain.investment.matching;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 종목 하나의 가격-시간 우선 호가창입니다.
+ *
+ * <ul>
+ *   <li>매수/매도 호가 가격대는 정렬된 {@code long[]}, 가장 좋은 가격이 배열 끝 → 최우선 호가 제거가 O(1)</li>
+ *   <li>같은 가격대 주문은 주문 풀(원시 배열) 위의 이중 연결 리스트로 FIFO</li>
+ *   <li>주문 풀 슬롯은 재사용해 체결/취소가 반복돼도 할당이 늘지 않음</li>
+ * </ul>
+ *
+ * <p>체결 가격은 먼저 들어와 있던 주문(maker)의 가격입니다. 스레드 안전하지 않으므로 호출 측이 직렬화해야 합니다.</p>
+ */
+public class OrderBook {
+
+    /**
+     * 호가창 밖(시장) 상대방의 주문 ID
+     */
+    public static final long MARKET = 0L;
+
+    private static final int NONE = -1;
+
+    private final Side bids = new Side(true);
+    private final Side asks = new Side(false);
+
+    // 주문 풀
+    private long[] ids = new long[256];
+    private long[] prices = new long[256];
+    private long[] remaining = new long[256];
+    private boolean[] buys = new boolean[256];
+    private int[] prev = new int[256];
+    private int[] next = new int[256];
+    private int used;
+    private int free = NONE;
+    private int size;
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+
+    /**
+     * 체결 통지
+     */
+    @FunctionalInterface
+    public interface FillListener {
+        void onFill(long buyOrderId, long sellOrderId, long price, long quantity);
+    }
+
+    /**
+     * 주문을 넣습니다. 반대편 호가와 가격이 맞는 만큼 먼저 체결하고, 남은 수량은 호가창에 쌓습니다.
+     *
+     * @return 호가창에 남은 수량
+     */
+    public long submit(long orderId, boolean buy, long price, long quantity, FillListener listener) {
+        Side opposite = buy ? asks : bids;
+        long left = quantity;
+        while (left > 0 && opposite.count > 0) {
+            int level = opposite.count - 1;
+            long levelPrice = opposite.prices[level];
+            if (buy ? levelPrice > price : levelPrice < price) {
+                break;
+            }
+            left = consume(opposite, level, orderId, buy, left, listener);
+        }
+        if (left > 0) {
+            rest(orderId, buy, price, left);
+        }
+        return left;
+    }
+
+    /**
+     * 시장가({@code marketPrice})와 맞는 호가를 시장을 상대로 체결합니다.
+     * <p>매수는 {@code marketPrice} 이상, 매도는 이하인 주문이 그 가격에 전량 체결됩니다.</p>
+     *
+     * @return 체결된 주문 수
+     */
+    public int sweep(long marketPrice, FillListener listener) {
+        int filled = 0;
+        while (bids.count > 0 && bids.prices[bids.count - 1] >= marketPrice) {
+            filled += drainLevel(bids, bids.count - 1, marketPrice, listener);
+        }
+        while (asks.count > 0 && asks.prices[asks.count - 1] <= marketPrice) {
+            filled += drainLevel(asks, asks.count - 1, marketPrice, listener);
+        }
+        return filled;
+    }
+
+    /**
+     * 주문을 취소합니다.
+     *
+     * @return 취소된 잔량, 호가창에 없으면 0
+     */
+    public long cancel(long orderId) {
+        Integer slot = slotById.get(orderId);
+        if (slot == null) {
+            return 0;
+        }
+        long left = remaining[slot];
+        Side side = buys[slot] ? bids : asks;
+        int level = side.find(prices[slot]);
+        unlink(side, level, slot);
+        release(slot);
+        return left;
+    }
+
+    public long bestBid() {
+        return bids.count == 0 ? 0 : bids.prices[bids.count - 1];
+    }
+
+    public long bestAsk() {
+        return asks.count == 0 ? 0 : asks.prices[asks.count - 1];
+    }
+
+    /**
+     * 호가창에 남아 있는 주문 수
+     */
+    public int size() {
+        return size;
+    }
+
+    // level 의 주문을 앞에서부터 taker 와 체결한다. 비면 가격대를 지운다.
+    private long consume(Side side, int level, long takerId, boolean takerBuy, long left, FillListener listener) {
+        long levelPrice = side.prices[level];
+        while (left > 0 && side.heads[level] != NONE) {
+            int maker = side.heads[level];
+            long qty = Math.min(left, remaining[maker]);
+            left -= qty;
+            remaining[maker] -= qty;
+            if (takerBuy) {
+                listener.onFill(takerId, ids[maker], levelPrice, qty);
+            } else {
+                listener.onFill(ids[maker], takerId, levelPrice, qty);
+            }
+            if (remaining[maker] == 0) {
+                unlink(side, level, maker);
+                release(maker);
+                if (side.count <= level || side.prices[level] != levelPrice) {
+                    break; // 가격대가 지워졌다
+                }
+            }
+        }
+        return left;
+    }
+
+    private int drainLevel(Side side, int level, long marketPrice, FillListener listener) {
+        int filled = 0;
+        while (side.count > level && side.heads[level] != NONE) {
+            int maker = side.heads[level];
+            if (side.buy) {
+                listener.onFill(ids[maker], MARKET, marketPrice, remaining[maker]);
+            } else {
+                listener.onFill(MARKET, ids[maker], marketPrice, remaining[maker]);
+            }
+            boolean last = side.tails[level] == maker;
+            unlink(side, level, maker);
+            release(maker);
+            filled++;
+            if (last) {
+                break;
+            }
+        }
+        return filled;
+    }
+
+    private void rest(long orderId, boolean buy, long price, long quantity) {
+        int slot = allocate();
+        ids[slot] = orderId;
+        prices[slot] = price;
+        remaining[slot] = quantity;
+        buys[slot] = buy;
+        slotById.put(orderId, slot);
+
+        Side side = buy ? bids : asks;
+        int level = side.findOrInsert(price);
+        int tail = side.tails[level];
+        prev[slot] = tail;
+        next[slot] = NONE;
+        if (tail == NONE) {
+            side.heads[level] = slot;
+        } else {
+            next[tail] = slot;
+        }
+        side.tails[level] = slot;
+        size++;
+    }
+
+    private void unlink(Side side, int level, int slot) {
+        int p = prev[slot];
+        int n = next[slot];
+        if (p == NONE) {
+            side.heads[level] = n;
+        } else {
+            next[p] = n;
+        }
+        if (n == NONE) {
+            side.tails[level] = p;
+        } else {
+            prev[n] = p;
+        }
+        if (side.heads[level] == NONE) {
+            side.remove(level);
+        }
+    }
+
+    private int allocate() {
+        if (free != NONE) {
+            int slot = free;
+            free = next[slot];
+            return slot;
+        }
+        if (used == ids.length) {
+            int grown = ids.length * 2;
+            ids = Arrays.copyOf(ids, grown);
+            prices = Arrays.copyOf(prices, grown);
+            remaining = Arrays.copyOf(remaining, grown);
+            buys = Arrays.copyOf(buys, grown);
+            prev = Arrays.copyOf(prev, grown);
+            next = Arrays.copyOf(next, grown);
+        }
+        return used++;
+    }
+
+    private void release(int slot) {
+        slotById.remove(ids[slot]);
+        remaining[slot] = 0;
+        next[slot] = free;
+        free = slot;
+        size--;
+    }
+
+    // 한쪽 호가. 최우선 가격이 배열 끝에 오도록 매수는 오름차순, 매도는 내림차순으로 둔다.
+    private static final class Side {
+        private final boolean buy;
+        private long[] prices = new long[64];
+        private int[] heads = new int[64];
+        private int[] tails = new int[64];
+        private int count;
+
+        private Side(boolean buy) {
+            this.buy = buy;
+        }
+
+        private int find(long price) {
+            int index = search(price);
+            return index >= 0 ? index : NONE;
+        }
+
+        private int findOrInsert(long price) {
+            int index = search(price);
+            if (index >= 0) {
+                return index;
+            }
+            int at = -index - 1;
+            if (count == prices.length) {
+                prices = Arrays.copyOf(prices, count * 2);
+                heads = Arrays.copyOf(heads, count * 2);
+                tails = Arrays.copyOf(tails, count * 2);
+            }
+            System.arraycopy(prices, at, prices, at + 1, count - at);
+            System.arraycopy(heads, at, heads, at + 1, count - at);
+            System.arraycopy(tails, at, tails, at + 1, count - at);
+            prices[at] = price;
+            heads[at] = NONE;
+            tails[at] = NONE;
+            count++;
+            return at;
+        }
+
+        private void remove(int level) {
+            System.arraycopy(prices, level + 1, prices, level, count - level - 1);
+            System.arraycopy(heads, level + 1, heads, level, count - level - 1);
+            System.arraycopy(tails, level + 1, tails, level, count - level - 1);
+            count--;
+        }
+
+        // Arrays.binarySearch 와 같은 규약. 매도는 내림차순이라 비교 방향을 뒤집는다.
+        private int search(long price) {
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long p = prices[mid];
+                int cmp = buy ? Long.compare(p, price) : Long.compare(price, p);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dev.syntax.domain.investment.repository;
+
+import dev.syntax.domain.investment.valuation.ValuationBook.Valuation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 평가금액 계산에 필요한 계좌/보유 종목을 한 번에 읽고, 계산 결과를 JDBC batch로 기록하는 리포지토리입니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InvestmentValuationJdbcRepository {
+
+    private static final String ACCOUNTS_SQL = "SELECT cano, dnca_tot_amt FROM core_investment_account";
+
+    private static final String HOLDINGS_SQL =
+            "SELECT cano, pdno, hldg_qty, pchs_avg_pric FROM core_portfolio WHERE hldg_qty > 0";
+
+    private static final String UPDATE_SQL =
+            "UPDATE core_investment_account SET scts_evlu_amt = ?, tot_evlu_amt = ? WHERE cano = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 전체 투자 계좌를 한 행씩 넘겨줍니다. (cano, dnca_tot_amt)
+     */
+    public void streamAccounts(RowCallbackHandler handler) {
+        jdbcTemplate.query(ACCOUNTS_SQL, handler);
+    }
+
+    /**
+     * 수량이 남아 있는 전체 보유 종목을 한 행씩 넘겨줍니다. (cano, pdno, hldg_qty, pchs_avg_pric)
+     */
+    public void streamHoldings(RowCallbackHandler handler) {
+        jdbcTemplate.query(HOLDINGS_SQL, handler);
+    }
+
+    public void batchUpdate(List<Valuation> valuations, int batchSize) {
+        jdbcTemplate.batchUpdate(UPDATE_SQL, valuations, batchSize, (ps, v) -> {
+            ps.setLong(1, v.securities());
+            ps.setLong(2, v.total());
+            ps.setString(3, v.cano());
+        });
+    }
+}
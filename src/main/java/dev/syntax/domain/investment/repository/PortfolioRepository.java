@@ -2,6 +2,20 @@ package dev.syntax.domain.investment.repository;
 
 import dev.syntax.domain.investment.entity.Portfolio;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
+
+    /**
+     * 한 명이라도 보유 중인 종목 코드를 중복 없이 조회합니다.
+     */
+    @Query("select distinct p.productCode from Portfolio p where p.holdingQuantity > 0 order by p.productCode")
+    List<String> findHeldProductCodes();
+
+    @Query("select p from Portfolio p where p.cano.cano = :cano and p.productCode = :productCode")
+    Optional<Portfolio> findByCanoAndProductCode(@Param("cano") String cano, @Param("productCode") String productCode);
 }
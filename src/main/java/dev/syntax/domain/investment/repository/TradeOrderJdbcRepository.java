@@ -0,0 +1,48 @@
+package dev.syntax.domain.investment.repository;
+
+import dev.syntax.domain.investment.broker.BrokerResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 브로커 접수 결과를 주문 상태에 JDBC batch로 한 번에 반영하는 리포지토리입니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TradeOrderJdbcRepository {
+
+    private static final String ACCEPTED_SQL =
+            "UPDATE core_trade_orders SET gt_uid = ? WHERE order_id = ?";
+
+    // 이미 체결/취소된 주문은 건드리지 않는다.
+    private static final String REJECTED_SQL =
+            "UPDATE core_trade_orders SET status = 'CANCELLED' WHERE order_id = ? AND status = 'REQUESTED'";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchReconcile(List<BrokerResult> results) {
+        List<BrokerResult> accepted = results.stream().filter(BrokerResult::accepted).toList();
+        List<BrokerResult> rejected = results.stream().filter(r -> !r.accepted()).toList();
+        if (!accepted.isEmpty()) {
+            jdbcTemplate.batchUpdate(ACCEPTED_SQL, accepted, BATCH_SIZE, (ps, r) -> {
+                ps.setString(1, r.brokerOrderNo());
+                ps.setLong(2, r.orderId());
+            });
+        }
+        if (!rejected.isEmpty()) {
+            jdbcTemplate.batchUpdate(REJECTED_SQL, rejected, BATCH_SIZE, (ps, r) -> ps.setLong(1, r.orderId()));
+        }
+    }
+
+    /**
+     * 주문 하나를 바로 취소 상태로 바꿉니다. (대기열에 넣지 못한 경우)
+     */
+    public void cancel(long orderId) {
+        jdbcTemplate.update(REJECTED_SQL, orderId);
+    }
+}
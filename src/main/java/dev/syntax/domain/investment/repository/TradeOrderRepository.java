@@ -1,7 +1,17 @@
 package dev.syntax.domain.investment.repository;
 
 import dev.syntax.domain.investment.entity.TradeOrder;
+import dev.syntax.domain.investment.enums.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface TradeOrderRepository extends JpaRepository<TradeOrder, Long> {
+
+    List<TradeOrder> findByStatus(OrderStatus status);
+
+    /**
+     * 저장만 되고 아직 브로커로 보내지지 않은 주문 (주문번호 없음)
+     */
+    List<TradeOrder> findByStatusAndGlobalUidIsNullOrderByIdAsc(OrderStatus status);
 }
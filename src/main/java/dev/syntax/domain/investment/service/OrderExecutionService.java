@@ -0,0 +1,82 @@
+package dev.syntax.domain.investment.service;
+
+import dev.syntax.domain.investment.entity.InvestmentAccount;
+import dev.syntax.domain.investment.entity.Portfolio;
+import dev.syntax.domain.investment.entity.TradeOrder;
+import dev.syntax.domain.investment.matching.Execution;
+import dev.syntax.domain.investment.repository.InvestmentAccountRepository;
+import dev.syntax.domain.investment.repository.PortfolioRepository;
+import dev.syntax.domain.investment.repository.TradeOrderRepository;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 체결 결과를 주문·보유 종목·예수금에 한 트랜잭션으로 반영합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderExecutionService {
+
+    private final TradeOrderRepository tradeOrderRepository;
+    private final InvestmentAccountRepository investmentAccountRepository;
+    private final PortfolioRepository portfolioRepository;
+
+    @Transactional
+    public void apply(List<Execution> executions) {
+        Map<Long, TradeOrder> orders = tradeOrderRepository.findAllById(
+                        executions.stream().map(Execution::orderId).distinct().toList()).stream()
+                .collect(Collectors.toMap(TradeOrder::getId, Function.identity()));
+        Map<String, InvestmentAccount> accounts = investmentAccountRepository.findAllById(
+                        executions.stream().map(Execution::cano).distinct().toList()).stream()
+                .collect(Collectors.toMap(InvestmentAccount::getCano, Function.identity()));
+        Map<String, Portfolio> portfolios = new HashMap<>();
+
+        for (Execution e : executions) {
+            TradeOrder order = orders.get(e.orderId());
+            InvestmentAccount account = accounts.get(e.cano());
+            if (order == null || account == null) {
+                throw new BusinessException(ErrorBaseCode.NOT_FOUND_ENTITY);
+            }
+            order.fill((int) e.quantity());
+
+            long amount = e.price() * e.quantity();
+            Portfolio portfolio = portfolios.computeIfAbsent(e.cano() + ":" + e.productCode(),
+                    key -> portfolioRepository.findByCanoAndProductCode(e.cano(), e.productCode()).orElse(null));
+            if (e.buy()) {
+                account.subtractDeposit(amount);
+                if (portfolio == null) {
+                    portfolio = portfolioRepository.save(Portfolio.builder()
+                            .cano(account).userId(e.userId())
+                            .productCode(e.productCode()).productName(e.productName())
+                            .holdingQuantity(e.quantity()).purchaseAvgPrice(e.price())
+                            .build());
+                    portfolios.put(e.cano() + ":" + e.productCode(), portfolio);
+                } else {
+                    portfolio.buy(e.quantity(), e.price());
+                }
+            } else {
+                if (portfolio == null) {
+                    throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+                }
+                portfolio.sell(e.quantity());
+                account.addDeposit(amount);
+            }
+        }
+    }
+
+    @Transactional
+    public void cancel(long orderId) {
+        tradeOrderRepository.findById(orderId)
+                .orElseThrow(() -> new BusinessException(ErrorBaseCode.NOT_FOUND_ENTITY))
+                .cancel();
+    }
+}
@@ -0,0 +1,282 @@
+package dev.syntax.domain.investment.service;
+
+import dev.syntax.domain.investment.broker.BrokerResult;
+import dev.syntax.domain.investment.broker.OrderBroker;
+import dev.syntax.domain.investment.dto.OrderCreateReq;
+import dev.syntax.domain.investment.dto.OrderStatusRes;
+import dev.syntax.domain.investment.entity.InvestmentAccount;
+import dev.syntax.domain.investment.entity.TradeOrder;
+import dev.syntax.domain.investment.enums.OrderStatus;
+import dev.syntax.domain.investment.enums.TradeType;
+import dev.syntax.domain.investment.repository.InvestmentAccountRepository;
+import dev.syntax.domain.investment.repository.TradeOrderJdbcRepository;
+import dev.syntax.domain.investment.repository.TradeOrderRepository;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문을 저장만 하고 바로 응답한 뒤, 브로커 전송과 상태 반영은 뒤에서 묶음으로 처리하는 비동기 주문 파이프라인입니다.
+ *
+ * <ol>
+ *   <li>{@link #accept}: 검증 후 {@link OrderStatus#REQUESTED}로 저장, 주문 ID를 유한 대기열에 넣고 반환 (가득 차면 503)</li>
+ *   <li>전용 작업자 스레드: 대기열에서 최대 {@code orders.batch-size}개씩 꺼내 {@link OrderBroker}로 전송</li>
+ *   <li>{@link #reconcile}: 접수 결과를 모아 주문번호({@code gt_uid}) / 거절 취소를 JDBC batch로 기록</li>
+ * </ol>
+ *
+ * <p>주문번호가 없는 REQUESTED 주문은 아직 전송 전이므로 기동 완료 시 다시 대기열에 넣습니다.
+ * 브로커에 넘기기 전에 실패한 묶음은 {@code orders.retry-backoff}부터 두 배씩 늘려 기다린 뒤 작업자가 다시 보냅니다.
+ * 보냈지만 결과를 모르는 주문은 {@link BrokerResult#UNKNOWN_ORDER_NO}를 기록해 다시 보내지 않습니다.
+ * 지표: {@code orders.queue}, {@code orders.submitted{result}}(accepted/rejected/unknown).</p>
+ */
+@Slf4j
+@Component
+public class OrderPipeline {
+
+    private static final String EXCHANGE_KRX = "KRX";
+
+    private final TradeOrderRepository tradeOrderRepository;
+    private final TradeOrderJdbcRepository tradeOrderJdbcRepository;
+    private final InvestmentAccountRepository investmentAccountRepository;
+    private final OrderBroker orderBroker;
+    private final OrderPipelineProperties properties;
+
+    private final BlockingQueue<Long> queue;
+    private final Queue<BrokerResult> results = new ConcurrentLinkedQueue<>();
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter unknownCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public OrderPipeline(TradeOrderRepository tradeOrderRepository,
+                         TradeOrderJdbcRepository tradeOrderJdbcRepository,
+                         InvestmentAccountRepository investmentAccountRepository,
+                         OrderBroker orderBroker,
+                         OrderPipelineProperties properties,
+                         MeterRegistry registry) {
+        this.tradeOrderRepository = tradeOrderRepository;
+        this.tradeOrderJdbcRepository = tradeOrderJdbcRepository;
+        this.investmentAccountRepository = investmentAccountRepository;
+        this.orderBroker = orderBroker;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.acceptedCounter = registry.counter("orders.submitted", "result", "accepted");
+        this.rejectedCounter = registry.counter("orders.submitted", "result", "rejected");
+        this.unknownCounter = registry.counter("orders.submitted", "result", "unknown");
+        Gauge.builder("orders.queue", queue, BlockingQueue::size).register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<TradeOrder> unsent = tradeOrderRepository.findByStatusAndGlobalUidIsNullOrderByIdAsc(OrderStatus.REQUESTED);
+        for (TradeOrder order : unsent) {
+            if (!queue.offer(order.getId())) {
+                log.warn("[ORDERS] 대기열이 가득 차 미전송 주문 일부를 다음 기동으로 미룹니다: {}건", unsent.size() - queue.size());
+                break;
+            }
+        }
+        running = true;
+        worker = new Thread(this::runWorker, "order-pipeline");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("[ORDERS] 주문 파이프라인 시작: 미전송 주문 {}건 재전송", queue.size());
+    }
+
+    /**
+     * 주문을 저장하고 전송 대기열에 넣습니다. 브로커 응답은 기다리지 않습니다.
+     */
+    public OrderStatusRes accept(OrderCreateReq req) {
+        validate(req);
+        InvestmentAccount account = investmentAccountRepository.findById(req.cano())
+                .orElseThrow(() -> new BusinessException(ErrorBaseCode.NOT_FOUND_ENTITY));
+        if (!account.getUserId().equals(req.userId())) {
+            throw new BusinessException(ErrorBaseCode.FORBIDDEN);
+        }
+        // 저장 전에 먼저 걸러 대기열이 가득 찼을 때 버려질 주문이 쌓이지 않게 한다.
+        if (queue.remainingCapacity() == 0) {
+            throw new BusinessException(ErrorBaseCode.SERVICE_UNAVAILABLE);
+        }
+        TradeOrder order = tradeOrderRepository.save(TradeOrder.builder()
+                .cano(account)
+                .userId(req.userId())
+                .orderTime(LocalDateTime.now())
+                .tradeType(req.tradeType())
+                .productCode(req.productCode())
+                .productName(req.productName())
+                .quantity(req.quantity())
+                .price(req.price())
+                .exchangeDivisionCode(EXCHANGE_KRX)
+                .build());
+        if (!queue.offer(order.getId())) {
+            tradeOrderJdbcRepository.cancel(order.getId());
+            throw new BusinessException(ErrorBaseCode.SERVICE_UNAVAILABLE);
+        }
+        return OrderStatusRes.create(order);
+    }
+
+    public OrderStatusRes status(long orderId) {
+        return tradeOrderRepository.findById(orderId)
+                .map(OrderStatusRes::create)
+                .orElseThrow(() -> new BusinessException(ErrorBaseCode.NOT_FOUND_ENTITY));
+    }
+
+    public List<OrderStatusRes> statuses(List<Long> orderIds) {
+        return tradeOrderRepository.findAllById(orderIds).stream()
+                .map(OrderStatusRes::create)
+                .toList();
+    }
+
+    /**
+     * 미체결 잔량을 취소합니다.
+     * <ul>
+     *   <li>아직 대기열에 있는 주문: 대기열에서 빼고 보내지 않은 채 취소</li>
+     *   <li>작업자가 꺼낸 주문: 주문번호 기록({@link #reconcile}) 전이라도 브로커에서 취소.
+     *       브로커에 닿기 전이거나 이미 전량 체결됐으면 {@link ErrorBaseCode#CONFLICT}</li>
+     * </ul>
+     * <p>작업자가 꺼낸 주문은 이미 호가창에 올라 예수금/보유 수량을 예약하고 있을 수 있으므로 DB만 바꾸면 안 됩니다.</p>
+     */
+    public OrderStatusRes cancel(long orderId) {
+        TradeOrder order = tradeOrderRepository.findById(orderId)
+                .orElseThrow(() -> new BusinessException(ErrorBaseCode.NOT_FOUND_ENTITY));
+        if (order.getStatus() != OrderStatus.REQUESTED) {
+            throw new BusinessException(ErrorBaseCode.CONFLICT);
+        }
+        // 대기열에서 꺼내는 것과 작업자의 drainTo 는 같은 락을 쓰므로 둘 중 하나만 주문을 가져간다.
+        if (order.getGlobalUid() == null && queue.remove(orderId)) {
+            tradeOrderJdbcRepository.cancel(orderId);
+        } else if (!orderBroker.cancel(orderId)) {
+            throw new BusinessException(ErrorBaseCode.CONFLICT);
+        }
+        return status(orderId);
+    }
+
+    /**
+     * 쌓인 접수 결과를 주문 상태에 반영합니다. 실패하면 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${orders.reconcile-interval-ms:500}")
+    public void reconcile() {
+        List<BrokerResult> drained = new ArrayList<>();
+        BrokerResult result;
+        while ((result = results.poll()) != null) {
+            drained.add(result);
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+        try {
+            tradeOrderJdbcRepository.batchReconcile(drained);
+        } catch (RuntimeException e) {
+            results.addAll(drained);
+            log.error("[ORDERS] 접수 결과 반영 실패, 다음 주기에 재시도: {}건", drained.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(properties.getBatchTimeout().toMillis());
+        }
+        reconcile();
+    }
+
+    private void runWorker() {
+        // 실패한 묶음은 비우지 않고 대기 후 그대로 다시 보낸다.
+        List<Long> batch = new ArrayList<>(properties.getBatchSize());
+        long backoffMs = 0;
+        while (running) {
+            try {
+                if (backoffMs > 0) {
+                    Thread.sleep(backoffMs);
+                }
+                if (batch.isEmpty()) {
+                    Long first = queue.poll(1, TimeUnit.SECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                }
+                queue.drainTo(batch, properties.getBatchSize() - batch.size());
+                send(batch);
+                batch.clear();
+                backoffMs = 0;
+            } catch (InterruptedException e) {
+                // 남은 묶음은 주문번호 없이 남아 다음 기동 때 다시 전송된다.
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                backoffMs = nextBackoff(backoffMs);
+                log.error("[ORDERS] 주문 전송 실패, {}ms 뒤 재전송: {}건", backoffMs, batch.size(), e);
+            }
+        }
+    }
+
+    private long nextBackoff(long backoffMs) {
+        long max = properties.getMaxRetryBackoff().toMillis();
+        return backoffMs == 0 ? Math.min(properties.getRetryBackoff().toMillis(), max) : Math.min(backoffMs * 2, max);
+    }
+
+    /**
+     * 묶음을 브로커로 보내고 접수 결과를 쌓습니다.
+     * <p>브로커에 넘기기 전(주문 조회)에 실패하면 예외를 그대로 던져 작업자가 묶음을 다시 보냅니다.
+     * 브로커 호출 중 실패하면 일부는 이미 닿았을 수 있으므로 묶음 전체를 결과 미상으로 기록하고 다시 보내지 않습니다.</p>
+     */
+    private void send(List<Long> ids) {
+        List<TradeOrder> orders = tradeOrderRepository.findAllById(ids).stream()
+                .filter(order -> order.getStatus() == OrderStatus.REQUESTED && order.getGlobalUid() == null)
+                .toList();
+        if (orders.isEmpty()) {
+            return;
+        }
+        List<BrokerResult> submitted;
+        try {
+            submitted = orderBroker.submit(orders);
+        } catch (RuntimeException e) {
+            log.error("[ORDERS] 브로커 호출 실패, 묶음 전체를 결과 미상으로 기록: {}건", orders.size(), e);
+            submitted = orders.stream().map(order -> BrokerResult.unknown(order.getId(), e.toString())).toList();
+        }
+        for (BrokerResult r : submitted) {
+            if (r.isUnknown()) {
+                unknownCounter.increment();
+                log.warn("[ORDERS] 주문 결과 미상, 재전송하지 않음: orderId={}, {}", r.orderId(), r.message());
+            } else if (r.accepted()) {
+                acceptedCounter.increment();
+            } else {
+                rejectedCounter.increment();
+                log.info("[ORDERS] 주문 거절: orderId={}, {}", r.orderId(), r.message());
+            }
+            results.add(r);
+        }
+    }
+
+    private static void validate(OrderCreateReq req) {
+        if (req == null || req.cano() == null || req.userId() == null
+                || (req.tradeType() != TradeType.TTTTC0012U && req.tradeType() != TradeType.TTTCO011U)
+                || req.productCode() == null || req.productCode().isBlank()
+                || req.productName() == null || req.productName().isBlank()
+                || req.quantity() == null || req.quantity() <= 0
+                || req.price() == null || req.price() <= 0) {
+            throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package dev.syntax.domain.investment.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 비동기 주문 파이프라인 설정값입니다.
+ *
+ * <pre>{@code
+ * orders:
+ *   broker: mock               # mock | kis (kis 는 접수 검증용: 체결 반영, 취소 없음)
+ *   queue-capacity: 10000
+ *   batch-size: 100
+ *   broker-concurrency: 4
+ *   order-timeout: 10s
+ *   batch-timeout: 30s
+ *   retry-backoff: 200ms
+ *   max-retry-backoff: 10s
+ *   reconcile-interval-ms: 500
+ * }</pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "orders")
+@Getter
+@Setter
+public class OrderPipelineProperties {
+
+    // 주문을 보낼 곳 (mock: 모의 체결 엔진, kis: KIS 현금 주문 API)
+    // kis 는 접수까지만 한다. 체결 조회가 없어 주문이 REQUESTED 로 남고, 취소는 501
+    private String broker = "mock";
+
+    // 브로커 전송 대기열 크기, 가득 차면 새 주문은 503
+    private int queueCapacity = 10_000;
+
+    // 작업자가 한 번에 꺼내 보내는 최대 주문 수
+    private int batchSize = 100;
+
+    // KIS 브로커가 한 묶음 안에서 동시에 보내는 최대 주문 수
+    private int brokerConcurrency = 4;
+
+    // KIS 브로커가 주문 1건을 보낸 뒤 응답을 기다리는 최대 시간(호출 허용량 대기 제외), 넘기면 결과 미상으로 남기고 다시 보내지 않음
+    private Duration orderTimeout = Duration.ofSeconds(10);
+
+    // 종료 시 전송 중인 묶음을 기다리는 최대 시간
+    private Duration batchTimeout = Duration.ofSeconds(30);
+
+    // 묶음을 브로커에 넘기기 전에 실패하면 그 묶음을 다시 보내기까지 기다리는 첫 시간, 연속 실패마다 두 배
+    private Duration retryBackoff = Duration.ofMillis(200);
+
+    // 재전송 대기 시간의 상한
+    private Duration maxRetryBackoff = Duration.ofSeconds(10);
+
+    // 접수 결과를 주문 상태에 반영하는 주기 (ms)
+    private long reconcileIntervalMs = 500;
+}
@@ -0,0 +1,49 @@
+package dev.syntax.domain.investment.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실시간 시세 스트림 설정값입니다.
+ *
+ * <pre>{@code
+ * quote-stream:
+ *   interval-ms: 1000
+ *   buffer-size: 16
+ *   overflow: DROP_OLDEST
+ *   heartbeat: 15s
+ *   codes: []            # 비우면 KisStockApiClient.DEFAULT_CODES
+ * }</pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "quote-stream")
+@Getter
+@Setter
+public class QuoteStreamProperties {
+
+    // KIS 폴링 주기
+    private long intervalMs = 1000;
+
+    // 구독자별 대기 이벤트 최대 개수
+    private int bufferSize = 16;
+
+    // 대기 이벤트가 가득 찼을 때 버릴 쪽
+    private Overflow overflow = Overflow.DROP_OLDEST;
+
+    // 연결 유지를 위한 빈 이벤트 주기
+    private Duration heartbeat = Duration.ofSeconds(15);
+
+    // 폴링 대상 종목
+    private List<String> codes = new ArrayList<>();
+
+    public enum Overflow {
+        DROP_OLDEST, // 가장 오래된 이벤트를 버림 (최신 시세 우선)
+        DROP_LATEST  // 새로 들어온 이벤트를 버림
+    }
+}
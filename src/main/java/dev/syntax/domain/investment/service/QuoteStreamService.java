@@ -0,0 +1,130 @@
+package dev.syntax.domain.investment.service;
+
+import dev.syntax.domain.investment.dto.QuoteTick;
+import dev.syntax.external.kis.KisQuoteCache;
+import dev.syntax.external.kis.KisStockApiClient;
+import dev.syntax.external.kis.dto.PriceItem;
+import dev.syntax.external.kis.dto.Quote;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 개의 폴러가 KIS 시세를 읽어 모든 구독자에게 나눠주는 스트림입니다.
+ *
+ * <ul>
+ *   <li>구독자가 한 명이라도 있을 때만 주기마다 {@link KisQuoteCache}로 한 번 조회</li>
+ *   <li>직전 대비 바뀐 종목만 {@link QuoteTick}으로 멀티캐스트 싱크에 발행</li>
+ *   <li>새 구독자는 현재 스냅샷부터 받음</li>
+ *   <li>구독자마다 {@code bufferSize}만큼만 쌓고, 넘치면 {@code overflow} 정책으로 버림
+ *       → 느린 구독자가 폴러나 다른 구독자를 막지 않음</li>
+ * </ul>
+ *
+ * <p>지표: {@code quote.stream.subscribers}, {@code quote.stream.dropped}, {@code quote.stream.ticks}.</p>
+ */
+@Slf4j
+@Service
+public class QuoteStreamService {
+
+    private final KisQuoteCache kisQuoteCache;
+    private final QuoteStreamProperties properties;
+    private final List<String> codes;
+
+    // 구독자가 없거나 요청하지 않은 구독자에게는 버리고 넘어가는 멀티캐스트 싱크
+    private final Sinks.Many<QuoteTick> sink = Sinks.many().multicast().directBestEffort();
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private final AtomicLong seq = new AtomicLong();
+    private volatile Map<String, Quote> last = Map.of();
+
+    private final Counter droppedCounter;
+    private final Counter tickCounter;
+
+    public QuoteStreamService(KisQuoteCache kisQuoteCache, QuoteStreamProperties properties, MeterRegistry registry) {
+        this.kisQuoteCache = kisQuoteCache;
+        this.properties = properties;
+        this.codes = properties.getCodes().isEmpty() ? KisStockApiClient.DEFAULT_CODES : List.copyOf(properties.getCodes());
+        this.droppedCounter = registry.counter("quote.stream.dropped");
+        this.tickCounter = registry.counter("quote.stream.ticks");
+        Gauge.builder("quote.stream.subscribers", sink, Sinks.Many::currentSubscriberCount).register(registry);
+    }
+
+    /**
+     * 시세 스트림을 구독합니다.
+     *
+     * @param filter 받고 싶은 종목 (비어 있으면 전체)
+     */
+    public Flux<QuoteTick> subscribe(Set<String> filter) {
+        Flux<QuoteTick> live = sink.asFlux();
+        Flux<QuoteTick> stream = Flux.concat(Mono.fromSupplier(this::snapshot), live)
+                // 걸러낸 결과가 비어도 이벤트는 보낸다. 순번이 이어져야 구독자가 누락을 알아챌 수 있다.
+                .map(tick -> filter.isEmpty() ? tick : only(tick, filter));
+        BufferOverflowStrategy strategy = properties.getOverflow() == QuoteStreamProperties.Overflow.DROP_LATEST
+                ? BufferOverflowStrategy.DROP_LATEST
+                : BufferOverflowStrategy.DROP_OLDEST;
+        return stream.onBackpressureBuffer(properties.getBufferSize(), dropped -> droppedCounter.increment(), strategy);
+    }
+
+    @Scheduled(fixedDelayString = "${quote-stream.interval-ms:1000}")
+    public void poll() {
+        if (sink.currentSubscriberCount() == 0 || !polling.compareAndSet(false, true)) {
+            return;
+        }
+        kisQuoteCache.getQuotes(codes).whenComplete((quotes, error) -> {
+            try {
+                if (error != null) {
+                    log.warn("[QUOTE-STREAM] 시세 조회 실패: {}", error.toString());
+                    return;
+                }
+                publish(quotes);
+            } finally {
+                polling.set(false);
+            }
+        });
+    }
+
+    // 폴링은 한 번에 하나만 돌기 때문에 싱크 발행이 직렬화된다.
+    // 비교는 숫자 필드의 Quote 로 하고, 발행하는 종목만 응답 형식(PriceItem)으로 바꾼다.
+    void publish(Map<String, Quote> quotes) {
+        Map<String, Quote> previous = last;
+        List<PriceItem> changed = new ArrayList<>();
+        quotes.forEach((code, quote) -> {
+            if (!quote.equals(previous.get(code))) {
+                changed.add(PriceItem.of(quote));
+            }
+        });
+        Map<String, Quote> merged = new LinkedHashMap<>(previous);
+        merged.putAll(quotes);
+        last = Collections.unmodifiableMap(merged);
+        if (changed.isEmpty()) {
+            return;
+        }
+        tickCounter.increment();
+        sink.tryEmitNext(new QuoteTick(seq.incrementAndGet(), System.currentTimeMillis(), false, changed));
+    }
+
+    private QuoteTick snapshot() {
+        return new QuoteTick(seq.get(), System.currentTimeMillis(), true,
+                last.values().stream().map(PriceItem::of).toList());
+    }
+
+    private static QuoteTick only(QuoteTick tick, Set<String> filter) {
+        List<PriceItem> items = tick.items().stream().filter(i -> filter.contains(i.getStockCode())).toList();
+        return new QuoteTick(tick.seq(), tick.timestamp(), tick.snapshot(), items);
+    }
+}
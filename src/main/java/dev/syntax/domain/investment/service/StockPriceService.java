@@ -0,0 +1,51 @@
+package dev.syntax.domain.investment.service;
+
+import dev.syntax.domain.investment.repository.PortfolioRepository;
+import dev.syntax.external.kis.KisMultiPriceFetcher;
+import dev.syntax.external.kis.dto.MultiPriceBatchRes;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 보유 종목 전체처럼 큰 종목 집합의 시세를 조회하는 서비스입니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockPriceService {
+
+    static final int MAX_CODES = 3_000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final PortfolioRepository portfolioRepository;
+    private final KisMultiPriceFetcher kisMultiPriceFetcher;
+
+    public MultiPriceBatchRes getPrices(List<String> codes) {
+        if (codes == null || codes.isEmpty()) {
+            throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+        }
+        if (codes.size() > MAX_CODES) {
+            throw new BusinessException(ErrorBaseCode.PAYLOAD_TOO_LARGE);
+        }
+        return fetch(codes);
+    }
+
+    /**
+     * 사용자들이 보유 중인 모든 종목의 시세를 조회합니다.
+     */
+    public MultiPriceBatchRes getHeldPrices() {
+        return fetch(portfolioRepository.findHeldProductCodes());
+    }
+
+    private MultiPriceBatchRes fetch(List<String> codes) {
+        MultiPriceBatchRes res = kisMultiPriceFetcher.fetchAll(codes).block(TIMEOUT);
+        if (res == null) {
+            throw new BusinessException(ErrorBaseCode.GATEWAY_TIMEOUT);
+        }
+        return res;
+    }
+}
@@ -0,0 +1,161 @@
+package dev.syntax.domain.investment.valuation;
+
+import dev.syntax.domain.investment.repository.InvestmentValuationJdbcRepository;
+import dev.syntax.domain.investment.valuation.ValuationBook.Valuation;
+import dev.syntax.external.kis.KisQuoteCache;
+import dev.syntax.external.kis.dto.Quote;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 시세가 바뀔 때마다 투자 계좌의 평가금액({@code scts_evlu_amt}, {@code tot_evlu_amt})을 다시 계산해 기록합니다.
+ *
+ * <ol>
+ *   <li>기동 완료 시 전체 계좌/보유 종목을 {@link ValuationBook}에 적재</li>
+ *   <li>주기마다 보유 중인 종목의 시세를 {@link KisQuoteCache}로 조회</li>
+ *   <li>가격이 바뀐 종목의 보유 계좌만 증분 재계산</li>
+ *   <li>바뀐 계좌만 JDBC batch UPDATE, 실패하면 다음 주기에 다시 기록</li>
+ * </ol>
+ *
+ * <p>보유 수량/예수금 변경은 {@code PortfolioChangeListener}, {@code InvestmentAccountChangeListener}가 커밋 후 반영합니다.
+ * 지표: {@code valuation.revalue}, {@code valuation.holdings.revalued}, {@code valuation.accounts.written}.</p>
+ */
+@Slf4j
+@Component
+public class InvestmentValuationEngine {
+
+    private final InvestmentValuationJdbcRepository valuationJdbcRepository;
+    private final KisQuoteCache kisQuoteCache;
+    private final ValuationProperties properties;
+    private final ValuationBook book = new ValuationBook();
+
+    private final Timer revalueTimer;
+    private final Counter revaluedCounter;
+    private final Counter writtenCounter;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean loaded;
+    private volatile boolean resyncPending;
+
+    public InvestmentValuationEngine(InvestmentValuationJdbcRepository valuationJdbcRepository,
+                                     KisQuoteCache kisQuoteCache,
+                                     ValuationProperties properties,
+                                     MeterRegistry registry) {
+        this.valuationJdbcRepository = valuationJdbcRepository;
+        this.kisQuoteCache = kisQuoteCache;
+        this.properties = properties;
+        this.revalueTimer = registry.timer("valuation.revalue");
+        this.revaluedCounter = registry.counter("valuation.holdings.revalued");
+        this.writtenCounter = registry.counter("valuation.accounts.written");
+        Gauge.builder("valuation.accounts", book, ValuationBook::accountCount).register(registry);
+        Gauge.builder("valuation.holdings", book, ValuationBook::holdingCount).register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        valuationJdbcRepository.streamAccounts(rs -> book.putAccount(rs.getString(1), rs.getLong(2)));
+        valuationJdbcRepository.streamHoldings(rs ->
+                book.putHolding(rs.getString(1), rs.getString(2), rs.getLong(3), rs.getLong(4)));
+        // 적재 직후에는 매입 평균가로 계산된 값이므로 기록하지 않고, 첫 시세를 받은 뒤 전체를 맞춘다.
+        book.drainDirty();
+        resyncPending = true;
+        loaded = true;
+        log.info("[VALUATION] 적재 완료: 계좌 {}개, 보유 {}건", book.accountCount(), book.holdingCount());
+    }
+
+    @Scheduled(fixedDelayString = "${valuation.interval-ms:1000}")
+    public void tick() {
+        if (!loaded || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<String> codes = book.productCodes();
+            if (!codes.isEmpty()) {
+                Map<String, Quote> quotes = kisQuoteCache.getQuotes(codes)
+                        .get(properties.getQuoteTimeout().toMillis(), TimeUnit.MILLISECONDS);
+                revalue(toPrices(quotes));
+            }
+            if (resyncPending && !codes.isEmpty()) {
+                book.markAllDirty();
+                resyncPending = false;
+            }
+            flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("[VALUATION] 시세 조회 실패, 다음 주기에 재시도: {}", e.toString());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 시세를 반영합니다. 가격이 바뀐 종목의 보유 계좌만 다시 계산되며, 기록은 {@link #flush()}에서 합니다.
+     *
+     * @return 다시 계산한 보유 건수
+     */
+    public int revalue(Map<String, Long> prices) {
+        long start = System.nanoTime();
+        int touched = book.applyPrices(prices);
+        revalueTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        revaluedCounter.increment(touched);
+        return touched;
+    }
+
+    /**
+     * 평가금액이 바뀐 계좌를 DB에 기록합니다.
+     */
+    public void flush() {
+        List<Valuation> dirty = book.drainDirty();
+        if (dirty.isEmpty()) {
+            return;
+        }
+        try {
+            valuationJdbcRepository.batchUpdate(dirty, properties.getBatchSize());
+            writtenCounter.increment(dirty.size());
+        } catch (RuntimeException e) {
+            book.markDirty(dirty);
+            log.error("[VALUATION] 평가금액 기록 실패, 다음 주기에 재시도: {}개 계좌", dirty.size(), e);
+        }
+    }
+
+    public void onAccountChanged(String cano, long deposit) {
+        book.putAccount(cano, deposit);
+    }
+
+    public void onHoldingChanged(String cano, String productCode, long quantity, long purchaseAvgPrice) {
+        book.putHolding(cano, productCode, quantity, purchaseAvgPrice);
+    }
+
+    public Valuation valuationOf(String cano) {
+        return book.valuationOf(cano);
+    }
+
+    // 현재가가 비었거나 숫자가 아닌 종목(Quote.price() == 0)은 이번 주기에서 건너뛴다.
+    private static Map<String, Long> toPrices(Map<String, Quote> quotes) {
+        Map<String, Long> prices = new HashMap<>(quotes.size() * 2);
+        quotes.forEach((code, quote) -> {
+            if (quote.price() > 0) {
+                prices.put(code, quote.price());
+            } else {
+                log.debug("[VALUATION] 현재가 없음: {}", code);
+            }
+        });
+        return prices;
+    }
+}
@@ -0,0 +1,281 @@
+package dev.syntax.domain.investment.valuation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 투자 계좌의 평가금액을 증분으로 계산하는 메모리 장부입니다.
+ *
+ * <ul>
+ *   <li>계좌는 정수 슬롯으로 관리하고 예수금/유가증권 평가금액을 {@code long[]}에 보관</li>
+ *   <li>종목코드마다 보유 계좌 슬롯과 수량을 배열로 묶어 둔 역인덱스(종목 → 보유자)</li>
+ *   <li>시세가 바뀌면 그 종목 보유자에게만 {@code (새 가격 - 이전 가격) × 수량}을 더함</li>
+ *   <li>바뀐 계좌는 dirty 로 표시해 두었다가 {@link #drainDirty()}로 한 번에 꺼냄</li>
+ * </ul>
+ *
+ * <p>첫 시세를 받기 전까지는 매입 평균가를 가격으로 사용합니다. 모든 메서드는 하나의 락으로 직렬화됩니다.</p>
+ */
+public class ValuationBook {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<String, Integer> accountSlots = new HashMap<>();
+    private String[] canos = new String[1024];
+    private long[] deposits = new long[1024];
+    private long[] securities = new long[1024];
+    private int accountCount;
+    private final BitSet dirty = new BitSet();
+
+    private final Map<String, Holders> products = new HashMap<>();
+    private int holdingCount;
+
+    /**
+     * 계좌를 등록하거나 예수금을 갱신합니다.
+     */
+    public void putAccount(String cano, long deposit) {
+        lock.lock();
+        try {
+            int slot = slotOf(cano);
+            if (deposits[slot] != deposit) {
+                deposits[slot] = deposit;
+                dirty.set(slot);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 보유 수량을 설정합니다. 0 이하면 보유 목록에서 뺍니다.
+     *
+     * @param fallbackPrice 아직 시세를 받지 못한 종목일 때 사용할 가격 (매입 평균가)
+     */
+    public void putHolding(String cano, String productCode, long quantity, long fallbackPrice) {
+        lock.lock();
+        try {
+            int slot = slotOf(cano);
+            Holders holders = products.computeIfAbsent(productCode, code -> new Holders(fallbackPrice));
+            long previous = holders.set(slot, Math.max(0, quantity));
+            if (previous == 0 && quantity > 0) {
+                holdingCount++;
+            } else if (previous > 0 && quantity <= 0) {
+                holdingCount--;
+            }
+            long delta = (Math.max(0, quantity) - previous) * holders.price;
+            if (delta != 0) {
+                securities[slot] += delta;
+                dirty.set(slot);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 시세를 반영합니다. 가격이 바뀐 종목의 보유 계좌만 다시 계산합니다.
+     *
+     * @param prices 종목코드 → 현재가
+     * @return 다시 계산한 보유 건수
+     */
+    public int applyPrices(Map<String, Long> prices) {
+        lock.lock();
+        try {
+            int touched = 0;
+            for (Map.Entry<String, Long> e : prices.entrySet()) {
+                Holders holders = products.get(e.getKey());
+                if (holders == null || e.getValue() == null) {
+                    continue;
+                }
+                long diff = e.getValue() - holders.price;
+                holders.price = e.getValue();
+                if (diff == 0) {
+                    continue;
+                }
+                int[] slots = holders.slots;
+                long[] quantities = holders.quantities;
+                for (int i = 0; i < holders.size; i++) {
+                    securities[slots[i]] += diff * quantities[i];
+                    dirty.set(slots[i]);
+                }
+                touched += holders.size;
+            }
+            return touched;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 평가금액이 바뀐 계좌를 꺼내고 dirty 표시를 지웁니다.
+     */
+    public List<Valuation> drainDirty() {
+        lock.lock();
+        try {
+            List<Valuation> drained = new ArrayList<>(dirty.cardinality());
+            for (int slot = dirty.nextSetBit(0); slot >= 0; slot = dirty.nextSetBit(slot + 1)) {
+                drained.add(valuationOf(slot));
+            }
+            dirty.clear();
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * DB 반영에 실패한 계좌를 다시 dirty 로 표시합니다.
+     */
+    public void markDirty(List<Valuation> valuations) {
+        lock.lock();
+        try {
+            for (Valuation v : valuations) {
+                Integer slot = accountSlots.get(v.cano());
+                if (slot != null) {
+                    dirty.set(slot);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 계좌를 dirty 로 표시합니다. 적재 후 첫 시세로 DB 전체를 맞출 때 사용합니다.
+     */
+    public void markAllDirty() {
+        lock.lock();
+        try {
+            dirty.set(0, accountCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 한 명이라도 보유 중인 종목코드
+     */
+    public List<String> productCodes() {
+        lock.lock();
+        try {
+            List<String> codes = new ArrayList<>(products.size());
+            products.forEach((code, holders) -> {
+                if (holders.size > 0) {
+                    codes.add(code);
+                }
+            });
+            return codes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return 현재 평가금액, 등록되지 않은 계좌면 {@code null}
+     */
+    public Valuation valuationOf(String cano) {
+        lock.lock();
+        try {
+            Integer slot = accountSlots.get(cano);
+            return slot == null ? null : valuationOf(slot);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int accountCount() {
+        lock.lock();
+        try {
+            return accountCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int holdingCount() {
+        lock.lock();
+        try {
+            return holdingCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Valuation valuationOf(int slot) {
+        return new Valuation(canos[slot], securities[slot], deposits[slot] + securities[slot]);
+    }
+
+    // 호출 측이 락을 잡고 있어야 합니다.
+    private int slotOf(String cano) {
+        Integer slot = accountSlots.get(cano);
+        if (slot != null) {
+            return slot;
+        }
+        if (accountCount == canos.length) {
+            int size = canos.length * 2;
+            canos = Arrays.copyOf(canos, size);
+            deposits = Arrays.copyOf(deposits, size);
+            securities = Arrays.copyOf(securities, size);
+        }
+        int created = accountCount++;
+        canos[created] = cano;
+        accountSlots.put(cano, created);
+        return created;
+    }
+
+    /**
+     * 계좌 1건의 평가금액
+     *
+     * @param securities 유가증권 평가금액 ({@code scts_evlu_amt})
+     * @param total      총평가금액 = 예수금 + 유가증권 평가금액 ({@code tot_evlu_amt})
+     */
+    public record Valuation(String cano, long securities, long total) { }
+
+    // 한 종목의 보유 계좌 목록. 시세 반영 루프가 배열만 훑도록 슬롯과 수량을 나란히 둔다.
+    private static final class Holders {
+        private long price;
+        private int[] slots = new int[4];
+        private long[] quantities = new long[4];
+        private int size;
+        private final Map<Integer, Integer> positions = new HashMap<>();
+
+        private Holders(long price) {
+            this.price = price;
+        }
+
+        /**
+         * @return 이전 수량
+         */
+        private long set(int slot, long quantity) {
+            Integer position = positions.get(slot);
+            if (position == null) {
+                if (quantity > 0) {
+                    if (size == slots.length) {
+                        slots = Arrays.copyOf(slots, size * 2);
+                        quantities = Arrays.copyOf(quantities, size * 2);
+                    }
+                    slots[size] = slot;
+                    quantities[size] = quantity;
+                    positions.put(slot, size++);
+                }
+                return 0;
+            }
+            long previous = quantities[position];
+            if (quantity > 0) {
+                quantities[position] = quantity;
+                return previous;
+            }
+            // 마지막 항목을 빈자리로 옮겨 배열을 빽빽하게 유지한다.
+            int last = --size;
+            slots[position] = slots[last];
+            quantities[position] = quantities[last];
+            positions.put(slots[position], position);
+            positions.remove(slot);
+            return previous;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package dev.syntax.domain.investment.valuation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 투자 계좌 평가 엔진 설정값입니다.
+ *
+ * <pre>{@code
+ * valuation:
+ *   interval-ms: 1000
+ *   quote-timeout: 3s
+ *   batch-size: 1000
+ * }</pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "valuation")
+@Getter
+@Setter
+public class ValuationProperties {
+
+    // 시세를 받아 재평가하는 주기 (ms)
+    private long intervalMs = 1000;
+
+    // 한 주기에서 시세 조회를 기다리는 최대 시간
+    private Duration quoteTimeout = Duration.ofSeconds(3);
+
+    // 평가금액 UPDATE batch 크기
+    private int batchSize = 1000;
+}
@@ -0,0 +1,36 @@
+package dev.syntax.domain.transaction.controller;
+
+import dev.syntax.domain.transaction.dto.BulkTransferReq;
+import dev.syntax.domain.transaction.service.BulkTransferService;
+import dev.syntax.global.response.ApiResponseUtil;
+import dev.syntax.global.response.BaseResponse;
+import dev.syntax.global.response.SuccessCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 대량 이체 API
+ *
+ * <pre>{@code
+ * POST /transfers/bulk
+ * {
+ *   "transfers": [
+ *     { "fromAccountId": 1, "toAccountId": 2, "amount": 30000, "memo": "11월 용돈", "category": "용돈" }
+ *   ]
+ * }
+ * }</pre>
+ */
+@RestController
+@RequiredArgsConstructor
+public class BulkTransferController {
+
+    private final BulkTransferService bulkTransferService;
+
+    @PostMapping("/transfers/bulk")
+    public ResponseEntity<BaseResponse<?>> bulkTransfer(@RequestBody BulkTransferReq req) {
+        return ApiResponseUtil.success(SuccessCode.OK, bulkTransferService.transfer(req));
+    }
+}
@@ -0,0 +1,41 @@
+package dev.syntax.domain.transaction.controller;
+
+import dev.syntax.domain.transaction.service.SpendingRollupService;
+import dev.syntax.global.response.ApiResponseUtil;
+import dev.syntax.global.response.BaseResponse;
+import dev.syntax.global.response.SuccessCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+/**
+ * 지출 집계 API
+ *
+ * <pre>{@code
+ * GET  /users/7/spending?month=2025-11       // 자녀 7의 11월 카테고리별 지출
+ * POST /internal/spending-rollups/rebuild    // 기존 거래로 집계 재생성 (내부용)
+ * }</pre>
+ */
+@RestController
+@RequiredArgsConstructor
+public class SpendingRollupController {
+
+    private final SpendingRollupService spendingRollupService;
+
+    @GetMapping("/users/{userId}/spending")
+    public ResponseEntity<BaseResponse<?>> monthly(@PathVariable Long userId, @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return ApiResponseUtil.success(SuccessCode.OK, spendingRollupService.getMonthly(userId, month));
+    }
+
+    @PostMapping("/internal/spending-rollups/rebuild")
+    public ResponseEntity<BaseResponse<?>> rebuild() {
+        return ApiResponseUtil.success(SuccessCode.OK, spendingRollupService.rebuild());
+    }
+}
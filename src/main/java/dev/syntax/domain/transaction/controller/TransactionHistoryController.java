@@ -0,0 +1,34 @@
+package dev.syntax.domain.transaction.controller;
+
+import dev.syntax.domain.transaction.service.TransactionHistoryService;
+import dev.syntax.global.response.ApiResponseUtil;
+import dev.syntax.global.response.BaseResponse;
+import dev.syntax.global.response.SuccessCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 거래 내역 조회 API
+ *
+ * <pre>{@code
+ * GET /accounts/1/transactions?size=20
+ * GET /accounts/1/transactions?size=20&cursor=MjAyNS0xMS0wMVQxMDowMHwxMjM
+ * }</pre>
+ */
+@RestController
+@RequiredArgsConstructor
+public class TransactionHistoryController {
+
+    private final TransactionHistoryService transactionHistoryService;
+
+    @GetMapping("/accounts/{accountId}/transactions")
+    public ResponseEntity<BaseResponse<?>> history(@PathVariable Long accountId,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "20") int size) {
+        return ApiResponseUtil.success(SuccessCode.OK, transactionHistoryService.getHistory(accountId, cursor, size));
+    }
+}
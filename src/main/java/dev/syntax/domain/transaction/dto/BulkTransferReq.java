@@ -0,0 +1,28 @@
+package dev.syntax.domain.transaction.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 대량 이체 요청 DTO
+ * @param transfers 이체 지시 목록 (요청 순서대로 처리)
+ */
+public record BulkTransferReq(
+        List<TransferItem> transfers
+) {
+    /**
+     * 이체 지시 1건
+     * @param fromAccountId 출금 계좌
+     * @param toAccountId   입금 계좌
+     * @param amount        금액
+     * @param memo          거래 내역에 표시할 메모 (없으면 상대 계좌번호)
+     * @param category      거래 카테고리 (없으면 "이체")
+     */
+    public record TransferItem(
+            Long fromAccountId,
+            Long toAccountId,
+            BigDecimal amount,
+            String memo,
+            String category
+    ) { }
+}
@@ -0,0 +1,20 @@
+package dev.syntax.domain.transaction.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 대량 이체 결과 DTO
+ * @param requested 요청 건수
+ * @param succeeded 성공 건수
+ * @param failed    실패 건 목록 (요청 목록의 index와 사유)
+ */
+@Builder
+public record BulkTransferRes(
+        int requested,
+        int succeeded,
+        List<FailedTransfer> failed
+) {
+    public record FailedTransfer(int index, String reason) { }
+}
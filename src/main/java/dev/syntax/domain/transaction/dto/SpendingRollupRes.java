@@ -0,0 +1,30 @@
+package dev.syntax.domain.transaction.dto;
+
+import dev.syntax.domain.transaction.entity.SpendingRollup;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+/**
+ * 월별 카테고리 지출 DTO
+ * @param accountId   계좌 ID
+ * @param category    카테고리
+ * @param totalAmount 지출 합계
+ * @param count       거래 건수
+ */
+@Builder
+public record SpendingRollupRes(
+        Long accountId,
+        String category,
+        BigDecimal totalAmount,
+        Long count
+) {
+    public static SpendingRollupRes create(SpendingRollup rollup) {
+        return SpendingRollupRes.builder()
+                .accountId(rollup.getAccountId())
+                .category(rollup.getCategory())
+                .totalAmount(rollup.getTotalAmount())
+                .count(rollup.getTxCount())
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package dev.syntax.domain.transaction.dto;
+
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 거래 내역 키셋 커서 {@code (transaction_date, transaction_id)}.
+ * <p>클라이언트에는 Base64URL 문자열로 전달되며, 클라이언트는 내용을 해석하지 않고 그대로 돌려보냅니다.</p>
+ */
+public record TransactionCursor(LocalDateTime transactionDate, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = transactionDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다. 형식이 잘못되면 {@link ErrorBaseCode#BAD_REQUEST}.
+     */
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(SEPARATOR);
+            return new TransactionCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | StringIndexOutOfBoundsException e) {
+            throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+        }
+    }
+}
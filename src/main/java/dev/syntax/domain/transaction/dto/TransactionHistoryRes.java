@@ -0,0 +1,48 @@
+package dev.syntax.domain.transaction.dto;
+
+import dev.syntax.domain.transaction.enums.TransactionStatus;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 거래 내역 페이지 응답 DTO
+ * @param items      최신순 거래 목록
+ * @param nextCursor 다음 페이지 요청 시 그대로 넘길 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+@Builder
+public record TransactionHistoryRes(
+        List<Item> items,
+        String nextCursor,
+        boolean hasNext
+) {
+    @Builder
+    public record Item(
+            Long id,
+            String code,
+            String type,
+            BigDecimal amount,
+            BigDecimal balanceAfter,
+            String merchantName,
+            String category,
+            TransactionStatus status,
+            LocalDateTime transactionDate
+    ) {
+        public static Item create(TransactionHistoryView view) {
+            return Item.builder()
+                    .id(view.getId())
+                    .code(view.getCode())
+                    .type(view.getType())
+                    .amount(view.getAmount())
+                    .balanceAfter(view.getBalanceAfter())
+                    .merchantName(view.getMerchantName())
+                    .category(view.getCategory())
+                    .status(view.getStatus())
+                    .transactionDate(view.getTransactionDate())
+                    .build();
+        }
+    }
+}
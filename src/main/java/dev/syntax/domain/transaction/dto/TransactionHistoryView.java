@@ -0,0 +1,21 @@
+package dev.syntax.domain.transaction.dto;
+
+import dev.syntax.domain.transaction.enums.TransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 거래 내역 목록용 프로젝션입니다. {@code CoreUser}/{@code Account} 프록시를 만들지 않습니다.
+ */
+public interface TransactionHistoryView {
+    Long getId();
+    String getCode();
+    String getType();
+    BigDecimal getAmount();
+    BigDecimal getBalanceAfter();
+    String getMerchantName();
+    String getCategory();
+    TransactionStatus getStatus();
+    LocalDateTime getTransactionDate();
+}
@@ -0,0 +1,50 @@
+package dev.syntax.domain.transaction.entity;
+
+import dev.syntax.global.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 사용자·계좌·월·카테고리별 지출 집계입니다.
+ * <p>거래가 SUCCESS로 기록될 때마다 증분으로 갱신되므로, 대시보드는 GROUP BY 없이 카테고리 수만큼만 읽습니다.</p>
+ */
+@Entity
+@Table(name = "core_spending_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_spending_rollup_key",
+                columnNames = {"user_id", "rollup_month", "account_id", "category"})
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpendingRollup extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    // yyyyMM (예: 202511)
+    @Column(name = "rollup_month", nullable = false)
+    private Integer rollupMonth;
+
+    @Column(name = "category", length = 30, nullable = false)
+    private String category;
+
+    @Column(name = "total_amount", nullable = false, precision = 18, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "tx_count", nullable = false)
+    private Long txCount;
+}
@@ -4,7 +4,11 @@ import dev.syntax.domain.account.entity.Account;
 import dev.syntax.domain.transaction.enums.TransactionStatus;
 import dev.syntax.domain.user.entity.CoreUser;
 import dev.syntax.global.common.BaseTimeEntity;
+import dev.syntax.global.common.IdSequences;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,7 +18,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "core_transaction")
+@Table(name = "core_transaction", indexes = {
+        @Index(name = "idx_transaction_account_date", columnList = "account_id, transaction_date, transaction_id")
+})
+@EntityListeners(TransactionChangeListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,7 +29,10 @@ import java.time.LocalDateTime;
 public class Transaction extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "transaction_id_gen")
+    @TableGenerator(name = "transaction_id_gen", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "core_transaction", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "transaction_id")
     private Long id;
 
@@ -40,6 +50,10 @@ public class Transaction extends BaseTimeEntity {
     @Column(name = "type", length = 20, nullable = false)
     private String type;
 
+    // 거래 금액 (컬럼 추가 이전 데이터는 null)
+    @Column(name = "amount", precision = 15, scale = 2)
+    private BigDecimal amount;
+
     @Column(name = "balance_after", nullable = false, precision = 15, scale = 3)
     private BigDecimal balanceAfter;
 
@@ -56,4 +70,42 @@ public class Transaction extends BaseTimeEntity {
 
     @Column(name = "transaction_date", nullable = false)
     private LocalDateTime transactionDate;
+
+    // 지출 집계에 마지막으로 반영된 상태 (TransactionChangeListener 전용, 저장 전이면 null)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private TransactionStatus rolledUpStatus;
+
+    /**
+     * 대기 중인 거래를 성공 처리합니다.
+     *
+     * @throws BusinessException {@link TransactionStatus#PENDING}이 아닌 거래인 경우
+     */
+    public void complete() {
+        changeStatus(TransactionStatus.SUCCESS);
+    }
+
+    /**
+     * 대기 중인 거래를 실패 처리합니다.
+     *
+     * @throws BusinessException {@link TransactionStatus#PENDING}이 아닌 거래인 경우
+     */
+    public void fail() {
+        changeStatus(TransactionStatus.FAIL);
+    }
+
+    TransactionStatus rolledUpStatus() {
+        return rolledUpStatus;
+    }
+
+    void markRolledUp() {
+        this.rolledUpStatus = status;
+    }
+
+    private void changeStatus(TransactionStatus next) {
+        if (status != TransactionStatus.PENDING) {
+            throw new BusinessException(ErrorBaseCode.CONFLICT);
+        }
+        this.status = next;
+    }
 }
@@ -0,0 +1,64 @@
+package dev.syntax.domain.transaction.entity;
+
+import dev.syntax.domain.transaction.enums.TransactionStatus;
+import dev.syntax.domain.transaction.repository.SpendingRollupFence;
+import dev.syntax.domain.transaction.service.SpendingRollupService;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA로 {@link Transaction}이 저장·상태 변경·삭제되면 지출 집계를 같은 트랜잭션에서 맞춥니다.
+ *
+ * <p>JDBC 대량 INSERT 는 {@code TransactionsRecordedEvent}로, 엔티티 경로는 이 리스너로 반영합니다.
+ * 집계에 마지막으로 반영한 상태를 엔티티에 남겨 두고, {@link TransactionStatus#SUCCESS}로 바뀌면 더하고
+ * {@code SUCCESS}에서 벗어나거나 삭제되면 뺍니다. (예: PENDING → SUCCESS 는 한 번만 더함)</p>
+ */
+@Component
+public class TransactionChangeListener {
+
+    private final ObjectProvider<SpendingRollupService> spendingRollupService;
+    private final ObjectProvider<SpendingRollupFence> spendingRollupFence;
+
+    public TransactionChangeListener(ObjectProvider<SpendingRollupService> spendingRollupService,
+                                     ObjectProvider<SpendingRollupFence> spendingRollupFence) {
+        this.spendingRollupService = spendingRollupService;
+        this.spendingRollupFence = spendingRollupFence;
+    }
+
+    @PrePersist
+    @PreUpdate
+    @PreRemove
+    public void beforeWrite(Transaction transaction) {
+        spendingRollupFence.ifAvailable(SpendingRollupFence::enterShared);
+    }
+
+    @PostLoad
+    public void onLoad(Transaction transaction) {
+        transaction.markRolledUp();
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onWrite(Transaction transaction) {
+        boolean counted = transaction.rolledUpStatus() == TransactionStatus.SUCCESS;
+        boolean success = transaction.getStatus() == TransactionStatus.SUCCESS;
+        if (counted != success) {
+            spendingRollupService.ifAvailable(s -> s.onChanged(transaction, success ? 1 : -1));
+        }
+        transaction.markRolledUp();
+    }
+
+    @PostRemove
+    public void onRemove(Transaction transaction) {
+        if (transaction.rolledUpStatus() == TransactionStatus.SUCCESS) {
+            spendingRollupService.ifAvailable(s -> s.onChanged(transaction, -1));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package dev.syntax.domain.transaction.enums;
+
+/**
+ * {@code core_transaction.type}에 기록되는 거래 방향입니다. 컬럼은 문자열이므로 {@link #name()}으로 저장합니다.
+ */
+public enum TransactionType {
+    DEPOSIT, WITHDRAW
+}
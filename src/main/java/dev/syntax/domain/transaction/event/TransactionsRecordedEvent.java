@@ -0,0 +1,13 @@
+package dev.syntax.domain.transaction.event;
+
+import dev.syntax.domain.transaction.repository.TransactionJdbcRepository.TransactionRow;
+
+import java.util.List;
+
+/**
+ * 거래 행이 {@code core_transaction}에 기록된 직후, 같은 DB 트랜잭션 안에서 발행되는 이벤트입니다.
+ * <p>집계/스냅샷처럼 거래 기록과 함께 커밋되어야 하는 후속 처리는 이 이벤트를 동기 리스너로 받습니다.</p>
+ *
+ * @param rows 기록된 거래 행
+ */
+public record TransactionsRecordedEvent(List<TransactionRow> rows) { }
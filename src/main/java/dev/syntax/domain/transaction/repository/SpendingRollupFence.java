@@ -0,0 +1,65 @@
+package dev.syntax.domain.transaction.repository;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@code core_transaction} 쓰기와 지출 집계 재생성이 겹치지 않도록 막는 울타리입니다.
+ *
+ * <ul>
+ *   <li>거래를 쓰는 트랜잭션({@link TransactionJdbcRepository#batchInsert}, {@code Transaction} 엔티티 저장/수정/삭제)은
+ *       {@link #enterShared()}로 공유 잠금을 잡음 → 서로는 막지 않음</li>
+ *   <li>집계 재생성은 {@link #enterExclusive()}로 배타 잠금을 잡음 → 진행 중인 쓰기가 모두 끝난 뒤 DELETE → INSERT…SELECT 를 하고,
+ *       그동안 새 쓰기는 대기</li>
+ * </ul>
+ *
+ * <p>잠금은 트랜잭션이 끝날 때(커밋/롤백) 풀리므로, 재생성이 읽는 거래와 증분 반영이 빠지거나 두 번 들어가지 않습니다.
+ * 트랜잭션당 한 번만 잡고, 트랜잭션 밖에서는 잠그지 않습니다. (거래 쓰기 경로는 모두 트랜잭션 안에서 실행)</p>
+ *
+ * <p>JVM 안의 잠금이므로 단일 인스턴스 배포를 전제로 합니다.</p>
+ */
+@Component
+public class SpendingRollupFence {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 현재 트랜잭션이 끝날 때까지 공유 잠금을 잡습니다. 이미 잡았으면 아무것도 하지 않습니다.
+     */
+    public void enterShared() {
+        hold(lock.readLock());
+    }
+
+    /**
+     * 현재 트랜잭션이 끝날 때까지 배타 잠금을 잡습니다.
+     *
+     * @throws IllegalStateException 같은 트랜잭션에서 이미 공유 잠금을 잡은 경우
+     */
+    public void enterExclusive() {
+        Object held = TransactionSynchronizationManager.getResource(this);
+        if (held != null && held != lock.writeLock()) {
+            throw new IllegalStateException("거래를 쓴 트랜잭션에서는 지출 집계를 재생성할 수 없습니다.");
+        }
+        hold(lock.writeLock());
+    }
+
+    private void hold(Lock target) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        target.lock();
+        TransactionSynchronizationManager.bindResource(this, target);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(SpendingRollupFence.this);
+                target.unlock();
+            }
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package dev.syntax.domain.transaction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * {@code core_spending_rollup} 증분 갱신/재집계용 JDBC 리포지토리입니다.
+ * <p>MySQL과 H2에서 모두 동작하도록 벤더 전용 UPSERT 구문 대신 UPDATE → (없으면) INSERT 순서로 처리합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SpendingRollupJdbcRepository {
+
+    private static final String UPDATE_SQL = "UPDATE core_spending_rollup "
+            + "SET total_amount = total_amount + ?, tx_count = tx_count + ?, updated_at = ? "
+            + "WHERE user_id = ? AND rollup_month = ? AND account_id = ? AND category = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO core_spending_rollup "
+            + "(user_id, account_id, rollup_month, category, total_amount, tx_count, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String MONTH_EXPR = "YEAR(transaction_date) * 100 + MONTH(transaction_date)";
+
+    /**
+     * 기존 거래 전체로 집계를 다시 만듭니다.
+     * <p>{@code amount}가 없는 이전 데이터는 같은 계좌의 직전 {@code balance_after}와의 차이로 지출액을 계산합니다.</p>
+     */
+    private static final String BACKFILL_SQL = "INSERT INTO core_spending_rollup "
+            + "(user_id, account_id, rollup_month, category, total_amount, tx_count, created_at, updated_at) "
+            + "SELECT user_id, account_id, " + MONTH_EXPR + ", category, SUM(spent), COUNT(*), ?, ? "
+            + "FROM ("
+            + "  SELECT user_id, account_id, transaction_date, category, status, "
+            + "    CASE WHEN amount IS NOT NULL THEN (CASE WHEN type = 'WITHDRAW' THEN amount END) "
+            + "         ELSE LAG(balance_after) OVER (PARTITION BY account_id ORDER BY transaction_date, transaction_id) "
+            + "              - balance_after END AS spent "
+            + "  FROM core_transaction"
+            + ") t "
+            + "WHERE status = 'SUCCESS' AND spent > 0 "
+            + "GROUP BY user_id, account_id, " + MONTH_EXPR + ", category";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 집계 행에 금액/건수를 더합니다. 행이 없으면 새로 만듭니다.
+     */
+    public void add(long userId, long accountId, int month, String category, BigDecimal amount, long count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (update(userId, accountId, month, category, amount, count, now) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, userId, accountId, month, category, amount, count, now, now);
+        } catch (DuplicateKeyException e) {
+            // 동시에 다른 요청이 먼저 INSERT 한 경우
+            update(userId, accountId, month, category, amount, count, now);
+        }
+    }
+
+    /**
+     * 집계 테이블을 비우고 {@code core_transaction} 전체로 다시 채웁니다.
+     *
+     * @return 생성된 집계 행 수
+     */
+    public int rebuild() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("DELETE FROM core_spending_rollup");
+        return jdbcTemplate.update(BACKFILL_SQL, now, now);
+    }
+
+    private int update(long userId, long accountId, int month, String category,
+                       BigDecimal amount, long count, Timestamp now) {
+        return jdbcTemplate.update(UPDATE_SQL, amount, count, now, userId, month, accountId, category);
+    }
+}
@@ -0,0 +1,14 @@
+package dev.syntax.domain.transaction.repository;
+
+import dev.syntax.domain.transaction.entity.SpendingRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface SpendingRollupRepository extends JpaRepository<SpendingRollup, Long> {
+
+    /**
+     * 사용자의 한 달 지출 집계를 조회합니다. 유니크 키 {@code (user_id, rollup_month, ...)}의 앞부분으로 조회됩니다.
+     */
+    List<SpendingRollup> findByUserIdAndRollupMonthOrderByTotalAmountDesc(Long userId, Integer rollupMonth);
+}
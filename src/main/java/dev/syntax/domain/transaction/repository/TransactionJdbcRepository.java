@@ -0,0 +1,108 @@
+package dev.syntax.domain.transaction.repository;
+
+import dev.syntax.domain.transaction.entity.Transaction;
+import dev.syntax.domain.transaction.enums.TransactionStatus;
+import dev.syntax.domain.transaction.event.TransactionsRecordedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code core_transaction} 대량 INSERT 전용 JDBC 리포지토리입니다.
+ *
+ * <p>엔티티를 만들지 않고 {@link JdbcTemplate#batchUpdate}로 직접 배치 전송합니다.
+ * ID는 {@link Transaction} 엔티티와 같은 pooled 시퀀스 생성기에서 받아오므로 JPA 경로와 충돌하지 않습니다.
+ * MySQL에서는 JDBC URL에 {@code rewriteBatchedStatements=true}를 주어야 다중 VALUES로 재작성됩니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO core_transaction "
+            + "(transaction_id, user_id, account_id, code, type, amount, balance_after, merchant_name, category, status, "
+            + "transaction_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SpendingRollupFence spendingRollupFence;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    /**
+     * 거래 행을 {@value #BATCH_SIZE}건 단위 JDBC batch로 INSERT 합니다.
+     * <p>INSERT 후 같은 트랜잭션 안에서 {@link TransactionsRecordedEvent}를 발행합니다.
+     * 집계 재생성과 겹치지 않도록 트랜잭션이 끝날 때까지 {@link SpendingRollupFence} 공유 잠금을 잡습니다.</p>
+     */
+    @Transactional
+    public void batchInsert(List<TransactionRow> rows) {
+        spendingRollupFence.enterShared();
+        List<Numbered> numbered = assignIds(rows);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, numbered, BATCH_SIZE, (ps, n) -> {
+            TransactionRow row = n.row();
+            ps.setLong(1, n.id());
+            ps.setLong(2, row.userId());
+            ps.setLong(3, row.accountId());
+            ps.setString(4, row.code());
+            ps.setString(5, row.type());
+            ps.setBigDecimal(6, row.amount());
+            ps.setBigDecimal(7, row.balanceAfter());
+            ps.setString(8, row.merchantName());
+            ps.setString(9, row.category());
+            ps.setString(10, row.status().name());
+            ps.setTimestamp(11, Timestamp.valueOf(row.transactionDate()));
+            ps.setTimestamp(12, now);
+            ps.setTimestamp(13, now);
+        });
+        eventPublisher.publishEvent(new TransactionsRecordedEvent(rows));
+    }
+
+    // Transaction 엔티티에 설정된 생성기(pooled)를 그대로 사용한다. ALLOCATION_SIZE 건마다 한 번만 DB를 왕복한다.
+    private List<Numbered> assignIds(List<TransactionRow> rows) {
+        SharedSessionContractImplementor session = em.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(Transaction.class)
+                .getGenerator();
+        List<Numbered> numbered = new ArrayList<>(rows.size());
+        for (TransactionRow row : rows) {
+            long id = ((Number) generator.generate(session, null)).longValue();
+            numbered.add(new Numbered(id, row));
+        }
+        return numbered;
+    }
+
+    private record Numbered(long id, TransactionRow row) { }
+
+    /**
+     * {@code core_transaction} 한 행에 해당하는 값입니다.
+     */
+    @Builder
+    public record TransactionRow(
+            long userId,
+            long accountId,
+            String code,
+            String type,
+            BigDecimal amount,
+            BigDecimal balanceAfter,
+            String merchantName,
+            String category,
+            TransactionStatus status,
+            LocalDateTime transactionDate
+    ) { }
+}
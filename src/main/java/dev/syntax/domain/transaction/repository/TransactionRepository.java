@@ -1,7 +1,67 @@
 package dev.syntax.domain.transaction.repository;
 
+import dev.syntax.domain.transaction.dto.TransactionHistoryView;
 import dev.syntax.domain.transaction.entity.Transaction;
+import dev.syntax.domain.transaction.enums.TransactionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+
+    String HISTORY_SELECT = "select t.id as id, t.code as code, t.type as type, t.amount as amount, t.balanceAfter as balanceAfter, "
+            + "t.merchantName as merchantName, t.category as category, t.status as status, "
+            + "t.transactionDate as transactionDate from Transaction t ";
+
+    /**
+     * 계좌의 최신 거래 내역 첫 페이지를 조회합니다.
+     * <p>{@code idx_transaction_account_date (account_id, transaction_date, transaction_id)} 인덱스를 역방향으로 탑니다.</p>
+     */
+    @Query(HISTORY_SELECT
+            + "where t.account.id = :accountId "
+            + "order by t.transactionDate desc, t.id desc")
+    List<TransactionHistoryView> findHistory(@Param("accountId") Long accountId, Pageable pageable);
+
+    /**
+     * 커서({@code cursorDate}, {@code cursorId})보다 오래된 거래 내역을 조회합니다.
+     * <p>OFFSET 없이 인덱스 위치로 바로 이동하므로 몇 페이지를 넘기든 비용이 같습니다.</p>
+     */
+    @Query(HISTORY_SELECT
+            + "where t.account.id = :accountId "
+            + "and (t.transactionDate < :cursorDate or (t.transactionDate = :cursorDate and t.id < :cursorId)) "
+            + "order by t.transactionDate desc, t.id desc")
+    List<TransactionHistoryView> findHistoryBefore(@Param("accountId") Long accountId,
+                                                   @Param("cursorDate") LocalDateTime cursorDate,
+                                                   @Param("cursorId") Long cursorId,
+                                                   Pageable pageable);
+
+    /**
+     * {@code [from, to]} 구간에서 가장 마지막 SUCCESS 거래의 거래 후 잔액을 조회합니다.
+     * <p>체크포인트 이후 구간만 인덱스 범위로 읽으므로 재생 비용이 체크포인트 주기로 제한됩니다.</p>
+     */
+    @Query("select t.balanceAfter from Transaction t "
+            + "where t.account.id = :accountId and t.status = :status "
+            + "and t.transactionDate >= :from and t.transactionDate <= :to "
+            + "order by t.transactionDate desc, t.id desc")
+    List<BigDecimal> findLastBalanceBetween(@Param("accountId") Long accountId,
+                                            @Param("status") TransactionStatus status,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to,
+                                            Pageable pageable);
+
+    /**
+     * {@code at} 이후 첫 거래를 조회합니다. 첫 거래 이전 시점의 잔액을 역산할 때 사용합니다.
+     */
+    @Query(HISTORY_SELECT
+            + "where t.account.id = :accountId and t.status = :status and t.transactionDate > :at "
+            + "order by t.transactionDate asc, t.id asc")
+    List<TransactionHistoryView> findFirstAfter(@Param("accountId") Long accountId,
+                                                @Param("status") TransactionStatus status,
+                                                @Param("at") LocalDateTime at,
+                                                Pageable pageable);
 }
@@ -0,0 +1,251 @@
+package dev.syntax.domain.transaction.service;
+
+import dev.syntax.domain.account.dto.AccountOwnerView;
+import dev.syntax.domain.account.enums.AccountStatus;
+import dev.syntax.domain.account.ledger.BalanceLedger;
+import dev.syntax.domain.account.repository.AccountRepository;
+import dev.syntax.domain.transaction.dto.BulkTransferReq;
+import dev.syntax.domain.transaction.dto.BulkTransferReq.TransferItem;
+import dev.syntax.domain.transaction.dto.BulkTransferRes;
+import dev.syntax.domain.transaction.dto.BulkTransferRes.FailedTransfer;
+import dev.syntax.domain.transaction.enums.TransactionStatus;
+import dev.syntax.domain.transaction.enums.TransactionType;
+import dev.syntax.domain.transaction.repository.TransactionJdbcRepository;
+import dev.syntax.domain.transaction.repository.TransactionJdbcRepository.TransactionRow;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 용돈 일괄 지급처럼 수천 건의 이체를 한 번에 처리하는 서비스입니다.
+ *
+ * <ol>
+ *   <li>관련 계좌 전체를 프로젝션 쿼리 1회로 조회</li>
+ *   <li>존재/상태/금액/누적 잔액을 한 번 훑으며 검증</li>
+ *   <li>통과한 건만 {@link BalanceLedger}로 출금·입금 반영</li>
+ *   <li>거래 내역({@code core_transaction})을 JDBC batch로 INSERT</li>
+ * </ol>
+ *
+ * <p>검증에 실패한 건은 건너뛰고 결과의 {@code failed}에 index와 사유를 담아 돌려줍니다.</p>
+ *
+ * <p>거래 내역 기록에 실패하면 옮긴 잔액을 역이체로 되돌립니다. 그 사이 입금 계좌에서 돈이 빠져 되돌리지 못한 이체는
+ * 실제로 반영된 것이므로 그 건의 거래 내역만 다시 기록하고 성공으로 돌려줍니다. (나머지는 {@code failed})
+ * 이 기록마저 실패하면 잔액과 거래 내역이 어긋나므로 건별로 ERROR 로그를 남기고, 반영된 이체의 index 를 담은
+ * {@link PartiallyAppliedTransferException}을 던집니다. (호출자가 같은 이체를 다시 보내지 않도록)</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkTransferService {
+
+    public static final int MAX_TRANSFERS = 10_000;
+
+    private static final String CODE = "TRANSFER";
+    private static final String DEFAULT_CATEGORY = "이체";
+
+    private final AccountRepository accountRepository;
+    private final BalanceLedger ledger;
+    private final TransactionJdbcRepository transactionJdbcRepository;
+
+    public BulkTransferRes transfer(BulkTransferReq req) {
+        List<TransferItem> items = req == null ? null : req.transfers();
+        if (items == null || items.isEmpty()) {
+            throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+        }
+        if (items.size() > MAX_TRANSFERS) {
+            throw new BusinessException(ErrorBaseCode.PAYLOAD_TOO_LARGE);
+        }
+
+        Map<Long, AccountOwnerView> accounts = loadAccounts(items);
+        List<FailedTransfer> failed = new ArrayList<>();
+        List<Integer> accepted = validate(items, accounts, failed);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TransactionRow> rows = new ArrayList<>(accepted.size() * 2);
+        List<Integer> applied = new ArrayList<>(accepted.size());
+        for (int index : accepted) {
+            TransferItem item = items.get(index);
+            try {
+                BalanceLedger.TransferResult result =
+                        ledger.transfer(item.fromAccountId(), item.toAccountId(), item.amount());
+                addRows(rows, item, accounts, result, now);
+                applied.add(index);
+            } catch (BusinessException e) {
+                // 검증 이후 다른 요청이 먼저 잔액을 가져간 경우
+                failed.add(new FailedTransfer(index, "잔액이 부족합니다."));
+            }
+        }
+
+        try {
+            transactionJdbcRepository.batchInsert(rows);
+        } catch (RuntimeException e) {
+            BitSet kept = compensate(items, applied);
+            if (kept.isEmpty()) {
+                throw e;
+            }
+            recordKept(items, rows, applied, kept, e);
+            for (int index : applied) {
+                if (!kept.get(index)) {
+                    failed.add(new FailedTransfer(index, "거래 내역 기록에 실패해 취소되었습니다."));
+                }
+            }
+            applied = kept.stream().boxed().toList();
+        }
+
+        return BulkTransferRes.builder()
+                .requested(items.size())
+                .succeeded(applied.size())
+                .failed(failed)
+                .build();
+    }
+
+    private Map<Long, AccountOwnerView> loadAccounts(List<TransferItem> items) {
+        Set<Long> ids = new HashSet<>();
+        for (TransferItem item : items) {
+            if (item == null) {
+                continue;
+            }
+            if (item.fromAccountId() != null) ids.add(item.fromAccountId());
+            if (item.toAccountId() != null) ids.add(item.toAccountId());
+        }
+        Map<Long, AccountOwnerView> accounts = accountRepository.findOwnerViewsByIdIn(ids).stream()
+                .collect(Collectors.toMap(AccountOwnerView::getId, Function.identity()));
+        // 원장에 없는 계좌는 방금 읽은 잔액으로 채워 계좌별 개별 조회를 피한다.
+        accounts.values().forEach(a -> ledger.prime(a.getId(), a.getBalance()));
+        return accounts;
+    }
+
+    private List<Integer> validate(List<TransferItem> items, Map<Long, AccountOwnerView> accounts,
+                                   List<FailedTransfer> failed) {
+        List<Integer> accepted = new ArrayList<>(items.size());
+        Map<Long, BigDecimal> available = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            String reason = reject(items.get(i), accounts, available);
+            if (reason == null) {
+                accepted.add(i);
+            } else {
+                failed.add(new FailedTransfer(i, reason));
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * @return 거절 사유, 통과하면 {@code null}
+     */
+    private String reject(TransferItem item, Map<Long, AccountOwnerView> accounts, Map<Long, BigDecimal> available) {
+        if (item == null || item.fromAccountId() == null || item.toAccountId() == null || item.amount() == null) {
+            return "필수 값이 누락되었습니다.";
+        }
+        if (item.amount().signum() <= 0 || item.amount().scale() > 2) {
+            return "금액이 올바르지 않습니다.";
+        }
+        if (item.category() != null && item.category().length() > 30) {
+            return "카테고리가 너무 깁니다.";
+        }
+        if (item.fromAccountId().equals(item.toAccountId())) {
+            return "출금 계좌와 입금 계좌가 같습니다.";
+        }
+        AccountOwnerView from = accounts.get(item.fromAccountId());
+        AccountOwnerView to = accounts.get(item.toAccountId());
+        if (from == null || to == null) {
+            return "계좌를 찾을 수 없습니다.";
+        }
+        if (from.getStatus() != AccountStatus.ACTIVE || to.getStatus() != AccountStatus.ACTIVE) {
+            return "거래할 수 없는 계좌 상태입니다.";
+        }
+        // 같은 요청 안에서 앞선 이체들이 가져간 금액까지 반영해 잔액을 확인한다.
+        BigDecimal remaining = available.computeIfAbsent(from.getId(), ledger::balanceOf);
+        if (remaining.compareTo(item.amount()) < 0) {
+            return "잔액이 부족합니다.";
+        }
+        available.put(from.getId(), remaining.subtract(item.amount()));
+        available.computeIfPresent(to.getId(), (id, balance) -> balance.add(item.amount()));
+        return null;
+    }
+
+    private void addRows(List<TransactionRow> rows, TransferItem item, Map<Long, AccountOwnerView> accounts,
+                         BalanceLedger.TransferResult result, LocalDateTime now) {
+        AccountOwnerView from = accounts.get(item.fromAccountId());
+        AccountOwnerView to = accounts.get(item.toAccountId());
+        String category = item.category() == null || item.category().isBlank() ? DEFAULT_CATEGORY : item.category();
+
+        rows.add(TransactionRow.builder()
+                .userId(from.getUserId()).accountId(from.getId())
+                .code(CODE).type(TransactionType.WITHDRAW.name()).amount(item.amount())
+                .balanceAfter(result.fromBalanceAfter())
+                .merchantName(displayName(item.memo(), to.getNumber()))
+                .category(category).status(TransactionStatus.SUCCESS).transactionDate(now)
+                .build());
+        rows.add(TransactionRow.builder()
+                .userId(to.getUserId()).accountId(to.getId())
+                .code(CODE).type(TransactionType.DEPOSIT.name()).amount(item.amount())
+                .balanceAfter(result.toBalanceAfter())
+                .merchantName(displayName(item.memo(), from.getNumber()))
+                .category(category).status(TransactionStatus.SUCCESS).transactionDate(now)
+                .build());
+    }
+
+    private static String displayName(String memo, String counterpartNumber) {
+        String name = memo == null || memo.isBlank() ? counterpartNumber : memo;
+        return name.length() > 50 ? name.substring(0, 50) : name;
+    }
+
+    /**
+     * 거래 내역 기록에 실패하면 이미 옮긴 잔액을 되돌립니다.
+     *
+     * @return 되돌리지 못해 반영된 채로 남은 이체의 index 집합
+     */
+    private BitSet compensate(List<TransferItem> items, List<Integer> applied) {
+        BitSet kept = new BitSet(items.size());
+        for (int i = applied.size() - 1; i >= 0; i--) {
+            TransferItem item = items.get(applied.get(i));
+            try {
+                ledger.transfer(item.toAccountId(), item.fromAccountId(), item.amount());
+            } catch (BusinessException e) {
+                // 입금 계좌 잔액이 이미 빠져나간 경우. 이체는 그대로 두고 거래 내역을 남긴다.
+                kept.set(applied.get(i));
+            }
+        }
+        return kept;
+    }
+
+    // 되돌리지 못한 이체의 거래 행(이체마다 출금/입금 2건, applied 순서와 같음)만 다시 기록한다.
+    private void recordKept(List<TransferItem> items, List<TransactionRow> rows, List<Integer> applied,
+                            BitSet kept, RuntimeException cause) {
+        List<TransactionRow> keptRows = new ArrayList<>(kept.cardinality() * 2);
+        for (int i = 0; i < applied.size(); i++) {
+            if (kept.get(applied.get(i))) {
+                keptRows.add(rows.get(i * 2));
+                keptRows.add(rows.get(i * 2 + 1));
+            }
+        }
+        try {
+            transactionJdbcRepository.batchInsert(keptRows);
+        } catch (RuntimeException e) {
+            for (int index = kept.nextSetBit(0); index >= 0; index = kept.nextSetBit(index + 1)) {
+                TransferItem item = items.get(index);
+                log.error("[BULK] 보상 이체와 거래 내역 기록 모두 실패, 수동 확인 필요: from={}, to={}, amount={}",
+                        item.fromAccountId(), item.toAccountId(), item.amount());
+            }
+            cause.addSuppressed(e);
+            throw new PartiallyAppliedTransferException(kept.stream().boxed().toList(), cause);
+        }
+        log.warn("[BULK] 거래 내역 기록 실패로 {}건 취소, 되돌리지 못한 {}건은 내역을 다시 기록",
+                applied.size() - kept.cardinality(), kept.cardinality(), cause);
+    }
+}
@@ -0,0 +1,23 @@
+package dev.syntax.domain.transaction.service;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 대량 이체에서 거래 내역 기록과 보상(역이체)이 모두 실패해, 일부 이체가 잔액에만 반영된 채 끝났음을 알리는 예외입니다.
+ *
+ * <p>{@link #getApplied()}의 이체는 실제로 돈이 옮겨졌으므로 호출자가 다시 보내면 안 됩니다.
+ * 나머지 건은 역이체로 되돌려졌으므로 다시 시도해도 됩니다.</p>
+ */
+@Getter
+public class PartiallyAppliedTransferException extends RuntimeException {
+
+    // 잔액에 반영된 채 남은 이체의 요청 목록 index (요청 순서)
+    private final List<Integer> applied;
+
+    public PartiallyAppliedTransferException(List<Integer> applied, RuntimeException cause) {
+        super("거래 내역 없이 반영된 이체 " + applied.size() + "건", cause);
+        this.applied = List.copyOf(applied);
+    }
+}
@@ -0,0 +1,108 @@
+package dev.syntax.domain.transaction.service;
+
+import dev.syntax.domain.transaction.dto.SpendingRollupRes;
+import dev.syntax.domain.transaction.entity.Transaction;
+import dev.syntax.domain.transaction.enums.TransactionStatus;
+import dev.syntax.domain.transaction.enums.TransactionType;
+import dev.syntax.domain.transaction.event.TransactionsRecordedEvent;
+import dev.syntax.domain.transaction.repository.SpendingRollupFence;
+import dev.syntax.domain.transaction.repository.SpendingRollupJdbcRepository;
+import dev.syntax.domain.transaction.repository.SpendingRollupRepository;
+import dev.syntax.domain.transaction.repository.TransactionJdbcRepository.TransactionRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리·월별 지출 집계를 증분으로 유지하고 조회하는 서비스입니다.
+ *
+ * <p>{@link TransactionsRecordedEvent}를 동기로 받아 거래 기록과 같은 트랜잭션에서 집계를 갱신합니다.
+ * 한 번의 이벤트 안에서는 같은 집계 키끼리 먼저 합산하므로, 대량 이체도 키 개수만큼만 UPDATE 됩니다.
+ * JPA로 저장·상태 변경되는 거래는 {@code TransactionChangeListener}가 {@link #onChanged}로 반영합니다.</p>
+ *
+ * <p>재생성({@link #rebuild})은 {@link SpendingRollupFence} 배타 잠금 안에서 실행되어 진행 중인 증분 반영과 겹치지 않습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SpendingRollupService {
+
+    private final SpendingRollupRepository spendingRollupRepository;
+    private final SpendingRollupJdbcRepository spendingRollupJdbcRepository;
+    private final SpendingRollupFence spendingRollupFence;
+
+    @EventListener
+    public void onRecorded(TransactionsRecordedEvent event) {
+        Map<RollupKey, Delta> deltas = new HashMap<>();
+        for (TransactionRow row : event.rows()) {
+            if (row.status() != TransactionStatus.SUCCESS || !isSpending(row.type(), row.amount())) {
+                continue;
+            }
+            RollupKey key = new RollupKey(row.userId(), row.accountId(), toMonth(YearMonth.from(row.transactionDate())),
+                    row.category());
+            deltas.merge(key, new Delta(row.amount(), 1), Delta::plus);
+        }
+        deltas.forEach((k, d) ->
+                spendingRollupJdbcRepository.add(k.userId(), k.accountId(), k.month(), k.category(), d.amount(), d.count()));
+    }
+
+    /**
+     * JPA로 저장·수정·삭제된 거래 한 건을 집계에 더하거나({@code sign = 1}) 뺍니다({@code sign = -1}).
+     * <p>상태 판단은 호출자가 하며, 금액이 있는 출금이 아니면 무시합니다.</p>
+     */
+    public void onChanged(Transaction transaction, int sign) {
+        if (!isSpending(transaction.getType(), transaction.getAmount())) {
+            return;
+        }
+        BigDecimal amount = sign < 0 ? transaction.getAmount().negate() : transaction.getAmount();
+        spendingRollupJdbcRepository.add(transaction.getUser().getId(), transaction.getAccount().getId(),
+                toMonth(YearMonth.from(transaction.getTransactionDate())), transaction.getCategory(), amount, sign);
+    }
+
+    /**
+     * 사용자의 한 달 지출을 카테고리별로 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<SpendingRollupRes> getMonthly(Long userId, YearMonth month) {
+        return spendingRollupRepository.findByUserIdAndRollupMonthOrderByTotalAmountDesc(userId, toMonth(month))
+                .stream()
+                .map(SpendingRollupRes::create)
+                .toList();
+    }
+
+    /**
+     * 기존 거래 전체로 집계를 다시 만듭니다.
+     * <p>진행 중인 거래 쓰기가 끝날 때까지 기다렸다가 시작하며, 끝날 때까지 새 거래 쓰기는 대기합니다.</p>
+     */
+    @Transactional
+    public int rebuild() {
+        spendingRollupFence.enterExclusive();
+        int rows = spendingRollupJdbcRepository.rebuild();
+        log.info("[ROLLUP] 지출 집계 재생성 완료: {}행", rows);
+        return rows;
+    }
+
+    private static boolean isSpending(String type, BigDecimal amount) {
+        return TransactionType.WITHDRAW.name().equals(type) && amount != null;
+    }
+
+    static int toMonth(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    private record RollupKey(long userId, long accountId, int month, String category) { }
+
+    private record Delta(BigDecimal amount, long count) {
+        Delta plus(Delta other) {
+            return new Delta(amount.add(other.amount), count + other.count);
+        }
+    }
+}
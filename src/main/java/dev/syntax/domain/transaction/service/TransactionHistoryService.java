@@ -0,0 +1,61 @@
+package dev.syntax.domain.transaction.service;
+
+import dev.syntax.domain.transaction.dto.TransactionCursor;
+import dev.syntax.domain.transaction.dto.TransactionHistoryRes;
+import dev.syntax.domain.transaction.dto.TransactionHistoryView;
+import dev.syntax.domain.transaction.repository.TransactionRepository;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 계좌 거래 내역을 키셋 커서 방식으로 조회하는 서비스입니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionHistoryService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final TransactionRepository transactionRepository;
+
+    /**
+     * @param accountId 계좌 ID
+     * @param cursor    이전 응답의 {@code nextCursor} (첫 페이지면 null)
+     * @param size      페이지 크기 (1~{@value #MAX_PAGE_SIZE})
+     */
+    @Transactional(readOnly = true)
+    public TransactionHistoryRes getHistory(Long accountId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
+        }
+        // 다음 페이지 존재 여부를 알기 위해 1건 더 읽는다.
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<TransactionHistoryView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = transactionRepository.findHistory(accountId, limit);
+        } else {
+            TransactionCursor c = TransactionCursor.decode(cursor);
+            rows = transactionRepository.findHistoryBefore(accountId, c.transactionDate(), c.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<TransactionHistoryView> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            TransactionHistoryView last = page.get(page.size() - 1);
+            nextCursor = new TransactionCursor(last.getTransactionDate(), last.getId()).encode();
+        }
+
+        return TransactionHistoryRes.builder()
+                .items(page.stream().map(TransactionHistoryRes.Item::create).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package dev.syntax.domain.user.controller;
+
+import dev.syntax.domain.user.index.RelationshipIndex;
+import dev.syntax.global.response.ApiResponseUtil;
+import dev.syntax.global.response.BaseResponse;
+import dev.syntax.global.response.SuccessCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 부모/자녀 관계 조회 API
+ *
+ * <pre>{@code
+ * GET  /users/1/children                     // 부모 1의 자녀 ID 목록
+ * GET  /users/7/parents                      // 자녀 7의 부모 ID 목록
+ * POST /internal/relationships/index/verify  // 인메모리 인덱스와 DB 대조 (내부용)
+ * }</pre>
+ */
+@RestController
+@RequiredArgsConstructor
+public class RelationshipController {
+
+    private final RelationshipIndex relationshipIndex;
+
+    @GetMapping("/users/{userId}/children")
+    public ResponseEntity<BaseResponse<?>> children(@PathVariable Long userId) {
+        return ApiResponseUtil.success(SuccessCode.OK, relationshipIndex.childrenOf(userId));
+    }
+
+    @GetMapping("/users/{userId}/parents")
+    public ResponseEntity<BaseResponse<?>> parents(@PathVariable Long userId) {
+        return ApiResponseUtil.success(SuccessCode.OK, relationshipIndex.parentsOf(userId));
+    }
+
+    @PostMapping("/internal/relationships/index/verify")
+    public ResponseEntity<BaseResponse<?>> verify() {
+        return ApiResponseUtil.success(SuccessCode.OK, relationshipIndex.verify());
+    }
+}
@@ -8,7 +8,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "core_user_relationship")
+@Table(name = "core_user_relationship", indexes = {
+        @Index(name = "idx_relationship_parent", columnList = "parent_id, child_id"),
+        @Index(name = "idx_relationship_child", columnList = "child_id, parent_id")
+})
+@EntityListeners(RelationshipChangeListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
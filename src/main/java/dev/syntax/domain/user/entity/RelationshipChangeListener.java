@@ -0,0 +1,50 @@
+package dev.syntax.domain.user.entity;
+
+import dev.syntax.domain.user.index.RelationshipIndex;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 부모/자녀 관계가 생성·삭제되면 커밋 후에 {@link RelationshipIndex}에 반영합니다.
+ * <p>롤백된 관계가 인덱스에 남지 않도록 트랜잭션 안에서는 커밋 이후로 미룹니다.</p>
+ */
+@Component
+public class RelationshipChangeListener {
+
+    private final ObjectProvider<RelationshipIndex> relationshipIndex;
+
+    public RelationshipChangeListener(ObjectProvider<RelationshipIndex> relationshipIndex) {
+        this.relationshipIndex = relationshipIndex;
+    }
+
+    @PostPersist
+    public void onCreate(CoreUserRelationship relationship) {
+        long parentId = relationship.getParent().getId();
+        long childId = relationship.getChild().getId();
+        afterCommit(() -> relationshipIndex.ifAvailable(index -> index.add(parentId, childId)));
+    }
+
+    @PostRemove
+    public void onRemove(CoreUserRelationship relationship) {
+        long parentId = relationship.getParent().getId();
+        long childId = relationship.getChild().getId();
+        afterCommit(() -> relationshipIndex.ifAvailable(index -> index.remove(parentId, childId)));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
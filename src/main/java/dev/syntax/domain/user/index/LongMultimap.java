@@ -0,0 +1,174 @@
+package dev.syntax.domain.user.index;
+
+import java.util.Arrays;
+
+/**
+ * {@code long → long[]} 다중 값 맵입니다. 키와 값을 박싱하지 않도록 배열 기반 오픈 어드레싱으로 구현했습니다.
+ *
+ * <p>키는 DB 식별자(양수)라고 가정하고 {@code 0}을 빈 슬롯 표시로 사용합니다.
+ * 동기화하지 않으므로 호출 측({@link RelationshipIndex})이 락으로 보호해야 합니다.</p>
+ */
+public class LongMultimap {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] keys;
+    private long[][] values;
+    private int[] sizes;
+    private int keyCount;
+    private long valueCount;
+
+    public LongMultimap() {
+        this(16);
+    }
+
+    public LongMultimap(int expectedKeys) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedKeys * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.values = new long[capacity][];
+        this.sizes = new int[capacity];
+    }
+
+    /**
+     * 값을 추가합니다. 이미 있으면 무시합니다.
+     *
+     * @return 새로 추가했으면 {@code true}
+     */
+    public boolean put(long key, long value) {
+        requireKey(key);
+        if ((keyCount + 1) * 2 > keys.length) {
+            resize(keys.length << 1);
+        }
+        int slot = slotOf(key);
+        if (keys[slot] == 0) {
+            keys[slot] = key;
+            values[slot] = new long[2];
+            keyCount++;
+        }
+        long[] list = values[slot];
+        int size = sizes[slot];
+        for (int i = 0; i < size; i++) {
+            if (list[i] == value) {
+                return false;
+            }
+        }
+        if (size == list.length) {
+            list = values[slot] = Arrays.copyOf(list, size * 2);
+        }
+        list[size] = value;
+        sizes[slot] = size + 1;
+        valueCount++;
+        return true;
+    }
+
+    /**
+     * 값을 제거합니다. 키 슬롯은 남겨 두고 값 개수만 줄입니다.
+     *
+     * @return 제거했으면 {@code true}
+     */
+    public boolean remove(long key, long value) {
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        long[] list = values[slot];
+        int size = sizes[slot];
+        for (int i = 0; i < size; i++) {
+            if (list[i] == value) {
+                list[i] = list[size - 1];
+                sizes[slot] = size - 1;
+                valueCount--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 키의 값 복사본 (없으면 빈 배열)
+     */
+    public long[] get(long key) {
+        int slot = find(key);
+        return slot < 0 || sizes[slot] == 0 ? EMPTY : Arrays.copyOf(values[slot], sizes[slot]);
+    }
+
+    public boolean contains(long key, long value) {
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        long[] list = values[slot];
+        for (int i = 0, size = sizes[slot]; i < size; i++) {
+            if (list[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 전체 (키, 값) 쌍 수
+     */
+    public long valueCount() {
+        return valueCount;
+    }
+
+    public void forEach(LongPairConsumer consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] == 0) {
+                continue;
+            }
+            long[] list = values[slot];
+            for (int i = 0, size = sizes[slot]; i < size; i++) {
+                consumer.accept(keys[slot], list[i]);
+            }
+        }
+    }
+
+    private int find(long key) {
+        if (key <= 0) {
+            return -1;
+        }
+        int slot = slotOf(key);
+        return keys[slot] == key ? slot : -1;
+    }
+
+    // 키가 있으면 그 슬롯, 없으면 처음 만나는 빈 슬롯 (선형 탐사)
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        long h = key * 0x9E3779B97F4A7C15L;
+        int slot = (int) (h ^ (h >>> 32)) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[][] oldValues = values;
+        int[] oldSizes = sizes;
+        keys = new long[capacity];
+        values = new long[capacity][];
+        sizes = new int[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                sizes[slot] = oldSizes[i];
+            }
+        }
+    }
+
+    private static void requireKey(long key) {
+        if (key <= 0) {
+            throw new IllegalArgumentException("key must be positive: " + key);
+        }
+    }
+
+    @FunctionalInterface
+    public interface LongPairConsumer {
+        void accept(long key, long value);
+    }
+}
@@ -0,0 +1,186 @@
+package dev.syntax.domain.user.index;
+
+import dev.syntax.domain.user.repository.CoreUserRelationshipRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@code core_user_relationship} 전체를 메모리에 올려 둔 양방향 부모/자녀 인덱스입니다.
+ *
+ * <ul>
+ *   <li>기동 완료 시 전체 관계를 한 번 읽어 부모→자녀, 자녀→부모 두 방향으로 적재</li>
+ *   <li>관계 생성/삭제는 {@link dev.syntax.domain.user.entity.RelationshipChangeListener}가 커밋 후 반영</li>
+ *   <li>주기적으로 DB와 비교해 어긋난 간선 수를 기록하고, 그 사이 변경이 없었으면 DB 기준으로 교체</li>
+ * </ul>
+ *
+ * <p>적재 전에는 DB로 바로 조회합니다. 조회 결과는 박싱 없는 {@code long[]} 복사본입니다.</p>
+ */
+@Slf4j
+@Component
+public class RelationshipIndex {
+
+    private static final String ALL_SQL = "SELECT parent_id, child_id FROM core_user_relationship";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CoreUserRelationshipRepository relationshipRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong modifications = new AtomicLong();
+
+    private LongMultimap childrenByParent = new LongMultimap();
+    private LongMultimap parentsByChild = new LongMultimap();
+    private volatile boolean loaded;
+
+    public RelationshipIndex(JdbcTemplate jdbcTemplate, CoreUserRelationshipRepository relationshipRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.relationshipRepository = relationshipRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Snapshot snapshot = readAll();
+        lock.writeLock().lock();
+        try {
+            childrenByParent = snapshot.childrenByParent();
+            parentsByChild = snapshot.parentsByChild();
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[RELATIONSHIP] 인덱스 적재 완료: {}건", snapshot.childrenByParent().valueCount());
+    }
+
+    public long[] childrenOf(long parentId) {
+        if (!loaded) {
+            return toArray(relationshipRepository.findChildIdsByParentId(parentId));
+        }
+        lock.readLock().lock();
+        try {
+            return childrenByParent.get(parentId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] parentsOf(long childId) {
+        if (!loaded) {
+            return toArray(relationshipRepository.findParentIdsByChildId(childId));
+        }
+        lock.readLock().lock();
+        try {
+            return parentsByChild.get(childId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isParentOf(long parentId, long childId) {
+        if (!loaded) {
+            return relationshipRepository.existsByParentIdAndChildId(parentId, childId);
+        }
+        lock.readLock().lock();
+        try {
+            return childrenByParent.contains(parentId, childId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(long parentId, long childId) {
+        lock.writeLock().lock();
+        try {
+            childrenByParent.put(parentId, childId);
+            parentsByChild.put(childId, parentId);
+            modifications.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long parentId, long childId) {
+        lock.writeLock().lock();
+        try {
+            childrenByParent.remove(parentId, childId);
+            parentsByChild.remove(childId, parentId);
+            modifications.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB와 인덱스를 비교합니다. 비교하는 동안 인덱스 변경이 없었을 때만 DB 기준으로 교체합니다.
+     */
+    @Scheduled(fixedDelayString = "${relationship-index.verify-interval-ms:3600000}",
+            initialDelayString = "${relationship-index.verify-interval-ms:3600000}")
+    public ConsistencyReport verify() {
+        long before = modifications.get();
+        Snapshot db = readAll();
+
+        long[] counts = new long[2];
+        lock.writeLock().lock();
+        try {
+            LongMultimap current = childrenByParent;
+            db.childrenByParent().forEach((p, c) -> {
+                if (!current.contains(p, c)) counts[0]++;
+            });
+            current.forEach((p, c) -> {
+                if (!db.childrenByParent().contains(p, c)) counts[1]++;
+            });
+            boolean drifted = counts[0] + counts[1] > 0;
+            boolean repaired = drifted && modifications.get() == before;
+            if (repaired || !loaded) {
+                childrenByParent = db.childrenByParent();
+                parentsByChild = db.parentsByChild();
+                loaded = true;
+            }
+            ConsistencyReport report = new ConsistencyReport(db.childrenByParent().valueCount(),
+                    current.valueCount(), counts[0], counts[1], repaired);
+            if (drifted) {
+                log.warn("[RELATIONSHIP] 인덱스 불일치: {}", report);
+            }
+            return report;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Snapshot readAll() {
+        LongMultimap children = new LongMultimap(1024);
+        LongMultimap parents = new LongMultimap(1024);
+        jdbcTemplate.query(ALL_SQL, rs -> {
+            long parentId = rs.getLong(1);
+            long childId = rs.getLong(2);
+            children.put(parentId, childId);
+            parents.put(childId, parentId);
+        });
+        return new Snapshot(children, parents);
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        long[] out = new long[ids.size()];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = ids.get(i);
+        }
+        return out;
+    }
+
+    private record Snapshot(LongMultimap childrenByParent, LongMultimap parentsByChild) { }
+
+    /**
+     * DB 대조 결과
+     * @param dbEdges    DB 관계 수
+     * @param indexEdges 인덱스 관계 수
+     * @param missing    DB에는 있는데 인덱스에 없는 관계 수
+     * @param extra      인덱스에는 있는데 DB에 없는 관계 수
+     * @param repaired   DB 기준으로 인덱스를 교체했는지
+     */
+    public record ConsistencyReport(long dbEdges, long indexEdges, long missing, long extra, boolean repaired) { }
+}
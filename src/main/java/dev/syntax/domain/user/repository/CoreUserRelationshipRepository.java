@@ -2,6 +2,18 @@ package dev.syntax.domain.user.repository;
 
 import dev.syntax.domain.user.entity.CoreUserRelationship;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface CoreUserRelationshipRepository extends JpaRepository<CoreUserRelationship, Long> {
+
+    @Query("select r.child.id from CoreUserRelationship r where r.parent.id = :parentId")
+    List<Long> findChildIdsByParentId(@Param("parentId") Long parentId);
+
+    @Query("select r.parent.id from CoreUserRelationship r where r.child.id = :childId")
+    List<Long> findParentIdsByChildId(@Param("childId") Long childId);
+
+    boolean existsByParentIdAndChildId(Long parentId, Long childId);
 }
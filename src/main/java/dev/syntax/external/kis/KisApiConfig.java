@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 @ConfigurationProperties(prefix = "kis")
 @Getter
@@ -14,4 +16,16 @@ public class KisApiConfig {
     private String baseUrl;
     private String appKey;
     private String appSecret;
+
+    // 토큰 만료 전 이 시간부터 백그라운드에서 미리 갱신
+    private Duration tokenRefreshAhead = Duration.ofMinutes(10);
+
+    // 시세 조회 초당 호출 허용량 (KIS 유량 제한보다 낮게)
+    private double permitsPerSecond = 15;
+
+    // 여러 묶음 시세 조회 시 동시에 진행할 최대 호출 수
+    private int multiPriceConcurrency = 4;
+
+    // 요청을 보낸 뒤 응답을 기다리는 최대 시간 (모든 KIS 호출 공통, 넘으면 연결 단에서 실패 처리)
+    private Duration responseTimeout = Duration.ofSeconds(10);
 }
\ No newline at end of file
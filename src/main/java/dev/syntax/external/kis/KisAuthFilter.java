@@ -4,7 +4,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
-import reactor.core.publisher.Mono;
 
 @Component
 @RequiredArgsConstructor
@@ -14,19 +13,15 @@ public class KisAuthFilter {
     private final KisApiConfig config;
 
     public ExchangeFilterFunction applyAuth(String trId) {
-        return ExchangeFilterFunction.ofRequestProcessor(request -> {
-
-            ClientRequest newReq = ClientRequest.from(request)
-                    .header("Content-Type", "application/json; charset=utf-8")
-                    .header("authorization", "Bearer " + tokenManager.getAccessToken())
-                    .header("appkey", config.getAppKey())
-                    .header("appsecret", config.getAppSecret())
-                    .header("tr_id", trId)
-                    .header("custtype", "P")
-                    .build();
-
-            // 🔥 WebFlux는 반드시 Mono<ClientRequest> 반환해야 함
-            return Mono.just(newReq);
-        });
+        // 토큰이 준비되면 이어서 헤더를 붙인다. 갱신 중에도 스레드를 막지 않는다.
+        return ExchangeFilterFunction.ofRequestProcessor(request -> tokenManager.accessToken()
+                .map(token -> ClientRequest.from(request)
+                        .header("Content-Type", "application/json; charset=utf-8")
+                        .header("authorization", "Bearer " + token)
+                        .header("appkey", config.getAppKey())
+                        .header("appsecret", config.getAppSecret())
+                        .header("tr_id", trId)
+                        .header("custtype", "P")
+                        .build()));
     }
 }
\ No newline at end of file
@@ -1,34 +1,90 @@
 package dev.syntax.external.kis;
 
 import dev.syntax.external.kis.dto.TokenRes;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * KIS 접근 토큰을 관리합니다.
+ *
+ * <ul>
+ *   <li>토큰은 불변 스냅샷을 volatile 필드로 들고 있어 읽기에 락이 없음</li>
+ *   <li>만료 {@code tokenRefreshAhead} 전부터는 백그라운드에서 미리 갱신 (요청은 기존 토큰으로 계속 진행)</li>
+ *   <li>갱신은 {@link Mono}로 노출되며, 동시에 여러 요청이 갱신을 원해도 KIS 호출은 하나만 나감</li>
+ * </ul>
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class KisAuthTokenManager {
 
     private final KisApiConfig config;
     private final WebClient kisClient;
 
-    private String accessToken;
-    private LocalDateTime expiresAt;
+    private volatile Token token;
+    private final AtomicReference<Mono<Token>> refreshing = new AtomicReference<>();
 
-    public synchronized String getAccessToken() {
-        if (accessToken == null || LocalDateTime.now().isAfter(expiresAt)) {
-            refreshToken();
+    public KisAuthTokenManager(KisApiConfig config, WebClient kisClient) {
+        this.config = config;
+        this.kisClient = kisClient;
+    }
+
+    /**
+     * 사용 가능한 토큰을 돌려줍니다. 유효한 토큰이 있으면 바로, 없거나 만료됐으면 갱신이 끝난 뒤 발행합니다.
+     * <p>스레드를 막지 않으므로 리액터 스레드에서 호출해도 됩니다.</p>
+     */
+    public Mono<String> accessToken() {
+        Token current = token;
+        Instant now = Instant.now();
+        if (current != null && now.isBefore(current.expiresAt())) {
+            if (current.needsRefresh(now, config)) {
+                refresh().subscribe(t -> { }, e -> log.warn("[KIS] 토큰 사전 갱신 실패: {}", e.toString()));
+            }
+            return Mono.just(current.value());
+        }
+        return refresh().map(Token::value);
+    }
+
+    /**
+     * 토큰을 갱신합니다. 진행 중인 갱신이 있으면 그 결과를 함께 기다립니다.
+     */
+    public Mono<Token> refresh() {
+        while (true) {
+            Mono<Token> existing = refreshing.get();
+            if (existing != null) {
+                return existing;
+            }
+            AtomicReference<Mono<Token>> self = new AtomicReference<>();
+            Mono<Token> created = requestToken()
+                    .doOnNext(t -> token = t)
+                    .doFinally(signal -> refreshing.compareAndSet(self.get(), null))
+                    .cache();
+            self.set(created);
+            if (refreshing.compareAndSet(null, created)) {
+                return created;
+            }
         }
-        return accessToken;
     }
 
-    private void refreshToken() {
-        TokenRes response = kisClient.post()
+    /**
+     * 만료가 가까운 토큰을 백그라운드에서 미리 갱신합니다. 아직 한 번도 발급받지 않았으면 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${kis.token-check-interval-ms:30000}")
+    public void refreshIfExpiring() {
+        Token current = token;
+        if (current != null && current.needsRefresh(Instant.now(), config)) {
+            refresh().subscribe(t -> { }, e -> log.warn("[KIS] 토큰 사전 갱신 실패: {}", e.toString()));
+        }
+    }
+
+    private Mono<Token> requestToken() {
+        return kisClient.post()
                 .uri("/oauth2/tokenP")
                 .header("Content-Type", "application/json; charset=utf-8")
                 .bodyValue(Map.of(
@@ -38,11 +94,18 @@ public class KisAuthTokenManager {
                 ))
                 .retrieve()
                 .bodyToMono(TokenRes.class)
-                .block();
-
-        this.accessToken = response.getAccessToken();
-        this.expiresAt = LocalDateTime.now().plusSeconds(response.getExpiresIn());
+                .map(response -> {
+                    log.info("[KIS] Access Token refreshed. New expiry: " + response.getAccessTokenExpiredAt());
+                    return new Token(response.getAccessToken(), Instant.now().plusSeconds(response.getExpiresIn()));
+                });
+    }
 
-        log.info("[KIS] Access Token refreshed. New expiry: " + response.getAccessTokenExpiredAt());
+    /**
+     * 토큰 스냅샷
+     */
+    public record Token(String value, Instant expiresAt) {
+        boolean needsRefresh(Instant now, KisApiConfig config) {
+            return !now.isBefore(expiresAt.minus(config.getTokenRefreshAhead()));
+        }
     }
-}
\ No newline at end of file
+}
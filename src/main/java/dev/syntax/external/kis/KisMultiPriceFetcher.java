@@ -0,0 +1,96 @@
+package dev.syntax.external.kis;
+
+import dev.syntax.external.kis.dto.MultiPriceBatchRes;
+import dev.syntax.external.kis.dto.MultiPriceBatchRes.ChunkStat;
+import dev.syntax.external.kis.dto.MultiPriceRes;
+import dev.syntax.external.kis.dto.PriceItem;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 종목 수 제한 없이 시세를 조회합니다.
+ *
+ * <ol>
+ *   <li>중복을 뺀 종목을 {@value KisStockApiClient#MAX_CODES_PER_CALL}개씩 묶음</li>
+ *   <li>묶음들을 최대 {@code kis.multi-price-concurrency}개씩 동시에 호출 (호출마다 {@link KisRateLimiter} 허용량 필요)</li>
+ *   <li>성공한 묶음의 결과를 요청 순서대로 하나의 {@link MultiPriceRes}로 합침</li>
+ * </ol>
+ *
+ * <p>실패한 묶음은 건너뛰고 {@link ChunkStat#error()}에 사유를 남깁니다.
+ * 묶음별 호출 시간(허용량 대기 포함)은 {@code kis.multiprice.chunk} 타이머로도 기록됩니다.</p>
+ */
+@Slf4j
+@Component
+public class KisMultiPriceFetcher {
+
+    private final KisStockApiClient client;
+    private final KisApiConfig config;
+    private final Timer okTimer;
+    private final Timer errorTimer;
+
+    public KisMultiPriceFetcher(KisStockApiClient client, KisApiConfig config, MeterRegistry registry) {
+        this.client = client;
+        this.config = config;
+        this.okTimer = registry.timer("kis.multiprice.chunk", "result", "success");
+        this.errorTimer = registry.timer("kis.multiprice.chunk", "result", "error");
+    }
+
+    public Mono<MultiPriceBatchRes> fetchAll(Collection<String> codes) {
+        List<List<String>> chunks = chunk(new ArrayList<>(new LinkedHashSet<>(codes)));
+
+        return Flux.range(0, chunks.size())
+                .flatMapSequential(i -> fetchChunk(i, chunks.get(i)), Math.max(1, config.getMultiPriceConcurrency()))
+                .collectList()
+                .map(results -> {
+                    List<PriceItem> merged = new ArrayList<>();
+                    List<ChunkStat> stats = new ArrayList<>(results.size());
+                    for (ChunkResult r : results) {
+                        merged.addAll(r.items());
+                        stats.add(r.stat());
+                    }
+                    MultiPriceRes prices = new MultiPriceRes();
+                    prices.setOutput(merged);
+                    return MultiPriceBatchRes.builder().prices(prices).chunks(stats).build();
+                });
+    }
+
+    private Mono<ChunkResult> fetchChunk(int index, List<String> codes) {
+        long[] start = new long[1];
+        return client.fetchMultiPrice(codes)
+                .doOnSubscribe(s -> start[0] = System.nanoTime())
+                .map(res -> {
+                    long elapsed = System.nanoTime() - start[0];
+                    okTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                    List<PriceItem> items = res.getOutput() == null ? List.of() : res.getOutput();
+                    return new ChunkResult(items,
+                            new ChunkStat(index, codes.size(), items.size(), TimeUnit.NANOSECONDS.toMillis(elapsed), null));
+                })
+                .onErrorResume(e -> {
+                    long elapsed = System.nanoTime() - start[0];
+                    errorTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                    log.warn("[KIS] 시세 묶음 {} 조회 실패: {}", index, e.toString());
+                    return Mono.just(new ChunkResult(List.of(),
+                            new ChunkStat(index, codes.size(), 0, TimeUnit.NANOSECONDS.toMillis(elapsed), e.getMessage())));
+                });
+    }
+
+    private static List<List<String>> chunk(List<String> codes) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < codes.size(); from += KisStockApiClient.MAX_CODES_PER_CALL) {
+            chunks.add(codes.subList(from, Math.min(from + KisStockApiClient.MAX_CODES_PER_CALL, codes.size())));
+        }
+        return chunks;
+    }
+
+    private record ChunkResult(List<PriceItem> items, ChunkStat stat) { }
+}
@@ -0,0 +1,61 @@
+package dev.syntax.external.kis;
+
+import dev.syntax.external.kis.dto.OrderCashRes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class KisOrderApiClient {
+
+    private final WebClient kisClient;
+    private final KisAuthFilter auth;
+    private final KisRateLimiter rateLimiter;
+
+    private static final String URL = "/uapi/domestic-stock/v1/trading/order-cash";
+    private static final String ACCOUNT_PRODUCT_CODE = "01";
+    private static final String LIMIT_ORDER = "00";
+
+    /**
+     * 현금 지정가 주문을 보냅니다.
+     * <p>KIS가 거절한 주문(오류 응답 본문 포함)은 예외가 아니라 {@link OrderCashRes#isSuccess()}가 false 인 응답으로 돌려줍니다.</p>
+     * <p>{@code timeout}은 호출 허용량을 받은 뒤부터 잽니다. 허용량을 기다리는 동안은 아직 보내지 않은 주문이므로
+     * 시간 초과로 끝나면 안 됩니다.</p>
+     *
+     * @param trId    매수/매도 거래 ID
+     * @param timeout 요청을 보낸 뒤 응답을 기다리는 최대 시간, 넘기면 {@link java.util.concurrent.TimeoutException}
+     */
+    public Mono<OrderCashRes> orderCash(String trId, String cano, String productCode, long quantity, long price,
+                                        Duration timeout) {
+        WebClient client = kisClient
+                .mutate()
+                .filter(auth.applyAuth(trId))
+                .build();
+
+        Map<String, String> body = new LinkedHashMap<>();
+        body.put("CANO", cano);
+        body.put("ACNT_PRDT_CD", ACCOUNT_PRODUCT_CODE);
+        body.put("PDNO", productCode);
+        body.put("ORD_DVSN", LIMIT_ORDER);
+        body.put("ORD_QTY", Long.toString(quantity));
+        body.put("ORD_UNPR", Long.toString(price));
+
+        return rateLimiter.acquire().then(client.post()
+                .uri(URL)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(OrderCashRes.class)
+                .timeout(timeout)
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    OrderCashRes rejected = e.getResponseBodyAs(OrderCashRes.class);
+                    return rejected == null ? Mono.error(e) : Mono.just(rejected);
+                }));
+    }
+}
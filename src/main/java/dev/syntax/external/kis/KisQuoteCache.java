@@ -0,0 +1,208 @@
+package dev.syntax.external.kis;
+
+import dev.syntax.external.kis.dto.MultiPriceRes;
+import dev.syntax.external.kis.dto.PriceItem;
+import dev.syntax.external.kis.dto.Quote;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link KisStockApiClient} 앞단의 종목별 시세 캐시입니다.
+ *
+ * <ul>
+ *   <li>{@link KisStockApiClient#fetchQuotes}로 응답을 바로 {@link Quote}로 읽어 종목 코드별로 TTL 동안 보관</li>
+ *   <li>동시에 같은 종목을 못 찾은 요청들은 하나의 KIS 호출 결과를 함께 기다림 (single-flight)</li>
+ *   <li>KIS 호출이 실패하거나 {@code timeout} 안에 끝나지 않으면 {@code maxStale} 이내의 이전 시세로 응답</li>
+ *   <li>새로 받아 온 시세는 등록된 {@link KisQuoteListener}에 통지</li>
+ * </ul>
+ *
+ * <p>지표: {@code kis.quote.cache{result=hit|miss|coalesced}}, {@code kis.quote.cache.stale},
+ * {@code kis.quote.cache.age}(응답한 시세의 나이, ms).</p>
+ */
+@Slf4j
+@Component
+public class KisQuoteCache {
+
+    private final KisStockApiClient client;
+    private final KisQuoteCacheProperties properties;
+    private final ObjectProvider<KisQuoteListener> listeners;
+
+    private final Map<String, CachedQuote> quotes = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Quote>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+    private final Counter staleCounter;
+    private final DistributionSummary ageSummary;
+
+    public KisQuoteCache(KisStockApiClient client, KisQuoteCacheProperties properties,
+                         ObjectProvider<KisQuoteListener> listeners, MeterRegistry registry) {
+        this.client = client;
+        this.properties = properties;
+        this.listeners = listeners;
+        this.hitCounter = registry.counter("kis.quote.cache", "result", "hit");
+        this.missCounter = registry.counter("kis.quote.cache", "result", "miss");
+        this.coalescedCounter = registry.counter("kis.quote.cache", "result", "coalesced");
+        this.staleCounter = registry.counter("kis.quote.cache.stale");
+        this.ageSummary = DistributionSummary.builder("kis.quote.cache.age").baseUnit("milliseconds").register(registry);
+    }
+
+    /**
+     * 기본 종목({@link KisStockApiClient#DEFAULT_CODES})의 시세를 캐시를 거쳐 조회합니다.
+     */
+    public MultiPriceRes getMultiPrice() {
+        return getMultiPrice(KisStockApiClient.DEFAULT_CODES);
+    }
+
+    /**
+     * 종목 시세를 캐시를 거쳐 동기로 조회합니다. 요청 순서대로, KIS가 돌려준 종목만 담습니다.
+     * <p>응답 형식은 KIS {@code intstock-multprice}와 같습니다. ({@link PriceItem#of})</p>
+     */
+    public MultiPriceRes getMultiPrice(List<String> codes) {
+        try {
+            Map<String, Quote> quotes = getQuotes(codes)
+                    .get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            List<PriceItem> items = new ArrayList<>(quotes.size());
+            quotes.values().forEach(quote -> items.add(PriceItem.of(quote)));
+            MultiPriceRes res = new MultiPriceRes();
+            res.setOutput(items);
+            return res;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorBaseCode.GATEWAY_TIMEOUT);
+        } catch (TimeoutException e) {
+            throw new BusinessException(ErrorBaseCode.GATEWAY_TIMEOUT);
+        } catch (ExecutionException e) {
+            log.warn("[KIS] 시세 조회 실패: {}", e.getCause().toString());
+            throw new BusinessException(ErrorBaseCode.BAD_GATEWAY);
+        }
+    }
+
+    /**
+     * 종목 시세를 비동기로 조회합니다.
+     *
+     * @return 종목 코드 → 시세 (요청 순서 유지, KIS 응답에 없는 종목은 제외)
+     */
+    public CompletableFuture<Map<String, Quote>> getQuotes(List<String> codes) {
+        long now = System.nanoTime();
+        long ttl = properties.getTtl().toNanos();
+
+        Map<String, Quote> fresh = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Quote>> pending = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Quote>> claimed = new LinkedHashMap<>();
+
+        for (String code : new LinkedHashSet<>(codes)) {
+            CachedQuote cached = quotes.get(code);
+            if (cached != null && now - cached.fetchedAtNanos() < ttl) {
+                hitCounter.increment();
+                ageSummary.record(TimeUnit.NANOSECONDS.toMillis(now - cached.fetchedAtNanos()));
+                fresh.put(code, cached.quote());
+                continue;
+            }
+            missCounter.increment();
+            CompletableFuture<Quote> mine = new CompletableFuture<>();
+            CompletableFuture<Quote> existing = inFlight.putIfAbsent(code, mine);
+            if (existing == null) {
+                claimed.put(code, mine);
+                pending.put(code, mine);
+            } else {
+                coalescedCounter.increment();
+                pending.put(code, existing);
+            }
+        }
+
+        fetch(claimed);
+
+        if (pending.isEmpty()) {
+            return CompletableFuture.completedFuture(fresh);
+        }
+        return CompletableFuture.allOf(pending.values().toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    Map<String, Quote> merged = new LinkedHashMap<>();
+                    for (String code : new LinkedHashSet<>(codes)) {
+                        Quote quote = fresh.containsKey(code) ? fresh.get(code) : pending.get(code).join();
+                        if (quote != null) {
+                            merged.put(code, quote);
+                        }
+                    }
+                    return merged;
+                });
+    }
+
+    // 이 요청이 선점한 종목만 30개 단위로 KIS를 호출하고, 기다리던 모든 요청에 결과를 나눠준다.
+    private void fetch(Map<String, CompletableFuture<Quote>> claimed) {
+        List<String> codes = new ArrayList<>(claimed.keySet());
+        for (int from = 0; from < codes.size(); from += KisStockApiClient.MAX_CODES_PER_CALL) {
+            List<String> chunk = codes.subList(from, Math.min(from + KisStockApiClient.MAX_CODES_PER_CALL, codes.size()));
+            // 응답이 오지 않아도 future 가 끝나야 inFlight 가 비워지고 이전 시세로 응답할 수 있다.
+            client.fetchQuotes(chunk).timeout(properties.getTimeout()).toFuture().whenComplete((res, error) -> {
+                Map<String, Quote> byCode = new LinkedHashMap<>();
+                if (res != null) {
+                    res.forEach(quote -> byCode.put(quote.stockCode(), quote));
+                    notifyListeners(res);
+                }
+                long fetchedAt = System.nanoTime();
+                for (String code : chunk) {
+                    CompletableFuture<Quote> future = claimed.get(code);
+                    if (error == null) {
+                        Quote quote = byCode.get(code);
+                        if (quote != null) {
+                            quotes.put(code, new CachedQuote(quote, fetchedAt));
+                        }
+                        inFlight.remove(code, future);
+                        future.complete(quote);
+                    } else {
+                        inFlight.remove(code, future);
+                        completeWithStale(code, future, error, fetchedAt);
+                    }
+                }
+            });
+        }
+    }
+
+    // 리스너 하나가 실패해도 캐시 갱신과 다른 리스너는 계속된다.
+    private void notifyListeners(List<Quote> fetched) {
+        if (fetched.isEmpty()) {
+            return;
+        }
+        long fetchedAt = System.currentTimeMillis();
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onQuotes(fetched, fetchedAt);
+            } catch (RuntimeException e) {
+                log.warn("[KIS] 시세 리스너 실패: {}", e.toString());
+            }
+        });
+    }
+
+    private void completeWithStale(String code, CompletableFuture<Quote> future, Throwable error, long now) {
+        CachedQuote stale = quotes.get(code);
+        if (stale != null && now - stale.fetchedAtNanos() < properties.getMaxStale().toNanos()) {
+            staleCounter.increment();
+            ageSummary.record(TimeUnit.NANOSECONDS.toMillis(now - stale.fetchedAtNanos()));
+            future.complete(stale.quote());
+        } else {
+            future.completeExceptionally(error);
+        }
+    }
+
+    private record CachedQuote(Quote quote, long fetchedAtNanos) { }
+}
@@ -0,0 +1,35 @@
+package dev.syntax.external.kis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 시세 캐시 설정값입니다.
+ *
+ * <pre>{@code
+ * kis:
+ *   quote-cache:
+ *     ttl: 1s
+ *     max-stale: 30s
+ *     timeout: 3s
+ * }</pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "kis.quote-cache")
+@Getter
+@Setter
+public class KisQuoteCacheProperties {
+
+    // 이 시간 안에 받은 시세는 KIS를 다시 호출하지 않고 응답
+    private Duration ttl = Duration.ofSeconds(1);
+
+    // KIS 호출이 실패했을 때 이 시간까지는 만료된 시세라도 응답
+    private Duration maxStale = Duration.ofSeconds(30);
+
+    // 동기 조회(getMultiPrice) 최대 대기 시간이자 KIS 호출 1회의 제한 시간 (넘으면 이전 시세로 응답)
+    private Duration timeout = Duration.ofSeconds(3);
+}
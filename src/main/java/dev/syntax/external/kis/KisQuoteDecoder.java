@@ -0,0 +1,265 @@
+package dev.syntax.external.kis;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import dev.syntax.external.kis.dto.MultiPriceRes;
+import dev.syntax.external.kis.dto.Quote;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code intstock-multprice} 응답을 {@link MultiPriceRes}/{@code PriceItem}을 거치지 않고 바로 {@link Quote}로 읽는 스트리밍 디코더입니다.
+ *
+ * <ul>
+ *   <li>Jackson {@link JsonParser}로 토큰을 한 번만 훑고, {@code output} 외의 필드는 건너뜀</li>
+ *   <li>숫자 문자열은 파서의 문자 버퍼에서 바로 {@code long}/고정소수점으로 변환 → 중간 {@code String} 없음</li>
+ *   <li>종목코드/종목명은 문자 버퍼 내용으로 찾는 intern 표에서 꺼내 같은 종목이면 같은 인스턴스를 재사용</li>
+ * </ul>
+ *
+ * <p>스레드 안전합니다. intern 표는 읽기에 락을 잡지 않고, 처음 보는 문자열을 넣을 때만 잠급니다.</p>
+ */
+public class KisQuoteDecoder {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private static final String OUTPUT = "output";
+    private static final String STOCK_CODE = "inter_shrn_iscd";
+    private static final String STOCK_NAME = "inter_kor_isnm";
+    private static final String CURRENT_PRICE = "inter2_prpr";
+    private static final String PREVIOUS_DAY_DIFF = "inter2_prdy_vrss";
+    private static final String PREVIOUS_DAY_RATE = "prdy_ctrt";
+    private static final String ACCUMULATED_VOLUME = "acml_vol";
+
+    // 고정소수점 전일 대비율의 소수 자릿수 (Quote.RATE_SCALE = 10^2)
+    private static final int RATE_FRACTION_DIGITS = 2;
+
+    private final Interner codes = new Interner(8_192);
+    private final Interner names = new Interner(8_192);
+
+    public List<Quote> decode(byte[] body) throws IOException {
+        try (JsonParser parser = JSON.createParser(body)) {
+            return decode(parser);
+        }
+    }
+
+    public List<Quote> decode(InputStream body) throws IOException {
+        try (JsonParser parser = JSON.createParser(body)) {
+            return decode(parser);
+        }
+    }
+
+    private List<Quote> decode(JsonParser p) throws IOException {
+        if (p.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("intstock-multprice 응답이 JSON 객체가 아닙니다");
+        }
+        List<Quote> quotes = List.of();
+        String field;
+        while ((field = p.nextFieldName()) != null) {
+            JsonToken token = p.nextToken();
+            if (OUTPUT.equals(field) && token == JsonToken.START_ARRAY) {
+                quotes = readOutput(p);
+            } else {
+                p.skipChildren();
+            }
+        }
+        return quotes;
+    }
+
+    private List<Quote> readOutput(JsonParser p) throws IOException {
+        List<Quote> quotes = new ArrayList<>(KisStockApiClient.MAX_CODES_PER_CALL);
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                quotes.add(readItem(p));
+            } else {
+                p.skipChildren();
+            }
+        }
+        return quotes;
+    }
+
+    // 필드 이름은 Jackson 이 intern 해 두므로 switch 비교에 새 문자열이 생기지 않는다.
+    private Quote readItem(JsonParser p) throws IOException {
+        String code = null;
+        String name = null;
+        long price = 0;
+        long diff = 0;
+        int rate = 0;
+        long volume = 0;
+        String field;
+        while ((field = p.nextFieldName()) != null) {
+            JsonToken token = p.nextToken();
+            if (!token.isScalarValue() || token == JsonToken.VALUE_NULL) {
+                p.skipChildren();
+                continue;
+            }
+            char[] chars = p.getTextCharacters();
+            int offset = p.getTextOffset();
+            int length = p.getTextLength();
+            switch (field) {
+                case STOCK_CODE -> code = codes.intern(chars, offset, length);
+                case STOCK_NAME -> name = names.intern(chars, offset, length);
+                case CURRENT_PRICE -> price = parseLong(chars, offset, length);
+                case PREVIOUS_DAY_DIFF -> diff = parseLong(chars, offset, length);
+                case PREVIOUS_DAY_RATE -> rate = (int) parseFixed(chars, offset, length, RATE_FRACTION_DIGITS);
+                case ACCUMULATED_VOLUME -> volume = parseLong(chars, offset, length);
+                default -> { }
+            }
+        }
+        return new Quote(code, name, price, diff, rate, volume);
+    }
+
+    /**
+     * 부호 있는 정수. 비어 있거나 숫자가 아닌 문자가 섞이면 0.
+     */
+    static long parseLong(char[] chars, int offset, int length) {
+        return parseFixed(chars, offset, length, 0);
+    }
+
+    /**
+     * 소수를 {@code 10^fractionDigits} 배 한 정수로 읽습니다. 넘치는 소수 자리는 버립니다. (-1.237, 2 → -123)
+     * 비어 있거나 숫자가 아닌 문자가 섞이면 0.
+     */
+    static long parseFixed(char[] chars, int offset, int length, int fractionDigits) {
+        int i = offset;
+        int end = offset + length;
+        while (i < end && chars[i] == ' ') {
+            i++;
+        }
+        while (end > i && chars[end - 1] == ' ') {
+            end--;
+        }
+        boolean negative = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+        if (i == end) {
+            return 0;
+        }
+        long value = 0;
+        int fraction = -1; // 소수점 뒤 읽은 자릿수, 소수점 전이면 -1
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (c == '.' && fraction < 0) {
+                fraction = 0;
+            } else if (c >= '0' && c <= '9') {
+                if (fraction < 0) {
+                    value = value * 10 + (c - '0');
+                } else if (fraction < fractionDigits) {
+                    value = value * 10 + (c - '0');
+                    fraction++;
+                }
+            } else {
+                return 0;
+            }
+        }
+        for (int f = Math.max(fraction, 0); f < fractionDigits; f++) {
+            value *= 10;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * 문자 배열 구간의 내용으로 찾는 문자열 intern 표 (open addressing).
+     * <p>읽기는 락 없이 현재 배열을 훑고, 없을 때만 잠그고 넣습니다. {@code String}은 불변이라 배열 원소로 바로 공개해도 안전합니다.
+     * {@code maxSize}를 넘으면 더 넣지 않고 새 문자열을 돌려줍니다.</p>
+     */
+    static final class Interner {
+
+        private final int maxSize;
+        private volatile String[] table = new String[256];
+        private int size;
+
+        Interner(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        String intern(char[] chars, int offset, int length) {
+            int hash = hash(chars, offset, length);
+            String found = find(table, chars, offset, length, hash);
+            if (found != null) {
+                return found;
+            }
+            synchronized (this) {
+                String[] current = table;
+                found = find(current, chars, offset, length, hash);
+                if (found != null) {
+                    return found;
+                }
+                String created = new String(chars, offset, length);
+                if (size >= maxSize) {
+                    return created;
+                }
+                if ((size + 1) * 2 > current.length) {
+                    current = rehash(current, current.length * 2);
+                }
+                insert(current, created, hash);
+                size++;
+                table = current;
+                return created;
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        private static String find(String[] t, char[] chars, int offset, int length, int hash) {
+            int mask = t.length - 1;
+            for (int i = hash & mask; ; i = (i + 1) & mask) {
+                String s = t[i];
+                if (s == null) {
+                    return null;
+                }
+                if (s.hashCode() == hash && equals(s, chars, offset, length)) {
+                    return s;
+                }
+            }
+        }
+
+        private static void insert(String[] t, String s, int hash) {
+            int mask = t.length - 1;
+            int i = hash & mask;
+            while (t[i] != null) {
+                i = (i + 1) & mask;
+            }
+            t[i] = s;
+        }
+
+        private static String[] rehash(String[] old, int capacity) {
+            String[] grown = new String[capacity];
+            for (String s : old) {
+                if (s != null) {
+                    insert(grown, s, s.hashCode());
+                }
+            }
+            return grown;
+        }
+
+        // String.hashCode() 와 같은 식이라 저장된 문자열의 캐시된 해시와 바로 비교할 수 있다.
+        private static int hash(char[] chars, int offset, int length) {
+            int h = 0;
+            for (int i = offset; i < offset + length; i++) {
+                h = 31 * h + chars[i];
+            }
+            return h;
+        }
+
+        private static boolean equals(String s, char[] chars, int offset, int length) {
+            if (s.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (s.charAt(i) != chars[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package dev.syntax.external.kis;
+
+import dev.syntax.external.kis.dto.Quote;
+
+import java.util.List;
+
+/**
+ * {@link KisQuoteCache}가 KIS에서 새로 받아 온 시세를 통지받습니다.
+ * <p>캐시 적중분은 통지되지 않으므로 한 번 받아 온 시세는 한 번만 전달됩니다.
+ * 응답을 받은 I/O 스레드에서 호출되므로 오래 막히는 작업을 하면 안 됩니다.</p>
+ */
+@FunctionalInterface
+public interface KisQuoteListener {
+
+    /**
+     * @param quotes          응답에 담긴 시세
+     * @param fetchedAtMillis 응답을 받은 시각 (epoch ms)
+     */
+    void onQuotes(List<Quote> quotes, long fetchedAtMillis);
+}
@@ -0,0 +1,52 @@
+package dev.syntax.external.kis;
+
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * KIS 호출 간격을 일정하게 맞추는 초당 허용량 제한기입니다.
+ *
+ * <p>다음 호출 가능 시각 하나만 원자적으로 밀어 올리는 방식이라 락이 없고,
+ * 대기가 필요하면 스레드를 재우지 않고 {@link Mono#delay}로 미룹니다.</p>
+ */
+@Component
+public class KisRateLimiter {
+
+    private final long intervalNanos;
+    private final AtomicLong nextFreeNanos = new AtomicLong(System.nanoTime());
+
+    public KisRateLimiter(KisApiConfig config) {
+        this(config.getPermitsPerSecond());
+    }
+
+    KisRateLimiter(double permitsPerSecond) {
+        this.intervalNanos = (long) (1_000_000_000L / Math.max(0.001, permitsPerSecond));
+    }
+
+    /**
+     * 구독 시점에 허용량 1개를 예약합니다. 바로 쓸 수 있으면 즉시, 아니면 예약된 시각에 완료됩니다.
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long wait = reserve(System.nanoTime());
+            return wait <= 0 ? Mono.<Void>empty() : Mono.delay(Duration.ofNanos(wait)).then();
+        });
+    }
+
+    /**
+     * @return 예약한 시각까지 남은 시간(ns). 0 이하면 바로 사용 가능
+     */
+    long reserve(long now) {
+        while (true) {
+            long next = nextFreeNanos.get();
+            // 한동안 호출이 없었으면 밀린 허용량을 몰아 쓰지 않도록 지금 시각부터 다시 센다.
+            long slot = Math.max(next, now);
+            if (nextFreeNanos.compareAndSet(next, slot + intervalNanos)) {
+                return slot - now;
+            }
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package dev.syntax.external.kis;
 
 import dev.syntax.external.kis.dto.MultiPriceRes;
+import dev.syntax.external.kis.dto.Quote;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @Component
@@ -13,11 +20,16 @@ public class KisStockApiClient {
 
     private final WebClient kisClient;
     private final KisAuthFilter auth;
+    private final KisRateLimiter rateLimiter;
+    private final KisQuoteDecoder quoteDecoder = new KisQuoteDecoder();
 
     private static final String URL = "/uapi/domestic-stock/v1/quotations/intstock-multprice";
     private static final String TR_ID = "FHKST11300006";
 
-    private static final List<String> DEFAULT_CODES = List.of(
+    // intstock-multprice 1회 호출로 조회할 수 있는 최대 종목 수
+    public static final int MAX_CODES_PER_CALL = 30;
+
+    public static final List<String> DEFAULT_CODES = List.of(
             "005930", // 삼성전자
             "000660", // SK하이닉스
             "373220", // LG에너지솔루션
@@ -51,7 +63,39 @@ public class KisStockApiClient {
     );
 
     public MultiPriceRes getMultiPrice() {
+        return fetchMultiPrice(DEFAULT_CODES).block();
+    }
+
+    /**
+     * 최대 {@link #MAX_CODES_PER_CALL}개 종목의 현재가를 한 번에 조회합니다.
+     * <p>모든 호출은 {@link KisRateLimiter}의 허용량을 받은 뒤에 나갑니다.</p>
+     */
+    public Mono<MultiPriceRes> fetchMultiPrice(List<String> codes) {
+        if (codes.size() > MAX_CODES_PER_CALL) {
+            return Mono.error(new IllegalArgumentException("too many codes: " + codes.size()));
+        }
+        return rateLimiter.acquire().then(request(codes).bodyToMono(MultiPriceRes.class));
+    }
+
+    /**
+     * {@link #fetchMultiPrice}와 같은 조회를 하되, 응답을 {@link KisQuoteDecoder}로 바로 {@link Quote}로 읽습니다.
+     * <p>숫자 필드를 다시 파싱할 필요가 없고 종목코드/종목명 문자열을 재사용합니다.</p>
+     */
+    public Mono<List<Quote>> fetchQuotes(List<String> codes) {
+        if (codes.size() > MAX_CODES_PER_CALL) {
+            return Mono.error(new IllegalArgumentException("too many codes: " + codes.size()));
+        }
+        return rateLimiter.acquire().then(DataBufferUtils.join(request(codes).bodyToFlux(DataBuffer.class))
+                .map(buffer -> {
+                    try (InputStream body = buffer.asInputStream(true)) {
+                        return quoteDecoder.decode(body);
+                    } catch (IOException e) {
+                        throw new DecodingException("intstock-multprice 응답 디코딩 실패", e);
+                    }
+                }));
+    }
 
+    private WebClient.ResponseSpec request(List<String> codes) {
         WebClient client = kisClient
                 .mutate()
                 .filter(auth.applyAuth(TR_ID))
@@ -60,16 +104,14 @@ public class KisStockApiClient {
         return client.get()
                 .uri(uriBuilder -> {
                     uriBuilder.path(URL);
-                    for (int i = 0; i < DEFAULT_CODES.size(); i++) {
+                    for (int i = 0; i < codes.size(); i++) {
                         int n = i + 1;
-                        uriBuilder.queryParam("FID_INPUT_ISCD_" + n, DEFAULT_CODES.get(i));
+                        uriBuilder.queryParam("FID_INPUT_ISCD_" + n, codes.get(i));
                         uriBuilder.queryParam("FID_COND_MRKT_DIV_CODE_" + n, "J");
                     }
                     return uriBuilder.build();
                 })
-                .retrieve()
-                .bodyToMono(MultiPriceRes.class)
-                .block();
+                .retrieve();
     }
 
 }
\ No newline at end of file
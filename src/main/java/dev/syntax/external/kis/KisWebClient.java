@@ -3,7 +3,9 @@ package dev.syntax.external.kis;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
 
 @Configuration
 @RequiredArgsConstructor
@@ -11,10 +13,16 @@ public class KisWebClient {
 
     private final KisApiConfig config;
 
+    /**
+     * KIS 호출용 WebClient. 응답이 오지 않는 호출이 연결과 대기 중인 요청을 붙잡지 않도록 응답 제한 시간을 둡니다.
+     */
     @Bean
     public WebClient kisClient() {
+        HttpClient httpClient = HttpClient.create()
+                .responseTimeout(config.getResponseTimeout());
         return WebClient.builder()
                 .baseUrl(config.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package dev.syntax.external.kis.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 여러 묶음으로 나눠 조회한 시세 결과
+ * @param prices 합쳐진 시세 (요청 순서)
+ * @param chunks 묶음별 호출 결과
+ */
+@Builder
+public record MultiPriceBatchRes(
+        MultiPriceRes prices,
+        List<ChunkStat> chunks
+) {
+    /**
+     * 묶음 1개의 호출 결과
+     * @param index     묶음 순번 (0부터)
+     * @param codes     요청 종목 수
+     * @param received  응답 종목 수
+     * @param latencyMs 허용량 대기를 포함한 호출 시간 (ms)
+     * @param error     실패 사유 (성공이면 null)
+     */
+    public record ChunkStat(int index, int codes, int received, long latencyMs, String error) { }
+}
@@ -0,0 +1,37 @@
+package dev.syntax.external.kis.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+@Data
+public class OrderCashRes {
+
+    @JsonProperty("rt_cd")
+    private String resultCode;  // 0: 성공
+
+    @JsonProperty("msg_cd")
+    private String messageCode;
+
+    @JsonProperty("msg1")
+    private String message;
+
+    @JsonProperty("output")
+    private Output output;
+
+    public boolean isSuccess() {
+        return "0".equals(resultCode);
+    }
+
+    @Data
+    public static class Output {
+
+        @JsonProperty("KRX_FWDG_ORD_ORGNO")
+        private String orgNo;       // 주문 조직번호
+
+        @JsonProperty("ODNO")
+        private String orderNo;     // 주문번호
+
+        @JsonProperty("ORD_TMD")
+        private String orderTime;   // 주문시각 HHmmss
+    }
+}
@@ -3,6 +3,8 @@ package dev.syntax.external.kis.dto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
+import java.math.BigDecimal;
+
 @Data
 public class PriceItem {
 
@@ -23,4 +25,18 @@ public class PriceItem {
 
     @JsonProperty("acml_vol")
     private String accumulatedVolume; // 누적 거래량
+
+    /**
+     * 응답 DTO({@code MultiPriceRes}, 시세 스트림)용으로 {@link Quote}를 KIS 응답과 같은 문자열 형식으로 되돌립니다.
+     */
+    public static PriceItem of(Quote quote) {
+        PriceItem item = new PriceItem();
+        item.setStockCode(quote.stockCode());
+        item.setStockName(quote.stockName());
+        item.setCurrentPrice(Long.toString(quote.price()));
+        item.setPreviousDayDiff(Long.toString(quote.previousDayDiff()));
+        item.setPreviousDayRate(BigDecimal.valueOf(quote.previousDayRate(), 2).toPlainString());
+        item.setAccumulatedVolume(Long.toString(quote.volume()));
+        return item;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package dev.syntax.external.kis.dto;
+
+/**
+ * 숫자 필드를 원시 타입으로 풀어 둔 현재가 1건
+ * <p>{@link PriceItem}과 같은 값을 담지만 소비하는 쪽에서 문자열을 다시 파싱할 필요가 없습니다.
+ * 비어 있거나 숫자가 아닌 값은 0 입니다.</p>
+ *
+ * @param stockCode       종목코드
+ * @param stockName       종목명
+ * @param price           현재가
+ * @param previousDayDiff 전일 대비 금액
+ * @param previousDayRate 전일 대비율, {@link #RATE_SCALE} 배 한 고정소수점 (-1.23% → -123)
+ * @param volume          누적 거래량
+ */
+public record Quote(
+        String stockCode,
+        String stockName,
+        long price,
+        long previousDayDiff,
+        int previousDayRate,
+        long volume
+) {
+
+    /**
+     * 전일 대비율의 고정소수점 배율 (소수점 둘째 자리)
+     */
+    public static final int RATE_SCALE = 100;
+}
@@ -0,0 +1,51 @@
+package dev.syntax.external.kis.fake;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 로컬 KIS 대역 서버({@link FakeKisServer}) 설정값입니다. {@code loadtest} 프로필에서만 서버가 뜹니다.
+ *
+ * <pre>{@code
+ * kis:
+ *   fake:
+ *     port: 18080
+ *     latency: 30ms
+ *     latency-jitter: 20ms
+ *     error-rate: 0.0
+ *     token-ttl: 24h
+ *     permits-per-second: 0
+ *     worker-threads: 4
+ * }</pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "kis.fake")
+@Getter
+@Setter
+public class FakeKisProperties {
+
+    // 대역 서버 포트 (0이면 빈 포트를 아무거나 사용)
+    private int port = 18080;
+
+    // 모든 응답에 더하는 기본 지연
+    private Duration latency = Duration.ofMillis(30);
+
+    // 기본 지연에 0 ~ 이 값 사이의 무작위 지연을 더함
+    private Duration latencyJitter = Duration.ofMillis(20);
+
+    // 토큰 발급을 제외한 호출 중 장애 응답(500)을 돌려줄 비율 (0.0 ~ 1.0)
+    private double errorRate = 0.0;
+
+    // 발급하는 접근 토큰의 유효 시간
+    private Duration tokenTtl = Duration.ofHours(24);
+
+    // 초당 허용 호출 수, 넘으면 KIS처럼 EGW00201로 거절 (0이면 제한 없음)
+    private int permitsPerSecond = 0;
+
+    // 요청 처리/지연 응답에 쓰는 스레드 수 (지연 중에는 스레드를 잡지 않음)
+    private int workerThreads = 4;
+}
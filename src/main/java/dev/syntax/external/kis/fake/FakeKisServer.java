@@ -0,0 +1,341 @@
+package dev.syntax.external.kis.fake;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.syntax.domain.investment.enums.TradeType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실제 KIS 대신 띄우는 로컬 대역 서버입니다. 유량 제한을 쓰지 않고 처리량/장애 시나리오를 돌려보기 위한 용도입니다.
+ *
+ * <pre>{@code
+ * POST /oauth2/tokenP                                            // 접근 토큰 발급 (token-ttl 뒤 만료)
+ * GET  /uapi/domestic-stock/v1/quotations/intstock-multprice     // 관심종목 시세 (최대 30종목, 호출마다 가격이 조금씩 움직임)
+ * *    /uapi/domestic-stock/v1/trading/**                        // 주문/조회, tr_id 헤더({@link TradeType})로 응답 결정
+ * }</pre>
+ *
+ * <ul>
+ *   <li>응답은 {@code latency + [0, latencyJitter)} 뒤에 나감. 지연 중에는 스레드를 잡지 않음</li>
+ *   <li>토큰 발급을 제외한 호출은 {@code errorRate} 확률로 500 응답</li>
+ *   <li>없는 토큰/만료된 토큰은 KIS와 같은 {@code EGW00123}, 초당 호출 초과는 {@code EGW00201}</li>
+ * </ul>
+ *
+ * <p>Spring 없이도 만들 수 있어 테스트/벤치마크에서 직접 띄워 쓸 수 있습니다.</p>
+ */
+@Slf4j
+public class FakeKisServer implements AutoCloseable {
+
+    static final String TOKEN_PATH = "/oauth2/tokenP";
+    static final String MULTI_PRICE_PATH = "/uapi/domestic-stock/v1/quotations/intstock-multprice";
+    static final String TRADING_PATH = "/uapi/domestic-stock/v1/trading/";
+
+    private static final DateTimeFormatter EXPIRED_AT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter ORDER_TIME = DateTimeFormatter.ofPattern("HHmmss");
+
+    private final FakeKisProperties properties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 토큰 → 만료 시각(ms)
+    private final Map<String, Long> tokens = new ConcurrentHashMap<>();
+    // 종목코드 → 현재가
+    private final Map<String, AtomicLong> prices = new ConcurrentHashMap<>();
+    private final AtomicLong orderSeq = new AtomicLong();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder tokensIssued = new LongAdder();
+
+    private long windowSecond;
+    private int windowCount;
+
+    private HttpServer server;
+    private ScheduledExecutorService scheduler;
+
+    public FakeKisServer(FakeKisProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 서버를 띄웁니다.
+     *
+     * @return 실제로 열린 포트 ({@code port=0}이면 임의 포트)
+     */
+    public synchronized int start() throws IOException {
+        scheduler = Executors.newScheduledThreadPool(Math.max(1, properties.getWorkerThreads()));
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", properties.getPort()), 0);
+        server.setExecutor(scheduler);
+        server.createContext(TOKEN_PATH, exchange -> handle(exchange, this::issueToken, false));
+        server.createContext(MULTI_PRICE_PATH, exchange -> handle(exchange, this::multiPrice, true));
+        server.createContext(TRADING_PATH, exchange -> handle(exchange, this::trading, true));
+        server.start();
+        log.info("[FAKE-KIS] 대역 서버 시작: port={}, latency={}, errorRate={}, tokenTtl={}",
+                port(), properties.getLatency(), properties.getErrorRate(), properties.getTokenTtl());
+        return port();
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + port();
+    }
+
+    /**
+     * 발급된 토큰을 모두 즉시 만료시킵니다. 토큰 만료 중 재발급 시나리오를 만들 때 사용합니다.
+     */
+    public void expireTokens() {
+        tokens.replaceAll((token, expiresAt) -> 0L);
+    }
+
+    public long requestCount() {
+        return requests.sum();
+    }
+
+    public long injectedErrorCount() {
+        return injectedErrors.sum();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    public long tokensIssued() {
+        return tokensIssued.sum();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            scheduler.shutdownNow();
+            server = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange, Handler handler, boolean authenticated) {
+        requests.increment();
+        Reply reply;
+        try {
+            exchange.getRequestBody().readAllBytes();
+            reply = authenticated ? guard(exchange) : null;
+            if (reply == null) {
+                reply = handler.handle(exchange);
+            }
+        } catch (IOException | RuntimeException e) {
+            reply = Reply.error(500, "EGW00500", "대역 서버 처리 실패: " + e.getMessage());
+        }
+        Reply response = reply;
+        scheduler.schedule(() -> send(exchange, response), delayNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    // 인증/유량/장애 주입 순으로 걸러낸다. 통과하면 null
+    private Reply guard(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("authorization");
+        String token = authorization == null ? null : authorization.replaceFirst("(?i)^Bearer ", "");
+        Long expiresAt = token == null ? null : tokens.get(token);
+        if (expiresAt == null || expiresAt <= System.currentTimeMillis()) {
+            rejected.increment();
+            return Reply.error(500, "EGW00123", "기간이 만료된 token 입니다.");
+        }
+        if (!tryAcquire()) {
+            rejected.increment();
+            return Reply.error(500, "EGW00201", "초당 거래건수를 초과하였습니다.");
+        }
+        if (ThreadLocalRandom.current().nextDouble() < properties.getErrorRate()) {
+            injectedErrors.increment();
+            return Reply.error(500, "EGW00500", "대역 서버 장애 주입");
+        }
+        return null;
+    }
+
+    // 1초 고정 창으로 센다. 실제 KIS보다 단순하지만 제한기 동작을 확인하기에는 충분하다.
+    private synchronized boolean tryAcquire() {
+        int limit = properties.getPermitsPerSecond();
+        if (limit <= 0) {
+            return true;
+        }
+        long second = System.nanoTime() / 1_000_000_000L;
+        if (second != windowSecond) {
+            windowSecond = second;
+            windowCount = 0;
+        }
+        return ++windowCount <= limit;
+    }
+
+    private Reply issueToken(HttpExchange exchange) {
+        if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+            return Reply.error(405, "EGW00002", "허용되지 않는 메서드입니다.");
+        }
+        long ttlSeconds = Math.max(1, properties.getTokenTtl().toSeconds());
+        String token = "fake-" + UUID.randomUUID();
+        tokens.put(token, System.currentTimeMillis() + ttlSeconds * 1000);
+        tokensIssued.increment();
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("access_token", token);
+        body.put("token_type", "Bearer");
+        body.put("expires_in", ttlSeconds);
+        body.put("access_token_token_expired", LocalDateTime.now().plusSeconds(ttlSeconds).format(EXPIRED_AT));
+        return Reply.ok(body);
+    }
+
+    private Reply multiPrice(HttpExchange exchange) {
+        Map<String, String> query = query(exchange.getRequestURI());
+        List<Map<String, Object>> output = new ArrayList<>();
+        for (int n = 1; n <= 30; n++) {
+            String code = query.get("FID_INPUT_ISCD_" + n);
+            if (code == null) {
+                break;
+            }
+            output.add(priceItem(code));
+        }
+        if (output.isEmpty()) {
+            return Reply.error(500, "OPSQ2001", "종목코드를 입력해 주세요.");
+        }
+        return Reply.ok(success("정상처리 되었습니다.", output));
+    }
+
+    private Map<String, Object> priceItem(String code) {
+        long base = basePrice(code);
+        long price = prices.computeIfAbsent(code, c -> new AtomicLong(base))
+                .updateAndGet(p -> Math.max(10, p + 10L * ThreadLocalRandom.current().nextInt(-2, 3)));
+        long diff = price - base;
+
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("inter_shrn_iscd", code);
+        item.put("inter_kor_isnm", "모의종목" + code);
+        item.put("inter2_prpr", Long.toString(price));
+        item.put("inter2_prdy_vrss", Long.toString(diff));
+        item.put("prdy_ctrt", String.format("%.2f", diff * 100.0 / base));
+        item.put("acml_vol", Long.toString(ThreadLocalRandom.current().nextLong(1_000, 5_000_000)));
+        return item;
+    }
+
+    // 종목코드마다 항상 같은 전일 종가(1,000 ~ 500,000원, 10원 단위)
+    private static long basePrice(String code) {
+        return 1_000 + Math.floorMod((long) code.hashCode() * 2_654_435_761L, 49_900L) * 10;
+    }
+
+    private Reply trading(HttpExchange exchange) {
+        String trId = exchange.getRequestHeaders().getFirst("tr_id");
+        TradeType type;
+        try {
+            type = TradeType.valueOf(String.valueOf(trId));
+        } catch (IllegalArgumentException e) {
+            return Reply.error(500, "OPSQ0002", "없는 서비스 코드 입니다: " + trId);
+        }
+
+        return switch (type) {
+            case TTTTC0012U, TTTCO011U -> Reply.ok(success("주문 전송 완료 되었습니다.", order()));
+            case FHKST010100 -> Reply.ok(success("정정취소 주문 전송 완료 되었습니다.", order()));
+            case TTC8348R -> {
+                Map<String, Object> body = success("조회가 완료되었습니다.", List.of());
+                body.remove("output");
+                body.put("output1", List.of());
+                body.put("output2", List.of(Map.of(
+                        "dnca_tot_amt", "10000000",
+                        "tot_evlu_amt", "10000000")));
+                yield Reply.ok(body);
+            }
+            case TTTCO898R -> Reply.ok(success("조회가 완료되었습니다.", Map.of(
+                    "ord_psbl_cash", "10000000",
+                    "max_buy_qty", "100")));
+            case TTTCO8408R -> Reply.ok(success("조회가 완료되었습니다.", Map.of("ord_psbl_qty", "0")));
+        };
+    }
+
+    private Map<String, Object> order() {
+        Map<String, Object> output = new LinkedHashMap<>();
+        output.put("KRX_FWDG_ORD_ORGNO", "06010");
+        output.put("ODNO", String.format("%010d", orderSeq.incrementAndGet()));
+        output.put("ORD_TMD", LocalTime.now().format(ORDER_TIME));
+        return output;
+    }
+
+    private static Map<String, Object> success(String message, Object output) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("rt_cd", "0");
+        body.put("msg_cd", "MCA00000");
+        body.put("msg1", message);
+        body.put("output", output);
+        return body;
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> params = new HashMap<>();
+        String raw = uri.getRawQuery();
+        if (raw == null) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private long delayNanos() {
+        long latency = properties.getLatency().toNanos();
+        long jitter = properties.getLatencyJitter().toNanos();
+        return latency + (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter) : 0);
+    }
+
+    private void send(HttpExchange exchange, Reply reply) {
+        try (exchange) {
+            byte[] body = objectMapper.writeValueAsBytes(reply.body());
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(reply.status(), body.length);
+            exchange.getResponseBody().write(body);
+        } catch (IOException e) {
+            // 클라이언트가 먼저 끊은 경우
+            log.debug("[FAKE-KIS] 응답 전송 실패: {}", e.toString());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Reply handle(HttpExchange exchange) throws IOException;
+    }
+
+    private record Reply(int status, Object body) {
+        static Reply ok(Object body) {
+            return new Reply(200, body);
+        }
+
+        static Reply error(int status, String code, String message) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("rt_cd", "1");
+            body.put("msg_cd", code);
+            body.put("msg1", message);
+            return new Reply(status, body);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package dev.syntax.external.kis.fake;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.io.IOException;
+
+/**
+ * {@code loadtest} 프로필에서 {@link FakeKisServer}를 함께 띄웁니다.
+ * <p>{@code application-loadtest.yml}이 {@code kis.base-url}을 이 서버로 돌려두므로
+ * 실제 KIS를 호출하지 않고 처리량/장애 시나리오를 돌려볼 수 있습니다.</p>
+ */
+@Configuration
+@Profile("loadtest")
+public class FakeKisServerConfig {
+
+    @Bean(destroyMethod = "close")
+    public FakeKisServer fakeKisServer(FakeKisProperties properties) throws IOException {
+        FakeKisServer server = new FakeKisServer(properties);
+        server.start();
+        return server;
+    }
+}
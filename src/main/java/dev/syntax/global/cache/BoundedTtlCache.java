@@ -0,0 +1,126 @@
+package dev.syntax.global.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 크기(LRU)와 TTL로 항목을 밀어내는 단순 메모리 캐시입니다.
+ *
+ * <p>{@link #getOrLoad}는 로딩 도중 같은 키에 {@link #invalidate}가 일어나면 읽어온 값을 캐시에 넣지 않습니다.
+ * DB에서 읽는 사이에 변경·무효화가 끼어들어 이전 값이 다시 캐시되는 것을 막기 위함입니다.</p>
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class BoundedTtlCache<K, V> {
+
+    private final Map<K, Entry<V>> entries;
+    private final long ttlNanos;
+    // 로딩 중인 키 → 로딩 토큰. 무효화되면 토큰이 사라져 로딩 결과를 버린다.
+    private final Map<K, Object> loading = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedTtlCache(int maxSize, Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return 캐시된 값, 없거나 만료됐으면 {@code null}
+     */
+    public V get(K key) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (now - entry.expiresAtNanos() < 0) {
+                    hits.increment();
+                    return entry.value();
+                }
+                entries.remove(key);
+                evictions.increment();
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 캐시에 없으면 {@code loader}로 읽어와 넣습니다. 로더는 락 밖에서 실행됩니다.
+     */
+    public V getOrLoad(K key, Function<K, V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Object token = new Object();
+        loading.put(key, token);
+        V loaded;
+        try {
+            loaded = loader.apply(key);
+        } catch (RuntimeException e) {
+            loading.remove(key, token);
+            throw e;
+        }
+        synchronized (entries) {
+            if (loading.remove(key, token) && loaded != null) {
+                entries.put(key, new Entry<>(loaded, System.nanoTime() + ttlNanos));
+            }
+        }
+        return loaded;
+    }
+
+    public void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            loading.remove(key);
+            entries.remove(key);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public double hitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) { }
+}
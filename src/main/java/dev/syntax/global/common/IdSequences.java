@@ -0,0 +1,47 @@
+package dev.syntax.global.common;
+
+/**
+ * 원장 계열 엔티티가 공유하는 ID 시퀀스 테이블 설정입니다.
+ *
+ * <p>{@code IDENTITY} 전략은 INSERT마다 DB 왕복이 필요하고 Hibernate의 INSERT 배치를 막기 때문에,
+ * {@code Account}, {@code Transaction}, {@code AutoTransfer}, {@code TradeOrder}, {@code Portfolio}는
+ * 시퀀스 테이블 기반 pooled(hi/lo 계열) 할당을 사용합니다. 한 번 왕복할 때마다
+ * {@link #ALLOCATION_SIZE}개의 ID 구간을 받아 메모리에서 나눠 씁니다.
+ * 테이블 기반이므로 MySQL과 H2(test 프로필) 양쪽에서 동일하게 동작합니다.</p>
+ *
+ * <h3>기존 데이터가 있는 DB로 전환할 때</h3>
+ * <p>pooled 최적화기는 처음 읽은 값 V를 구간의 <b>끝</b>으로 보고 {@code V-ALLOCATION_SIZE+1 .. V}를 나눠 줍니다.
+ * 그래서 시드는 {@code MAX(id) + 1}이 아니라 {@code MAX(id) + ALLOCATION_SIZE}여야 첫 구간이 {@code MAX(id)+1}부터 시작합니다.
+ * ({@code MAX(id) + 1}로 넣으면 이미 있는 ID를 다시 나눠 줘 중복 키 오류가 납니다.)
+ * {@link #seedSql}이 이 규칙대로 문장을 만듭니다.</p>
+ * <pre>{@code
+ * CREATE TABLE core_id_sequence (
+ *     seq_name VARCHAR(64) NOT NULL PRIMARY KEY,
+ *     next_val BIGINT
+ * );
+ * INSERT INTO core_id_sequence SELECT 'core_account', COALESCE(MAX(account_id), 0) + 100 FROM core_account;
+ * INSERT INTO core_id_sequence SELECT 'core_transaction', COALESCE(MAX(transaction_id), 0) + 100 FROM core_transaction;
+ * -- core_auto_transfer, core_trade_orders, core_portfolio 도 동일 (+ ALLOCATION_SIZE)
+ * }</pre>
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "core_id_sequence";
+    public static final String PK_COLUMN = "seq_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 100;
+
+    private IdSequences() { }
+
+    /**
+     * 기존 행이 있는 테이블의 시퀀스 시드 문장. 첫 구간이 {@code MAX(id) + 1}부터 시작합니다.
+     *
+     * @param seqName  {@code @TableGenerator}의 {@code pkColumnValue} (예: {@code core_account})
+     * @param table    엔티티 테이블
+     * @param idColumn ID 컬럼
+     */
+    public static String seedSql(String seqName, String table, String idColumn) {
+        return "INSERT INTO " + TABLE + " (" + PK_COLUMN + ", " + VALUE_COLUMN + ") SELECT '" + seqName
+                + "', COALESCE(MAX(" + idColumn + "), 0) + " + ALLOCATION_SIZE + " FROM " + table;
+    }
+}
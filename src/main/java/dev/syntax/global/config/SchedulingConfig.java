@@ -0,0 +1,15 @@
+package dev.syntax.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} 작업을 켭니다.
+ *
+ * <p>스케줄러 풀 크기는 {@code spring.task.scheduling.pool.size}로 정합니다. 기본값 1이면 한 작업이 끝날 때까지
+ * 다른 작업이 모두 밀리므로, 자동이체처럼 오래 걸리는 작업이 1초 주기 작업을 막지 않게 여러 스레드를 둡니다.
+ * (가상 스레드 모드에서는 작업마다 가상 스레드를 쓰므로 풀 크기를 쓰지 않습니다.)</p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig { }
@@ -1,12 +1,22 @@
 package dev.syntax.global.config;
 
+import dev.syntax.global.metrics.RouteTagInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+    private final RouteTagInterceptor routeTagInterceptor;
+
+    public WebConfig(RouteTagInterceptor routeTagInterceptor) { this.routeTagInterceptor = routeTagInterceptor; }
+
     @Override public void addCorsMappings(CorsRegistry r) {
         r.addMapping("/**").allowedMethods("GET","POST","PUT","DELETE").allowedOrigins("http://localhost:3000");
     }
-}
\ No newline at end of file
+
+    @Override public void addInterceptors(InterceptorRegistry r) {
+        r.addInterceptor(routeTagInterceptor);
+    }
+}
@@ -4,8 +4,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import dev.syntax.global.response.ApiResponseUtil;
-import dev.syntax.global.response.BaseResponse;
+import dev.syntax.global.response.ErrorResponseBodies;
 import dev.syntax.global.response.error.ErrorBaseCode;
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,8 +18,9 @@ import lombok.extern.slf4j.Slf4j;
  * - AccessDeniedException: 인가 실패(권한 부족) 예외
  * - Exception: 위에 포함되지 않는 모든 예외(서버 오류)
  *
- * 모든 예외는 ApiResponseUtil을 통해 BaseResponse 형태로 변환되며,
+ * 모든 예외는 BaseResponse 형태(ApiResponseUtil.failure와 같은 JSON)로 변환되며,
  * HTTP 상태 코드와 메시지는 ErrorCode 계열(enum)에서 정의한 값으로 매핑됩니다.
+ * 바디는 오류 코드마다 고정이므로 ErrorResponseBodies에 미리 직렬화해 둔 바이트를 그대로 씁니다.
  * </p>
  * SuppressWarnings("java:S1452") : DTO 타입이 다양한 API 응답은 ResponseEntity<?> 혹은 ApiResponse<?> 사용을 허용한다
  */
@@ -29,14 +29,20 @@ import lombok.extern.slf4j.Slf4j;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+	private final ErrorResponseBodies errorResponseBodies;
+
+	public GlobalExceptionHandler(ErrorResponseBodies errorResponseBodies) {
+		this.errorResponseBodies = errorResponseBodies;
+	}
+
 	/**
 	 * CustomBaseException 처리.
 	 * 컨트롤러 또는 요청 처리 과정에서 발생한 커스텀 예외를 변환합니다.
 	 */
 	@ExceptionHandler(CustomBaseException.class)
-	public ResponseEntity<BaseResponse<?>> handleCustomException(CustomBaseException e) {
+	public ResponseEntity<byte[]> handleCustomException(CustomBaseException e) {
 		log.error("CustomException: {}", e.getMessage());
-		return ApiResponseUtil.failure(e.getErrorCode());
+		return errorResponseBodies.response(e.getErrorCode());
 	}
 
 	/**
@@ -44,9 +50,9 @@ public class GlobalExceptionHandler {
 	 * 서비스·도메인 계층의 비즈니스 규칙 위반 예외를 처리합니다.
 	 */
 	@ExceptionHandler(BusinessException.class)
-	public ResponseEntity<BaseResponse<?>> handleBusinessException(BusinessException e) {
+	public ResponseEntity<byte[]> handleBusinessException(BusinessException e) {
 		log.error("BusinessException: {}, {}", e.getErrorCode(), e.getMessage());
-		return ApiResponseUtil.failure(e.getErrorCode());
+		return errorResponseBodies.response(e.getErrorCode());
 	}
 
 	/**
@@ -56,8 +62,8 @@ public class GlobalExceptionHandler {
 	 * </p>
 	 */
 	@ExceptionHandler(Exception.class)
-	public ResponseEntity<BaseResponse<?>> handleException(Exception e) {
+	public ResponseEntity<byte[]> handleException(Exception e) {
 		log.error("Exception: {}", e.getMessage(), e);
-		return ApiResponseUtil.failure(ErrorBaseCode.INTERNAL_SERVER_ERROR);
+		return errorResponseBodies.response(ErrorBaseCode.INTERNAL_SERVER_ERROR);
 	}
 }
@@ -1,20 +1,31 @@
 package dev.syntax.global.filter;
 
+import dev.syntax.global.metrics.RouteMetrics;
+import dev.syntax.global.metrics.StripedCounter;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 
@@ -31,31 +42,39 @@ import java.util.concurrent.atomic.AtomicInteger;
  * </ul>
  *
  * <p>일반 요청은 체인 진행 전 {@link #inFlight}를 증가시키고,
- * 처리 완료 후(정상/예외 무관) 반드시 감소시키도록 {@code try/finally}로 보호합니다.</p>
+ * 처리 완료 후(정상/예외 무관) 반드시 감소시키도록 {@code try/finally}로 보호합니다.
+ * 비동기로 넘어간 요청(SSE 등)은 체인이 먼저 돌아오므로 {@link AsyncListener}로 응답이 끝날 때 감소시킵니다.
+ * 요청을 처리하는 스레드가 플랫폼/가상 스레드 어느 쪽이든 계수는 같습니다.</p>
+ *
+ * <p>카운터는 모든 요청이 거치므로 {@link StripedCounter}로 나눠 코어 간 경합을 피하고,
+ * 같은 시점에 {@link RouteMetrics}에 라우트별 지연 시간/진행 중 건수를 기록합니다.</p>
  *
  * @since 1.0
  */
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class DrainFilter implements Filter {
-    private final AtomicInteger inFlight;
+    private final StripedCounter inFlight;
+    private final RouteMetrics routeMetrics;
 
-    public DrainFilter(AtomicInteger inFlight) { this.inFlight = inFlight; }
+    public DrainFilter(StripedCounter inFlight, RouteMetrics routeMetrics) {
+        this.inFlight = inFlight; this.routeMetrics = routeMetrics;
+    }
 
     /**
      * 전역 in-flight 카운터 빈을 등록합니다.
-     * <p>정수 0으로 시작하며, 여러 컴포넌트에서 주입 받아 공유합니다.</p>
+     * <p>0으로 시작하며, 여러 컴포넌트에서 주입 받아 공유합니다.</p>
      *
-     * @return 공유 {@link AtomicInteger} 카운터
+     * @return 공유 {@link StripedCounter} 카운터
      */
     @Bean
-    static AtomicInteger inFlightCounter() { return new AtomicInteger(0); }
+    static StripedCounter inFlightCounter() { return new StripedCounter(); }
 
     /**
      * 요청 경로에 따라 계수 여부를 결정하고 체인을 진행합니다.
      * <ul>
-     *   <li>{@code /actuator}, {@code /internal}로 시작하면 계수하지 않고 통과</li>
-     *   <li>그 외 경로는 in-flight를 증가 → 체인 진행 → 반드시 감소</li>
+     *   <li>{@code /actuator}, {@code /internal}로 시작하거나 최초 요청 디스패치가 아니면 계수하지 않고 통과</li>
+     *   <li>그 외 경로는 in-flight를 증가 → 체인 진행 → 반드시 감소 (비동기 요청은 완료 시 감소)</li>
      * </ul>
      *
      * @param req   현재 요청
@@ -69,16 +88,56 @@ public class DrainFilter implements Filter {
             throws IOException, ServletException {
 
         String uri = (req instanceof HttpServletRequest r) ? r.getRequestURI() : "";
-        if (uri.startsWith("/actuator") || uri.startsWith("/internal")) {
+        if (req.getDispatcherType() != DispatcherType.REQUEST
+                || uri.startsWith("/actuator") || uri.startsWith("/internal")) {
             chain.doFilter(req, res);
             return;
         }
 
-        inFlight.incrementAndGet();
+        inFlight.increment();
+        routeMetrics.start(req);
+        boolean async = false;
         try {
             chain.doFilter(req, res);
+            if (req.isAsyncStarted()) {
+                req.getAsyncContext().addListener(new CompletionListener(() -> finish(req)));
+                async = true;
+            }
         } finally {
-            inFlight.decrementAndGet();
+            if (!async) {
+                finish(req);
+            }
+        }
+    }
+
+    private void finish(ServletRequest req) {
+        routeMetrics.finish(req);
+        inFlight.decrement();
+    }
+
+    /**
+     * 비동기 요청이 끝나면(완료/오류/타임아웃 중 처음 한 번) in-flight를 감소시킵니다.
+     */
+    private static final class CompletionListener implements AsyncListener {
+        private final Runnable finish;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private CompletionListener(Runnable finish) { this.finish = finish; }
+
+        @Override public void onComplete(AsyncEvent event) { release(); }
+        @Override public void onError(AsyncEvent event) { release(); }
+        @Override public void onTimeout(AsyncEvent event) { release(); }
+
+        // 같은 요청에서 비동기를 다시 시작하면 새 AsyncContext 에 다시 등록해야 통지를 받는다.
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (done.compareAndSet(false, true)) {
+                finish.run();
+            }
         }
     }
 }
@@ -86,30 +145,90 @@ public class DrainFilter implements Filter {
 /**
  * 비동기 실행 풀 설정.
  *
- * <p>{@link EnableAsync}와 함께 {@link ThreadPoolTaskExecutor}를 구성하여
- * 애플리케이션 내부의 비동기 작업(예: @Async 메서드)의 동시성 상태를 관찰할 수 있게 합니다.</p>
+ * <p>{@link EnableAsync}와 함께 {@code appExecutor}를 구성하고 {@code @Async} 기본 실행기로 지정합니다.
+ * 실행 스레드 모델은 {@code spring.threads.virtual.enabled}를 따릅니다.</p>
+ * <ul>
+ *   <li>플랫폼(기본): {@link ThreadPoolTaskExecutor} 8/16/200</li>
+ *   <li>가상 스레드(Java 21 이상 + {@code spring.threads.virtual.enabled=true}): 작업마다 가상 스레드를 만드는
+ *       {@link SimpleAsyncTaskExecutor}. 같은 설정으로 Tomcat 요청 스레드도 가상 스레드가 됩니다.</li>
+ * </ul>
+ * <p>두 모드 모두 {@link AsyncTaskCounter}를 {@link TaskDecorator}로 걸어 {@link DrainEndpoint}에 실행 중인 작업 수를 알립니다.
+ * (가상 스레드 실행기는 풀이 없어 {@code getActiveCount()}를 쓸 수 없습니다.)</p>
  *
  * @since 1.0
  */
 @Configuration @EnableAsync
-class AsyncConf {
+class AsyncConf implements AsyncConfigurer {
+    private final AsyncTaskCounter asyncTaskCounter = new AsyncTaskCounter();
+    private final BeanFactory beanFactory;
+
+    AsyncConf(BeanFactory beanFactory) { this.beanFactory = beanFactory; }
+
+    @Bean
+    AsyncTaskCounter asyncTaskCounter() { return asyncTaskCounter; }
+
     @Bean("appExecutor")
-    ThreadPoolTaskExecutor appExecutor(){
+    @ConditionalOnThreading(Threading.PLATFORM)
+    AsyncTaskExecutor appExecutor(){
         var ex = new ThreadPoolTaskExecutor();
         ex.setCorePoolSize(8); ex.setMaxPoolSize(16); ex.setQueueCapacity(200);
+        ex.setTaskDecorator(asyncTaskCounter);
         ex.setThreadNamePrefix("app-"); ex.initialize(); return ex;
     }
+
+    @Bean("appExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    AsyncTaskExecutor virtualAppExecutor(){
+        var ex = new SimpleAsyncTaskExecutor("app-vt-");
+        ex.setVirtualThreads(true);
+        ex.setTaskDecorator(asyncTaskCounter);
+        // 종료 시 실행 중인 작업을 기다린다. (풀 실행기의 graceful shutdown 에 해당)
+        ex.setTaskTerminationTimeout(30_000);
+        return ex;
+    }
+
+    // 스케줄러(TaskScheduler)도 TaskExecutor 라서 지정하지 않으면 @Async 가 appExecutor 를 찾지 못한다.
+    // @Async 처리기가 처음 쓸 때 호출되므로 어느 모드의 빈이든 이미 등록돼 있다.
+    @Override
+    public Executor getAsyncExecutor() {
+        return beanFactory.getBean("appExecutor", Executor.class);
+    }
+}
+
+/**
+ * {@code appExecutor}에서 실행 중인 작업 수. 작업 시작 시 증가, 끝나면(정상/예외 무관) 감소합니다.
+ *
+ * @since 1.0
+ */
+class AsyncTaskCounter implements TaskDecorator {
+    private final AtomicInteger active = new AtomicInteger();
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        return () -> {
+            active.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        };
+    }
+
+    int get() { return active.get(); }
 }
 
 /**
- * <b>DrainEndpoint</b> — 현재 HTTP in-flight 수와 비동기 실행기의 활성 스레드 수를 노출하는
- * 커스텀 액추에이터 엔드포인트.
+ * <b>DrainEndpoint</b> — 현재 HTTP in-flight 수와 비동기 실행기의 활성 스레드 수,
+ * 라우트별 지연 시간을 노출하는 커스텀 액추에이터 엔드포인트.
  *
  * <p>{@code /actuator/drain}에서 조회 가능하며 다음 정보를 반환합니다.</p>
  * <ul>
  *   <li>{@code httpInFlight}: 처리 중인 HTTP 요청 수</li>
- *   <li>{@code asyncActive}: 활성 비동기 작업(스레드) 수</li>
- *   <li>{@code drained}: 두 값이 모두 0이면 {@code true}</li>
+ *   <li>{@code asyncActive}: {@code appExecutor}에서 실행 중인 작업 수 (플랫폼/가상 스레드 공통)</li>
+ *   <li>{@code virtualThreads}: 가상 스레드 모드 여부</li>
+ *   <li>{@code drained}: 두 값이 모두 0이면 {@code true} (HTTP 쪽은 {@link StripedCounter#isZero()}로 정확히 판정)</li>
+ *   <li>{@code routes}: 라우트별 {@code inFlight}, 최근 1~2분 {@code count}, {@code p50Ms}/{@code p99Ms}/{@code p999Ms}</li>
  * </ul>
  *
  * @since 1.0
@@ -117,15 +236,19 @@ class AsyncConf {
 @Component
 @Endpoint(id = "drain")
 class DrainEndpoint {
-    private final AtomicInteger inFlight;
-    private final ThreadPoolTaskExecutor ex; // @Async 안 쓰면 주입 제거
-    DrainEndpoint(AtomicInteger inFlight, @Qualifier("appExecutor") ThreadPoolTaskExecutor ex){
-        this.inFlight = inFlight; this.ex = ex;
+    private final StripedCounter inFlight;
+    private final AsyncTaskCounter asyncTasks;
+    private final RouteMetrics routeMetrics;
+    private final boolean virtualThreads;
+    DrainEndpoint(StripedCounter inFlight, AsyncTaskCounter asyncTasks, RouteMetrics routeMetrics, Environment env){
+        this.inFlight = inFlight; this.asyncTasks = asyncTasks; this.routeMetrics = routeMetrics;
+        this.virtualThreads = Threading.VIRTUAL.isActive(env);
     }
     @ReadOperation
     public Map<String,Object> status(){
-        int http = inFlight.get();
-        int async = ex.getActiveCount();
-        return Map.of("httpInFlight", http, "asyncActive", async, "drained", http==0 && async==0);
+        int async = asyncTasks.get();
+        boolean httpDrained = inFlight.isZero();
+        return Map.of("httpInFlight", inFlight.sum(), "asyncActive", async, "virtualThreads", virtualThreads,
+                "drained", httpDrained && async==0, "routes", routeMetrics.snapshot());
     }
 }
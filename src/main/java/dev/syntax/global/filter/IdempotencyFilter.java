@@ -0,0 +1,237 @@
+package dev.syntax.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.syntax.global.idempotency.IdempotencyProperties;
+import dev.syntax.global.idempotency.IdempotencyStore;
+import dev.syntax.global.idempotency.StoredResponse;
+import dev.syntax.global.response.BaseErrorResponse;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 멱등 키({@code Idempotency-Key} 헤더)가 있는 변경 요청(POST/PUT/PATCH/DELETE)을 한 번만 처리하는 서블릿 필터.
+ *
+ * <p>클라이언트가 타임아웃 후 같은 키로 재시도하면 서비스 계층을 다시 타지 않고
+ * 처음 저장한 {@code BaseResponse}를 그대로 돌려줍니다 ({@code Idempotent-Replayed: true}).</p>
+ *
+ * <ul>
+ *   <li>같은 키가 아직 처리 중이면 409</li>
+ *   <li>같은 키로 다른 경로/본문을 보내면 400</li>
+ *   <li>5xx 응답은 저장하지 않고 키를 풀어서 재시도를 허용</li>
+ *   <li>{@code /actuator}, {@code /internal} 경로와 헤더가 없는 요청은 그대로 통과</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyFilter(IdempotencyStore store, IdempotencyProperties properties, ObjectMapper objectMapper) {
+        this.store = store;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest req) {
+        String uri = req.getRequestURI();
+        return !MUTATING_METHODS.contains(req.getMethod())
+                || req.getHeader(properties.getHeader()) == null
+                || uri.startsWith("/actuator") || uri.startsWith("/internal");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        String key = req.getHeader(properties.getHeader()).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(res, ErrorBaseCode.BAD_REQUEST);
+            return;
+        }
+
+        byte[] body = req.getInputStream().readAllBytes();
+        String method = req.getMethod();
+        String path = req.getRequestURI();
+        String hash = hash(method, path, req.getQueryString(), body);
+
+        Optional<StoredResponse> stored = store.find(key);
+        if (stored.isPresent()) {
+            replayOrReject(res, stored.get(), method, path, hash);
+            return;
+        }
+        if (!store.claim(key, method, path, hash)) {
+            // 동시에 같은 키로 들어온 다른 요청이 먼저 선점했다.
+            writeError(res, ErrorBaseCode.CONFLICT);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapped = new ContentCachingResponseWrapper(res);
+        try {
+            chain.doFilter(new CachedBodyRequest(req, body), wrapped);
+        } catch (IOException | ServletException | RuntimeException e) {
+            store.release(key);
+            throw e;
+        }
+        saveOrRelease(key, method, path, hash, wrapped);
+        wrapped.copyBodyToResponse();
+    }
+
+    private void saveOrRelease(String key, String method, String path, String hash,
+                               ContentCachingResponseWrapper wrapped) {
+        if (wrapped.getStatus() >= 500) {
+            store.release(key);
+            return;
+        }
+        try {
+            store.complete(key, method, path, hash,
+                    wrapped.getStatus(), wrapped.getContentType(), wrapped.getContentAsByteArray());
+        } catch (DataAccessException e) {
+            // 서비스는 이미 처리됐으므로 응답은 그대로 내보내고, 키는 처리 중 상태로 남겨 중복 실행을 막는다.
+            log.error("[IDEMPOTENCY] 응답 저장 실패: key={}", key, e);
+        }
+    }
+
+    private void replayOrReject(HttpServletResponse res, StoredResponse stored,
+                                String method, String path, String hash) throws IOException {
+        if (!stored.matches(method, path, hash)) {
+            writeError(res, ErrorBaseCode.BAD_REQUEST);
+            return;
+        }
+        if (!stored.completed()) {
+            writeError(res, ErrorBaseCode.CONFLICT);
+            return;
+        }
+        res.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            res.setContentType(stored.contentType());
+        }
+        res.setHeader(REPLAYED_HEADER, "true");
+        res.setContentLength(stored.body().length);
+        res.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse res, ErrorBaseCode code) throws IOException {
+        res.setStatus(code.getHttpStatus().value());
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        res.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(res.getOutputStream(), BaseErrorResponse.of(code));
+    }
+
+    private static String hash(String method, String path, String query, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((method + ' ' + path + '?' + (query == null ? "" : query) + '\n')
+                    .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 해시 계산을 위해 먼저 읽은 본문을 컨트롤러가 다시 읽을 수 있게 돌려주는 래퍼.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new CachedBodyInputStream(body);
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+    }
+
+    /**
+     * 메모리에 있는 본문을 읽는 스트림. 항상 읽을 수 있으므로 비동기 읽기({@link ReadListener})도
+     * 등록 즉시 {@code onDataAvailable} → {@code onAllDataRead}를 호출합니다.
+     */
+    private static final class CachedBodyInputStream extends ServletInputStream {
+        private final ByteArrayInputStream in;
+        private ReadListener listener;
+
+        private CachedBodyInputStream(byte[] body) {
+            this.in = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return in.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            if (listener != null) {
+                throw new IllegalStateException("ReadListener 가 이미 등록되었습니다.");
+            }
+            listener = readListener;
+            try {
+                if (!isFinished()) {
+                    readListener.onDataAvailable();
+                }
+                if (isFinished()) {
+                    readListener.onAllDataRead();
+                }
+            } catch (IOException | RuntimeException e) {
+                readListener.onError(e);
+            }
+        }
+
+        @Override
+        public int read() {
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return in.read(b, off, len);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package dev.syntax.global.filter;
 
+import dev.syntax.global.response.ErrorResponseBodies;
+import dev.syntax.global.response.error.ErrorBaseCode;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,7 +31,10 @@ import java.io.IOException;
 @Component
 public class ReadinessFilter extends OncePerRequestFilter {
     private final ApplicationAvailability availability;
-    public ReadinessFilter(ApplicationAvailability availability) { this.availability = availability; }
+    private final ErrorResponseBodies errorResponseBodies;
+    public ReadinessFilter(ApplicationAvailability availability, ErrorResponseBodies errorResponseBodies) {
+        this.availability = availability; this.errorResponseBodies = errorResponseBodies;
+    }
 
     /**
      * 각 요청마다 레디니스 상태를 점검하여 필요 시 요청을 차단합니다.
@@ -39,7 +44,7 @@ public class ReadinessFilter extends OncePerRequestFilter {
      *   <li>{@code ReadinessState == REFUSING_TRAFFIC} 인 경우:
      *     <ul>
      *       <li>HTTP 상태 코드를 503(Service Unavailable)으로 설정</li>
-     *       <li>간단한 안내 메시지를 응답 바디에 기록</li>
+     *       <li>{@code ErrorBaseCode.SERVICE_UNAVAILABLE} 오류 응답(JSON)을 미리 직렬화된 바이트로 기록</li>
      *       <li>필터 체인을 더 이상 진행하지 않고 즉시 반환</li>
      *     </ul>
      *   </li>
@@ -59,8 +64,8 @@ public class ReadinessFilter extends OncePerRequestFilter {
         // actuator는 계속 접근 가능해야 하므로 제외
         if (!uri.startsWith("/actuator")
                 && availability.getReadinessState() == ReadinessState.REFUSING_TRAFFIC) {
-            res.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE); // 503
-            res.getWriter().write("Service is draining. Try again later.");
+            // 드레이닝 중에는 요청마다 503 이므로 직렬화 없이 고정 바이트를 쓴다.
+            errorResponseBodies.write(res, ErrorBaseCode.SERVICE_UNAVAILABLE); // 503
             return;
         }
         chain.doFilter(req, res);
@@ -0,0 +1,143 @@
+package dev.syntax.global.format;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * 원화 금액을 천 단위 구분 기호(,)가 들어간 문자로 씁니다. 예) 230010000 → {@code 230,010,000}, 1234.500 → {@code 1,234.500}
+ *
+ * <ul>
+ *   <li>Locale 과 무관하게 항상 {@code ,} / {@code .} 사용</li>
+ *   <li>{@code long} 전체 범위와 {@link BigDecimal}(소수 자릿수 0~{@value #MAX_FRACTION_DIGITS}) 지원.
+ *       {@code Account.balance}(scale 2), {@code Transaction.balanceAfter}(scale 3)는 자릿수를 그대로 유지</li>
+ *   <li>호출자가 준 {@code char[]}에 뒤에서부터 바로 써서 중간 {@code String}/{@code StringBuilder}/포맷 파싱이 없음</li>
+ * </ul>
+ *
+ * <p>{@link #toString} 계열은 스레드별 버퍼에 쓴 뒤 결과 {@code String} 하나만 만듭니다.
+ * Jackson 에서는 {@link KrwJsonSerializer}가 같은 버퍼를 {@code JsonGenerator}에 바로 넘깁니다.</p>
+ */
+public final class KrwFormatter {
+
+    /**
+     * 한 번에 쓰는 최대 글자 수. {@code -9,223,372,036,854,775,808.000} 보다 크다.
+     */
+    public static final int MAX_LENGTH = 32;
+
+    public static final int MAX_FRACTION_DIGITS = 3;
+
+    // 10^15 < 2^51 이면 doubleValue() 로 비례 값(unscaled)을 정확히 되돌릴 수 있다. (아래 unscaled 참고)
+    private static final int EXACT_DOUBLE_PRECISION = 15;
+    private static final double[] POW10 = {1, 10, 100, 1_000};
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[MAX_LENGTH]);
+
+    private KrwFormatter() {
+    }
+
+    public static String toString(long value) {
+        char[] buf = buffer();
+        return new String(buf, 0, format(value, buf, 0));
+    }
+
+    public static String toString(BigDecimal value) {
+        char[] buf = buffer();
+        return new String(buf, 0, format(value, buf, 0));
+    }
+
+    /**
+     * 정수 금액을 {@code buf[offset]}부터 씁니다. {@code buf}에는 {@link #MAX_LENGTH}칸 이상 남아 있어야 합니다.
+     *
+     * @return 쓴 글자 수
+     */
+    public static int format(long value, char[] buf, int offset) {
+        return format(value, 0, buf, offset);
+    }
+
+    /**
+     * {@code value}의 소수 자릿수를 유지해 씁니다. {@value #MAX_FRACTION_DIGITS}자리를 넘으면 반올림(HALF_UP)하고,
+     * 음수 scale(예: {@code 1E+3})은 정수로 씁니다.
+     *
+     * @return 쓴 글자 수
+     * @throws IllegalArgumentException 비례 값이 {@code long} 범위를 넘는 경우
+     */
+    public static int format(BigDecimal value, char[] buf, int offset) {
+        int scale = value.scale();
+        if (scale < 0 || scale > MAX_FRACTION_DIGITS) {
+            value = value.setScale(Math.max(0, Math.min(scale, MAX_FRACTION_DIGITS)), RoundingMode.HALF_UP);
+            scale = value.scale();
+        }
+        return format(unscaled(value), scale, buf, offset);
+    }
+
+    /**
+     * 비례 값과 소수 자릿수로 금액을 씁니다. 예) (123456, 2) → {@code 1,234.56}
+     *
+     * @param unscaled 소수점을 뗀 값
+     * @param scale    소수 자릿수 (0 ~ {@value #MAX_FRACTION_DIGITS})
+     * @return 쓴 글자 수
+     */
+    public static int format(long unscaled, int scale, char[] buf, int offset) {
+        if (scale < 0 || scale > MAX_FRACTION_DIGITS) {
+            throw new IllegalArgumentException("지원하지 않는 소수 자릿수: " + scale);
+        }
+        boolean negative = unscaled < 0;
+        // Long.MIN_VALUE 도 다룰 수 있도록 음수 쪽에서 자릿수를 뽑는다.
+        long q = negative ? unscaled : -unscaled;
+        int digits = 1;
+        for (long t = q / 10; t != 0; t /= 10) {
+            digits++;
+        }
+        int integerDigits = Math.max(1, digits - scale);
+        int length = (negative ? 1 : 0) + integerDigits + (integerDigits - 1) / 3 + (scale > 0 ? scale + 1 : 0);
+
+        int pos = offset + length;
+        for (int i = 0; i < scale; i++) {
+            buf[--pos] = (char) ('0' - q % 10);
+            q /= 10;
+        }
+        if (scale > 0) {
+            buf[--pos] = '.';
+        }
+        int group = 0;
+        do {
+            if (group == 3) {
+                buf[--pos] = ',';
+                group = 0;
+            }
+            buf[--pos] = (char) ('0' - q % 10);
+            q /= 10;
+            group++;
+        } while (q != 0);
+        if (negative) {
+            buf[--pos] = '-';
+        }
+        return length;
+    }
+
+    /**
+     * 스레드별 작업 버퍼({@link #MAX_LENGTH}칸). 다음 {@code format} 호출 전까지만 내용을 유지합니다.
+     */
+    static char[] buffer() {
+        return BUFFER.get();
+    }
+
+    // BigDecimal 은 비례 값을 꺼내는 unscaledValue() 가 호출마다 BigInteger 를 만든다.
+    // 15자리 이하는 doubleValue() (정확히 반올림된 x / 10^s, 할당 없음)에 10^s 를 곱해 반올림하면
+    // 오차가 |x|·2^-52 < 0.5 라 원래 값이 그대로 나온다.
+    private static long unscaled(BigDecimal value) {
+        int scale = value.scale();
+        int precision = value.precision();
+        if (scale == 0 && precision <= 18) {
+            return value.longValue();
+        }
+        if (precision <= EXACT_DOUBLE_PRECISION) {
+            return Math.round(value.doubleValue() * POW10[scale]);
+        }
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() > 63) {
+            throw new IllegalArgumentException("금액이 표현 범위를 벗어났습니다: " + value);
+        }
+        return unscaled.longValue();
+    }
+}
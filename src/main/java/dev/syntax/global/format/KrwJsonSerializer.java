@@ -0,0 +1,35 @@
+package dev.syntax.global.format;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * 금액 필드를 {@link KrwFormatter} 형식의 JSON 문자열로 씁니다. 예) {@code "balance": "1,234,567.50"}
+ *
+ * <pre>{@code
+ * @JsonSerialize(using = KrwJsonSerializer.class)
+ * BigDecimal balance
+ * }</pre>
+ *
+ * <p>{@link BigDecimal}은 소수 자릿수를 유지하고, 그 외 정수 타입은 {@link Number#longValue()}로 씁니다.
+ * 스레드별 버퍼를 {@link JsonGenerator#writeString(char[], int, int)}에 바로 넘겨 중간 {@code String}이 없습니다.</p>
+ */
+public class KrwJsonSerializer extends StdSerializer<Number> {
+
+    public KrwJsonSerializer() {
+        super(Number.class);
+    }
+
+    @Override
+    public void serialize(Number value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] buf = KrwFormatter.buffer();
+        int length = value instanceof BigDecimal decimal
+                ? KrwFormatter.format(decimal, buf, 0)
+                : KrwFormatter.format(value.longValue(), buf, 0);
+        gen.writeString(buf, 0, length);
+    }
+}
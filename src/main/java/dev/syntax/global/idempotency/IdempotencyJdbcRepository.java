@@ -0,0 +1,80 @@
+package dev.syntax.global.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@code core_idempotency_key} JDBC 리포지토리입니다.
+ * <p>키 선점은 PK 중복으로 판별해야 하므로 JPA {@code save}(merge) 대신 INSERT를 직접 실행합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyJdbcRepository {
+
+    static final String IN_PROGRESS = "IN_PROGRESS";
+    static final String COMPLETED = "COMPLETED";
+
+    private static final String FIND_SQL = "SELECT method, path, request_hash, state, response_status, content_type, "
+            + "response_body FROM core_idempotency_key WHERE idempotency_key = ? AND expires_at > ?";
+
+    private static final String INSERT_SQL = "INSERT INTO core_idempotency_key "
+            + "(idempotency_key, method, path, request_hash, state, expires_at, created_at) "
+            + "VALUES (?, ?, ?, ?, '" + IN_PROGRESS + "', ?, ?)";
+
+    private static final String COMPLETE_SQL = "UPDATE core_idempotency_key "
+            + "SET state = '" + COMPLETED + "', response_status = ?, content_type = ?, response_body = ? "
+            + "WHERE idempotency_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 만료되지 않은 키를 조회합니다.
+     */
+    public Optional<StoredResponse> find(String key) {
+        List<StoredResponse> rows = jdbcTemplate.query(FIND_SQL, (rs, i) -> {
+            String body = rs.getString("response_body");
+            return new StoredResponse(
+                    rs.getString("method"),
+                    rs.getString("path"),
+                    rs.getString("request_hash"),
+                    COMPLETED.equals(rs.getString("state")),
+                    rs.getInt("response_status"),
+                    rs.getString("content_type"),
+                    body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8));
+        }, key, Timestamp.valueOf(LocalDateTime.now()));
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 키를 처리 중 상태로 선점합니다. 이미 있으면 {@link org.springframework.dao.DuplicateKeyException}.
+     */
+    public void insert(String key, String method, String path, String requestHash, LocalDateTime expiresAt) {
+        jdbcTemplate.update(INSERT_SQL, key, method, path, requestHash,
+                Timestamp.valueOf(expiresAt), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    public void complete(String key, int status, String contentType, byte[] body) {
+        jdbcTemplate.update(COMPLETE_SQL, status, contentType, new String(body, StandardCharsets.UTF_8), key);
+    }
+
+    public void delete(String key) {
+        jdbcTemplate.update("DELETE FROM core_idempotency_key WHERE idempotency_key = ?", key);
+    }
+
+    public void deleteExpired(String key) {
+        jdbcTemplate.update("DELETE FROM core_idempotency_key WHERE idempotency_key = ? AND expires_at <= ?",
+                key, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    public int deleteAllExpired() {
+        return jdbcTemplate.update("DELETE FROM core_idempotency_key WHERE expires_at <= ?",
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
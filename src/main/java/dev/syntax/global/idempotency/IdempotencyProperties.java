@@ -0,0 +1,38 @@
+package dev.syntax.global.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 멱등 키 설정값입니다.
+ *
+ * <pre>{@code
+ * idempotency:
+ *   header: Idempotency-Key
+ *   cache-size: 10000
+ *   cache-ttl: 10m
+ *   retention: 24h
+ * }</pre>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "idempotency")
+@Getter
+@Setter
+public class IdempotencyProperties {
+
+    // 클라이언트가 보내는 멱등 키 헤더
+    private String header = "Idempotency-Key";
+
+    // 메모리 캐시 최대 항목 수
+    private int cacheSize = 10_000;
+
+    // 메모리 캐시 보관 시간 (짧은 재시도 구간만 DB 조회 없이 응답)
+    private Duration cacheTtl = Duration.ofMinutes(10);
+
+    // DB 보관 시간 (이 시간이 지나면 같은 키를 다시 사용할 수 있음)
+    private Duration retention = Duration.ofHours(24);
+}
@@ -0,0 +1,52 @@
+package dev.syntax.global.idempotency;
+
+import dev.syntax.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리한 멱등 키와 그때의 응답을 보관합니다.
+ * <p>읽기/쓰기는 {@link IdempotencyJdbcRepository}가 담당하고, 이 엔티티는 테이블 정의용입니다.</p>
+ */
+@Entity
+@Table(name = "core_idempotency_key", indexes = {
+        @Index(name = "idx_idempotency_expires", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord extends BaseEntity {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String key;
+
+    @Column(name = "method", nullable = false, length = 10)
+    private String method;
+
+    @Column(name = "path", nullable = false)
+    private String path;
+
+    // 메서드 + 경로 + 본문의 SHA-256. 같은 키로 다른 요청을 보내면 거절한다.
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "state", nullable = false, length = 20)
+    private String state;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Lob
+    @Column(name = "response_body")
+    private String responseBody;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
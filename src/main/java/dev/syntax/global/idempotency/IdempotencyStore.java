@@ -0,0 +1,79 @@
+package dev.syntax.global.idempotency;
+
+import dev.syntax.global.cache.BoundedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 멱등 키 저장소입니다. 크기·TTL 제한이 있는 메모리 캐시를 DB 테이블 앞에 둡니다.
+ *
+ * <ul>
+ *   <li>완료된 응답만 캐시에 올림 → 짧은 재시도는 DB 조회 없이 응답</li>
+ *   <li>키 선점은 항상 DB INSERT로 판별 → 여러 인스턴스에서도 한 번만 처리</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyJdbcRepository repository;
+    private final IdempotencyProperties properties;
+    private final BoundedTtlCache<String, StoredResponse> cache;
+
+    public IdempotencyStore(IdempotencyJdbcRepository repository, IdempotencyProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+        this.cache = new BoundedTtlCache<>(properties.getCacheSize(), properties.getCacheTtl());
+    }
+
+    public Optional<StoredResponse> find(String key) {
+        StoredResponse cached = cache.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<StoredResponse> stored = repository.find(key);
+        stored.filter(StoredResponse::completed).ifPresent(r -> cache.put(key, r));
+        return stored;
+    }
+
+    /**
+     * 키를 선점합니다.
+     *
+     * @return 선점했으면 {@code true}, 다른 요청이 이미 가지고 있으면 {@code false}
+     */
+    public boolean claim(String key, String method, String path, String requestHash) {
+        repository.deleteExpired(key);
+        try {
+            repository.insert(key, method, path, requestHash, LocalDateTime.now().plus(properties.getRetention()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public void complete(String key, String method, String path, String requestHash,
+                         int status, String contentType, byte[] body) {
+        repository.complete(key, status, contentType, body);
+        cache.put(key, new StoredResponse(method, path, requestHash, true, status, contentType, body));
+    }
+
+    /**
+     * 처리에 실패한 키를 풀어 같은 키로 다시 시도할 수 있게 합니다.
+     */
+    public void release(String key) {
+        repository.delete(key);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int purged = repository.deleteAllExpired();
+        if (purged > 0) {
+            log.info("[IDEMPOTENCY] 만료된 키 {}건 삭제", purged);
+        }
+    }
+}
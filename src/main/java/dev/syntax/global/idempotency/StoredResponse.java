@@ -0,0 +1,25 @@
+package dev.syntax.global.idempotency;
+
+/**
+ * 멱등 키로 저장된 요청 정보와 응답
+ * @param method      HTTP 메서드
+ * @param path        요청 경로
+ * @param requestHash 요청 해시
+ * @param completed   응답 저장 완료 여부 (false면 아직 처리 중)
+ * @param status      HTTP 상태 코드
+ * @param contentType 응답 Content-Type
+ * @param body        응답 본문 (직렬화된 {@code BaseResponse})
+ */
+public record StoredResponse(
+        String method,
+        String path,
+        String requestHash,
+        boolean completed,
+        int status,
+        String contentType,
+        byte[] body
+) {
+    public boolean matches(String method, String path, String requestHash) {
+        return this.method.equals(method) && this.path.equals(path) && this.requestHash.equals(requestHash);
+    }
+}
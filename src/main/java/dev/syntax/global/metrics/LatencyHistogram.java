@@ -0,0 +1,104 @@
+package dev.syntax.global.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 메모리 지연 시간 히스토그램입니다. (HDR 히스토그램과 같은 로그-선형 버킷)
+ *
+ * <ul>
+ *   <li>값(µs)을 2의 거듭제곱 구간으로 나누고, 구간마다 다시 32칸으로 선형 분할 → 상대 오차 1/32(약 3%) 이내</li>
+ *   <li>0 ~ {@code 2^32}µs(약 71분)를 {@link #BUCKETS}칸 {@code long} 배열 하나(약 7KB)로 표현, 넘는 값은 마지막 칸</li>
+ *   <li>기록은 칸 하나의 원자적 증가뿐이라 락과 할당이 없음</li>
+ * </ul>
+ *
+ * <p>백분위는 그 칸에 들어갈 수 있는 가장 큰 값으로 돌려줍니다. (실제보다 작게 보고하지 않음)</p>
+ */
+public final class LatencyHistogram {
+
+    // 2^(SUB_BITS-1) = 32칸 선형 분할, 64 미만은 1µs 단위 그대로
+    private static final int SUB_BITS = 6;
+    private static final int HALF = 1 << (SUB_BITS - 1);
+    private static final long MAX_VALUE = (1L << 32) - 1;
+
+    public static final int BUCKETS = index(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * @param micros 지연 시간(µs). 음수는 0으로 기록
+     */
+    public void record(long micros) {
+        counts.getAndIncrement(index(micros));
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    /**
+     * 칸별 건수를 {@code into}에 더합니다. 여러 히스토그램을 합쳐 백분위를 낼 때 씁니다.
+     */
+    public void addTo(long[] into) {
+        for (int i = 0; i < BUCKETS; i++) {
+            into[i] += counts.get(i);
+        }
+    }
+
+    public long percentile(double quantile) {
+        long[] snapshot = new long[BUCKETS];
+        addTo(snapshot);
+        return valueAt(snapshot, quantile);
+    }
+
+    /**
+     * 칸별 건수 배열에서 백분위 값을 구합니다.
+     *
+     * @param counts   {@link #addTo}로 모은 칸별 건수
+     * @param quantile 0 ~ 1 (예: 0.999)
+     * @return 지연 시간(µs), 기록이 없으면 0
+     */
+    public static long valueAt(long[] counts, double quantile) {
+        long total = count(counts);
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return highestEquivalent(i);
+            }
+        }
+        return highestEquivalent(counts.length - 1);
+    }
+
+    public static long count(long[] counts) {
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        return total;
+    }
+
+    // 64 미만은 값 그대로, 그 이상은 (최상위 비트 위치, 그 아래 5비트)로 칸을 정한다.
+    static int index(long value) {
+        long v = Math.max(0, Math.min(value, MAX_VALUE));
+        if (v < 2 * HALF) {
+            return (int) v;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BITS + 1;
+        return shift * HALF + (int) (v >>> shift);
+    }
+
+    static long highestEquivalent(int index) {
+        if (index < 2 * HALF) {
+            return index;
+        }
+        int shift = index / HALF - 1;
+        long top = index - (long) shift * HALF;
+        return ((top + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,165 @@
+package dev.syntax.global.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 라우트(HTTP 메서드 + 매핑 패턴)별 진행 중 건수와 지연 시간 분포를 모읍니다.
+ *
+ * <ol>
+ *   <li>{@code DrainFilter}가 요청 시작 시각을 {@link #start}로 남김</li>
+ *   <li>{@link RouteTagInterceptor}가 핸들러가 정해지면 {@link #begin}으로 라우트를 붙이고 진행 중 건수를 올림</li>
+ *   <li>{@code DrainFilter}가 응답이 끝나면(비동기는 완료 시) {@link #finish}로 지연 시간을 기록하고 건수를 내림</li>
+ * </ol>
+ *
+ * <p>지연 시간은 {@link LatencyHistogram} 두 개를 1분 윈도로 번갈아 써서 최근 1~2분 분포만 보고합니다. (라우트당 약 14KB 고정)
+ * 윈도가 바뀌는 순간 동시에 기록된 몇 건은 비우는 쪽과 겹쳐 빠질 수 있습니다.
+ * 핸들러까지 가지 못한 요청(404, 드레이닝 503 등)은 {@value #UNMATCHED} 라우트에 지연 시간만 기록합니다.</p>
+ *
+ * <p>지표: {@code http.route.inflight{route}}, {@code http.route.latency{route,quantile}}(ms).
+ * 라우트 수는 {@value #MAX_ROUTES}개로 제한하고 넘치면 {@value #OTHER}로 모읍니다.</p>
+ */
+@Component
+public class RouteMetrics {
+
+    public static final String UNMATCHED = "UNMATCHED";
+    public static final String OTHER = "OTHER";
+
+    private static final String START_ATTRIBUTE = RouteMetrics.class.getName() + ".start";
+    private static final String ROUTE_ATTRIBUTE = RouteMetrics.class.getName() + ".route";
+
+    private static final int MAX_ROUTES = 256;
+    // 라우트 하나에 몰리는 동시 요청은 전역보다 적으므로 칸을 줄여 메모리를 아낀다.
+    private static final int ROUTE_STRIPES = 8;
+    private static final long WINDOW_MILLIS = 60_000;
+    private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+
+    private final MeterRegistry registry;
+    private final Map<String, RouteStats> routes = new ConcurrentHashMap<>();
+
+    public RouteMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 요청 시작 시각을 남깁니다. 이 요청은 이후 {@link #finish}가 반드시 한 번 호출되어야 합니다.
+     */
+    public void start(ServletRequest request) {
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+    }
+
+    /**
+     * 요청에 라우트를 붙이고 그 라우트의 진행 중 건수를 올립니다.
+     * <p>{@link #start}를 거치지 않은 요청(계수 제외 경로)이나 이미 붙은 요청은 무시합니다.</p>
+     */
+    public void begin(ServletRequest request, String route) {
+        if (request.getAttribute(START_ATTRIBUTE) == null || request.getAttribute(ROUTE_ATTRIBUTE) != null) {
+            return;
+        }
+        RouteStats stats = stats(route);
+        stats.inFlight.increment();
+        request.setAttribute(ROUTE_ATTRIBUTE, stats);
+    }
+
+    /**
+     * 시작부터 지금까지의 지연 시간을 라우트에 기록하고 진행 중 건수를 내립니다.
+     */
+    public void finish(ServletRequest request) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long started)) {
+            return;
+        }
+        long elapsed = System.nanoTime() - started;
+        if (request.getAttribute(ROUTE_ATTRIBUTE) instanceof RouteStats stats) {
+            stats.inFlight.decrement();
+            stats.record(elapsed);
+        } else {
+            stats(UNMATCHED).record(elapsed);
+        }
+    }
+
+    /**
+     * 라우트별 진행 중 건수, 최근 윈도 처리 건수, p50/p99/p999(ms). 라우트 이름순.
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        routes.forEach((route, stats) -> {
+            long[] counts = stats.merged();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("inFlight", stats.inFlight.sum());
+            row.put("count", LatencyHistogram.count(counts));
+            row.put("p50Ms", millis(LatencyHistogram.valueAt(counts, 0.5)));
+            row.put("p99Ms", millis(LatencyHistogram.valueAt(counts, 0.99)));
+            row.put("p999Ms", millis(LatencyHistogram.valueAt(counts, 0.999)));
+            result.put(route, row);
+        });
+        return result;
+    }
+
+    private RouteStats stats(String route) {
+        RouteStats stats = routes.get(route);
+        if (stats != null) {
+            return stats;
+        }
+        String key = routes.size() < MAX_ROUTES ? route : OTHER;
+        return routes.computeIfAbsent(key, this::register);
+    }
+
+    private RouteStats register(String route) {
+        RouteStats stats = new RouteStats();
+        Gauge.builder("http.route.inflight", stats, s -> s.inFlight.sum())
+                .tag("route", route)
+                .register(registry);
+        for (double quantile : QUANTILES) {
+            Gauge.builder("http.route.latency", stats,
+                            s -> millis(LatencyHistogram.valueAt(s.merged(), quantile)))
+                    .tag("route", route)
+                    .tag("quantile", Double.toString(quantile))
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        }
+        return stats;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    private static final class RouteStats {
+        private final StripedCounter inFlight = new StripedCounter(ROUTE_STRIPES);
+        private final LatencyHistogram[] windows = {new LatencyHistogram(), new LatencyHistogram()};
+        // 각 히스토그램이 담고 있는 윈도 번호
+        private final AtomicLongArray epochs = new AtomicLongArray(2);
+
+        private void record(long elapsedNanos) {
+            long window = System.currentTimeMillis() / WINDOW_MILLIS;
+            int slot = (int) (window & 1);
+            long seen = epochs.get(slot);
+            if (seen != window && epochs.compareAndSet(slot, seen, window)) {
+                windows[slot].reset();
+            }
+            windows[slot].record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        }
+
+        // 현재 윈도와 직전 윈도만 합친다. 오래 기록이 없던 히스토그램은 제외된다.
+        private long[] merged() {
+            long window = System.currentTimeMillis() / WINDOW_MILLIS;
+            long[] counts = new long[LatencyHistogram.BUCKETS];
+            for (int slot = 0; slot < 2; slot++) {
+                long epoch = epochs.get(slot);
+                if (epoch == window || epoch == window - 1) {
+                    windows[slot].addTo(counts);
+                }
+            }
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package dev.syntax.global.metrics;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 핸들러가 정해진 요청에 라우트({@code GET /stocks/{code}/history} 형태)를 붙입니다.
+ *
+ * <p>매핑 패턴은 {@code DispatcherServlet}이 핸들러를 고른 뒤에야 알 수 있어 필터 대신 인터셉터에서 붙이고,
+ * 기록과 정리는 요청을 끝까지 지켜보는 {@code DrainFilter}가 {@link RouteMetrics#finish}로 합니다.
+ * 비동기 재디스패치는 최초 디스패치에서 이미 붙였으므로 건너뜁니다.</p>
+ */
+@Component
+public class RouteTagInterceptor implements HandlerInterceptor {
+
+    private final RouteMetrics routeMetrics;
+
+    public RouteTagInterceptor(RouteMetrics routeMetrics) {
+        this.routeMetrics = routeMetrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.REQUEST
+                && request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern) {
+            routeMetrics.begin(request, request.getMethod() + " " + pattern);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,87 @@
+package dev.syntax.global.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 여러 스레드가 동시에 올리고 내리는 진행 중 건수 카운터입니다.
+ *
+ * <ul>
+ *   <li>스레드마다 다른 칸(stripe)을 건드려 코어들이 캐시 라인 하나를 두고 다투지 않음. 칸 사이는 128바이트 간격</li>
+ *   <li>증가/감소를 칸마다 따로, 줄지 않는 누계로만 셈 → 시작한 스레드와 끝내는 스레드가 달라도(비동기 요청) 합이 맞음</li>
+ *   <li>{@link #isZero()}는 감소 누계를 먼저, 증가 누계를 나중에 읽어 두 합이 같으면 두 읽기 사이 어느 순간 실제로 0이었음을 보장</li>
+ * </ul>
+ *
+ * <p>{@link java.util.concurrent.atomic.LongAdder#sum()}은 동시 갱신 중 합이 정확하지 않아 드레이닝 완료 판정에 쓸 수 없습니다.
+ * 감소는 항상 같은 요청의 증가 뒤에 일어나므로, 감소를 먼저 읽으면 읽은 감소마다 짝이 되는 증가가 반드시 함께 읽힙니다.
+ * 따라서 {@link #sum()}은 음수가 되지 않고, 0이면 실제로 0이었던 시점이 있습니다.</p>
+ */
+public final class StripedCounter {
+
+    // long 16개 = 128바이트. 인접 라인 프리페치까지 고려해 칸마다 두 라인씩 띄운다.
+    private static final int PAD = 16;
+    private static final int MAX_STRIPES = 64;
+
+    private final AtomicLongArray increments;
+    private final AtomicLongArray decrements;
+    private final int mask;
+
+    /**
+     * 가용 코어 수의 두 배(최대 {@value #MAX_STRIPES})만큼 칸을 둡니다.
+     */
+    public StripedCounter() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * @param stripes 칸 수. 2의 거듭제곱으로 올림하며 1 ~ {@value #MAX_STRIPES}로 제한
+     */
+    public StripedCounter(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, Math.min(stripes, MAX_STRIPES)) * 2 - 1);
+        this.mask = size - 1;
+        this.increments = new AtomicLongArray(size * PAD);
+        this.decrements = new AtomicLongArray(size * PAD);
+    }
+
+    public void increment() {
+        increments.getAndIncrement(slot());
+    }
+
+    public void decrement() {
+        decrements.getAndIncrement(slot());
+    }
+
+    /**
+     * 진행 중 건수. 동시 갱신 중에는 읽는 동안 지나간 건수가 섞일 수 있지만 음수는 나오지 않습니다.
+     */
+    public long sum() {
+        long decremented = total(decrements);
+        long incremented = total(increments);
+        return incremented - decremented;
+    }
+
+    /**
+     * 이 호출이 진행되는 사이 어느 순간 진행 중 건수가 정확히 0이었으면 {@code true}.
+     */
+    public boolean isZero() {
+        return sum() == 0;
+    }
+
+    int stripes() {
+        return mask + 1;
+    }
+
+    private long total(AtomicLongArray cells) {
+        long total = 0;
+        for (int i = 0; i <= mask; i++) {
+            total += cells.get(i * PAD);
+        }
+        return total;
+    }
+
+    // 스레드 ID 를 섞어 칸을 고른다. 가상 스레드도 각자 ID 가 있어 같은 규칙으로 퍼진다.
+    @SuppressWarnings("deprecation")
+    private int slot() {
+        long h = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return ((int) (h >>> 32) & mask) * PAD;
+    }
+}
@@ -0,0 +1,90 @@
+package dev.syntax.global.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.syntax.global.response.error.ErrorAuthCode;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import dev.syntax.global.response.error.ErrorCode;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 오류 코드별 응답 바디를 기동 시 한 번 UTF-8 JSON 바이트로 만들어 두고 그대로 내보냅니다.
+ *
+ * <p>오류 응답은 코드마다 내용이 고정이라, 토큰 만료 후 401 폭주나 드레이닝 중 503처럼 같은 오류가 몰릴 때
+ * 매번 {@link BaseErrorResponse}/{@link AuthErrorResponse}를 만들고 Jackson 으로 직렬화할 필요가 없습니다.
+ * 바이트는 Spring MVC 와 같은 {@link ObjectMapper} 빈으로 만들므로 {@link ApiResponseUtil#failure} 응답과 내용이 같습니다.</p>
+ *
+ * <ul>
+ *   <li>{@link ErrorBaseCode}: {@code {"message": ...}}</li>
+ *   <li>{@link ErrorAuthCode}: {@code {"message": ..., "errorCode": "AUTH01"}}</li>
+ * </ul>
+ *
+ * <p>돌려주는 배열은 모든 요청이 공유하므로 수정하면 안 됩니다.</p>
+ */
+@Component
+public class ErrorResponseBodies {
+
+    private final ObjectMapper objectMapper;
+    private final Map<ErrorBaseCode, byte[]> baseBodies = new EnumMap<>(ErrorBaseCode.class);
+    private final Map<ErrorAuthCode, byte[]> authBodies = new EnumMap<>(ErrorAuthCode.class);
+
+    public ErrorResponseBodies(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (ErrorBaseCode code : ErrorBaseCode.values()) {
+            baseBodies.put(code, encode(BaseErrorResponse.of(code)));
+        }
+        for (ErrorAuthCode code : ErrorAuthCode.values()) {
+            authBodies.put(code, encode(AuthErrorResponse.of(code)));
+        }
+    }
+
+    /**
+     * 오류 코드의 응답 바디 바이트. 미리 만들지 않은 {@link ErrorCode} 구현체는 그때그때 직렬화합니다.
+     */
+    public byte[] body(ErrorCode code) {
+        if (code instanceof ErrorBaseCode base) {
+            return baseBodies.get(base);
+        }
+        if (code instanceof ErrorAuthCode auth) {
+            return authBodies.get(auth);
+        }
+        return encode(BaseErrorResponse.of(code));
+    }
+
+    /**
+     * 컨트롤러/{@code @ExceptionHandler}용 응답. 바디는 {@code ByteArrayHttpMessageConverter}가 그대로 씁니다.
+     */
+    public ResponseEntity<byte[]> response(ErrorCode code) {
+        return ResponseEntity.status(code.getHttpStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body(code));
+    }
+
+    /**
+     * 서블릿 필터처럼 MVC 밖에서 응답을 바로 쓸 때 사용합니다.
+     */
+    public void write(HttpServletResponse res, ErrorCode code) throws IOException {
+        byte[] body = body(code);
+        res.setStatus(code.getHttpStatus().value());
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        res.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        res.setContentLength(body.length);
+        res.getOutputStream().write(body);
+    }
+
+    private byte[] encode(BaseResponse<?> response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("오류 응답 직렬화 실패: " + response, e);
+        }
+    }
+}
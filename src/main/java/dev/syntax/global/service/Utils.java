@@ -1,5 +1,9 @@
 package dev.syntax.global.service;
 
+import dev.syntax.global.format.KrwFormatter;
+
+import java.math.BigDecimal;
+
 /**
  * 공통적으로 사용되는 서비스 로직은 이곳에 작성해주세요.
  */
@@ -11,14 +15,36 @@ public class Utils {
      * 예) 230010000 → "230,010,000"
      * </p>
      *
-     * <p><b>주의:</b> {@link String#format(String, Object...)}는 기본 Locale의
-     * 숫자 형식 규칙을 따릅니다. 일관된 결과가 필요하면
-     * {@code String.format(Locale.US, "%,d", num)}처럼 Locale을 명시하세요.</p>
+     * <p>{@link KrwFormatter}에 위임하므로 기본 Locale과 무관하게 항상 쉼표(,)를 씁니다.
+     * 응답 DTO 필드는 {@code @JsonSerialize(using = KrwJsonSerializer.class)}로 직렬화 시점에 포맷할 수 있습니다.</p>
      *
      * @param num 천 단위 구분 기호로 포맷할 정수 값
      * @return 천 단위 구분 기호가 포함된 문자열
      */
     public static String NumberFormattingService(int num) {
-        return String.format("%,d", num);
+        return KrwFormatter.toString(num);
+    }
+
+    /**
+     * {@link #NumberFormattingService(int)}의 {@code long} 버전. 약 21억 원을 넘는 잔액에 사용합니다.
+     *
+     * @param num 천 단위 구분 기호로 포맷할 정수 값
+     * @return 천 단위 구분 기호가 포함된 문자열
+     */
+    public static String NumberFormattingService(long num) {
+        return KrwFormatter.toString(num);
+    }
+
+    /**
+     * 소수 자릿수가 있는 금액(예: {@code Account.balance} scale 2)을 자릿수를 유지해 변환합니다.
+     * <p>
+     * 예) 1234567.50 → "1,234,567.50"
+     * </p>
+     *
+     * @param amount 금액
+     * @return 천 단위 구분 기호가 포함된 문자열
+     */
+    public static String NumberFormattingService(BigDecimal amount) {
+        return KrwFormatter.toString(amount);
     }
 }
@@ -0,0 +1,246 @@
+package dev.syntax.domain.account;
+
+import dev.syntax.domain.account.entity.Account;
+import dev.syntax.domain.account.entity.AutoTransfer;
+import dev.syntax.domain.account.enums.AutoTransferStatus;
+import dev.syntax.domain.account.ledger.BalanceJournal;
+import dev.syntax.domain.account.ledger.BalanceLedger;
+import dev.syntax.domain.account.repository.AccountRepository;
+import dev.syntax.domain.account.repository.AutoTransferJdbcRepository;
+import dev.syntax.domain.account.repository.AutoTransferRepository;
+import dev.syntax.domain.account.service.AutoTransferEngine;
+import dev.syntax.domain.account.service.AutoTransferEngine.RunSummary;
+import dev.syntax.domain.account.service.AutoTransferProperties;
+import dev.syntax.domain.transaction.dto.BulkTransferReq;
+import dev.syntax.domain.transaction.dto.BulkTransferReq.TransferItem;
+import dev.syntax.domain.transaction.dto.BulkTransferRes;
+import dev.syntax.domain.transaction.dto.BulkTransferRes.FailedTransfer;
+import dev.syntax.domain.transaction.repository.TransactionJdbcRepository;
+import dev.syntax.domain.transaction.service.BulkTransferService;
+import dev.syntax.domain.user.entity.CoreUser;
+import dev.syntax.global.config.JpaConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 자동이체 엔진이 키셋 페이지를 빠짐없이 읽고, 출금 계좌별 파티션을 대량 이체 한도로 나눠 보내고,
+ * 결과를 JDBC batch로 기록하는지 H2에서 검증한다. 대량 이체는 목으로 대신하고,
+ * 부분 반영 시나리오만 실제 {@link BulkTransferService}에 거래 내역 기록이 실패하는 리포지토리를 붙여 쓴다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaConfig.class, AutoTransferJdbcRepository.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class AutoTransferEngineTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 11, 25);
+    private static final String REJECTED_MEMO = "잔액부족";
+
+    @Autowired
+    private AutoTransferRepository autoTransferRepository;
+
+    @Autowired
+    private AutoTransferJdbcRepository autoTransferJdbcRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final BulkTransferService bulkTransferService = mock(BulkTransferService.class);
+    private final List<BulkTransferReq> requests = new ArrayList<>();
+
+    private CoreUser user;
+    private Account target;
+
+    @BeforeEach
+    void setUp() {
+        user = CoreUser.builder()
+                .name("teen").phoneNumber("010-1234-5678").birthDate(LocalDate.of(2010, 5, 5)).build();
+        em.persist(user);
+        target = account("110-0");
+
+        // 메모가 REJECTED_MEMO 인 건만 대량 이체가 실패로 돌려준다.
+        given(bulkTransferService.transfer(any())).willAnswer(inv -> {
+            BulkTransferReq req = inv.getArgument(0);
+            requests.add(req);
+            List<FailedTransfer> failed = new ArrayList<>();
+            for (int i = 0; i < req.transfers().size(); i++) {
+                if (REJECTED_MEMO.equals(req.transfers().get(i).memo())) {
+                    failed.add(new FailedTransfer(i, "잔액이 부족합니다."));
+                }
+            }
+            return new BulkTransferRes(req.transfers().size(), req.transfers().size() - failed.size(), failed);
+        });
+    }
+
+    @Test
+    @DisplayName("키셋 페이지를 따라 실행일이 된 자동이체를 한 번씩만 처리하고 결과와 다음 실행일을 기록한다")
+    void pagesPartitionsAndRecordsResults() {
+        Account first = account("110-1");
+        Account second = account("110-2");
+        List<Long> due = new ArrayList<>();
+        // 같은 실행일이 페이지 경계에 걸치도록 섞는다.
+        for (int i = 0; i < 7; i++) {
+            LocalDate day = i < 2 ? LocalDate.of(2025, 10, 25) : TODAY;
+            String memo = i == 3 ? REJECTED_MEMO : "용돈";
+            due.add(autoTransfer(i % 2 == 0 ? first : second, memo, day).getId());
+        }
+        AutoTransfer notDue = autoTransfer(first, "용돈", LocalDate.of(2025, 12, 25));
+        em.flush();
+        em.clear();
+
+        RunSummary summary = engine(3, 2).run(TODAY);
+
+        assertThat(summary.processed()).isEqualTo(7);
+        assertThat(summary.succeeded()).isEqualTo(6);
+        assertThat(summary.failed()).isEqualTo(1);
+        assertThat(requests).allSatisfy(r -> assertThat(r.transfers()).isNotEmpty());
+        assertThat(requests.stream().mapToInt(r -> r.transfers().size()).sum()).isEqualTo(7);
+
+        em.clear();
+        Map<Long, AutoTransfer> saved = autoTransferRepository.findAll().stream()
+                .collect(Collectors.toMap(AutoTransfer::getId, Function.identity()));
+        for (int i = 0; i < due.size(); i++) {
+            AutoTransfer row = saved.get(due.get(i));
+            assertThat(row.getStatus()).isEqualTo(i == 3 ? AutoTransferStatus.FAIL : AutoTransferStatus.SUCCESS);
+            assertThat(row.getNextTransferDay()).isEqualTo(LocalDate.of(2025, 12, 25));
+        }
+        assertThat(saved.get(notDue.getId()).getStatus()).isEqualTo(AutoTransferStatus.PROCESSING);
+    }
+
+    @Test
+    @DisplayName("한 출금 계좌의 파티션이 대량 이체 한도를 넘으면 한도만큼씩 나눠 보낸다")
+    void splitsPartitionAtBulkTransferLimit() {
+        Account from = account("110-1");
+        int total = BulkTransferService.MAX_TRANSFERS + 1;
+        for (int i = 0; i < total; i++) {
+            autoTransfer(from, "용돈", TODAY);
+            if (i % 1000 == 999) {
+                em.flush();
+                em.clear();
+                from = em.getReference(Account.class, from.getId());
+                user = em.getReference(CoreUser.class, user.getId());
+                target = em.getReference(Account.class, target.getId());
+            }
+        }
+        em.flush();
+        em.clear();
+
+        RunSummary summary = engine(total, 1).run(TODAY);
+
+        assertThat(summary.succeeded()).isEqualTo(total);
+        assertThat(requests).extracting(r -> r.transfers().size())
+                .containsExactly(BulkTransferService.MAX_TRANSFERS, 1);
+        assertThat(requests.stream().flatMap(r -> r.transfers().stream()).map(TransferItem::fromAccountId))
+                .containsOnly(from.getId());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM core_auto_transfer WHERE status = 'SUCCESS' AND next_transfer_day = ?",
+                Integer.class, LocalDate.of(2025, 12, 25))).isEqualTo(total);
+    }
+
+    @Test
+    @DisplayName("거래 내역 기록과 재기록이 모두 실패해도 되돌리지 못한(반영된) 이체는 다음 실행일로 넘겨 다시 보내지 않는다")
+    void doesNotRetryTransfersLeftApplied(@TempDir Path dir) {
+        Account from = account("110-1", new BigDecimal("100000"));
+        Account drained = account("110-2", BigDecimal.ZERO);
+        AutoTransfer kept = autoTransfer(from, drained, "용돈", TODAY);
+        AutoTransfer reversed = autoTransfer(from, target, "용돈", TODAY);
+        em.flush();
+        em.clear();
+
+        BalanceLedger ledger = new BalanceLedger(8, id -> null, new BalanceJournal(dir, false));
+        TransactionJdbcRepository failingInserts = mock(TransactionJdbcRepository.class);
+        willAnswer(inv -> {
+            // 첫 기록이 실패하기 전에 입금 계좌에서 돈이 빠져나가 그 이체는 역이체가 불가능해진다.
+            if (ledger.balanceOf(drained.getId()).signum() > 0) {
+                ledger.debit(drained.getId(), ledger.balanceOf(drained.getId()));
+            }
+            throw new IllegalStateException("insert failed");
+        }).given(failingInserts).batchInsert(anyList());
+        BulkTransferService realTransfers = new BulkTransferService(accountRepository, ledger, failingInserts);
+
+        RunSummary summary = engine(10, 1, realTransfers).run(TODAY);
+
+        assertThat(summary.succeeded()).isEqualTo(1);
+        assertThat(summary.failed()).isEqualTo(1);
+        assertThat(ledger.balanceOf(from.getId())).isEqualByComparingTo("90000");
+        em.clear();
+        AutoTransfer keptRow = autoTransferRepository.findById(kept.getId()).orElseThrow();
+        assertThat(keptRow.getStatus()).isEqualTo(AutoTransferStatus.SUCCESS);
+        assertThat(keptRow.getNextTransferDay()).isEqualTo(LocalDate.of(2025, 12, 25));
+        AutoTransfer reversedRow = autoTransferRepository.findById(reversed.getId()).orElseThrow();
+        assertThat(reversedRow.getStatus()).isEqualTo(AutoTransferStatus.FAIL);
+        assertThat(reversedRow.getNextTransferDay()).isEqualTo(TODAY);
+    }
+
+    private AutoTransferEngine engine(int pageSize, int partitions) {
+        return engine(pageSize, partitions, bulkTransferService);
+    }
+
+    private AutoTransferEngine engine(int pageSize, int partitions, BulkTransferService transfers) {
+        AutoTransferProperties properties = new AutoTransferProperties();
+        properties.setPageSize(pageSize);
+        properties.setPartitions(partitions);
+        // 파티션을 호출 스레드에서 실행해 테스트 트랜잭션 안에서 결과를 확인한다.
+        return new AutoTransferEngine(autoTransferRepository, autoTransferJdbcRepository, transfers,
+                new TaskExecutorAdapter(Runnable::run), properties, new SimpleMeterRegistry());
+    }
+
+    private Account account(String number) {
+        return account(number, BigDecimal.ZERO);
+    }
+
+    private Account account(String number, BigDecimal balance) {
+        Account account = Account.builder()
+                .user(user).number(number).productName("입출금").balance(balance).interestRate(BigDecimal.ZERO).build();
+        em.persist(account);
+        return account;
+    }
+
+    private AutoTransfer autoTransfer(Account from, String memo, LocalDate nextTransferDay) {
+        return autoTransfer(from, target, memo, nextTransferDay);
+    }
+
+    private AutoTransfer autoTransfer(Account from, Account to, String memo, LocalDate nextTransferDay) {
+        AutoTransfer autoTransfer = AutoTransfer.builder()
+                .user(user).fromAccount(from).toAccount(to)
+                .amount(new BigDecimal("10000")).memo(memo)
+                .transferDay(25).nextTransferDay(nextTransferDay)
+                .build();
+        em.persist(autoTransfer);
+        return autoTransfer;
+    }
+}
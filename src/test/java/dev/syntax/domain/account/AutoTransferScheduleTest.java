@@ -0,0 +1,38 @@
+package dev.syntax.domain.account;
+
+import dev.syntax.domain.account.service.AutoTransferEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동이체 다음 실행일 계산 규칙을 검증한다.
+ */
+class AutoTransferScheduleTest {
+
+    @Test
+    @DisplayName("다음 달 같은 날짜로 이동한다")
+    void movesToSameDayNextMonth() {
+        assertThat(AutoTransferEngine.nextRunDay(25, LocalDate.of(2025, 1, 25), LocalDate.of(2025, 1, 25)))
+                .isEqualTo(LocalDate.of(2025, 2, 25));
+    }
+
+    @Test
+    @DisplayName("해당 날짜가 없는 달은 말일로 맞추고, 그 다음 달은 원래 날짜로 돌아온다")
+    void clampsToEndOfMonth() {
+        assertThat(AutoTransferEngine.nextRunDay(31, LocalDate.of(2025, 1, 31), LocalDate.of(2025, 1, 31)))
+                .isEqualTo(LocalDate.of(2025, 2, 28));
+        assertThat(AutoTransferEngine.nextRunDay(31, LocalDate.of(2025, 2, 28), LocalDate.of(2025, 2, 28)))
+                .isEqualTo(LocalDate.of(2025, 3, 31));
+    }
+
+    @Test
+    @DisplayName("여러 달 밀린 자동이체는 오늘 이후 첫 실행일로 이동한다")
+    void skipsMissedMonths() {
+        assertThat(AutoTransferEngine.nextRunDay(10, LocalDate.of(2025, 1, 10), LocalDate.of(2025, 4, 20)))
+                .isEqualTo(LocalDate.of(2025, 5, 10));
+    }
+}
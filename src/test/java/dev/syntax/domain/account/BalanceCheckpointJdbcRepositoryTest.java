@@ -0,0 +1,56 @@
+package dev.syntax.domain.account;
+
+import dev.syntax.domain.account.repository.BalanceCheckpointJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 거래 내역 스트리밍이 DB에 맞는 fetch size 로 읽는지 JDBC 목으로 검증한다.
+ */
+class BalanceCheckpointJdbcRepositoryTest {
+
+    PreparedStatement ps = mock(PreparedStatement.class);
+
+    private BalanceCheckpointJdbcRepository repository(String productName) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection con = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        given(dataSource.getConnection()).willReturn(con);
+        given(con.getMetaData()).willReturn(metaData);
+        given(metaData.getDatabaseProductName()).willReturn(productName);
+        given(con.prepareStatement(anyString(), anyInt(), anyInt())).willReturn(ps);
+        given(ps.executeQuery()).willReturn(mock(ResultSet.class));
+        return new BalanceCheckpointJdbcRepository(new JdbcTemplate(dataSource));
+    }
+
+    @Test
+    @DisplayName("MySQL 에서는 결과를 통째로 받지 않도록 행 단위 스트리밍(fetch size = MIN_VALUE)으로 읽는다")
+    void streamsRowByRowOnMySql() throws SQLException {
+        repository("MySQL").streamHistory(3L, rs -> { });
+
+        verify(ps).setFetchSize(Integer.MIN_VALUE);
+        verify(ps).setLong(1, 3L);
+    }
+
+    @Test
+    @DisplayName("음수 fetch size 를 받지 않는 DB 에서는 양수 fetch size 로 나눠 읽는다")
+    void usesPositiveFetchSizeElsewhere() throws SQLException {
+        repository("H2").streamHistory(3L, rs -> { });
+
+        verify(ps).setFetchSize(1_000);
+    }
+}
@@ -0,0 +1,65 @@
+package dev.syntax.domain.account;
+
+import dev.syntax.domain.account.entity.BalanceCheckpoint;
+import dev.syntax.domain.account.ledger.BalanceLedger;
+import dev.syntax.domain.account.repository.BalanceCheckpointJdbcRepository;
+import dev.syntax.domain.account.repository.BalanceCheckpointRepository;
+import dev.syntax.domain.account.service.BalanceCheckpointProperties;
+import dev.syntax.domain.account.service.BalanceCheckpointService;
+import dev.syntax.domain.transaction.enums.TransactionStatus;
+import dev.syntax.domain.transaction.repository.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BalanceCheckpointServiceTest {
+
+    BalanceCheckpointRepository checkpointRepository = mock(BalanceCheckpointRepository.class);
+    TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    BalanceCheckpointService service = new BalanceCheckpointService(checkpointRepository,
+            mock(BalanceCheckpointJdbcRepository.class), transactionRepository, mock(BalanceLedger.class),
+            new ThreadPoolTaskExecutor(), new BalanceCheckpointProperties());
+
+    LocalDateTime checkpointAt = LocalDateTime.of(2025, 11, 1, 0, 0);
+    LocalDateTime at = LocalDateTime.of(2025, 11, 1, 15, 30);
+
+    private void givenCheckpoint(String balance) {
+        when(checkpointRepository.findFirstByAccountIdAndCheckpointAtLessThanEqualOrderByCheckpointAtDesc(3L, at))
+                .thenReturn(Optional.of(BalanceCheckpoint.builder()
+                        .accountId(3L).checkpointAt(checkpointAt).balance(new BigDecimal(balance)).lastTransactionId(10L)
+                        .build()));
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후 구간에만 거래를 조회하고, 마지막 거래 후 잔액을 돌려준다")
+    void replaysOnlyAfterCheckpoint() {
+        givenCheckpoint("1000.00");
+        when(transactionRepository.findLastBalanceBetween(eq(3L), eq(TransactionStatus.SUCCESS), eq(checkpointAt), eq(at), any()))
+                .thenReturn(List.of(new BigDecimal("750.00")));
+
+        var res = service.balanceAt(3L, at);
+
+        assertThat(res.balance()).isEqualByComparingTo("750.00");
+        assertThat(res.checkpointAt()).isEqualTo(checkpointAt);
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후 거래가 없으면 체크포인트 잔액이 그대로 답이다")
+    void checkpointBalanceWhenNoReplay() {
+        givenCheckpoint("1000.00");
+        when(transactionRepository.findLastBalanceBetween(eq(3L), any(), any(), any(), any())).thenReturn(List.of());
+
+        assertThat(service.balanceAt(3L, at).balance()).isEqualByComparingTo("1000.00");
+    }
+}
@@ -0,0 +1,141 @@
+package dev.syntax.domain.account;
+
+import dev.syntax.domain.account.entity.Account;
+import dev.syntax.domain.account.ledger.BalanceLedger;
+import dev.syntax.domain.account.ledger.BalanceLedgerFlusher;
+import dev.syntax.domain.account.repository.AccountRepository;
+import dev.syntax.domain.user.entity.CoreUser;
+import dev.syntax.domain.user.repository.CoreUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 JPA 경로(행 잠금 + read-modify-write)와 인메모리 원장 경로로 여러 스레드가 같은 계좌들 사이에서 동시에 이체해도
+ * 계좌별 최종 잔액이 이체 내역과 정확히 맞고, 원장 잔액이 flush 뒤 DB에도 그대로 남는지 검증한다.
+ * <p>처리량 비교는 {@code BalanceLedgerBenchmark}(JMH)에서 잰다.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BalanceLedgerContentionTest {
+
+    private static final int ACCOUNTS = 20;
+    private static final int THREADS = 16;
+    private static final int TRANSFERS_PER_THREAD = 200;
+    private static final BigDecimal OPENING = new BigDecimal("1000000.00");
+    private static final BigDecimal AMOUNT = new BigDecimal("10.00");
+
+    @Autowired
+    CoreUserRepository userRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    TransactionTemplate tx;
+
+    @Autowired
+    BalanceLedger ledger;
+
+    @Autowired
+    BalanceLedgerFlusher flusher;
+
+    private final List<Long> ids = new ArrayList<>();
+    // 계좌별 순입금 횟수 (입금 +1, 출금 -1)
+    private final AtomicLongArray net = new AtomicLongArray(ACCOUNTS);
+
+    @BeforeEach
+    void setUp() {
+        CoreUser user = userRepository.save(CoreUser.builder()
+                .name("contention").phoneNumber("010-0000-0000").birthDate(LocalDate.of(2010, 1, 1)).build());
+        for (int i = 0; i < ACCOUNTS; i++) {
+            Account account = accountRepository.save(Account.builder()
+                    .user(user).number("C" + i).productName("contention")
+                    .balance(OPENING).interestRate(BigDecimal.ZERO).build());
+            ids.add(account.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("JPA 행 잠금 경로와 인메모리 원장 경로 모두 경합 중 이체가 빠짐없이 계좌별 잔액에 반영된다")
+    void contendedTransfersLandOnEveryBalance() throws Exception {
+        run((from, to) -> tx.executeWithoutResult(status -> {
+            // 교착 방지를 위해 ID 오름차순으로 잠근다.
+            Account first = accountRepository.findByIdForUpdate(Math.min(from, to)).orElseThrow();
+            Account second = accountRepository.findByIdForUpdate(Math.max(from, to)).orElseThrow();
+            Account debit = first.getId().equals(from) ? first : second;
+            Account credit = debit == first ? second : first;
+            debit.withdraw(AMOUNT);
+            credit.deposit(AMOUNT);
+        }));
+        for (int i = 0; i < ACCOUNTS; i++) {
+            assertThat(dbBalance(i)).isEqualByComparingTo(expected(i));
+        }
+
+        // 원장은 JPA 경로가 남긴 잔액에서 이어서 시작한다.
+        run((from, to) -> ledger.transfer(from, to, AMOUNT));
+        for (int i = 0; i < ACCOUNTS; i++) {
+            assertThat(ledger.balanceOf(ids.get(i))).isEqualByComparingTo(expected(i));
+        }
+
+        flusher.flush();
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < ACCOUNTS; i++) {
+            assertThat(dbBalance(i)).isEqualByComparingTo(expected(i));
+            total = total.add(dbBalance(i));
+        }
+        assertThat(total).isEqualByComparingTo(OPENING.multiply(BigDecimal.valueOf(ACCOUNTS)));
+    }
+
+    private void run(Transfer transfer) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(pool.submit(() -> {
+                ThreadLocalRandom r = ThreadLocalRandom.current();
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    int from = r.nextInt(ACCOUNTS);
+                    int to = r.nextInt(ACCOUNTS);
+                    if (from != to) {
+                        transfer.apply(ids.get(from), ids.get(to));
+                        net.decrementAndGet(from);
+                        net.incrementAndGet(to);
+                    }
+                }
+            }));
+        }
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        pool.shutdown();
+    }
+
+    private BigDecimal expected(int index) {
+        return OPENING.add(AMOUNT.multiply(BigDecimal.valueOf(net.get(index))));
+    }
+
+    private BigDecimal dbBalance(int index) {
+        return accountRepository.findById(ids.get(index)).orElseThrow().getBalance();
+    }
+
+    @FunctionalInterface
+    private interface Transfer {
+        void apply(long from, long to);
+    }
+}
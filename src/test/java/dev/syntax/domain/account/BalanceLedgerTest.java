@@ -0,0 +1,112 @@
+package dev.syntax.domain.account;
+
+import dev.syntax.domain.account.ledger.BalanceJournal;
+import dev.syntax.domain.account.ledger.BalanceLedger;
+import dev.syntax.global.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 인메모리 잔액 원장의 동시성/저널 복구 동작을 DB 없이 검증한다.
+ */
+class BalanceLedgerTest {
+
+    @TempDir
+    Path dir;
+
+    private BalanceLedger newLedger(BalanceJournal journal) {
+        return new BalanceLedger(8, id -> id <= 10 ? new BigDecimal("1000.00") : null, journal);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 이체해도 총액은 보존된다")
+    void concurrentTransfersPreserveTotal() throws Exception {
+        BalanceLedger ledger = newLedger(new BalanceJournal(dir, false));
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(pool.submit(() -> {
+                ThreadLocalRandom r = ThreadLocalRandom.current();
+                for (int i = 0; i < 2_000; i++) {
+                    long from = r.nextLong(1, 11);
+                    long to = r.nextLong(1, 11);
+                    if (from == to) continue;
+                    try {
+                        ledger.transfer(from, to, new BigDecimal("7.50"));
+                    } catch (BusinessException ignored) {
+                        // 잔액 부족
+                    }
+                }
+            }));
+        }
+        for (Future<?> f : futures) f.get();
+        pool.shutdown();
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (long id = 1; id <= 10; id++) {
+            assertThat(ledger.balanceOf(id).signum()).isGreaterThanOrEqualTo(0);
+            total = total.add(ledger.balanceOf(id));
+        }
+        assertThat(total).isEqualByComparingTo("10000.00");
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 출금 계좌와 입금 계좌 모두 변하지 않는다")
+    void insufficientBalanceRejected() {
+        BalanceLedger ledger = newLedger(new BalanceJournal(dir, false));
+
+        assertThatThrownBy(() -> ledger.transfer(1, 2, new BigDecimal("1000.01")))
+                .isInstanceOf(BusinessException.class);
+        assertThat(ledger.balanceOf(1)).isEqualByComparingTo("1000.00");
+        assertThat(ledger.balanceOf(2)).isEqualByComparingTo("1000.00");
+    }
+
+    @Test
+    @DisplayName("flush 되지 않은 변경은 재기동 시 저널에서 계좌별 마지막 잔액으로 복구된다")
+    void journalRecoversLastBalance() throws Exception {
+        BalanceJournal journal = new BalanceJournal(dir, false);
+        BalanceLedger ledger = newLedger(journal);
+        ledger.transfer(1, 2, new BigDecimal("100.00"));
+        ledger.debit(1, new BigDecimal("50.00"));
+        journal.close();
+
+        BalanceJournal restarted = new BalanceJournal(dir, false);
+        Map<Long, BigDecimal> recovered = restarted.recover();
+
+        assertThat(recovered.get(1L)).isEqualByComparingTo("850.00");
+        assertThat(recovered.get(2L)).isEqualByComparingTo("1100.00");
+
+        restarted.discardRecovered();
+        assertThat(new BalanceJournal(dir, false).recover()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("drainDirty 이후 봉인된 세그먼트를 지우면 다음 기동에서 복구할 것이 없다")
+    void sealedSegmentsDeletedAfterFlush() throws Exception {
+        BalanceJournal journal = new BalanceJournal(dir, false);
+        BalanceLedger ledger = newLedger(journal);
+        ledger.credit(3, new BigDecimal("1.00"));
+
+        long sealed = ledger.quiesce(journal::rotate);
+        assertThat(ledger.drainDirty()).containsExactly(Map.entry(3L, new BigDecimal("1001.00")));
+        journal.deleteSealedUpTo(sealed);
+        journal.close();
+
+        assertThat(new BalanceJournal(dir, false).recover()).isEmpty();
+        assertThat(ledger.dirtyCount()).isZero();
+    }
+}
@@ -0,0 +1,61 @@
+package dev.syntax.domain.investment;
+
+import dev.syntax.domain.investment.entity.InvestmentAccount;
+import dev.syntax.domain.investment.repository.InvestmentValuationJdbcRepository;
+import dev.syntax.domain.investment.valuation.ValuationBook.Valuation;
+import dev.syntax.global.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예수금 변경(JPA)이 평가 엔진이 그 사이 JDBC로 기록한 유가증권 평가금액을 덮어쓰지 않는지 H2에서 검증한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaConfig.class, InvestmentValuationJdbcRepository.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class InvestmentAccountUpdateTest {
+
+    @Autowired
+    private InvestmentValuationJdbcRepository valuationJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Test
+    @DisplayName("예수금만 바꾸면 JDBC로 기록된 유가증권 평가금액은 그대로 남는다")
+    void depositUpdateKeepsSecuritiesEvaluation() {
+        em.persist(InvestmentAccount.builder()
+                .cano("12345678").userId(1L)
+                .totalEvaluationAmount(100_000L).depositAmount(100_000L).securitiesEvaluationAmount(0L)
+                .build());
+        em.flush();
+        InvestmentAccount account = em.find(InvestmentAccount.class, "12345678");
+
+        valuationJdbcRepository.batchUpdate(List.of(new Valuation("12345678", 50_000L, 150_000L)), 100);
+        account.subtractDeposit(30_000L);
+        em.flush();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT scts_evlu_amt FROM core_investment_account WHERE cano = ?", Long.class, "12345678"))
+                .isEqualTo(50_000L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT dnca_tot_amt FROM core_investment_account WHERE cano = ?", Long.class, "12345678"))
+                .isEqualTo(70_000L);
+    }
+}
@@ -0,0 +1,72 @@
+package dev.syntax.domain.investment;
+
+import dev.syntax.domain.investment.broker.BrokerResult;
+import dev.syntax.domain.investment.broker.KisOrderBroker;
+import dev.syntax.domain.investment.entity.InvestmentAccount;
+import dev.syntax.domain.investment.entity.TradeOrder;
+import dev.syntax.domain.investment.enums.TradeType;
+import dev.syntax.domain.investment.service.OrderPipelineProperties;
+import dev.syntax.external.kis.KisOrderApiClient;
+import dev.syntax.external.kis.dto.OrderCashRes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * KIS 브로커가 응답을 받지 못한 주문을 묶음 전체가 아니라 주문별로, 재전송하지 않을 결과로 돌려주는지 검증한다.
+ */
+class KisOrderBrokerTest {
+
+    KisOrderApiClient client = mock(KisOrderApiClient.class);
+    OrderPipelineProperties properties = new OrderPipelineProperties();
+
+    @Test
+    @DisplayName("응답이 늦은 주문은 결과 미상, 연결조차 안 된 주문은 거절로 남고 나머지 결과는 그대로 돌려준다")
+    void timesOutPerOrder() {
+        properties.setOrderTimeout(Duration.ofMillis(200));
+        given(client.orderCash(anyString(), anyString(), eq("000001"), anyLong(), anyLong(), eq(Duration.ofMillis(200))))
+                .willReturn(Mono.<OrderCashRes>never().timeout(Duration.ofMillis(200)));
+        given(client.orderCash(anyString(), anyString(), eq("000002"), anyLong(), anyLong(), any(Duration.class)))
+                .willReturn(Mono.error(new WebClientRequestException(new ConnectException("refused"),
+                        HttpMethod.POST, URI.create("http://kis"), new HttpHeaders())));
+        KisOrderBroker broker = new KisOrderBroker(client, properties);
+
+        List<BrokerResult> results = broker.submit(List.of(order(1L, "000001"), order(2L, "000002")));
+
+        assertThat(results).hasSize(2);
+        BrokerResult late = results.stream().filter(r -> r.orderId() == 1L).findFirst().orElseThrow();
+        BrokerResult refused = results.stream().filter(r -> r.orderId() == 2L).findFirst().orElseThrow();
+        assertThat(late.isUnknown()).isTrue();
+        assertThat(late.brokerOrderNo()).isEqualTo(BrokerResult.UNKNOWN_ORDER_NO);
+        assertThat(refused.accepted()).isFalse();
+    }
+
+    private static TradeOrder order(long id, String productCode) {
+        return TradeOrder.builder()
+                .id(id)
+                .cano(InvestmentAccount.builder().cano("12345678").userId(1L).build())
+                .userId(1L)
+                .tradeType(TradeType.TTTTC0012U)
+                .productCode(productCode)
+                .productName("테스트")
+                .quantity(1)
+                .price(1_000L)
+                .build();
+    }
+}
@@ -0,0 +1,181 @@
+package dev.syntax.domain.investment;
+
+import dev.syntax.domain.investment.entity.InvestmentAccount;
+import dev.syntax.domain.investment.entity.Portfolio;
+import dev.syntax.domain.investment.entity.TradeOrder;
+import dev.syntax.domain.investment.enums.OrderStatus;
+import dev.syntax.domain.investment.enums.TradeType;
+import dev.syntax.domain.investment.matching.MatchingEngine;
+import dev.syntax.domain.investment.matching.MatchingProperties;
+import dev.syntax.domain.investment.repository.InvestmentAccountRepository;
+import dev.syntax.domain.investment.repository.PortfolioRepository;
+import dev.syntax.domain.investment.repository.TradeOrderRepository;
+import dev.syntax.domain.investment.service.OrderExecutionService;
+import dev.syntax.external.kis.KisQuoteCache;
+import dev.syntax.global.config.JpaConfig;
+import dev.syntax.global.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 모의 체결 엔진의 예약·체결 반영·취소·재시도가 주문/보유 종목/예수금에 맞게 기록되는지 H2에서 검증한다.
+ * 시장 유동성은 끄고 호가창 주문끼리만 체결한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class MatchingEngineTest {
+
+    private static final String BUYER = "11111111";
+    private static final String SELLER = "22222222";
+    private static final String CODE = "005930";
+
+    @Autowired
+    private TradeOrderRepository tradeOrderRepository;
+
+    @Autowired
+    private InvestmentAccountRepository investmentAccountRepository;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private OrderExecutionService executionService;
+    private MatchingEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        account(BUYER, 1L, 1_000_000L);
+        InvestmentAccount seller = account(SELLER, 2L, 0L);
+        em.persist(Portfolio.builder()
+                .cano(seller).userId(2L).productCode(CODE).productName("삼성전자")
+                .holdingQuantity(10L).purchaseAvgPrice(60_000L)
+                .build());
+        em.flush();
+
+        executionService = spy(new OrderExecutionService(tradeOrderRepository, investmentAccountRepository,
+                portfolioRepository));
+        MatchingProperties properties = new MatchingProperties();
+        properties.setMarketLiquidity(false);
+        engine = new MatchingEngine(tradeOrderRepository, investmentAccountRepository, portfolioRepository,
+                executionService, mock(KisQuoteCache.class), properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("매수·매도가 만나면 양쪽 주문을 체결하고 보유 종목과 예수금을 옮긴다")
+    void crossFillsBothSidesAndMovesHoldingsAndDeposit() {
+        TradeOrder sell = submit(SELLER, 2L, TradeType.TTTCO011U, 5, 70_000L);
+        TradeOrder buy = submit(BUYER, 1L, TradeType.TTTTC0012U, 5, 71_000L);
+
+        // 먼저 올라간 매도 호가(70,000원)에 체결된다.
+        assertThat(order(sell).getStatus()).isEqualTo(OrderStatus.EXECUTED);
+        assertThat(order(buy).getStatus()).isEqualTo(OrderStatus.EXECUTED);
+        assertThat(order(buy).getFilledQuantity()).isEqualTo(5);
+        assertThat(deposit(BUYER)).isEqualTo(1_000_000L - 350_000L);
+        assertThat(deposit(SELLER)).isEqualTo(350_000L);
+        assertThat(holding(BUYER)).isEqualTo(5L);
+        assertThat(holding(SELLER)).isEqualTo(5L);
+        assertThat(engine.restingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("예수금은 대기 중인 매수 주문만큼 잡혀 있다가 취소하면 풀린다")
+    void cancelReleasesReservation() {
+        TradeOrder first = submit(BUYER, 1L, TradeType.TTTTC0012U, 10, 100_000L);
+        assertThatThrownBy(() -> submit(BUYER, 1L, TradeType.TTTTC0012U, 1, 100_000L))
+                .isInstanceOf(BusinessException.class);
+
+        assertThat(engine.cancel(first.getId())).isTrue();
+        assertThat(order(first).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+
+        submit(BUYER, 1L, TradeType.TTTTC0012U, 10, 100_000L);
+        assertThat(engine.restingCount()).isEqualTo(1);
+        assertThat(deposit(BUYER)).isEqualTo(1_000_000L);
+    }
+
+    @Test
+    @DisplayName("체결 반영이 실패하면 다음 주기에 다시 반영하고, 그 사이 들어온 취소는 반영 뒤에 기록한다")
+    void retriesFailedApplyAndDefersCancel() {
+        doThrow(new IllegalStateException("db down")).doCallRealMethod().when(executionService).apply(anyList());
+        TradeOrder sell = submit(SELLER, 2L, TradeType.TTTCO011U, 5, 70_000L);
+        TradeOrder buy = submit(BUYER, 1L, TradeType.TTTTC0012U, 8, 70_000L);
+
+        assertThat(order(sell).getStatus()).isEqualTo(OrderStatus.REQUESTED);
+        assertThat(deposit(SELLER)).isZero();
+        // 5주는 체결됐지만 아직 반영 전이므로 나머지 3주 취소 기록은 미뤄진다.
+        assertThat(engine.cancel(buy.getId())).isTrue();
+        assertThat(order(buy).getStatus()).isEqualTo(OrderStatus.REQUESTED);
+
+        engine.sweep();
+
+        verify(executionService, times(2)).apply(anyList());
+        assertThat(order(sell).getStatus()).isEqualTo(OrderStatus.EXECUTED);
+        assertThat(order(buy).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(order(buy).getFilledQuantity()).isEqualTo(5);
+        assertThat(deposit(BUYER)).isEqualTo(1_000_000L - 350_000L);
+        assertThat(deposit(SELLER)).isEqualTo(350_000L);
+        assertThat(holding(BUYER)).isEqualTo(5L);
+    }
+
+    private InvestmentAccount account(String cano, long userId, long deposit) {
+        InvestmentAccount account = InvestmentAccount.builder()
+                .cano(cano).userId(userId)
+                .totalEvaluationAmount(deposit).depositAmount(deposit).securitiesEvaluationAmount(0L)
+                .build();
+        em.persist(account);
+        return account;
+    }
+
+    private TradeOrder submit(String cano, long userId, TradeType type, int quantity, long price) {
+        TradeOrder order = tradeOrderRepository.save(TradeOrder.builder()
+                .cano(em.getReference(InvestmentAccount.class, cano)).userId(userId)
+                .orderTime(LocalDateTime.now()).tradeType(type)
+                .productCode(CODE).productName("삼성전자")
+                .quantity(quantity).price(price).exchangeDivisionCode("KRX")
+                .build());
+        engine.submit(order);
+        return order;
+    }
+
+    private TradeOrder order(TradeOrder order) {
+        em.flush();
+        em.clear();
+        return tradeOrderRepository.findById(order.getId()).orElseThrow();
+    }
+
+    private long deposit(String cano) {
+        em.flush();
+        em.clear();
+        return investmentAccountRepository.findById(cano).orElseThrow().getDepositAmount();
+    }
+
+    private long holding(String cano) {
+        em.flush();
+        em.clear();
+        return portfolioRepository.findByCanoAndProductCode(cano, CODE).map(Portfolio::getHoldingQuantity).orElse(0L);
+    }
+}
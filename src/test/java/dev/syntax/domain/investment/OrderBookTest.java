@@ -0,0 +1,68 @@
+package dev.syntax.domain.investment;
+
+import dev.syntax.domain.investment.matching.OrderBook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderBookTest {
+
+    private final List<String> fills = new ArrayList<>();
+    private final OrderBook.FillListener listener =
+            (buy, sell, price, qty) -> fills.add(buy + "/" + sell + "@" + price + "x" + qty);
+
+    @Test
+    @DisplayName("좋은 가격이 먼저, 같은 가격은 먼저 들어온 주문부터 체결된다")
+    void priceThenTimePriority() {
+        OrderBook book = new OrderBook();
+        book.submit(1, false, 70_100, 5, listener);
+        book.submit(2, false, 70_000, 3, listener);
+        book.submit(3, false, 70_000, 4, listener);
+
+        long left = book.submit(10, true, 70_100, 10, listener);
+
+        assertThat(left).isZero();
+        assertThat(fills).containsExactly("10/2@70000x3", "10/3@70000x4", "10/1@70100x3");
+        assertThat(book.bestAsk()).isEqualTo(70_100);
+        assertThat(book.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가격이 맞지 않으면 남은 수량이 호가창에 쌓이고, 취소하면 잔량을 돌려준다")
+    void restAndCancel() {
+        OrderBook book = new OrderBook();
+        book.submit(1, true, 69_900, 5, listener);
+        book.submit(2, true, 70_000, 5, listener);
+        assertThat(book.submit(3, false, 70_000, 8, listener)).isEqualTo(3);
+
+        assertThat(fills).containsExactly("2/3@70000x5");
+        assertThat(book.bestBid()).isEqualTo(69_900);
+        assertThat(book.bestAsk()).isEqualTo(70_000);
+
+        assertThat(book.cancel(3)).isEqualTo(3);
+        assertThat(book.cancel(3)).isZero();
+        assertThat(book.bestAsk()).isZero();
+        assertThat(book.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시장가와 맞는 대기 주문은 시장을 상대로 그 가격에 전량 체결된다")
+    void sweepAgainstMarket() {
+        OrderBook book = new OrderBook();
+        book.submit(1, true, 70_200, 2, listener);
+        book.submit(2, true, 69_000, 2, listener);
+        book.submit(3, false, 71_000, 1, listener);
+        book.submit(4, false, 72_000, 1, listener);
+
+        assertThat(book.sweep(70_000, listener)).isEqualTo(1);
+        assertThat(book.sweep(71_500, listener)).isEqualTo(1);
+
+        assertThat(fills).containsExactly("1/0@70000x2", "0/3@71500x1");
+        assertThat(book.bestBid()).isEqualTo(69_000);
+        assertThat(book.bestAsk()).isEqualTo(72_000);
+    }
+}
@@ -0,0 +1,240 @@
+package dev.syntax.domain.investment;
+
+import dev.syntax.domain.investment.broker.BrokerResult;
+import dev.syntax.domain.investment.broker.OrderBroker;
+import dev.syntax.domain.investment.dto.OrderCreateReq;
+import dev.syntax.domain.investment.dto.OrderStatusRes;
+import dev.syntax.domain.investment.entity.InvestmentAccount;
+import dev.syntax.domain.investment.entity.TradeOrder;
+import dev.syntax.domain.investment.enums.OrderStatus;
+import dev.syntax.domain.investment.enums.TradeType;
+import dev.syntax.domain.investment.repository.InvestmentAccountRepository;
+import dev.syntax.domain.investment.repository.TradeOrderJdbcRepository;
+import dev.syntax.domain.investment.repository.TradeOrderRepository;
+import dev.syntax.domain.investment.service.OrderPipeline;
+import dev.syntax.domain.investment.service.OrderPipelineProperties;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 주문 파이프라인이 저장 즉시 반환하고, 전송은 묶음으로, 상태 반영은 JDBC batch 로 하는지 mock 으로 검증한다.
+ */
+class OrderPipelineTest {
+
+    TradeOrderRepository tradeOrderRepository = mock(TradeOrderRepository.class);
+    TradeOrderJdbcRepository tradeOrderJdbcRepository = mock(TradeOrderJdbcRepository.class);
+    InvestmentAccountRepository investmentAccountRepository = mock(InvestmentAccountRepository.class);
+    OrderBroker orderBroker = mock(OrderBroker.class);
+    OrderPipelineProperties properties = new OrderPipelineProperties();
+    List<TradeOrder> saved = new ArrayList<>();
+    OrderPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        InvestmentAccount account = InvestmentAccount.builder().cano("12345678").userId(1L).build();
+        given(investmentAccountRepository.findById("12345678")).willReturn(Optional.of(account));
+        AtomicLong ids = new AtomicLong();
+        given(tradeOrderRepository.save(any(TradeOrder.class))).willAnswer(inv -> {
+            TradeOrder o = inv.getArgument(0);
+            TradeOrder persisted = TradeOrder.builder()
+                    .id(ids.incrementAndGet()).cano(o.getCano()).userId(o.getUserId())
+                    .orderTime(o.getOrderTime()).tradeType(o.getTradeType())
+                    .productCode(o.getProductCode()).productName(o.getProductName())
+                    .quantity(o.getQuantity()).price(o.getPrice())
+                    .exchangeDivisionCode(o.getExchangeDivisionCode())
+                    .build();
+            saved.add(persisted);
+            return persisted;
+        });
+        given(tradeOrderRepository.findAllById(any())).willAnswer(inv -> new ArrayList<>(saved));
+        given(tradeOrderRepository.findById(anyLong())).willAnswer(inv -> saved.stream()
+                .filter(o -> o.getId().equals(inv.getArgument(0)))
+                .findFirst());
+        given(tradeOrderRepository.findByStatusAndGlobalUidIsNullOrderByIdAsc(OrderStatus.REQUESTED))
+                .willReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("주문은 브로커 응답을 기다리지 않고 REQUESTED 로 반환되고, 대기열이 가득 차면 503")
+    void acceptsWithoutWaitingForBroker() {
+        properties.setQueueCapacity(2);
+        pipeline = new OrderPipeline(tradeOrderRepository, tradeOrderJdbcRepository,
+                investmentAccountRepository, orderBroker, properties, new SimpleMeterRegistry());
+
+        OrderStatusRes first = pipeline.accept(buy(1L));
+        pipeline.accept(buy(1L));
+
+        assertThat(first.status()).isEqualTo(OrderStatus.REQUESTED);
+        assertThat(first.brokerOrderNo()).isNull();
+        assertThatThrownBy(() -> pipeline.accept(buy(1L)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorBaseCode.SERVICE_UNAVAILABLE.getMessage());
+        assertThatThrownBy(() -> pipeline.accept(buy(2L)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorBaseCode.FORBIDDEN.getMessage());
+        assertThat(saved).hasSize(2);
+        verify(orderBroker, never()).submit(anyList());
+    }
+
+    @Test
+    @DisplayName("작업자가 묶음으로 전송하고, 접수 결과는 reconcile 에서 한 번에 기록된다")
+    @SuppressWarnings("unchecked")
+    void sendsInBatchesAndReconciles() {
+        properties.setBatchSize(10);
+        given(orderBroker.submit(anyList())).willAnswer(inv -> {
+            List<TradeOrder> orders = inv.getArgument(0);
+            return orders.stream()
+                    .map(o -> o.getId() == 2L
+                            ? BrokerResult.rejected(o.getId(), "예수금 부족")
+                            : BrokerResult.accepted(o.getId(), "MOCK" + o.getId()))
+                    .toList();
+        });
+        pipeline = new OrderPipeline(tradeOrderRepository, tradeOrderJdbcRepository,
+                investmentAccountRepository, orderBroker, properties, new SimpleMeterRegistry());
+        for (int i = 0; i < 3; i++) {
+            pipeline.accept(buy(1L));
+        }
+
+        pipeline.start();
+        verify(orderBroker, timeout(2000)).submit(anyList());
+        pipeline.reconcile();
+
+        ArgumentCaptor<List<BrokerResult>> captor = ArgumentCaptor.forClass(List.class);
+        verify(tradeOrderJdbcRepository).batchReconcile(captor.capture());
+        assertThat(captor.getValue()).extracting(BrokerResult::orderId).containsExactly(1L, 2L, 3L);
+        assertThat(captor.getValue()).extracting(BrokerResult::accepted).containsExactly(true, false, true);
+    }
+
+    @Test
+    @DisplayName("브로커에 넘기기 전에 실패한 묶음은 잠시 뒤 다시 보낸다")
+    @SuppressWarnings("unchecked")
+    void retriesBatchFailedBeforeBroker() {
+        properties.setRetryBackoff(Duration.ofMillis(10));
+        given(tradeOrderRepository.findAllById(any()))
+                .willThrow(new IllegalStateException("db down"))
+                .willAnswer(inv -> new ArrayList<>(saved));
+        given(orderBroker.submit(anyList())).willAnswer(inv -> {
+            List<TradeOrder> orders = inv.getArgument(0);
+            return orders.stream().map(o -> BrokerResult.accepted(o.getId(), "MOCK" + o.getId())).toList();
+        });
+        pipeline = new OrderPipeline(tradeOrderRepository, tradeOrderJdbcRepository,
+                investmentAccountRepository, orderBroker, properties, new SimpleMeterRegistry());
+        pipeline.accept(buy(1L));
+
+        pipeline.start();
+        verify(orderBroker, timeout(2000)).submit(anyList());
+        pipeline.reconcile();
+
+        ArgumentCaptor<List<BrokerResult>> captor = ArgumentCaptor.forClass(List.class);
+        verify(tradeOrderJdbcRepository).batchReconcile(captor.capture());
+        assertThat(captor.getValue()).extracting(BrokerResult::orderId).containsExactly(1L);
+        assertThat(captor.getValue()).extracting(BrokerResult::accepted).containsExactly(true);
+    }
+
+    @Test
+    @DisplayName("브로커 호출이 실패하면 일부가 닿았을 수 있으므로 묶음 전체를 결과 미상으로 남기고 다시 보내지 않는다")
+    @SuppressWarnings("unchecked")
+    void recordsUnknownWhenBrokerFails() throws InterruptedException {
+        properties.setRetryBackoff(Duration.ofMillis(10));
+        given(orderBroker.submit(anyList())).willThrow(new IllegalStateException("broker down"));
+        pipeline = new OrderPipeline(tradeOrderRepository, tradeOrderJdbcRepository,
+                investmentAccountRepository, orderBroker, properties, new SimpleMeterRegistry());
+        pipeline.accept(buy(1L));
+        pipeline.accept(buy(1L));
+
+        pipeline.start();
+        verify(orderBroker, timeout(2000)).submit(anyList());
+        Thread.sleep(100);
+        pipeline.reconcile();
+
+        verify(orderBroker).submit(anyList());
+        ArgumentCaptor<List<BrokerResult>> captor = ArgumentCaptor.forClass(List.class);
+        verify(tradeOrderJdbcRepository).batchReconcile(captor.capture());
+        assertThat(captor.getValue()).extracting(BrokerResult::orderId).containsExactly(1L, 2L);
+        assertThat(captor.getValue()).allSatisfy(r -> assertThat(r.isUnknown()).isTrue());
+    }
+
+    @Test
+    @DisplayName("대기열에 있는 주문은 보내지 않고 DB에서 취소한다")
+    void cancelsQueuedOrderWithoutSending() throws InterruptedException {
+        pipeline = new OrderPipeline(tradeOrderRepository, tradeOrderJdbcRepository,
+                investmentAccountRepository, orderBroker, properties, new SimpleMeterRegistry());
+        pipeline.accept(buy(1L));
+
+        pipeline.cancel(1L);
+        pipeline.start();
+        Thread.sleep(200);
+
+        verify(tradeOrderJdbcRepository).cancel(1L);
+        verify(orderBroker, never()).cancel(anyLong());
+        verify(orderBroker, never()).submit(anyList());
+    }
+
+    @Test
+    @DisplayName("브로커로 보낸 뒤 주문번호가 기록되기 전(reconcile 전) 취소도 브로커를 거친다")
+    void cancelsSubmittedOrderThroughBrokerBeforeReconcile() {
+        given(orderBroker.submit(anyList())).willAnswer(inv -> {
+            List<TradeOrder> orders = inv.getArgument(0);
+            return orders.stream().map(o -> BrokerResult.accepted(o.getId(), "MOCK" + o.getId())).toList();
+        });
+        given(orderBroker.cancel(1L)).willReturn(true);
+        pipeline = new OrderPipeline(tradeOrderRepository, tradeOrderJdbcRepository,
+                investmentAccountRepository, orderBroker, properties, new SimpleMeterRegistry());
+        pipeline.accept(buy(1L));
+        pipeline.start();
+        verify(orderBroker, timeout(2000)).submit(anyList());
+
+        assertThat(saved.get(0).getGlobalUid()).isNull();
+        pipeline.cancel(1L);
+
+        verify(orderBroker).cancel(1L);
+        verify(tradeOrderJdbcRepository, never()).cancel(anyLong());
+    }
+
+    @Test
+    @DisplayName("취소된 주문에는 체결을 반영하지 않는다")
+    void cancelledOrderRejectsFill() {
+        TradeOrder order = TradeOrder.builder().quantity(10).build();
+        order.fill(4);
+        order.cancel();
+
+        assertThatThrownBy(() -> order.fill(6))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorBaseCode.CONFLICT.getMessage());
+        assertThat(order.getFilledQuantity()).isEqualTo(4);
+    }
+
+    private static OrderCreateReq buy(Long userId) {
+        return new OrderCreateReq("12345678", userId, TradeType.TTTTC0012U, "005930", "삼성전자", 10, 70_000L);
+    }
+}
@@ -0,0 +1,87 @@
+package dev.syntax.domain.investment;
+
+import dev.syntax.domain.investment.history.QuoteHistoryProperties;
+import dev.syntax.domain.investment.history.QuoteHistoryService;
+import dev.syntax.domain.investment.history.QuoteHistoryStore;
+import dev.syntax.external.kis.dto.Quote;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 시세 통지가 호출 스레드를 막지 않고 전용 쓰기 스레드에서 저장소에 기록되는지 검증한다.
+ */
+class QuoteHistoryServiceTest {
+
+    QuoteHistoryStore store = mock(QuoteHistoryStore.class);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    QuoteHistoryService service;
+
+    private QuoteHistoryService newService(int queueCapacity) {
+        QuoteHistoryProperties properties = new QuoteHistoryProperties();
+        properties.setWriteQueueCapacity(queueCapacity);
+        service = new QuoteHistoryService(store, properties, registry);
+        return service;
+    }
+
+    private static Quote quote(String code, long price) {
+        return new Quote(code, null, price, 0, 0, 100);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("유효한 시세만 쓰기 스레드에서 기록한다")
+    void appendsOnWriterThread() {
+        AtomicReference<String> thread = new AtomicReference<>();
+        willAnswer(inv -> {
+            thread.set(Thread.currentThread().getName());
+            return null;
+        }).given(store).append(anyString(), anyLong(), anyLong(), anyLong());
+
+        newService(16).onQuotes(List.of(quote("005930", 70_000), quote("000660", 0)), 1_000L);
+
+        verify(store, timeout(1_000)).append("005930", 1_000L, 70_000L, 100L);
+        verify(store, never()).append("000660", 1_000L, 0L, 100L);
+        assertThat(thread.get()).isEqualTo("quote-history-writer");
+    }
+
+    @Test
+    @DisplayName("쓰기가 밀려 대기열이 가득 차면 통지는 막히지 않고 그 묶음을 버린다")
+    void dropsWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(store).append(anyString(), anyLong(), anyLong(), anyLong());
+        newService(1);
+
+        service.onQuotes(List.of(quote("005930", 70_000)), 1_000L);  // 쓰기 스레드가 잡고 멈춤
+        verify(store, timeout(1_000)).append(anyString(), anyLong(), anyLong(), anyLong());
+        service.onQuotes(List.of(quote("005930", 70_100)), 2_000L);  // 대기열
+        service.onQuotes(List.of(quote("005930", 70_200), quote("000660", 1)), 3_000L);  // 버림
+
+        assertThat(registry.counter("quote.history.dropped").count()).isEqualTo(2);
+        release.countDown();
+        verify(store, timeout(1_000)).append("005930", 2_000L, 70_100L, 100L);
+        verify(store, never()).append("005930", 3_000L, 70_200L, 100L);
+    }
+}
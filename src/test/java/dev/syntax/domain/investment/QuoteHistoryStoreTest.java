@@ -0,0 +1,98 @@
+package dev.syntax.domain.investment;
+
+import dev.syntax.domain.investment.history.QuoteHistoryStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 시세 이력 저장소의 세그먼트 넘김, 구간 조회, 재시작 후 이어 쓰기, 보관 기간 정리를 검증한다.
+ */
+class QuoteHistoryStoreTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @TempDir
+    Path dir;
+
+    private static long at(int day, int hour, int minute) {
+        return LocalDateTime.of(2026, 10, day, hour, minute).atZone(SEOUL).toInstant().toEpochMilli();
+    }
+
+    private static List<long[]> scan(QuoteHistoryStore store, String code, long from, long to) {
+        List<long[]> rows = new ArrayList<>();
+        store.scan(code, from, to, (time, price, volume) -> rows.add(new long[]{time, price, volume}));
+        return rows;
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 다음 번호로 넘어가고, 구간 조회는 세그먼트를 이어 읽는다")
+    void rollsOverSegments() {
+        QuoteHistoryStore store = new QuoteHistoryStore(dir, 4, SEOUL);
+        for (int m = 0; m < 10; m++) {
+            store.append("005930", at(16, 9, m), 70_000 + m, 1_000L * m);
+        }
+        store.append("000660", at(16, 9, 5), 180_000, 1);
+
+        List<long[]> rows = scan(store, "005930", at(16, 9, 3), at(16, 9, 7));
+
+        assertThat(rows).extracting(r -> r[1]).containsExactly(70_003L, 70_004L, 70_005L, 70_006L, 70_007L);
+        assertThat(rows.get(0)[2]).isEqualTo(3_000L);
+        assertThat(dir.resolve("20261016")).isDirectoryContaining(p -> p.getFileName().toString().equals("005930-2.qts"));
+        assertThat(scan(store, "000660", at(16, 0, 0), at(16, 23, 59))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 새 날짜 디렉터리에 쓰고, 여러 날에 걸친 구간도 순서대로 읽는다")
+    void splitsByDay() {
+        QuoteHistoryStore store = new QuoteHistoryStore(dir, 16, SEOUL);
+        store.append("005930", at(16, 15, 0), 1, 0);
+        store.append("005930", at(17, 9, 0), 2, 0);
+
+        assertThat(scan(store, "005930", at(16, 0, 0), at(17, 23, 0))).extracting(r -> r[1]).containsExactly(1L, 2L);
+        assertThat(Files.isDirectory(dir.resolve("20261017"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("다시 열면 기록된 행까지 읽고 마지막 세그먼트에 이어 쓴다")
+    void reopensAndAppends() {
+        QuoteHistoryStore first = new QuoteHistoryStore(dir, 4, SEOUL);
+        for (int m = 0; m < 6; m++) {
+            first.append("005930", at(16, 9, m), m, 0);
+        }
+        first.close();
+
+        QuoteHistoryStore second = new QuoteHistoryStore(dir, 4, SEOUL);
+        second.append("005930", at(16, 9, 6), 6, 0);
+
+        assertThat(scan(second, "005930", at(16, 0, 0), at(16, 23, 0))).extracting(r -> r[1])
+                .containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(dir.resolve("20261016")).isDirectoryNotContaining(p -> p.getFileName().toString().equals("005930-2.qts"));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 날짜는 통째로 지우고, 경로 문자가 섞인 종목코드는 거부한다")
+    void purgesAndValidates() {
+        QuoteHistoryStore store = new QuoteHistoryStore(dir, 16, SEOUL);
+        store.append("005930", at(14, 9, 0), 1, 0);
+        store.append("005930", at(16, 9, 0), 2, 0);
+
+        assertThat(store.purge(LocalDate.of(2026, 10, 15))).isEqualTo(1);
+
+        assertThat(Files.exists(dir.resolve("20261014"))).isFalse();
+        assertThat(scan(store, "005930", at(14, 0, 0), at(16, 23, 0))).extracting(r -> r[1]).containsExactly(2L);
+        assertThatThrownBy(() -> store.append("../etc", at(16, 9, 1), 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,105 @@
+package dev.syntax.domain.investment;
+
+import dev.syntax.domain.investment.dto.QuoteTick;
+import dev.syntax.domain.investment.service.QuoteStreamProperties;
+import dev.syntax.domain.investment.service.QuoteStreamService;
+import dev.syntax.external.kis.KisQuoteCache;
+import dev.syntax.external.kis.dto.PriceItem;
+import dev.syntax.external.kis.dto.Quote;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QuoteStreamServiceTest {
+
+    KisQuoteCache cache = mock(KisQuoteCache.class);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private QuoteStreamService newService(int bufferSize) {
+        QuoteStreamProperties properties = new QuoteStreamProperties();
+        properties.setCodes(List.of("005930", "000660"));
+        properties.setBufferSize(bufferSize);
+        return new QuoteStreamService(cache, properties, registry);
+    }
+
+    private static Map<String, Quote> quotes(long samsung, long hynix) {
+        Map<String, Quote> map = new LinkedHashMap<>();
+        map.put("005930", item("005930", samsung));
+        map.put("000660", item("000660", hynix));
+        return map;
+    }
+
+    private static Quote item(String code, long price) {
+        return new Quote(code, null, price, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("구독자가 여럿이어도 주기마다 KIS 조회는 한 번이고, 바뀐 종목만 발행된다")
+    void onePollManySubscribersDeltaOnly() {
+        when(cache.getQuotes(anyList()))
+                .thenReturn(CompletableFuture.completedFuture(quotes(70_000, 150_000)))
+                .thenReturn(CompletableFuture.completedFuture(quotes(70_100, 150_000)));
+        QuoteStreamService service = newService(16);
+
+        List<List<QuoteTick>> received = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            List<QuoteTick> ticks = new ArrayList<>();
+            received.add(ticks);
+            service.subscribe(Set.of()).subscribe(ticks::add);
+        }
+        service.poll();
+        service.poll();
+
+        verify(cache, times(2)).getQuotes(anyList());
+        for (List<QuoteTick> ticks : received) {
+            assertThat(ticks).hasSize(3); // 빈 스냅샷 + 최초 전체 + 변경분
+            assertThat(ticks.get(2).items()).extracting(PriceItem::getStockCode).containsExactly("005930");
+        }
+    }
+
+    @Test
+    @DisplayName("요청하지 않는 느린 구독자는 버퍼만큼만 쌓이고 나머지는 버려진다")
+    void slowSubscriberDropsOldest() {
+        QuoteStreamService service = newService(2);
+        List<QuoteTick> received = new ArrayList<>();
+        BaseSubscriber<QuoteTick> slow = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                // 아무것도 요청하지 않는다.
+            }
+
+            @Override
+            protected void hookOnNext(QuoteTick value) {
+                received.add(value);
+            }
+        };
+        service.subscribe(Set.of()).subscribe(slow);
+
+        for (int i = 0; i < 10; i++) {
+            when(cache.getQuotes(anyList()))
+                    .thenReturn(CompletableFuture.completedFuture(quotes(70_000 + i, 150_000)));
+            service.poll();
+        }
+        slow.request(Long.MAX_VALUE);
+
+        assertThat(received).hasSize(2);
+        assertThat(received.get(1).items().get(0).getCurrentPrice()).isEqualTo("70009");
+        assertThat(registry.counter("quote.stream.dropped").count()).isEqualTo(9);
+    }
+}
@@ -0,0 +1,71 @@
+package dev.syntax.domain.investment;
+
+import dev.syntax.domain.investment.valuation.ValuationBook;
+import dev.syntax.domain.investment.valuation.ValuationBook.Valuation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValuationBookTest {
+
+    private ValuationBook bookWithHoldings() {
+        ValuationBook book = new ValuationBook();
+        book.putAccount("00000001", 1_000);
+        book.putAccount("00000002", 2_000);
+        book.putAccount("00000003", 3_000);
+        book.putHolding("00000001", "005930", 10, 70_000);
+        book.putHolding("00000002", "005930", 5, 70_000);
+        book.putHolding("00000002", "000660", 2, 150_000);
+        book.putHolding("00000003", "000660", 1, 150_000);
+        book.drainDirty();
+        return book;
+    }
+
+    @Test
+    @DisplayName("가격이 바뀐 종목의 보유 계좌만 다시 계산된다")
+    void onlyHoldersOfChangedCodeRevalued() {
+        ValuationBook book = bookWithHoldings();
+
+        int touched = book.applyPrices(Map.of("005930", 71_000L, "000660", 150_000L));
+
+        assertThat(touched).isEqualTo(2);
+        assertThat(book.drainDirty()).extracting(Valuation::cano).containsExactlyInAnyOrder("00000001", "00000002");
+        assertThat(book.valuationOf("00000001")).isEqualTo(new Valuation("00000001", 710_000, 711_000));
+        assertThat(book.valuationOf("00000002")).isEqualTo(new Valuation("00000002", 655_000, 657_000));
+        assertThat(book.valuationOf("00000003")).isEqualTo(new Valuation("00000003", 150_000, 153_000));
+    }
+
+    @Test
+    @DisplayName("수량 변경·매도 후에도 증분 계산 결과는 처음부터 다시 계산한 값과 같다")
+    void holdingChangesKeepTotalsConsistent() {
+        ValuationBook book = bookWithHoldings();
+        book.applyPrices(Map.of("005930", 71_000L));
+
+        book.putHolding("00000001", "005930", 0, 70_000);   // 전량 매도 (빈자리에 다른 보유자가 옮겨짐)
+        book.putHolding("00000002", "005930", 8, 70_000);   // 추가 매수
+        book.putAccount("00000001", 711_000);               // 매도 대금 입금
+        book.applyPrices(Map.of("005930", 72_000L, "000660", 149_000L));
+
+        assertThat(book.valuationOf("00000001")).isEqualTo(new Valuation("00000001", 0, 711_000));
+        assertThat(book.valuationOf("00000002"))
+                .isEqualTo(new Valuation("00000002", 8 * 72_000 + 2 * 149_000, 2_000 + 8 * 72_000 + 2 * 149_000));
+        assertThat(book.holdingCount()).isEqualTo(3);
+        assertThat(book.productCodes()).containsExactlyInAnyOrder("005930", "000660");
+    }
+
+    @Test
+    @DisplayName("DB 기록에 실패한 계좌는 다시 꺼낼 수 있다")
+    void markDirtyAfterFailedWrite() {
+        ValuationBook book = bookWithHoldings();
+        book.applyPrices(Map.of("000660", 151_000L));
+
+        var drained = book.drainDirty();
+        assertThat(book.drainDirty()).isEmpty();
+        book.markDirty(drained);
+
+        assertThat(book.drainDirty()).extracting(Valuation::cano).containsExactlyInAnyOrder("00000002", "00000003");
+    }
+}
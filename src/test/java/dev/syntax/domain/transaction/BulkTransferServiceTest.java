@@ -0,0 +1,130 @@
+package dev.syntax.domain.transaction;
+
+import dev.syntax.domain.account.dto.AccountOwnerView;
+import dev.syntax.domain.account.enums.AccountStatus;
+import dev.syntax.domain.account.ledger.BalanceJournal;
+import dev.syntax.domain.account.ledger.BalanceLedger;
+import dev.syntax.domain.account.repository.AccountRepository;
+import dev.syntax.domain.transaction.dto.BulkTransferReq;
+import dev.syntax.domain.transaction.dto.BulkTransferReq.TransferItem;
+import dev.syntax.domain.transaction.dto.BulkTransferRes;
+import dev.syntax.domain.transaction.repository.TransactionJdbcRepository;
+import dev.syntax.domain.transaction.repository.TransactionJdbcRepository.TransactionRow;
+import dev.syntax.domain.transaction.service.BulkTransferService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 대량 이체의 1-pass 검증과 거래 내역 batch 기록을 리포지토리 mock 으로 검증한다.
+ */
+class BulkTransferServiceTest {
+
+    @TempDir
+    Path dir;
+
+    AccountRepository accountRepository = mock(AccountRepository.class);
+    TransactionJdbcRepository transactionJdbcRepository = mock(TransactionJdbcRepository.class);
+    BalanceLedger ledger;
+    BulkTransferService service;
+
+    record View(Long id, Long userId, String number, BigDecimal balance, AccountStatus status)
+            implements AccountOwnerView {
+        public Long getId() { return id; }
+        public Long getUserId() { return userId; }
+        public String getNumber() { return number; }
+        public BigDecimal getBalance() { return balance; }
+        public AccountStatus getStatus() { return status; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        ledger = new BalanceLedger(8, id -> null, new BalanceJournal(dir, false));
+        service = new BulkTransferService(accountRepository, ledger, transactionJdbcRepository);
+        given(accountRepository.findOwnerViewsByIdIn(anyCollection())).willReturn(List.of(
+                new View(1L, 10L, "100-1", new BigDecimal("100000.00"), AccountStatus.ACTIVE),
+                new View(2L, 20L, "100-2", BigDecimal.ZERO, AccountStatus.ACTIVE),
+                new View(3L, 30L, "100-3", BigDecimal.ZERO, AccountStatus.ACTIVE),
+                new View(4L, 40L, "100-4", BigDecimal.ZERO, AccountStatus.CLOSED)
+        ));
+    }
+
+    @Test
+    @DisplayName("누적 출금액이 잔액을 넘는 건과 잘못된 건만 실패하고 나머지는 반영된다")
+    void validatesInOnePass() {
+        BulkTransferRes res = service.transfer(new BulkTransferReq(List.of(
+                new TransferItem(1L, 2L, new BigDecimal("60000"), "용돈", "용돈"),
+                new TransferItem(1L, 3L, new BigDecimal("50000"), null, null),   // 누적 잔액 부족
+                new TransferItem(1L, 4L, new BigDecimal("1000"), null, null),    // 해지 계좌
+                new TransferItem(1L, 9L, new BigDecimal("1000"), null, null),    // 없는 계좌
+                new TransferItem(1L, 3L, new BigDecimal("40000"), null, null)
+        )));
+
+        assertThat(res.requested()).isEqualTo(5);
+        assertThat(res.succeeded()).isEqualTo(2);
+        assertThat(res.failed()).extracting(BulkTransferRes.FailedTransfer::index).containsExactly(1, 2, 3);
+        assertThat(ledger.balanceOf(1)).isEqualByComparingTo("0");
+        assertThat(ledger.balanceOf(2)).isEqualByComparingTo("60000");
+        assertThat(ledger.balanceOf(3)).isEqualByComparingTo("40000");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("성공한 이체마다 출금/입금 거래 행 2건을 한 번의 batch로 기록한다")
+    void writesTwoRowsPerTransferInOneBatch() {
+        service.transfer(new BulkTransferReq(List.of(
+                new TransferItem(1L, 2L, new BigDecimal("1000"), null, null)
+        )));
+
+        ArgumentCaptor<List<TransactionRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionJdbcRepository).batchInsert(captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+        assertThat(captor.getValue().get(0).merchantName()).isEqualTo("100-2");
+        assertThat(captor.getValue().get(0).balanceAfter()).isEqualByComparingTo("99000");
+        assertThat(captor.getValue().get(1).balanceAfter()).isEqualByComparingTo("1000");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("거래 내역 기록에 실패하면 되돌리고, 되돌리지 못한 이체는 내역을 다시 기록해 성공으로 돌려준다")
+    void recordsTransfersThatCouldNotBeReversed() {
+        AtomicInteger calls = new AtomicInteger();
+        willAnswer(inv -> {
+            if (calls.incrementAndGet() == 1) {
+                // 기록이 실패하기 전에 입금 계좌 2에서 돈이 빠져나가 역이체가 불가능해진다.
+                ledger.debit(2L, new BigDecimal("60000"));
+                throw new IllegalStateException("insert failed");
+            }
+            return null;
+        }).given(transactionJdbcRepository).batchInsert(anyList());
+
+        BulkTransferRes res = service.transfer(new BulkTransferReq(List.of(
+                new TransferItem(1L, 2L, new BigDecimal("60000"), null, null),
+                new TransferItem(1L, 3L, new BigDecimal("30000"), null, null)
+        )));
+
+        assertThat(res.succeeded()).isEqualTo(1);
+        assertThat(res.failed()).extracting(BulkTransferRes.FailedTransfer::index).containsExactly(1);
+        assertThat(ledger.balanceOf(1)).isEqualByComparingTo("40000");
+        assertThat(ledger.balanceOf(3)).isEqualByComparingTo("0");
+        ArgumentCaptor<List<TransactionRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionJdbcRepository, times(2)).batchInsert(captor.capture());
+        assertThat(captor.getAllValues().get(1)).extracting(TransactionRow::accountId).containsExactly(1L, 2L);
+    }
+}
@@ -0,0 +1,111 @@
+package dev.syntax.domain.transaction;
+
+import dev.syntax.domain.account.entity.Account;
+import dev.syntax.domain.transaction.entity.Transaction;
+import dev.syntax.domain.transaction.entity.TransactionChangeListener;
+import dev.syntax.domain.transaction.enums.TransactionStatus;
+import dev.syntax.domain.transaction.enums.TransactionType;
+import dev.syntax.domain.transaction.event.TransactionsRecordedEvent;
+import dev.syntax.domain.transaction.repository.SpendingRollupFence;
+import dev.syntax.domain.transaction.repository.SpendingRollupJdbcRepository;
+import dev.syntax.domain.transaction.repository.SpendingRollupRepository;
+import dev.syntax.domain.transaction.repository.TransactionJdbcRepository.TransactionRow;
+import dev.syntax.domain.transaction.service.SpendingRollupService;
+import dev.syntax.domain.user.entity.CoreUser;
+import dev.syntax.global.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SpendingRollupServiceTest {
+
+    SpendingRollupJdbcRepository jdbcRepository = mock(SpendingRollupJdbcRepository.class);
+    SpendingRollupService service = new SpendingRollupService(mock(SpendingRollupRepository.class), jdbcRepository,
+            new SpendingRollupFence());
+
+    TransactionChangeListener listener = listener(service);
+
+    private TransactionRow row(TransactionType type, TransactionStatus status, String category, String amount, int month) {
+        return TransactionRow.builder()
+                .userId(7L).accountId(70L).code("PAY").type(type.name())
+                .amount(new BigDecimal(amount)).balanceAfter(BigDecimal.ZERO)
+                .merchantName("편의점").category(category).status(status)
+                .transactionDate(LocalDateTime.of(2025, month, 3, 12, 0))
+                .build();
+    }
+
+    @Test
+    @DisplayName("성공한 출금만 같은 (사용자, 계좌, 월, 카테고리)끼리 합산해 한 번씩 반영한다")
+    void mergesDeltasPerKey() {
+        service.onRecorded(new TransactionsRecordedEvent(List.of(
+                row(TransactionType.WITHDRAW, TransactionStatus.SUCCESS, "식비", "3000", 11),
+                row(TransactionType.WITHDRAW, TransactionStatus.SUCCESS, "식비", "2000", 11),
+                row(TransactionType.WITHDRAW, TransactionStatus.SUCCESS, "식비", "1000", 10),
+                row(TransactionType.WITHDRAW, TransactionStatus.FAIL, "식비", "9999", 11),
+                row(TransactionType.DEPOSIT, TransactionStatus.SUCCESS, "용돈", "50000", 11)
+        )));
+
+        verify(jdbcRepository).add(7L, 70L, 202511, "식비", new BigDecimal("5000"), 2L);
+        verify(jdbcRepository).add(7L, 70L, 202510, "식비", new BigDecimal("1000"), 1L);
+        verify(jdbcRepository, times(2)).add(anyLong(), anyLong(), anyInt(), anyString(), any(), anyLong());
+        verify(jdbcRepository, times(0)).add(anyLong(), anyLong(), anyInt(), eq("용돈"), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("JPA로 저장한 거래는 PENDING → SUCCESS 로 바뀔 때 한 번만 집계에 더한다")
+    void rollsUpEntityWhenCompleted() {
+        Transaction tx = entity(TransactionStatus.PENDING);
+        listener.onWrite(tx);
+        verify(jdbcRepository, never()).add(anyLong(), anyLong(), anyInt(), anyString(), any(), anyLong());
+
+        tx.complete();
+        listener.onWrite(tx);
+        listener.onWrite(tx);
+
+        verify(jdbcRepository).add(7L, 70L, 202511, "식비", new BigDecimal("3000"), 1L);
+        assertThatThrownBy(tx::fail).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("집계에 반영된 성공 거래를 삭제하면 금액과 건수를 뺀다")
+    void subtractsRemovedEntity() {
+        Transaction tx = entity(TransactionStatus.SUCCESS);
+        listener.onLoad(tx);
+        listener.onRemove(tx);
+
+        verify(jdbcRepository).add(7L, 70L, 202511, "식비", new BigDecimal("-3000"), -1L);
+    }
+
+    private Transaction entity(TransactionStatus status) {
+        return Transaction.builder()
+                .user(CoreUser.builder().id(7L).build())
+                .account(Account.builder().id(70L).build())
+                .code("PAY").type(TransactionType.WITHDRAW.name())
+                .amount(new BigDecimal("3000")).balanceAfter(BigDecimal.ZERO)
+                .merchantName("편의점").category("식비").status(status)
+                .transactionDate(LocalDateTime.of(2025, 11, 3, 12, 0))
+                .build();
+    }
+
+    private static TransactionChangeListener listener(SpendingRollupService service) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("spendingRollupService", service));
+        return new TransactionChangeListener(beans.getBeanProvider(SpendingRollupService.class),
+                beans.getBeanProvider(SpendingRollupFence.class));
+    }
+}
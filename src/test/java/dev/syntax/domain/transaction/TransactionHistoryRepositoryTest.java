@@ -0,0 +1,92 @@
+package dev.syntax.domain.transaction;
+
+import dev.syntax.domain.account.entity.Account;
+import dev.syntax.domain.transaction.dto.TransactionHistoryRes;
+import dev.syntax.domain.transaction.entity.Transaction;
+import dev.syntax.domain.transaction.enums.TransactionStatus;
+import dev.syntax.domain.transaction.repository.TransactionRepository;
+import dev.syntax.domain.transaction.service.TransactionHistoryService;
+import dev.syntax.domain.user.entity.CoreUser;
+import dev.syntax.global.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class TransactionHistoryRepositoryTest {
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        CoreUser user = CoreUser.builder()
+                .name("teen").phoneNumber("010-1234-5678").birthDate(LocalDate.of(2010, 5, 5)).build();
+        em.persist(user);
+        account = Account.builder()
+                .user(user).number("110-1").productName("입출금").interestRate(BigDecimal.ZERO).build();
+        em.persist(account);
+
+        LocalDateTime base = LocalDateTime.of(2025, 11, 1, 9, 0);
+        for (int i = 0; i < 25; i++) {
+            // 3건씩 같은 시각 → 시각이 같을 때 transaction_id로 순서가 정해지는지 확인
+            em.persist(Transaction.builder()
+                    .user(user).account(account)
+                    .code("PAY").type("WITHDRAW").balanceAfter(BigDecimal.valueOf(1000 - i))
+                    .merchantName("편의점").category("식비").status(TransactionStatus.SUCCESS)
+                    .transactionDate(base.plusMinutes(i / 3))
+                    .build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 25건을 중복/누락 없이 최신순으로 모두 읽는다")
+    void keysetPagesCoverAllRowsInOrder() {
+        TransactionHistoryService service = new TransactionHistoryService(transactionRepository);
+        List<TransactionHistoryRes.Item> all = new ArrayList<>();
+
+        TransactionHistoryRes page = service.getHistory(account.getId(), null, 10);
+        all.addAll(page.items());
+        while (page.hasNext()) {
+            page = service.getHistory(account.getId(), page.nextCursor(), 10);
+            all.addAll(page.items());
+        }
+
+        assertThat(all).hasSize(25);
+        assertThat(all).extracting(TransactionHistoryRes.Item::id).doesNotHaveDuplicates();
+        for (int i = 1; i < all.size(); i++) {
+            TransactionHistoryRes.Item prev = all.get(i - 1);
+            TransactionHistoryRes.Item cur = all.get(i);
+            assertThat(prev.transactionDate()).isAfterOrEqualTo(cur.transactionDate());
+            if (prev.transactionDate().equals(cur.transactionDate())) {
+                assertThat(prev.id()).isGreaterThan(cur.id());
+            }
+        }
+        assertThat(page.nextCursor()).isNull();
+    }
+}
@@ -0,0 +1,39 @@
+package dev.syntax.domain.user;
+
+import dev.syntax.domain.user.index.LongMultimap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongMultimapTest {
+
+    @Test
+    @DisplayName("리사이즈를 거쳐도 키별 값이 유지되고, 중복 추가는 무시된다")
+    void putGetAcrossResize() {
+        LongMultimap map = new LongMultimap(2);
+        for (long parent = 1; parent <= 1_000; parent++) {
+            map.put(parent, parent * 10);
+            map.put(parent, parent * 10 + 1);
+            map.put(parent, parent * 10);
+        }
+
+        assertThat(map.valueCount()).isEqualTo(2_000);
+        assertThat(map.get(777)).containsExactlyInAnyOrder(7_770L, 7_771L);
+        assertThat(map.get(5_000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("값을 제거하면 contains와 개수에 바로 반영된다")
+    void remove() {
+        LongMultimap map = new LongMultimap();
+        map.put(1, 2);
+        map.put(1, 3);
+
+        assertThat(map.remove(1, 2)).isTrue();
+        assertThat(map.remove(1, 2)).isFalse();
+        assertThat(map.contains(1, 2)).isFalse();
+        assertThat(map.get(1)).containsExactly(3L);
+        assertThat(map.valueCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,87 @@
+package dev.syntax.external.kis;
+
+import dev.syntax.external.kis.dto.MultiPriceRes;
+import dev.syntax.external.kis.dto.PriceItem;
+import dev.syntax.external.kis.fake.FakeKisProperties;
+import dev.syntax.external.kis.fake.FakeKisServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 KIS 대역 서버에 실제 클라이언트(토큰 관리자 + 인증 필터 + 시세 클라이언트)를 붙여 검증한다.
+ */
+class FakeKisServerTest {
+
+    private FakeKisServer server;
+
+    @AfterEach
+    void stop() {
+        server.close();
+    }
+
+    private KisStockApiClient start(FakeKisProperties properties) throws IOException {
+        properties.setPort(0);
+        properties.setLatency(Duration.ofMillis(5));
+        properties.setLatencyJitter(Duration.ZERO);
+        server = new FakeKisServer(properties);
+        server.start();
+
+        KisApiConfig config = new KisApiConfig();
+        config.setBaseUrl(server.baseUrl());
+        config.setAppKey("key");
+        config.setAppSecret("secret");
+        config.setPermitsPerSecond(1_000);
+        WebClient webClient = WebClient.builder().baseUrl(config.getBaseUrl()).build();
+        KisAuthFilter auth = new KisAuthFilter(new KisAuthTokenManager(config, webClient), config);
+        return new KisStockApiClient(webClient, auth, new KisRateLimiter(config));
+    }
+
+    @Test
+    @DisplayName("토큰을 받아 30종목 시세를 요청한 순서대로 돌려준다")
+    void multiPriceRoundTrip() throws IOException {
+        KisStockApiClient client = start(new FakeKisProperties());
+
+        MultiPriceRes res = client.fetchMultiPrice(KisStockApiClient.DEFAULT_CODES).block(Duration.ofSeconds(5));
+
+        assertThat(res.getOutput()).extracting(PriceItem::getStockCode)
+                .containsExactlyElementsOf(KisStockApiClient.DEFAULT_CODES);
+        assertThat(res.getOutput()).allSatisfy(item -> assertThat(Long.parseLong(item.getCurrentPrice())).isPositive());
+        assertThat(server.tokensIssued()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("장애 비율이 1이면 모든 시세 호출이 500으로 실패한다")
+    void injectsErrors() throws IOException {
+        FakeKisProperties properties = new FakeKisProperties();
+        properties.setErrorRate(1.0);
+        KisStockApiClient client = start(properties);
+
+        assertThatThrownBy(() -> client.fetchMultiPrice(List.of("005930")).block(Duration.ofSeconds(5)))
+                .isInstanceOf(WebClientResponseException.InternalServerError.class);
+        assertThat(server.injectedErrorCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서버 쪽에서 토큰이 만료되면 EGW00123으로 거절한다")
+    void rejectsExpiredToken() throws IOException {
+        KisStockApiClient client = start(new FakeKisProperties());
+        client.fetchMultiPrice(List.of("005930")).block(Duration.ofSeconds(5));
+
+        server.expireTokens();
+
+        assertThatThrownBy(() -> client.fetchMultiPrice(List.of("005930")).block(Duration.ofSeconds(5)))
+                .isInstanceOfSatisfying(WebClientResponseException.class,
+                        e -> assertThat(e.getResponseBodyAsString()).contains("EGW00123"));
+        assertThat(server.rejectedCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,97 @@
+package dev.syntax.external.kis;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 토큰 스텁 서버(/oauth2/tokenP)를 띄워 동시 요청·사전 갱신 동작을 검증한다.
+ */
+class KisAuthTokenManagerTest {
+
+    private HttpServer server;
+    private final AtomicInteger issued = new AtomicInteger();
+    private volatile long expiresIn = 86_400;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext("/oauth2/tokenP", exchange -> {
+            int n = issued.incrementAndGet();
+            try {
+                Thread.sleep(200); // 느린 KIS 응답 흉내
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("{\"access_token\":\"token-" + n + "\",\"token_type\":\"Bearer\",\"expires_in\":" + expiresIn
+                    + ",\"access_token_token_expired\":\"2099-01-01 00:00:00\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    private KisAuthTokenManager newManager(Duration refreshAhead) {
+        KisApiConfig config = new KisApiConfig();
+        config.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        config.setAppKey("key");
+        config.setAppSecret("secret");
+        config.setTokenRefreshAhead(refreshAhead);
+        return new KisAuthTokenManager(config, WebClient.builder().baseUrl(config.getBaseUrl()).build());
+    }
+
+    @Test
+    @DisplayName("토큰이 없을 때 동시에 200개 요청이 와도 토큰 발급은 한 번만 일어난다")
+    void concurrentRequestsShareOneRefresh() {
+        KisAuthTokenManager manager = newManager(Duration.ofMinutes(10));
+
+        List<String> tokens = Flux.range(0, 200)
+                .flatMap(i -> manager.accessToken().subscribeOn(Schedulers.parallel()))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(tokens).hasSize(200).containsOnly("token-1");
+        assertThat(issued).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("만료가 가까우면 기존 토큰으로 즉시 응답하고, 새 토큰은 백그라운드에서 받아둔다")
+    void refreshesAheadWithoutWaiting() throws Exception {
+        expiresIn = 60;
+        KisAuthTokenManager manager = newManager(Duration.ofMinutes(5)); // 발급 직후부터 갱신 대상
+        assertThat(manager.accessToken().block(Duration.ofSeconds(5))).isEqualTo("token-1");
+
+        long start = System.nanoTime();
+        String during = manager.accessToken().block(Duration.ofSeconds(5));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(during).isEqualTo("token-1");
+        assertThat(elapsedMillis).isLessThan(150); // 스텁 응답(200ms)을 기다리지 않았다
+
+        Thread.sleep(500);
+        assertThat(manager.accessToken().block(Duration.ofSeconds(5))).isEqualTo("token-2");
+    }
+}
@@ -0,0 +1,64 @@
+package dev.syntax.external.kis;
+
+import dev.syntax.external.kis.dto.MultiPriceBatchRes;
+import dev.syntax.external.kis.fake.FakeKisProperties;
+import dev.syntax.external.kis.fake.FakeKisServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 로컬 KIS 대역 서버를 상대로 묶음 시세 조회의 처리량과 장애 시 손실을 잰다. 실제 KIS 유량을 쓰지 않는다.
+ * <p>{@code ./gradlew benchmark} 로만 실행되며, 일반 {@code test} 태스크에서는 제외된다.</p>
+ */
+@Tag("benchmark")
+class KisFakeLoadBenchmarkTest {
+
+    private static final List<String> CODES = IntStream.range(0, 3_000).mapToObj(i -> String.format("%06d", i)).toList();
+    private static final int ROUNDS = 3;
+
+    @Test
+    @DisplayName("지연 50ms, 장애율 0/5% 에서 3,000종목 묶음 조회")
+    void multiPriceThroughput() throws Exception {
+        for (double errorRate : new double[]{0.0, 0.05}) {
+            FakeKisProperties properties = new FakeKisProperties();
+            properties.setPort(0);
+            properties.setLatency(Duration.ofMillis(50));
+            properties.setLatencyJitter(Duration.ofMillis(20));
+            properties.setErrorRate(errorRate);
+            try (FakeKisServer server = new FakeKisServer(properties)) {
+                server.start();
+                KisMultiPriceFetcher fetcher = newFetcher(server.baseUrl());
+
+                fetcher.fetchAll(CODES).block(Duration.ofMinutes(1)); // 예열 + 토큰 발급
+                long received = 0;
+                long start = System.nanoTime();
+                for (int i = 0; i < ROUNDS; i++) {
+                    MultiPriceBatchRes res = fetcher.fetchAll(CODES).block(Duration.ofMinutes(1));
+                    received += res.prices().getOutput().size();
+                }
+                double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+                System.out.printf("[BENCH] errorRate=%.2f : %,.0f quotes/s, %.1f%% received, %d calls%n",
+                        errorRate, received / seconds, received * 100.0 / (CODES.size() * ROUNDS), server.requestCount());
+            }
+        }
+    }
+
+    private static KisMultiPriceFetcher newFetcher(String baseUrl) {
+        KisApiConfig config = new KisApiConfig();
+        config.setBaseUrl(baseUrl);
+        config.setAppKey("key");
+        config.setAppSecret("secret");
+        WebClient webClient = WebClient.builder().baseUrl(baseUrl).build();
+        KisAuthFilter auth = new KisAuthFilter(new KisAuthTokenManager(config, webClient), config);
+        KisStockApiClient client = new KisStockApiClient(webClient, auth, new KisRateLimiter(config));
+        return new KisMultiPriceFetcher(client, config, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,76 @@
+package dev.syntax.external.kis;
+
+import dev.syntax.external.kis.dto.MultiPriceBatchRes;
+import dev.syntax.external.kis.dto.MultiPriceRes;
+import dev.syntax.external.kis.dto.PriceItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KisMultiPriceFetcherTest {
+
+    KisStockApiClient client = mock(KisStockApiClient.class);
+    KisMultiPriceFetcher fetcher = new KisMultiPriceFetcher(client, new KisApiConfig(), new SimpleMeterRegistry());
+
+    private static MultiPriceRes echo(List<String> codes) {
+        MultiPriceRes res = new MultiPriceRes();
+        res.setOutput(codes.stream().map(code -> {
+            PriceItem item = new PriceItem();
+            item.setStockCode(code);
+            return item;
+        }).toList());
+        return res;
+    }
+
+    @Test
+    @DisplayName("65개 종목은 30/30/5 세 묶음으로 나눠 조회하고, 요청 순서대로 합친다")
+    void splitsAndMergesInOrder() {
+        List<String> codes = IntStream.range(0, 65).mapToObj(i -> String.format("%06d", i)).toList();
+        when(client.fetchMultiPrice(anyList())).thenAnswer(inv -> {
+            List<String> chunk = inv.getArgument(0);
+            // 뒤 묶음이 먼저 끝나도 순서는 유지되어야 한다.
+            return Mono.just(echo(chunk)).delayElement(Duration.ofMillis(chunk.size() == 5 ? 1 : 50));
+        });
+
+        MultiPriceBatchRes res = fetcher.fetchAll(codes).block(Duration.ofSeconds(5));
+
+        assertThat(res.prices().getOutput()).extracting(PriceItem::getStockCode).containsExactlyElementsOf(codes);
+        assertThat(res.chunks()).extracting(MultiPriceBatchRes.ChunkStat::codes).containsExactly(30, 30, 5);
+    }
+
+    @Test
+    @DisplayName("실패한 묶음은 건너뛰고 사유를 남긴다")
+    void failedChunkReported() {
+        List<String> codes = IntStream.range(0, 40).mapToObj(i -> String.format("%06d", i)).toList();
+        when(client.fetchMultiPrice(anyList())).thenAnswer(inv -> {
+            List<String> chunk = inv.getArgument(0);
+            return chunk.size() == 30 ? Mono.just(echo(chunk)) : Mono.error(new IllegalStateException("EGW00201"));
+        });
+
+        MultiPriceBatchRes res = fetcher.fetchAll(codes).block(Duration.ofSeconds(5));
+
+        assertThat(res.prices().getOutput()).hasSize(30);
+        assertThat(res.chunks().get(1).error()).isEqualTo("EGW00201");
+    }
+
+    @Test
+    @DisplayName("초당 10회 제한이면 연속 예약은 100ms 간격으로 밀린다")
+    void rateLimiterSpacesReservations() {
+        KisRateLimiter limiter = new KisRateLimiter(10);
+        long now = System.nanoTime();
+
+        assertThat(limiter.reserve(now)).isLessThanOrEqualTo(0);
+        assertThat(limiter.reserve(now)).isEqualTo(100_000_000L);
+        assertThat(limiter.reserve(now)).isEqualTo(200_000_000L);
+    }
+}
@@ -0,0 +1,66 @@
+package dev.syntax.external.kis;
+
+import dev.syntax.external.kis.dto.OrderCashRes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 현금 주문의 응답 시간 제한이 호출 허용량을 받은 뒤의 HTTP 교환에만 걸리는지 검증한다.
+ */
+class KisOrderApiClientTest {
+
+    private static final String ACCEPTED = "{\"rt_cd\":\"0\",\"msg_cd\":\"APBK0013\",\"msg1\":\"주문 전송 완료\","
+            + "\"output\":{\"KRX_FWDG_ORD_ORGNO\":\"91252\",\"ODNO\":\"0000117057\",\"ORD_TMD\":\"121052\"}}";
+
+    KisAuthFilter auth = mock(KisAuthFilter.class);
+
+    private KisOrderApiClient client(Mono<ClientResponse> response, double permitsPerSecond) {
+        given(auth.applyAuth(anyString())).willReturn((request, next) -> next.exchange(request));
+        WebClient webClient = WebClient.builder().exchangeFunction(request -> response).build();
+        return new KisOrderApiClient(webClient, auth, new KisRateLimiter(permitsPerSecond));
+    }
+
+    @Test
+    @DisplayName("허용량을 기다리는 시간은 응답 시간 제한에 들어가지 않는다")
+    void timeoutStartsAfterPermit() {
+        // 초당 2건이라 두 번째 주문은 약 500ms 동안 허용량을 기다린다.
+        KisOrderApiClient client = client(Mono.fromSupplier(() -> ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(ACCEPTED)
+                .build()), 2);
+
+        List<OrderCashRes> results = Flux.range(0, 2)
+                .flatMap(i -> client.orderCash("TTTC0012U", "12345678", "005930", 1, 70_000, Duration.ofMillis(200)))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(results).hasSize(2).allSatisfy(res -> assertThat(res.isSuccess()).isTrue());
+    }
+
+    @Test
+    @DisplayName("보낸 뒤 응답이 없으면 시간 제한에 걸린다")
+    void timesOutWithoutResponse() {
+        KisOrderApiClient client = client(Mono.never(), 1_000);
+
+        assertThatThrownBy(() -> client.orderCash("TTTC0012U", "12345678", "005930", 1, 70_000,
+                Duration.ofMillis(100)).block(Duration.ofSeconds(5)))
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+}
@@ -0,0 +1,106 @@
+package dev.syntax.external.kis;
+
+import dev.syntax.external.kis.dto.Quote;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KisQuoteCacheTest {
+
+    KisStockApiClient client = mock(KisStockApiClient.class);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private KisQuoteCache newCache(Duration ttl) {
+        return newCache(ttl, Duration.ofSeconds(3));
+    }
+
+    private KisQuoteCache newCache(Duration ttl, Duration timeout) {
+        KisQuoteCacheProperties properties = new KisQuoteCacheProperties();
+        properties.setTtl(ttl);
+        properties.setTimeout(timeout);
+        return new KisQuoteCache(client, properties,
+                new DefaultListableBeanFactory().getBeanProvider(KisQuoteListener.class), registry);
+    }
+
+    private static List<Quote> res(String... codes) {
+        return java.util.Arrays.stream(codes).map(code -> new Quote(code, null, 1_000, 0, 0, 0)).toList();
+    }
+
+    @Test
+    @DisplayName("같은 종목을 동시에 못 찾은 요청들은 KIS 호출 하나를 함께 기다린다")
+    void concurrentMissesShareOneUpstreamCall() {
+        Sinks.One<List<Quote>> upstream = Sinks.one();
+        when(client.fetchQuotes(anyList())).thenReturn(upstream.asMono());
+        KisQuoteCache cache = newCache(Duration.ofMinutes(1));
+
+        CompletableFuture<Map<String, Quote>> first = cache.getQuotes(List.of("005930", "000660"));
+        CompletableFuture<Map<String, Quote>> second = cache.getQuotes(List.of("000660", "005930"));
+        upstream.tryEmitValue(res("005930", "000660"));
+
+        assertThat(first.join()).containsOnlyKeys("005930", "000660");
+        assertThat(second.join().keySet()).containsExactly("000660", "005930");
+        verify(client, times(1)).fetchQuotes(anyList());
+        assertThat(registry.counter("kis.quote.cache", "result", "coalesced").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 KIS를 다시 호출하지 않는다")
+    void hitWithinTtl() {
+        when(client.fetchQuotes(anyList())).thenReturn(Mono.just(res("005930")));
+        KisQuoteCache cache = newCache(Duration.ofMinutes(1));
+
+        cache.getQuotes(List.of("005930")).join();
+        cache.getQuotes(List.of("005930")).join();
+
+        verify(client, times(1)).fetchQuotes(anyList());
+        assertThat(registry.counter("kis.quote.cache", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("KIS 호출이 실패하면 허용 범위 안의 이전 시세로 응답한다")
+    void servesStaleOnUpstreamError() {
+        when(client.fetchQuotes(anyList()))
+                .thenReturn(Mono.just(res("005930")))
+                .thenReturn(Mono.error(new IllegalStateException("rate limited")));
+        KisQuoteCache cache = newCache(Duration.ZERO);
+
+        cache.getQuotes(List.of("005930")).join();
+        Map<String, Quote> stale = cache.getQuotes(List.of("005930")).join();
+
+        assertThat(stale).containsKey("005930");
+        assertThat(registry.counter("kis.quote.cache.stale").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("KIS 응답이 오지 않으면 제한 시간 뒤 이전 시세로 응답하고 다음 조회는 새로 호출한다")
+    void hungUpstreamFallsBackToStale() {
+        when(client.fetchQuotes(anyList()))
+                .thenReturn(Mono.just(res("005930")))
+                .thenReturn(Mono.never())
+                .thenReturn(Mono.just(res("005930")));
+        KisQuoteCache cache = newCache(Duration.ZERO, Duration.ofMillis(50));
+
+        cache.getQuotes(List.of("005930")).join();
+        Map<String, Quote> stale = cache.getQuotes(List.of("005930")).join();
+        cache.getQuotes(List.of("005930")).join();
+
+        assertThat(stale).containsKey("005930");
+        assertThat(registry.counter("kis.quote.cache.stale").count()).isEqualTo(1);
+        verify(client, times(3)).fetchQuotes(anyList());
+    }
+}
@@ -0,0 +1,71 @@
+package dev.syntax.external.kis;
+
+import dev.syntax.external.kis.dto.MultiPriceRes;
+import dev.syntax.external.kis.dto.Quote;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트리밍 디코더가 {@code bodyToMono(MultiPriceRes.class)} 경로와 같은 값을 원시 타입으로 읽는지 검증한다.
+ */
+class KisQuoteDecoderTest {
+
+    private static final String BODY = """
+            {"rt_cd":"0","msg_cd":"MCA00000","msg1":"정상처리 되었습니다.","output":[
+              {"inter_shrn_iscd":"005930","inter_kor_isnm":"삼성전자","inter2_prpr":"71500",
+               "inter2_prdy_vrss":"-500","prdy_ctrt":"-0.69","acml_vol":"12345678","extra":{"nested":[1,2]}},
+              {"inter_shrn_iscd":"000660","inter_kor_isnm":"SK하이닉스","inter2_prpr":"182000",
+               "inter2_prdy_vrss":"3000","prdy_ctrt":"1.7","acml_vol":"","unknown":null}
+            ]}""";
+
+    private final KisQuoteDecoder decoder = new KisQuoteDecoder();
+
+    @Test
+    @DisplayName("숫자 필드를 원시 타입으로, 전일 대비율을 소수 둘째 자리 고정소수점으로 읽는다")
+    void decodesPrimitives() throws IOException {
+        List<Quote> quotes = decoder.decode(BODY.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(quotes).containsExactly(
+                new Quote("005930", "삼성전자", 71_500, -500, -69, 12_345_678),
+                new Quote("000660", "SK하이닉스", 182_000, 3_000, 170, 0));
+    }
+
+    @Test
+    @DisplayName("PriceItem 을 거쳐 파싱한 값과 같다")
+    void matchesDatabindPath() throws IOException {
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        MultiPriceRes res = Jackson2ObjectMapperBuilder.json().build().readValue(body, MultiPriceRes.class);
+
+        assertThat(decoder.decode(body)).containsExactlyElementsOf(res.getOutput().stream().map(Quote::of).toList());
+    }
+
+    @Test
+    @DisplayName("같은 종목코드/종목명은 같은 문자열 인스턴스를 돌려준다")
+    void internsCodes() throws IOException {
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+
+        Quote first = decoder.decode(body).get(0);
+        Quote second = decoder.decode(body).get(0);
+
+        assertThat(second.stockCode()).isSameAs(first.stockCode());
+        assertThat(second.stockName()).isSameAs(first.stockName());
+    }
+
+    @Test
+    @DisplayName("output 이 없으면 빈 목록, 숫자가 아닌 값은 0")
+    void toleratesMissingAndInvalid() throws IOException {
+        assertThat(decoder.decode("{\"rt_cd\":\"1\",\"msg1\":\"오류\"}".getBytes(StandardCharsets.UTF_8))).isEmpty();
+
+        char[] chars = "-1.237|12a| 42 ".toCharArray();
+        assertThat(KisQuoteDecoder.parseFixed(chars, 0, 6, 2)).isEqualTo(-123);
+        assertThat(KisQuoteDecoder.parseLong(chars, 7, 3)).isZero();
+        assertThat(KisQuoteDecoder.parseLong(chars, 11, 4)).isEqualTo(42);
+    }
+}
@@ -0,0 +1,43 @@
+package dev.syntax.global;
+
+import dev.syntax.global.cache.BoundedTtlCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTtlCacheTest {
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 안 쓴 항목부터 밀려난다")
+    void evictsLeastRecentlyUsed() {
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(2, Duration.ofMinutes(1));
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.get(1L);
+        cache.put(3L, "c");
+
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(1L)).isEqualTo("a");
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로딩 도중 무효화되면 읽어온 값은 캐시에 남지 않는다")
+    void invalidationDuringLoadDiscardsResult() {
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(10, Duration.ofMinutes(1));
+
+        String loaded = cache.getOrLoad(1L, k -> {
+            cache.invalidate(k);
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.getOrLoad(1L, k -> "fresh")).isEqualTo("fresh");
+        assertThat(cache.get(1L)).isEqualTo("fresh");
+        assertThat(cache.hitRatio()).isGreaterThan(0.0);
+    }
+}
@@ -0,0 +1,91 @@
+package dev.syntax.global;
+
+import dev.syntax.global.filter.DrainFilter;
+import dev.syntax.global.metrics.RouteMetrics;
+import dev.syntax.global.metrics.StripedCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * in-flight 계수가 동기 요청은 체인이 끝날 때, 비동기 요청(SSE 등)은 응답이 끝날 때 줄어드는지 검증한다.
+ * 라우트가 붙은 요청은 라우트별 진행 중 건수와 지연 시간도 함께 기록되는지 본다.
+ */
+class DrainFilterTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    StripedCounter inFlight = new StripedCounter();
+    RouteMetrics routeMetrics = new RouteMetrics(registry);
+    DrainFilter filter = new DrainFilter(inFlight, routeMetrics);
+
+    @Test
+    @DisplayName("동기 요청은 처리 중에만 계수된다")
+    void countsSyncRequest() throws Exception {
+        AtomicLong seen = new AtomicLong();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/stocks/prices"), new MockHttpServletResponse(),
+                (req, res) -> seen.set(inFlight.sum()));
+
+        assertThat(seen.get()).isEqualTo(1);
+        assertThat(inFlight.isZero()).isTrue();
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 체인이 돌아와도 응답이 끝날 때까지 계수되고, 비동기 재디스패치는 다시 세지 않는다")
+    void countsAsyncRequestUntilComplete() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stocks/prices/stream");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        assertThat(inFlight.sum()).isEqualTo(1);
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> { });
+        assertThat(inFlight.sum()).isEqualTo(1);
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertThat(inFlight.isZero()).isTrue();
+    }
+
+    @Test
+    @DisplayName("actuator 요청은 계수하지 않는다")
+    void skipsActuator() throws Exception {
+        AtomicLong seen = new AtomicLong(-1);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/drain"), new MockHttpServletResponse(),
+                (req, res) -> seen.set(inFlight.sum()));
+
+        assertThat(seen.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("라우트가 붙은 요청은 라우트별 진행 중 건수와 지연 시간이 기록된다")
+    void recordsPerRoute() throws Exception {
+        String route = "GET /stocks/{code}/history";
+        AtomicLong seen = new AtomicLong(-1);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/stocks/005930/history"), new MockHttpServletResponse(),
+                (req, res) -> {
+                    routeMetrics.begin(req, route); // RouteTagInterceptor 역할
+                    seen.set((long) routeMetrics.snapshot().get(route).get("inFlight"));
+                });
+        filter.doFilter(new MockHttpServletRequest("GET", "/nope"), new MockHttpServletResponse(), (req, res) -> { });
+
+        Map<String, Object> row = routeMetrics.snapshot().get(route);
+        assertThat(seen.get()).isEqualTo(1);
+        assertThat(row.get("inFlight")).isEqualTo(0L);
+        assertThat(row.get("count")).isEqualTo(1L);
+        assertThat(routeMetrics.snapshot().get(RouteMetrics.UNMATCHED).get("count")).isEqualTo(1L);
+        assertThat(registry.get("http.route.latency").tag("route", route).tag("quantile", "0.99").gauge()).isNotNull();
+        assertThat(registry.get("http.route.inflight").tag("route", route).gauge().value()).isZero();
+    }
+}
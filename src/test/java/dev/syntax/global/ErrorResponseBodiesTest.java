@@ -0,0 +1,72 @@
+package dev.syntax.global;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.syntax.global.filter.ReadinessFilter;
+import dev.syntax.global.response.AuthErrorResponse;
+import dev.syntax.global.response.BaseErrorResponse;
+import dev.syntax.global.response.ErrorResponseBodies;
+import dev.syntax.global.response.error.ErrorAuthCode;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 미리 직렬화한 오류 바디가 Jackson 으로 그때그때 직렬화한 결과와 같은지, 필터가 그 바이트로 503을 쓰는지 검증한다.
+ */
+class ErrorResponseBodiesTest {
+
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    ErrorResponseBodies bodies = new ErrorResponseBodies(objectMapper);
+
+    @Test
+    @DisplayName("모든 오류 코드의 바디가 Jackson 직렬화 결과와 같다")
+    void matchesJackson() throws Exception {
+        for (ErrorBaseCode code : ErrorBaseCode.values()) {
+            assertThat(bodies.body(code)).isEqualTo(objectMapper.writeValueAsBytes(BaseErrorResponse.of(code)));
+        }
+        for (ErrorAuthCode code : ErrorAuthCode.values()) {
+            assertThat(bodies.body(code)).isEqualTo(objectMapper.writeValueAsBytes(AuthErrorResponse.of(code)));
+        }
+        assertThat(bodies.body(ErrorBaseCode.BAD_REQUEST)).isSameAs(bodies.body(ErrorBaseCode.BAD_REQUEST));
+    }
+
+    @Test
+    @DisplayName("핸들러 응답은 오류 코드의 상태와 JSON 바디를 가진다")
+    void response() {
+        ResponseEntity<byte[]> response = bodies.response(ErrorAuthCode.UNAUTHORIZED);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(401);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8))
+                .contains("\"errorCode\":\"AUTH01\"");
+    }
+
+    @Test
+    @DisplayName("드레이닝 중 ReadinessFilter는 미리 직렬화된 503 바디를 쓴다")
+    void readinessFilterWritesPreEncoded503() throws Exception {
+        ApplicationAvailability availability = mock(ApplicationAvailability.class);
+        when(availability.getReadinessState()).thenReturn(ReadinessState.REFUSING_TRAFFIC);
+        ReadinessFilter filter = new ReadinessFilter(availability, bodies);
+        MockHttpServletResponse res = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/stocks/prices"), res,
+                (req, r) -> { throw new AssertionError("체인이 진행되면 안 된다"); });
+
+        assertThat(res.getStatus()).isEqualTo(503);
+        assertThat(res.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(res.getContentAsByteArray()).isEqualTo(bodies.body(ErrorBaseCode.SERVICE_UNAVAILABLE));
+    }
+}
@@ -0,0 +1,131 @@
+package dev.syntax.global;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.syntax.global.filter.IdempotencyFilter;
+import dev.syntax.global.idempotency.IdempotencyProperties;
+import dev.syntax.global.idempotency.IdempotencyStore;
+import dev.syntax.global.idempotency.StoredResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyFilterTest {
+
+    IdempotencyStore store = mock(IdempotencyStore.class);
+    IdempotencyFilter filter = new IdempotencyFilter(store, new IdempotencyProperties(), new ObjectMapper());
+
+    private MockHttpServletRequest transferRequest() {
+        MockHttpServletRequest req = new MockHttpServletRequest("POST", "/transfers/bulk");
+        req.addHeader("Idempotency-Key", "k-1");
+        req.setContent("{\"transfers\":[]}".getBytes(StandardCharsets.UTF_8));
+        return req;
+    }
+
+    @Test
+    @DisplayName("처음 요청은 서비스까지 가고 응답을 저장한다. 컨트롤러는 본문을 다시 읽을 수 있다")
+    void firstRequestStoresResponse() throws Exception {
+        when(store.find("k-1")).thenReturn(Optional.empty());
+        when(store.claim(eq("k-1"), eq("POST"), eq("/transfers/bulk"), anyString())).thenReturn(true);
+        FilterChain chain = (req, res) -> {
+            assertThat(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).contains("transfers");
+            res.getWriter().write("{\"message\":\"ok\"}");
+        };
+
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(transferRequest(), res, chain);
+
+        assertThat(res.getContentAsString()).isEqualTo("{\"message\":\"ok\"}");
+        verify(store).complete(eq("k-1"), eq("POST"), eq("/transfers/bulk"), anyString(), eq(200), any(), any());
+    }
+
+    @Test
+    @DisplayName("비동기 읽기(ReadListener)로도 캐시된 본문을 모두 읽고 완료 콜백을 받는다")
+    void cachedBodySupportsReadListener() throws Exception {
+        when(store.find("k-1")).thenReturn(Optional.empty());
+        when(store.claim(eq("k-1"), eq("POST"), eq("/transfers/bulk"), anyString())).thenReturn(true);
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        boolean[] completed = new boolean[1];
+        FilterChain chain = (req, res) -> {
+            ServletInputStream in = req.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    byte[] buf = new byte[4];
+                    while (in.isReady() && !in.isFinished()) {
+                        read.write(buf, 0, in.read(buf));
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    completed[0] = true;
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    throw new AssertionError(t);
+                }
+            });
+        };
+
+        filter.doFilter(transferRequest(), new MockHttpServletResponse(), chain);
+
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo("{\"transfers\":[]}");
+        assertThat(completed[0]).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 서비스를 타지 않고 저장된 응답을 그대로 돌려준다")
+    void duplicateReplaysStoredResponse() throws Exception {
+        when(store.find("k-1")).thenReturn(Optional.empty());
+        when(store.claim(anyString(), anyString(), anyString(), anyString())).thenReturn(true);
+        MockHttpServletRequest first = transferRequest();
+        filter.doFilter(first, new MockHttpServletResponse(), (req, res) -> res.getWriter().write("{}"));
+
+        // 첫 요청에서 저장된 해시를 그대로 사용한다.
+        var hash = org.mockito.ArgumentCaptor.forClass(String.class);
+        verify(store).complete(eq("k-1"), anyString(), anyString(), hash.capture(), anyInt(), any(), any());
+        byte[] body = "{\"message\":\"stored\"}".getBytes(StandardCharsets.UTF_8);
+        when(store.find("k-1")).thenReturn(Optional.of(
+                new StoredResponse("POST", "/transfers/bulk", hash.getValue(), true, 200, "application/json", body)));
+
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(transferRequest(), res, chain);
+
+        verify(chain, never()).doFilter(any(), any());
+        assertThat(res.getContentAsString()).isEqualTo("{\"message\":\"stored\"}");
+        assertThat(res.getHeader("Idempotent-Replayed")).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 다시 들어오면 409")
+    void inProgressRejected() throws Exception {
+        when(store.find("k-1")).thenReturn(Optional.empty());
+        when(store.claim(anyString(), anyString(), anyString(), anyString())).thenReturn(false);
+
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(transferRequest(), res, mock(FilterChain.class));
+
+        assertThat(res.getStatus()).isEqualTo(409);
+    }
+}
@@ -0,0 +1,80 @@
+package dev.syntax.global;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import dev.syntax.global.format.KrwFormatter;
+import dev.syntax.global.format.KrwJsonSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KrwFormatterTest {
+
+    @Test
+    @DisplayName("long 전체 범위를 Locale 과 무관하게 쉼표로 구분한다")
+    void formatsLong() {
+        assertThat(KrwFormatter.toString(0)).isEqualTo("0");
+        assertThat(KrwFormatter.toString(999)).isEqualTo("999");
+        assertThat(KrwFormatter.toString(-1_000)).isEqualTo("-1,000");
+        assertThat(KrwFormatter.toString(230_010_000)).isEqualTo("230,010,000");
+        assertThat(KrwFormatter.toString(3_000_000_000L)).isEqualTo("3,000,000,000");
+        assertThat(KrwFormatter.toString(Long.MAX_VALUE)).isEqualTo("9,223,372,036,854,775,807");
+        assertThat(KrwFormatter.toString(Long.MIN_VALUE)).isEqualTo("-9,223,372,036,854,775,808");
+    }
+
+    @Test
+    @DisplayName("BigDecimal 은 소수 자릿수를 유지하고, 3자리를 넘으면 반올림한다")
+    void formatsBigDecimal() {
+        assertThat(KrwFormatter.toString(new BigDecimal("1234567.50"))).isEqualTo("1,234,567.50");
+        assertThat(KrwFormatter.toString(new BigDecimal("1234567.500"))).isEqualTo("1,234,567.500");
+        assertThat(KrwFormatter.toString(new BigDecimal("-0.05"))).isEqualTo("-0.05");
+        assertThat(KrwFormatter.toString(new BigDecimal("1234.5675"))).isEqualTo("1,234.568");
+        assertThat(KrwFormatter.toString(new BigDecimal("1E+3"))).isEqualTo("1,000");
+        assertThat(KrwFormatter.toString(new BigDecimal("9999999999999999.99"))).isEqualTo("9,999,999,999,999,999.99");
+        assertThatThrownBy(() -> KrwFormatter.toString(new BigDecimal("99999999999999999999.00")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("scale 1~3 임의 금액이 String.format 결과와 같다")
+    void matchesStringFormat() {
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            int scale = 1 + random.nextInt(3);
+            long unscaled = random.nextLong() / (1L << random.nextInt(40));
+            BigDecimal amount = BigDecimal.valueOf(unscaled, scale);
+
+            assertThat(KrwFormatter.toString(amount))
+                    .isEqualTo(String.format(Locale.US, "%,." + scale + "f", amount));
+        }
+    }
+
+    @Test
+    @DisplayName("버퍼의 offset 위치부터 쓰고 쓴 글자 수를 돌려준다")
+    void writesIntoBuffer() {
+        char[] buf = new char[40];
+        buf[0] = '[';
+
+        int length = KrwFormatter.format(123_456, 2, buf, 1);
+
+        assertThat(new String(buf, 0, length + 1)).isEqualTo("[1,234.56");
+    }
+
+    @Test
+    @DisplayName("Jackson 직렬화기로 금액 필드를 포맷된 문자열로 쓴다")
+    void serializesWithJackson() throws Exception {
+        record Balance(@JsonSerialize(using = KrwJsonSerializer.class) BigDecimal balance,
+                       @JsonSerialize(using = KrwJsonSerializer.class) long limit) {
+        }
+
+        String json = new ObjectMapper().writeValueAsString(new Balance(new BigDecimal("3000000000.50"), 5_000_000_000L));
+
+        assertThat(json).isEqualTo("{\"balance\":\"3,000,000,000.50\",\"limit\":\"5,000,000,000\"}");
+    }
+}
@@ -0,0 +1,50 @@
+package dev.syntax.global;
+
+import dev.syntax.global.metrics.LatencyHistogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("백분위는 실제 값보다 작지 않고 상대 오차 1/32 이내다")
+    void percentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros);
+        }
+
+        assertThat(histogram.percentile(0.5)).isBetween(50_000L, 50_000L + 50_000L / 32);
+        assertThat(histogram.percentile(0.99)).isBetween(99_000L, 99_000L + 99_000L / 32);
+        assertThat(histogram.percentile(0.999)).isBetween(99_900L, 99_900L + 99_900L / 32);
+    }
+
+    @Test
+    @DisplayName("64µs 미만은 정확히, 범위를 넘는 값은 마지막 칸에 기록된다")
+    void smallValuesExactAndOverflowClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(37);
+        histogram.record(Long.MAX_VALUE);
+
+        long[] counts = new long[LatencyHistogram.BUCKETS];
+        histogram.addTo(counts);
+        assertThat(LatencyHistogram.count(counts)).isEqualTo(3);
+        assertThat(LatencyHistogram.valueAt(counts, 0.1)).isZero();
+        assertThat(LatencyHistogram.valueAt(counts, 0.5)).isEqualTo(37);
+        assertThat((double) LatencyHistogram.valueAt(counts, 1.0)).isCloseTo(Math.pow(2, 32), within(1.0));
+    }
+
+    @Test
+    @DisplayName("reset 후에는 기록이 없다")
+    void reset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.reset();
+
+        assertThat(histogram.percentile(0.99)).isZero();
+    }
+}
@@ -0,0 +1,71 @@
+package dev.syntax.global;
+
+import dev.syntax.global.metrics.StripedCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedCounterTest {
+
+    @Test
+    @DisplayName("증가와 감소가 다른 스레드에서 일어나도 합이 맞고, 동시 갱신 중에도 음수가 되지 않는다")
+    void neverNegativeAndExactWhenQuiet() throws Exception {
+        StripedCounter counter = new StripedCounter(8);
+        int threads = 8;
+        int perThread = 100_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean negative = new AtomicBoolean();
+
+        // 한 스레드가 올린 건수를 다른 스레드가 내리도록 넘겨 비동기 요청처럼 흉내낸다.
+        BlockingQueue<Boolean> handoff = new LinkedBlockingQueue<>();
+        for (int t = 0; t < threads; t++) {
+            boolean producer = t % 2 == 0;
+            pool.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    if (producer) {
+                        counter.increment();
+                        handoff.add(Boolean.TRUE);
+                    } else {
+                        try {
+                            handoff.take();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        counter.decrement();
+                    }
+                    if (counter.sum() < 0) {
+                        negative.set(true);
+                    }
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        pool.shutdown();
+
+        assertThat(negative.get()).isFalse();
+        assertThat(counter.sum()).isZero();
+        assertThat(counter.isZero()).isTrue();
+    }
+
+    @Test
+    @DisplayName("증가한 만큼 감소해야 0이다")
+    void zeroOnlyWhenBalanced() {
+        StripedCounter counter = new StripedCounter(3);
+        counter.increment();
+        assertThat(counter.isZero()).isFalse();
+        counter.decrement();
+        assertThat(counter.isZero()).isTrue();
+    }
+}
@@ -0,0 +1,123 @@
+package dev.syntax.global;
+
+import dev.syntax.external.kis.KisApiConfig;
+import dev.syntax.external.kis.KisAuthFilter;
+import dev.syntax.external.kis.KisAuthTokenManager;
+import dev.syntax.external.kis.KisRateLimiter;
+import dev.syntax.external.kis.KisStockApiClient;
+import dev.syntax.external.kis.fake.FakeKisProperties;
+import dev.syntax.external.kis.fake.FakeKisServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 스레드가 대부분 블로킹(KIS {@code .block()} + JDBC 대기)인 부하에서 플랫폼 스레드 풀과 가상 스레드의 처리량/지연을 비교한다.
+ *
+ * <ul>
+ *   <li>요청 1건 = 로컬 KIS 대역 서버(지연 30ms)에 30종목 시세 조회 후 {@code block()} + JDBC 대기 흉내 10ms</li>
+ *   <li>platform: Tomcat 기본값과 같은 200 스레드 풀</li>
+ *   <li>virtual: 요청마다 가상 스레드 ({@code spring.threads.virtual.enabled=true}와 같은 실행기, Java 21 이상에서만)</li>
+ * </ul>
+ * <p>{@code ./gradlew benchmark -PjavaVersion=21} 로만 실행되며, 일반 {@code test} 태스크에서는 제외된다.</p>
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int REQUESTS = 4_000;
+    private static final long JDBC_MILLIS = 10;
+
+    @Test
+    @DisplayName("블로킹 요청 4,000건: 200 플랫폼 스레드 vs 가상 스레드")
+    void blockingLoad() throws Exception {
+        FakeKisProperties properties = new FakeKisProperties();
+        properties.setPort(0);
+        properties.setLatency(Duration.ofMillis(30));
+        properties.setLatencyJitter(Duration.ofMillis(10));
+        try (FakeKisServer server = new FakeKisServer(properties)) {
+            server.start();
+            KisStockApiClient client = newClient(server.baseUrl());
+            client.fetchMultiPrice(KisStockApiClient.DEFAULT_CODES).block(Duration.ofSeconds(10)); // 예열 + 토큰 발급
+
+            ThreadPoolTaskExecutor platform = new ThreadPoolTaskExecutor();
+            platform.setCorePoolSize(200);
+            platform.setMaxPoolSize(200);
+            platform.setThreadNamePrefix("bench-platform-");
+            platform.initialize();
+            run("platform", platform, client);
+            platform.shutdown();
+
+            if (Runtime.version().feature() < 21) {
+                System.out.printf("[BENCH] virtual         : skipped (Java %d, -PjavaVersion=21 필요)%n", Runtime.version().feature());
+                return;
+            }
+            SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("bench-vt-");
+            virtual.setVirtualThreads(true);
+            run("virtual", virtual, client);
+        }
+    }
+
+    private static void run(String mode, AsyncTaskExecutor executor, KisStockApiClient client) {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        long[] latencies = new long[REQUESTS];
+        List<CompletableFuture<Void>> futures = new ArrayList<>(REQUESTS);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            int n = i;
+            long submitted = System.nanoTime();
+            futures.add(CompletableFuture.runAsync(() -> {
+                peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+                try {
+                    client.fetchMultiPrice(KisStockApiClient.DEFAULT_CODES).block(Duration.ofSeconds(30));
+                    Thread.sleep(JDBC_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    active.decrementAndGet();
+                    latencies[n] = System.nanoTime() - submitted;
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Arrays.sort(latencies);
+        System.out.printf("[BENCH] %-15s : %,.0f req/s, p50 %.0f ms, p99 %.0f ms, peak concurrency %,d%n",
+                mode, REQUESTS / seconds, latencies[REQUESTS / 2] / 1e6, latencies[REQUESTS * 99 / 100] / 1e6, peak.get());
+    }
+
+    // 동시 요청이 커넥션 풀 대기열 한도에 걸리지 않도록 대기열을 제한하지 않는다.
+    private static KisStockApiClient newClient(String baseUrl) {
+        KisApiConfig config = new KisApiConfig();
+        config.setBaseUrl(baseUrl);
+        config.setAppKey("key");
+        config.setAppSecret("secret");
+        config.setPermitsPerSecond(1_000_000);
+        ConnectionProvider connections = ConnectionProvider.builder("bench")
+                .maxConnections(1_000)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient webClient = WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+                .build();
+        KisAuthFilter auth = new KisAuthFilter(new KisAuthTokenManager(config, webClient), config);
+        return new KisStockApiClient(webClient, auth, new KisRateLimiter(config));
+    }
+}
@@ -0,0 +1,59 @@
+package dev.syntax.global.id;
+
+import dev.syntax.domain.account.entity.Account;
+import dev.syntax.domain.user.entity.CoreUser;
+import dev.syntax.global.common.IdSequences;
+import dev.syntax.global.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * pooled 시퀀스 할당이 여러 구간({@link IdSequences#ALLOCATION_SIZE})을 넘겨 받아도
+ * 저장 순서대로 겹치지 않고 증가하는 ID를 주는지 검증한다.
+ * <p>INSERT 처리량 비교는 {@code IdAllocationBenchmark}(JMH)에서 잰다.</p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class IdAllocationTest {
+
+    private static final int ROWS = IdSequences.ALLOCATION_SIZE * 2 + 50;
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Test
+    @DisplayName("구간 경계를 넘어도 ID는 중복 없이 저장 순서대로 증가한다")
+    void idsAreUniqueAndIncreasing() {
+        CoreUser user = CoreUser.builder()
+                .name("teen").phoneNumber("010-1234-5678").birthDate(LocalDate.of(2010, 5, 5)).build();
+        em.persist(user);
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Account account = Account.builder()
+                    .user(user).number("110-" + i).productName("입출금")
+                    .balance(BigDecimal.ZERO).interestRate(BigDecimal.ZERO).build();
+            em.persist(account);
+            ids.add(account.getId());
+        }
+        em.flush();
+
+        assertThat(ids).doesNotContainNull().doesNotHaveDuplicates().isSorted();
+        assertThat(ids.get(ids.size() - 1) - ids.get(0)).isEqualTo(ROWS - 1);
+    }
+}
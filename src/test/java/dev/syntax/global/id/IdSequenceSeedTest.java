@@ -0,0 +1,96 @@
+package dev.syntax.global.id;
+
+import dev.syntax.domain.account.entity.Account;
+import dev.syntax.domain.account.repository.AccountRepository;
+import dev.syntax.domain.user.entity.CoreUser;
+import dev.syntax.global.common.IdSequences;
+import dev.syntax.global.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 행이 있는 테이블에 {@link IdSequences#seedSql}로 시드한 뒤 새 엔티티를 저장하면
+ * 기존 ID와 겹치지 않는지 검증한다.
+ * <p>테이블 생성기는 별도 트랜잭션으로 시퀀스 행을 읽으므로 시드가 커밋돼 있어야 한다.
+ * 그래서 테스트 트랜잭션을 끄고, 생성기 상태가 다른 테스트와 섞이지 않도록 전용 컨텍스트를 쓴다.</p>
+ */
+@DataJpaTest(properties = "logging.level.org.hibernate.SQL=info")
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext
+class IdSequenceSeedTest {
+
+    private static final long EXISTING_MAX_ID = 5_000;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    TransactionTemplate tx;
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Test
+    @DisplayName("MAX(id) + ALLOCATION_SIZE 로 시드하면 첫 구간부터 기존 ID 다음 번호를 받는다")
+    void seedOverExistingRows() {
+        CoreUser user = tx.execute(s -> {
+            CoreUser u = CoreUser.builder()
+                    .name("teen").phoneNumber("010-1234-5678").birthDate(LocalDate.of(2010, 5, 5)).build();
+            em.persist(u);
+            return u;
+        });
+        // pooled 최적화기가 MAX+1 시드를 구간 끝으로 읽으면 나눠 줄 4902..5001 구간을 기존 행으로 채워 둔다.
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> existing = LongStream.rangeClosed(EXISTING_MAX_ID - IdSequences.ALLOCATION_SIZE, EXISTING_MAX_ID)
+                .mapToObj(id -> new Object[]{id, user.getId(), "110-" + id, now, now})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO core_account (account_id, user_id, number, product_name, balance, "
+                + "interest_rate, status, type, created_at, updated_at) "
+                + "VALUES (?, ?, ?, '입출금', 0, 0, 'ACTIVE', 'DEPOSIT', ?, ?)", existing);
+
+        jdbcTemplate.update(IdSequences.seedSql("core_account", "core_account", "account_id"));
+
+        // 구간 경계를 넘도록 ALLOCATION_SIZE 보다 많이 저장한다.
+        List<Long> ids = new ArrayList<>();
+        tx.executeWithoutResult(s -> {
+            for (int i = 0; i < IdSequences.ALLOCATION_SIZE + 20; i++) {
+                Account account = Account.builder()
+                        .user(user).number("220-" + i).productName("입출금").interestRate(BigDecimal.ZERO).build();
+                em.persist(account);
+                ids.add(account.getId());
+            }
+        });
+
+        assertThat(ids).doesNotHaveDuplicates().allMatch(id -> id > EXISTING_MAX_ID);
+        assertThat(ids.get(0)).isEqualTo(EXISTING_MAX_ID + 1);
+        assertThat(accountRepository.count()).isEqualTo(existing.size() + IdSequences.ALLOCATION_SIZE + 20L);
+    }
+}